@@ -2,6 +2,7 @@ package com.thoughtNest.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point of the Spring Boot application.
@@ -9,8 +10,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * - Component scanning
  * - Auto-configuration
  * - Configuration bean support
+ * The @EnableScheduling annotation runs periodic housekeeping such as expiring abandoned uploads.
  */
 @SpringBootApplication
+@EnableScheduling
 public class BackendApplication {
 
     /**
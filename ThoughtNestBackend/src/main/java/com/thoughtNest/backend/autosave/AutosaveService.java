@@ -0,0 +1,263 @@
+package com.thoughtNest.backend.autosave;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.AutosaveStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.model.Article;
+import com.thoughtNest.backend.service.ArticleService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Buffers the editor's autosaves so the database sees at most one write per article per flush
+ * interval, however often the editor saves.
+ *
+ * Each autosave replaces the article's pending draft in memory (last write wins) and is appended
+ * to a {@link DraftJournal} before it is acknowledged, so a crash loses no acknowledged draft:
+ * the journal is replayed on the next start. Pending drafts are written on a fixed delay and at
+ * shutdown.
+ *
+ * Drafts are versioned like any other save. An autosave answers with the version the article
+ * will have once its draft is written, and the write only applies while the article is still at
+ * the version the draft was based on. Explicit saves write the pending draft first, so the
+ * editor's If-Match, taken from its last autosave, matches; a draft overtaken by another save
+ * is dropped instead of overwriting it.
+ */
+@Service
+public class AutosaveService {
+
+    private final ArticleService articleService;
+    private final DraftJournal journal;
+
+    /** Latest unwritten draft per article. Changed only while holding {@link #journalLock}. */
+    private final Map<Long, Draft> pending = new ConcurrentHashMap<>();
+
+    /** Orders journal appends and rewrites with the changes of {@link #pending} they record. */
+    private final Object journalLock = new Object();
+
+    private final AtomicLong receivedDrafts = new AtomicLong();
+    private final AtomicLong writtenDrafts = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+
+    @Autowired
+    public AutosaveService(ArticleService articleService,
+                           ObjectMapper objectMapper,
+                           @Value("${thoughtnest.autosave.journal:data/autosave/drafts.journal}") String journalFile,
+                           @Value("${thoughtnest.autosave.fsync:true}") boolean fsync) throws IOException {
+        this.articleService = articleService;
+        this.journal = new DraftJournal(Path.of(journalFile), objectMapper, fsync);
+        pending.putAll(journal.open());
+        // Drops discarded drafts and any line cut short by a crash before new lines are appended
+        journal.rewrite(pending.values());
+        if (!pending.isEmpty()) {
+            System.out.println("♻️ Recovered " + pending.size() + " unsaved drafts from " + journalFile);
+        }
+    }
+
+    /**
+     * Buffers a draft of the article, replacing any pending one. Returns once the draft is in
+     * the journal; it reaches the database with the next flush.
+     *
+     * @param expectedVersion the version the editor's copy is at, from If-Match, or null to
+     *                        autosave over the current version
+     * @return the version the article will have once the draft is written
+     * @throws ObjectOptimisticLockingFailureException if the article is at another version, counting
+     *                                                 a pending draft as written
+     * @throws IllegalArgumentException                if the article does not exist
+     */
+    public long saveDraft(Long articleId, String title, String content, Long expectedVersion) throws IOException {
+        long version;
+        synchronized (journalLock) {
+            // A pending draft counts as written: the editor holds the version its autosave returned.
+            // Otherwise read the stored version under the lock, where a flush has either committed
+            // its draft or not yet taken it out of the buffer.
+            Draft previous = pending.get(articleId);
+            boolean draftPending = previous != null && previous.baseVersion != null;
+            long baseVersion = draftPending ? previous.baseVersion : storedVersion(articleId);
+            long currentVersion = draftPending ? baseVersion + 1 : baseVersion;
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+                throw new ObjectOptimisticLockingFailureException(Article.class, articleId);
+            }
+            version = baseVersion + 1;
+            Draft draft = new Draft(articleId, title, content, baseVersion, LocalDateTime.now());
+            journal.append(draft);
+            pending.put(articleId, draft);
+        }
+        // Outside the lock, so concurrent autosaves share the disk flush instead of queueing for it
+        journal.sync();
+        receivedDrafts.incrementAndGet();
+        return version;
+    }
+
+    /**
+     * Drops the article's pending draft. Called after an explicit save, which then wins over a
+     * draft that arrived meanwhile; if the draft is being written right now, waits for that write
+     * to finish.
+     */
+    public void discard(Long articleId) {
+        Draft draft;
+        synchronized (journalLock) {
+            draft = pending.remove(articleId);
+            if (draft == null) {
+                return;
+            }
+            try {
+                journal.appendDiscard(articleId);
+            } catch (IOException e) {
+                // The draft may come back on restart; it is still the user's own latest text
+                System.err.println("⚠️ Could not journal discarded draft of article ID " + articleId + ": " + e.getMessage());
+            }
+        }
+        synchronized (draft) {
+            // A flush writes a draft while holding its monitor
+        }
+        System.out.println("🧹 Discarded pending draft of article ID: " + articleId);
+    }
+
+    /**
+     * Writes every pending draft to the database, one update per article, then compacts the
+     * journal to the drafts that are still pending. A draft that fails to write stays pending
+     * and is retried with the next flush.
+     *
+     * @return the number of drafts written
+     */
+    @Scheduled(fixedDelayString = "${thoughtnest.autosave.flush-interval-ms:10000}")
+    public synchronized int flush() {
+        List<Draft> batch = new ArrayList<>(pending.values());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int written = 0;
+        for (Draft draft : batch) {
+            if (write(draft)) {
+                written++;
+            }
+        }
+
+        synchronized (journalLock) {
+            try {
+                journal.rewrite(pending.values());
+            } catch (IOException e) {
+                // The old journal still holds every pending draft; it is compacted next time
+                System.err.println("⚠️ Could not compact draft journal: " + e.getMessage());
+            }
+        }
+        writtenDrafts.addAndGet(written);
+        flushes.incrementAndGet();
+        if (written > 0) {
+            System.out.println("💾 Flushed " + written + " autosaved drafts");
+        }
+        return written;
+    }
+
+    /**
+     * Writes the article's pending draft now, ahead of the next flush. Called before an explicit
+     * save so that its version precondition sees the draft the editor already counts as saved.
+     * The journal keeps the line until the next compaction; replayed after a crash, the draft no
+     * longer matches the article's version and is dropped.
+     */
+    public synchronized void flush(Long articleId) {
+        Draft draft = pending.get(articleId);
+        if (draft != null && write(draft)) {
+            writtenDrafts.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writes one draft unless it was discarded or superseded, and drops it from the buffer once
+     * written or overtaken. A draft that fails to write stays pending.
+     *
+     * @return whether the draft reached the database
+     */
+    private boolean write(Draft draft) {
+        boolean written;
+        Long baseVersion;
+        synchronized (draft) {
+            // Skip drafts discarded or superseded since the batch was taken
+            if (pending.get(draft.articleId) != draft) {
+                return false;
+            }
+            try {
+                baseVersion = draft.baseVersion != null
+                        ? draft.baseVersion
+                        : articleService.getArticleVersionInfo(draft.articleId).map(ArticleVersionInfo::getVersion).orElse(null);
+                written = baseVersion != null
+                        && articleService.saveDraft(draft.articleId, draft.title, draft.content, baseVersion);
+                if (!written) {
+                    System.err.println("⚠️ Dropping draft of article ID " + draft.articleId
+                            + ": deleted or saved since the draft was started");
+                }
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                System.err.println("❌ Failed to write draft of article ID " + draft.articleId + ": " + e.getMessage());
+                return false;
+            }
+        }
+        synchronized (journalLock) {
+            // A newer draft that arrived meanwhile stays pending for the next flush. It counted
+            // this one as written, so it now continues from the version just written.
+            if (!pending.remove(draft.articleId, draft) && written) {
+                Draft newer = pending.get(draft.articleId);
+                if (newer != null && baseVersion.equals(newer.baseVersion)) {
+                    pending.put(draft.articleId, newer.after(baseVersion + 1));
+                }
+            }
+        }
+        return written;
+    }
+
+    private long storedVersion(Long articleId) {
+        return articleService.getArticleVersionInfo(articleId)
+                .map(ArticleVersionInfo::getVersion)
+                .orElseThrow(() -> new IllegalArgumentException("Article not found: " + articleId));
+    }
+
+    /**
+     * Forgets the pending drafts of deleted articles once the deletion is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() != ArticleChangedEvent.Type.DELETED) {
+            return;
+        }
+        for (Long id : event.getArticleIds()) {
+            if (pending.containsKey(id)) {
+                discard(id);
+            }
+        }
+    }
+
+    public AutosaveStats stats() {
+        return new AutosaveStats(pending.size(), receivedDrafts.get(), writtenDrafts.get(), flushes.get(),
+                failedWrites.get(), journal.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
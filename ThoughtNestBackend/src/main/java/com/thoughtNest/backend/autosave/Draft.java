@@ -0,0 +1,33 @@
+package com.thoughtNest.backend.autosave;
+
+import java.time.LocalDateTime;
+
+/**
+ * The latest autosaved title and content of one article, not yet written to the database.
+ * Immutable; a newer autosave replaces the whole draft.
+ *
+ * The draft is written only while the article is still at {@link #baseVersion}, the version the
+ * first of the coalesced autosaves was based on, so it never overwrites a save made meanwhile.
+ */
+final class Draft {
+
+    final Long articleId;
+    final String title;
+    final String content;
+    /** Null for drafts recovered from a journal that did not record versions. */
+    final Long baseVersion;
+    final LocalDateTime savedAt;
+
+    Draft(Long articleId, String title, String content, Long baseVersion, LocalDateTime savedAt) {
+        this.articleId = articleId;
+        this.title = title;
+        this.content = content;
+        this.baseVersion = baseVersion;
+        this.savedAt = savedAt;
+    }
+
+    /** The same draft, to be written over the given version instead. */
+    Draft after(long version) {
+        return new Draft(articleId, title, content, version, savedAt);
+    }
+}
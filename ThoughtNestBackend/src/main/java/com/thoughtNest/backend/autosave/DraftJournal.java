@@ -0,0 +1,180 @@
+package com.thoughtNest.backend.autosave;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Append-only log of autosaved drafts that have not reached the database yet, one JSON object
+ * per line. A draft line holds the whole draft; a discard line ({@code "discarded": true}) drops
+ * the article's earlier drafts. Replaying the file in order therefore yields the latest pending
+ * draft of every article.
+ *
+ * Appends are not thread-safe and must be serialized by the caller; {@link #sync} may be called
+ * concurrently. Once drafts are written to the database, {@link #rewrite} replaces the file with
+ * the drafts still pending, so it stays about as large as the buffer.
+ */
+final class DraftJournal implements Closeable {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private volatile FileChannel channel;
+
+    DraftJournal(Path file, ObjectMapper objectMapper, boolean fsync) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Reads the drafts left by a previous run and opens the file for appending.
+     *
+     * A last line cut short by a crash is skipped; it was never acknowledged to the editor.
+     *
+     * @return the latest draft of every article, in order of first appearance
+     */
+    Map<Long, Draft> open() throws IOException {
+        Map<Long, Draft> drafts = new LinkedHashMap<>();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                long lineNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    JsonNode record;
+                    try {
+                        record = objectMapper.readTree(line);
+                    } catch (IOException e) {
+                        System.err.println("⚠️ Skipping unreadable line " + lineNumber + " of draft journal " + file
+                                + ": " + e.getMessage());
+                        continue;
+                    }
+                    Long articleId = record.path("articleId").asLong();
+                    if (record.path("discarded").asBoolean(false)) {
+                        drafts.remove(articleId);
+                    } else {
+                        Long baseVersion = record.hasNonNull("baseVersion") ? record.get("baseVersion").asLong() : null;
+                        drafts.put(articleId, new Draft(articleId, record.path("title").asText(null),
+                                record.path("content").asText(null), baseVersion,
+                                LocalDateTime.parse(record.path("savedAt").asText())));
+                    }
+                }
+            }
+        }
+        channel = openForAppend(file);
+        return drafts;
+    }
+
+    /**
+     * Appends a draft. Durable once {@link #sync} returns.
+     */
+    void append(Draft draft) throws IOException {
+        write(channel, draftRecord(draft));
+    }
+
+    /**
+     * Appends a discard of the article's pending draft.
+     */
+    void appendDiscard(Long articleId) throws IOException {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("articleId", articleId);
+        record.put("discarded", true);
+        write(channel, record);
+    }
+
+    /**
+     * Forces appended lines to disk if fsync is enabled. Without it, appends survive a crash of
+     * the application but not of the machine.
+     */
+    void sync() throws IOException {
+        if (!fsync) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // Replaced by a rewrite, which forced everything still pending into the new file
+        }
+    }
+
+    /**
+     * Atomically replaces the file with the given drafts. Serialized with appends by the caller.
+     */
+    void rewrite(Collection<Draft> pending) throws IOException {
+        Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), "drafts", ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                for (Draft draft : pending) {
+                    write(out, draftRecord(draft));
+                }
+                out.force(true);
+            }
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        FileChannel previous = channel;
+        channel = openForAppend(file);
+        previous.close();
+    }
+
+    long size() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private ObjectNode draftRecord(Draft draft) {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("articleId", draft.articleId);
+        record.put("title", draft.title);
+        record.put("content", draft.content);
+        if (draft.baseVersion != null) {
+            record.put("baseVersion", draft.baseVersion);
+        }
+        record.put("savedAt", draft.savedAt.toString());
+        return record;
+    }
+
+    private void write(FileChannel target, ObjectNode record) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (line.hasRemaining()) {
+            target.write(line);
+        }
+    }
+
+    private static FileChannel openForAppend(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
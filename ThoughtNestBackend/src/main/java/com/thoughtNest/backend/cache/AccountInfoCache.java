@@ -0,0 +1,129 @@
+package com.thoughtNest.backend.cache;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thoughtNest.backend.dto.CacheStats;
+import com.thoughtNest.backend.dto.UserAccountInfoDto;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
+
+/**
+ * Short-lived cache of account infos keyed by email, so repeated account page loads do not
+ * count the author's articles every time.
+ *
+ * Entries expire after {@code ttl-ms}. Any committed article or user change drops all entries,
+ * since the event does not say whose counts changed; such changes are rare next to account
+ * reads. A load that started before a change is not stored.
+ */
+@Component
+public class AccountInfoCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public AccountInfoCache(@Value("${thoughtnest.cache.accounts.ttl-ms:30000}") long ttlMillis,
+                            @Value("${thoughtnest.cache.accounts.max-entries:10000}") int maxEntries) {
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache TTL and size must be positive");
+        }
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached account info, loading it with the given loader when it is missing or
+     * expired. Unknown emails are not cached.
+     */
+    public Optional<UserAccountInfoDto> get(String email, Function<String, Optional<UserAccountInfoDto>> loader) {
+        long now = System.nanoTime();
+        Entry cached = entries.get(email);
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            hits.increment();
+            return Optional.of(cached.info);
+        }
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        Optional<UserAccountInfoDto> loaded = loader.apply(email);
+        if (loaded.isPresent() && makeRoom(now)) {
+            entries.put(email, new Entry(loaded.get(), now));
+            // Changed while loading: the value may predate the change
+            if (generation.get() != loadGeneration) {
+                entries.remove(email);
+            } else {
+                loads.increment();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+        invalidations.increment();
+    }
+
+    /**
+     * Article writes change the counts of their author.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Username and email changes change the account info and its key.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Returns hit/miss counters and the number of entries. Every miss calls the loader, so
+     * loads counts only the loaded values that were cached.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), invalidations.sum(),
+                entries.size(), 0, 0);
+    }
+
+    /**
+     * Removes expired entries once the cache is full.
+     *
+     * @return false if the cache is still full and the new entry should not be stored
+     */
+    private boolean makeRoom(long now) {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        int before = entries.size();
+        entries.values().removeIf(entry -> now - entry.loadedAt >= ttlNanos);
+        evictions.add(Math.max(0, before - entries.size()));
+        return entries.size() < maxEntries;
+    }
+
+    private record Entry(UserAccountInfoDto info, long loadedAt) {
+    }
+}
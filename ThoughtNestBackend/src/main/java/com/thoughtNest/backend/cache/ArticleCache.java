@@ -0,0 +1,274 @@
+package com.thoughtNest.backend.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.CacheStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
+
+/**
+ * Read-through, in-process cache of {@link ArticleDTO}s keyed by article id.
+ *
+ * - Memory is bounded in bytes: each entry is weighed by the size of its text fields and the
+ *   least recently used entries are evicted once a segment exceeds its share of the budget.
+ * - Entries are spread over independently locked LRU segments to keep lock hold times short.
+ * - Concurrent misses for the same id share a single load (single-flight), so a burst of
+ *   requests for a newly viral article results in one database query.
+ * - Entries are invalidated after commit whenever an {@link ArticleChangedEvent} is published,
+ *   and all of them on a {@link UserChangedEvent}, as they carry their author's username.
+ *
+ * Cached DTOs are shared between requests and must not be mutated by callers.
+ */
+@Component
+public class ArticleCache {
+
+    /** Approximate fixed cost of an entry: DTO object, boxed key, map node and dates. */
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Segment[] segments;
+    private final long maxWeightBytes;
+    private final ConcurrentHashMap<Long, CompletableFuture<Optional<ArticleDTO>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public ArticleCache(@Value("${thoughtnest.cache.articles.max-bytes:67108864}") long maxWeightBytes,
+                        @Value("${thoughtnest.cache.articles.segments:16}") int segmentCount) {
+        if (maxWeightBytes <= 0 || segmentCount <= 0) {
+            throw new IllegalArgumentException("Cache size and segment count must be positive");
+        }
+        this.maxWeightBytes = maxWeightBytes;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxWeightBytes / segmentCount);
+        }
+    }
+
+    /**
+     * Returns the cached article, loading it with the given loader on a miss.
+     * Only one load per id runs at a time; concurrent callers wait for its result.
+     * Absent articles are not cached.
+     *
+     * @param id     article id
+     * @param loader loads the article from the database
+     * @return the article DTO, or empty if it does not exist
+     */
+    public Optional<ArticleDTO> get(Long id, Function<Long, Optional<ArticleDTO>> loader) {
+        Segment segment = segmentFor(id);
+        ArticleDTO cached = segment.get(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        CompletableFuture<Optional<ArticleDTO>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<ArticleDTO>> running = inFlight.putIfAbsent(id, load);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // Another caller may have finished loading between our miss and claiming the load
+            cached = segment.get(id);
+            Optional<ArticleDTO> result;
+            if (cached != null) {
+                result = Optional.of(cached);
+            } else {
+                loads.increment();
+                result = loader.apply(id);
+                result.ifPresent(dto -> segment.putIfStillLoading(id, dto, load));
+            }
+            load.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, load);
+        }
+    }
+
+    /**
+     * Returns the cached article without loading it or touching the hit/miss counters.
+     */
+    public Optional<ArticleDTO> peek(Long id) {
+        return Optional.ofNullable(segmentFor(id).get(id));
+    }
+
+    /**
+     * Removes the article from the cache and abandons any load in progress for it,
+     * so a value read before the change is never stored afterwards.
+     */
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        if (segmentFor(id).invalidate(id)) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drops every cached article.
+     */
+    public void invalidateAll() {
+        inFlight.clear();
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * Invalidates cached copies once the change that triggered the event has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        event.getArticleIds().forEach(this::invalidate);
+    }
+
+    /**
+     * Drops every cached article once a user change has committed. Entries hold the author's
+     * username but not the author's id, and renames are rare.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Returns a snapshot of hit/miss/eviction counters and current memory use.
+     */
+    public CacheStats stats() {
+        long entries = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                entries += segment.map.size();
+                weight += segment.weight;
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), invalidations.sum(),
+                entries, weight, maxWeightBytes);
+    }
+
+    /**
+     * Estimates the heap footprint of a DTO. Strings are counted at two bytes per character,
+     * which over-estimates Latin-1 text slightly and keeps the bound conservative.
+     */
+    static long weigh(ArticleDTO dto) {
+        return ENTRY_OVERHEAD_BYTES
+                + 2L * (length(dto.getTitle()) + length(dto.getContent())
+                        + length(dto.getImage()) + length(dto.getAuthorUsername()));
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private Segment segmentFor(Long id) {
+        return segments[Math.floorMod(Long.hashCode(id), segments.length)];
+    }
+
+    private static Optional<ArticleDTO> await(CompletableFuture<Optional<ArticleDTO>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        final ArticleDTO dto;
+        final long weight;
+
+        Entry(ArticleDTO dto, long weight) {
+            this.dto = dto;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * One LRU partition of the cache with its own share of the byte budget.
+     */
+    private final class Segment {
+        // Access-ordered so iteration starts at the least recently used entry
+        private final LinkedHashMap<Long, Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxWeight;
+        private long weight;
+
+        Segment(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized ArticleDTO get(Long id) {
+            Entry entry = map.get(id);
+            return entry == null ? null : entry.dto;
+        }
+
+        /**
+         * Stores a freshly loaded value unless the key was invalidated while it was loading.
+         * Runs under the segment lock so it cannot interleave with {@link #invalidate(Long)}.
+         */
+        synchronized void putIfStillLoading(Long id, ArticleDTO dto, CompletableFuture<Optional<ArticleDTO>> load) {
+            if (inFlight.get(id) != load) {
+                return;
+            }
+            long entryWeight = weigh(dto);
+            if (entryWeight > maxWeight) {
+                return; // larger than the whole segment, serve uncached
+            }
+            Entry previous = map.put(id, new Entry(dto, entryWeight));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+            evictIfNeeded();
+        }
+
+        synchronized boolean invalidate(Long id) {
+            boolean abandoned = inFlight.remove(id) != null;
+            Entry removed = map.remove(id);
+            if (removed != null) {
+                weight -= removed.weight;
+            }
+            return removed != null || abandoned;
+        }
+
+        synchronized void clear() {
+            map.clear();
+            weight = 0;
+        }
+
+        private void evictIfNeeded() {
+            Iterator<Map.Entry<Long, Entry>> eldest = map.entrySet().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                weight -= eldest.next().getValue().weight;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.thoughtNest.backend.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.thoughtNest.backend.dto.CacheStats;
+
+/**
+ * Small in-memory cache of frequently served upload files, such as feed thumbnails.
+ *
+ * Only files up to a size limit are kept, as larger ones are sent by the kernel straight from the
+ * page cache anyway. Entries remember the size and modification time of the file they were read
+ * from and count as misses once the file on disk differs. Memory is bounded in bytes with
+ * least-recently-used eviction.
+ */
+@Component
+public class HotFileCache {
+
+    private final long maxWeightBytes;
+    private final int maxFileBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weightBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public HotFileCache(@Value("${thoughtnest.cache.files.max-bytes:16777216}") long maxWeightBytes,
+                        @Value("${thoughtnest.cache.files.max-file-bytes:131072}") int maxFileBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    /**
+     * Returns whether a file of the given size may be cached.
+     */
+    public boolean accepts(long size) {
+        return size <= maxFileBytes && size <= maxWeightBytes;
+    }
+
+    /**
+     * Returns the cached content of the file if it was cached with the same size and modification time.
+     */
+    public synchronized byte[] get(String key, long size, long lastModified) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.data.length != size || entry.lastModified != lastModified) {
+            entries.remove(key);
+            weightBytes -= entry.data.length;
+            invalidations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.data;
+    }
+
+    /**
+     * Caches the content of a file, evicting the least recently used files to make room.
+     */
+    public synchronized void put(String key, byte[] data, long lastModified) {
+        if (!accepts(data.length)) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(data, lastModified));
+        if (previous != null) {
+            weightBytes -= previous.data.length;
+        }
+        weightBytes += data.length;
+        loads.increment();
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+            weightBytes -= eldest.next().getValue().data.length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), invalidations.sum(),
+                entries.size(), weightBytes, maxWeightBytes);
+    }
+
+    private static final class Entry {
+
+        final byte[] data;
+        final long lastModified;
+
+        Entry(byte[] data, long lastModified) {
+            this.data = data;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -70,6 +70,10 @@ public class SecurityConfig {
                                 "/api/auth/forgot-password",
                                 "/api/auth/reset-password",
                                 "/api/articles/public",
+                                "/api/articles/trending",
+                                "/api/articles/search",
+                                "/api/articles/suggest",
+                                "/api/articles/*/html",
                                 "/uploads/**"
                         ).permitAll()
 
@@ -126,7 +130,10 @@ public class SecurityConfig {
     "http://192.168.1.13:5173",
     "http://192.168.1.13:5174","https://thoughnest-frontend.vercel.app/")); // Frontend origin
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With"));
+        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With",
+                "If-Match"));
+        // Editors read the article version from the ETag and send it back in If-Match
+        config.setExposedHeaders(List.of("ETag"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,13 +1,19 @@
 package com.thoughtNest.backend.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,23 +23,53 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.thoughtNest.backend.autosave.AutosaveService;
 import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleDraft;
+import com.thoughtNest.backend.dto.ArticleImportResult;
+import com.thoughtNest.backend.dto.ArticlePage;
+import com.thoughtNest.backend.dto.ArticlePatch;
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.dto.ArticleRevisionDTO;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.BulkArticleRequest;
+import com.thoughtNest.backend.dto.BulkArticleResult;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+import com.thoughtNest.backend.feed.FeedPage;
+import com.thoughtNest.backend.feed.PublishedFeed;
 import com.thoughtNest.backend.model.Article;
 import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.render.ArticleRenderer;
+import com.thoughtNest.backend.revision.RevisionService;
+import com.thoughtNest.backend.search.SearchService;
 import com.thoughtNest.backend.service.ArticleService;
-import com.thoughtNest.backend.service.GCSUploadService;
 import com.thoughtNest.backend.service.UserService;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.suggest.AutocompleteService;
+import com.thoughtNest.backend.transfer.ArticleTransferService;
+import com.thoughtNest.backend.trending.TrendingService;
+import com.thoughtNest.backend.util.DataUri;
+import com.thoughtNest.backend.util.HttpCaching;
 import com.thoughtNest.backend.util.ResponseHandler;
+import com.thoughtNest.backend.views.ViewCounter;
+
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/articles")
 public class ArticleController {
 
+    private static final String FIELDS_SUMMARY = "summary";
+    private static final String FIELDS_FULL = "full";
+
     @Autowired
     private ArticleService articleService;
 
@@ -41,7 +77,31 @@ public class ArticleController {
     private UserService userService;
 
     @Autowired
-    private GCSUploadService gcsUploadService;
+    private UploadService uploadService;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private PublishedFeed publishedFeed;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private ArticleTransferService articleTransferService;
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private AutosaveService autosaveService;
 
     @PostMapping
     public ResponseEntity<?> createArticle(@RequestBody Article article, Authentication authentication) {
@@ -63,92 +123,307 @@ public class ArticleController {
             article.setImage(null);
         }
 
+        try {
+            article.setImage(storeInlineImage(article.getImage()));
+        } catch (IOException e) {
+            return ResponseHandler.generateResponse("Image upload failed", HttpStatus.INTERNAL_SERVER_ERROR, null);
+        }
+
         Article savedArticle = articleService.saveArticle(article);
         ArticleDTO dto = new ArticleDTO(savedArticle);
         return ResponseHandler.generateResponse("Article created", HttpStatus.OK, dto);
     }
 
     @GetMapping("/my")
-    public ResponseEntity<?> getMyArticles(Authentication authentication) {
+    public ResponseEntity<?> getMyArticles(@RequestParam(value = "cursor", required = false) String cursor,
+                                           @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                           @RequestParam(value = "fields", defaultValue = FIELDS_SUMMARY) String fields,
+                                           Authentication authentication,
+                                           ServletWebRequest request) {
         String username = authentication.getName();
         Optional<User> userOpt = userService.findByEmail(username);
         if (userOpt.isEmpty()) {
             return ResponseHandler.generateResponse("User not found", HttpStatus.UNAUTHORIZED, null);
         }
 
-        List<Article> articles = articleService.getArticlesByUser(userOpt.get());
-        List<ArticleDTO> dtos = articles.stream().map(ArticleDTO::new).toList();
+        ListingVersionInfo version = articleService.getListingVersionByUser(userOpt.get());
+        String eTag = HttpCaching.listingETag("my:" + userOpt.get().getId(), version, cursor, limit, fields);
+        if (HttpCaching.notModified(request, eTag, null, HttpCaching.PRIVATE_CONTENT)) {
+            return null;
+        }
 
-        return ResponseHandler.generateResponse("User articles retrieved", HttpStatus.OK, dtos);
+        ArticlePage<?> page = includesBody(fields)
+                ? articleService.getArticlesByUserPage(userOpt.get(), cursor, limit)
+                : articleService.getSummariesByUserPage(userOpt.get(), cursor, limit);
+        return ResponseHandler.generateResponse("User articles retrieved", HttpStatus.OK, page);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<?> getAllArticles() {
-        List<Article> articles = articleService.getAllArticles();
-        List<ArticleDTO> dtos = articles.stream().map(ArticleDTO::new).toList();
+    public ResponseEntity<?> getAllArticles(@RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                            @RequestParam(value = "fields", defaultValue = FIELDS_SUMMARY) String fields,
+                                            @RequestParam(value = "stream", defaultValue = "false") boolean stream,
+                                            ServletWebRequest request) {
+        ListingVersionInfo version = articleService.getAllListingVersion();
+        String eTag = HttpCaching.listingETag("all", version, cursor, limit, fields, stream);
+        if (HttpCaching.notModified(request, eTag, null, HttpCaching.PRIVATE_CONTENT)) {
+            return null;
+        }
+
+        // Exports: the whole listing in one response, written row by row as it is read
+        if (stream) {
+            boolean includeBody = includesBody(fields);
+            StreamingResponseBody body = out -> articleService.writeAllArticles(out, includeBody);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
 
-        return ResponseHandler.generateResponse("All articles retrieved", HttpStatus.OK, dtos);
+        ArticlePage<?> page = includesBody(fields)
+                ? articleService.getAllArticlesPage(cursor, limit)
+                : articleService.getAllSummariesPage(cursor, limit);
+        return ResponseHandler.generateResponse("All articles retrieved", HttpStatus.OK, page);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getArticle(@PathVariable Long id) {
+    public ResponseEntity<?> getArticle(@PathVariable Long id, ServletWebRequest request) {
+        // Answer unchanged re-fetches from metadata alone, before the DTO is built
+        Optional<ArticleVersionInfo> versionOpt = articleService.getArticleVersionInfo(id);
+        if (versionOpt.isPresent()) {
+            // Revalidated copies count as views too, although they keep showing the count they were served with
+            viewCounter.record(id);
+            ArticleVersionInfo version = versionOpt.get();
+            if (version.isPublished()) {
+                trendingService.recordView(id);
+            }
+            CacheControl cacheControl = version.isPublished() ? HttpCaching.PUBLIC_CONTENT : HttpCaching.PRIVATE_CONTENT;
+            if (HttpCaching.notModified(request, HttpCaching.articleETag(version), version.getLastModifiedDate(), cacheControl)) {
+                return null;
+            }
+        }
+
         Optional<ArticleDTO> dtoOpt = articleService.getArticleDTOById(id);
         if (dtoOpt.isEmpty()) {
             return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
         }
 
-        return ResponseHandler.generateResponse("Article retrieved", HttpStatus.OK, dtoOpt.get());
+        // The cached DTO holds the count as of loading; answer with the live one on a copy
+        ArticleDTO dto = dtoOpt.get().withViews(viewCounter.views(id));
+        return ResponseHandler.generateResponse("Article retrieved", HttpStatus.OK, dto);
+    }
+
+    /**
+     * Serves an article as a ready-made HTML page, built from the render stored when the article
+     * was saved. Published articles are public; drafts are only served to their author and are
+     * reported missing to anyone else.
+     */
+    @GetMapping("/{id}/html")
+    public ResponseEntity<?> getArticleHtml(@PathVariable Long id, Authentication authentication,
+                                            ServletWebRequest request) {
+        Optional<ArticleRender> renderOpt = articleService.getArticleRender(id);
+        if (renderOpt.isEmpty()) {
+            return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
+        }
+        ArticleRender render = renderOpt.get();
+        if (!render.isPublished()) {
+            if (authentication == null) {
+                return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
+            }
+            ResponseEntity<?> denied = checkOwnership(id, authentication);
+            if (denied != null) {
+                return denied.getStatusCode() == HttpStatus.FORBIDDEN
+                        ? ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null)
+                        : denied;
+            }
+        }
+
+        String page = ArticleRenderer.page(render);
+        CacheControl cacheControl = render.isPublished() ? HttpCaching.PUBLIC_CONTENT : HttpCaching.PRIVATE_CONTENT;
+        if (HttpCaching.notModified(request, HttpCaching.renderETag(id, page), null, cacheControl)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(page);
     }
 
+    /**
+     * Replaces an article's title, content and image. With If-Match, the update only applies to
+     * the version named there; without it, the latest version is overwritten.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateArticle(@PathVariable Long id, @RequestBody Article updatedArticle, Authentication authentication) {
+    public ResponseEntity<?> updateArticle(@PathVariable Long id, @RequestBody Article updatedArticle,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           Authentication authentication) {
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
+        }
+
+        // The editor's If-Match comes from its last autosave, so write that draft before checking
+        autosaveService.flush(id);
+
+        // The body is replaced as a whole, so the stored one is never loaded
         Optional<Article> articleOpt = articleService.getArticleById(id);
         if (articleOpt.isEmpty()) {
             return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
         }
 
         Article article = articleOpt.get();
-        String username = authentication.getName();
-
-        if (!article.getAuthor().getEmail().equals(username)) {
-            return ResponseHandler.generateResponse("Not authorized", HttpStatus.FORBIDDEN, null);
+        if (ifMatch != null) {
+            Long baseVersion = HttpCaching.versionFromIfMatch(id, ifMatch);
+            if (baseVersion == null || baseVersion != article.getVersion()) {
+                return versionConflict(id);
+            }
         }
-
         article.setTitle(updatedArticle.getTitle());
         article.setContent(updatedArticle.getContent());
-        article.setImage(updatedArticle.getImage() != null ? updatedArticle.getImage().trim() : null);
+        try {
+            article.setImage(storeInlineImage(updatedArticle.getImage() != null ? updatedArticle.getImage().trim() : null));
+        } catch (IOException e) {
+            return ResponseHandler.generateResponse("Image upload failed", HttpStatus.INTERNAL_SERVER_ERROR, null);
+        }
         article.setLastModifiedDate(LocalDateTime.now());
 
-        Article savedArticle = articleService.saveArticle(article);
+        Article savedArticle;
+        try {
+            savedArticle = articleService.saveArticle(article);
+        } catch (OptimisticLockingFailureException e) {
+            // Saved by someone else since it was read above
+            return versionConflict(id);
+        }
+        // The explicit save supersedes a draft autosaved while it was in flight
+        autosaveService.discard(id);
 
-        // ✅ Refetch with author to prevent LazyInitializationException
-        Optional<Article> refreshedOpt = articleService.getArticleById(savedArticle.getId());
+        // ✅ Refetch as a DTO to prevent LazyInitializationException
+        Optional<ArticleDTO> refreshedOpt = articleService.getArticleDTOById(savedArticle.getId());
         if (refreshedOpt.isEmpty()) {
             return ResponseHandler.generateResponse("Updated article not found", HttpStatus.INTERNAL_SERVER_ERROR, null);
         }
 
-        ArticleDTO dto = new ArticleDTO(refreshedOpt.get());
-        return ResponseHandler.generateResponse("Article updated", HttpStatus.OK, dto);
+        return ResponseHandler.generateResponse("Article updated", HttpStatus.OK, refreshedOpt.get());
     }
 
-    @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteArticle(@PathVariable Long id, Authentication authentication) {
-        Optional<Article> articleOpt = articleService.getArticleById(id);
-        if (articleOpt.isEmpty()) {
+    /**
+     * Applies a text delta to the content of the version named in If-Match, so a small edit of a
+     * long article sends only the change. Answers with the new version in the ETag, or with 412
+     * and the current version if the article has changed since.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchArticle(@PathVariable Long id, @Valid @RequestBody ArticlePatch patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          Authentication authentication) {
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
+        }
+        if (ifMatch == null) {
+            return ResponseHandler.generateResponse("If-Match header with the article version is required",
+                    HttpStatus.PRECONDITION_REQUIRED, null);
+        }
+        Long baseVersion = HttpCaching.versionFromIfMatch(id, ifMatch);
+        if (baseVersion == null) {
+            return versionConflict(id);
+        }
+
+        // The editor's If-Match comes from its last autosave, so write that draft before checking
+        autosaveService.flush(id);
+
+        Optional<ArticleVersionInfo> patched;
+        try {
+            patched = articleService.patchArticle(id, baseVersion, patch.getTitle(), patch.getDelta());
+        } catch (OptimisticLockingFailureException e) {
+            return versionConflict(id);
+        } catch (IllegalArgumentException e) {
+            return ResponseHandler.generateResponse(e.getMessage(), HttpStatus.BAD_REQUEST, null);
+        }
+        if (patched.isEmpty()) {
             return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
         }
+        // The explicit save supersedes a draft autosaved while it was in flight
+        autosaveService.discard(id);
+        return withETag(ResponseHandler.generateResponse("Article patched", HttpStatus.OK, patched.get()), patched.get());
+    }
 
-        Article article = articleOpt.get();
-        String username = authentication.getName();
+    /**
+     * Autosave from the editor. The draft is buffered and written to the article with the next
+     * flush, so frequent autosaves cost one database write per flush interval. Answers with the
+     * version the article will have once the draft is written, for the editor's next If-Match;
+     * with If-Match, the draft is only taken if the editor is still on that version.
+     */
+    @PutMapping("/{id}/autosave")
+    public ResponseEntity<?> autosaveArticle(@PathVariable Long id, @Valid @RequestBody ArticleDraft draft,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             Authentication authentication) {
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
+        }
+        Long expectedVersion = null;
+        if (ifMatch != null) {
+            expectedVersion = HttpCaching.versionFromIfMatch(id, ifMatch);
+            if (expectedVersion == null) {
+                return versionConflict(id);
+            }
+        }
 
-        if (!article.getAuthor().getEmail().equals(username)) {
-            return ResponseHandler.generateResponse("Not authorized", HttpStatus.FORBIDDEN, null);
+        long version;
+        try {
+            version = autosaveService.saveDraft(id, draft.getTitle(), draft.getContent(), expectedVersion);
+        } catch (OptimisticLockingFailureException e) {
+            // Answer with the version the editor missed, including a draft still pending
+            autosaveService.flush(id);
+            return versionConflict(id);
+        } catch (IllegalArgumentException e) {
+            return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to buffer draft of article ID " + id + ": " + e.getMessage());
+            return ResponseHandler.generateResponse("Draft could not be saved", HttpStatus.INTERNAL_SERVER_ERROR, null);
+        }
+        return withETag(ResponseHandler.generateResponse("Draft saved", HttpStatus.ACCEPTED, null),
+                HttpCaching.articleETag(id, version));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteArticle(@PathVariable Long id, Authentication authentication) {
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
         }
 
         articleService.deleteArticle(id);
         return ResponseHandler.generateResponse("Article deleted", HttpStatus.OK, null);
     }
 
+    /**
+     * Lists the saved revisions of the caller's article, newest first.
+     */
+    @GetMapping("/{id}/revisions")
+    public ResponseEntity<?> getRevisions(@PathVariable Long id, Authentication authentication) {
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
+        }
+
+        return ResponseHandler.generateResponse("Revisions retrieved", HttpStatus.OK, revisionService.listRevisions(id));
+    }
+
+    /**
+     * Returns one revision of the caller's article with its full title and content.
+     */
+    @GetMapping("/{id}/revisions/{revision}")
+    public ResponseEntity<?> getRevision(@PathVariable Long id, @PathVariable int revision,
+                                         Authentication authentication) {
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
+        }
+
+        Optional<ArticleRevisionDTO> revisionOpt = revisionService.getRevision(id, revision);
+        if (revisionOpt.isEmpty()) {
+            return ResponseHandler.generateResponse("Revision not found", HttpStatus.NOT_FOUND, null);
+        }
+        return ResponseHandler.generateResponse("Revision retrieved", HttpStatus.OK, revisionOpt.get());
+    }
+
     @PostMapping("/upload-image")
     public ResponseEntity<?> uploadImage(@RequestParam("image") MultipartFile image) {
         try {
@@ -156,13 +431,15 @@ public class ArticleController {
                 return ResponseEntity.badRequest().body(Map.of("error", "No image uploaded"));
             }
 
-            String imageUrl = gcsUploadService.uploadFile(
+            String imageUrl = uploadService.upload(
                     image.getOriginalFilename(),
                     image.getInputStream(),
                     image.getContentType()
             );
 
             return ResponseEntity.ok(Map.of("message", "Image uploaded successfully", "data", imageUrl));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(500).body(Map.of("error", "Image upload failed"));
@@ -173,22 +450,15 @@ public class ArticleController {
     public ResponseEntity<?> togglePublishStatus(@PathVariable Long id,
                                                  @RequestParam("published") boolean published,
                                                  Authentication authentication) {
-        Optional<Article> articleOpt = articleService.getArticleById(id);
-        if (articleOpt.isEmpty()) {
-            return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
+        ResponseEntity<?> denied = checkOwnership(id, authentication);
+        if (denied != null) {
+            return denied;
         }
 
-        Article article = articleOpt.get();
-        String username = authentication.getName();
-
-        if (!article.getAuthor().getEmail().equals(username)) {
-            return ResponseHandler.generateResponse("Not authorized", HttpStatus.FORBIDDEN, null);
+        if (!articleService.setPublished(id, published)) {
+            return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
         }
 
-        article.setPublished(published);
-        article.setLastModifiedDate(LocalDateTime.now());
-        articleService.saveArticle(article);
-
         return ResponseHandler.generateResponse(
                 published ? "Article published" : "Article unpublished",
                 HttpStatus.OK,
@@ -196,11 +466,166 @@ public class ArticleController {
         );
     }
 
+    /**
+     * Publishes, unpublishes or deletes many of the caller's articles at once. Each id gets its
+     * own result; articles that do not exist or belong to someone else are skipped, not failed.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulkUpdate(@Valid @RequestBody BulkArticleRequest request,
+                                        Authentication authentication) {
+        BulkArticleResult result = articleService.applyBulk(
+                request.getOperation(), request.getIds(), authentication.getName());
+        return ResponseHandler.generateResponse("Bulk " + result.getOperation() + " applied", HttpStatus.OK, result);
+    }
+
+    /**
+     * Creates the caller's articles from newline-delimited JSON, one article per line, as produced
+     * by {@code /export}. The body is read as it arrives; nothing is imported if a line is invalid.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> importArticles(InputStream body, Authentication authentication) throws IOException {
+        ArticleImportResult result = articleTransferService.importArticles(authentication.getName(), body);
+        return ResponseHandler.generateResponse("Articles imported", HttpStatus.CREATED, result);
+    }
+
+    /**
+     * Streams all of the caller's articles as newline-delimited JSON, oldest first.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportArticles(Authentication authentication) {
+        String email = authentication.getName();
+        StreamingResponseBody body = out -> articleTransferService.exportArticles(email, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"")
+                .body(body);
+    }
+
     @GetMapping("/public")
-    public ResponseEntity<?> getAllPublishedArticles() {
-        List<Article> publishedArticles = articleService.getAllPublishedArticles();
-        List<ArticleDTO> dtos = publishedArticles.stream().map(ArticleDTO::new).toList();
+    public ResponseEntity<?> getAllPublishedArticles(@RequestParam(value = "cursor", required = false) String cursor,
+                                                     @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                                     @RequestParam(value = "fields", defaultValue = FIELDS_SUMMARY) String fields,
+                                                     ServletWebRequest request) throws IOException {
+        // Default-sized summary pages near the head of the feed are served pre-rendered from memory
+        if (!includesBody(fields)) {
+            Optional<FeedPage> cached = publishedFeed.page(cursor, limit);
+            if (cached.isPresent()) {
+                String eTag = HttpCaching.listingETag("public", cached.get().getVersion(), cursor, limit, fields);
+                if (!HttpCaching.notModified(request, eTag, null, HttpCaching.PUBLIC_CONTENT)) {
+                    cached.get().writeTo(request.getResponse());
+                }
+                return null;
+            }
+        }
+
+        // The newest lastModifiedDate and row count change with every visible change to the feed
+        ListingVersionInfo version = articleService.getPublishedListingVersion();
+        String eTag = HttpCaching.listingETag("public", version, cursor, limit, fields);
+        if (HttpCaching.notModified(request, eTag, null, HttpCaching.PUBLIC_CONTENT)) {
+            return null;
+        }
+
+        ArticlePage<?> page = includesBody(fields)
+                ? articleService.getPublishedArticlesPage(cursor, limit)
+                : articleService.getPublishedSummariesPage(cursor, limit);
+        return ResponseHandler.generateResponse("Published articles retrieved", HttpStatus.OK, page);
+    }
+
+    /**
+     * Feed cards of the most popular published articles of the last days, most popular first.
+     * Served from memory; the ranking is refreshed in the background.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingArticles(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseHandler.success("Trending articles", trendingService.trending(limit));
+    }
+
+    /**
+     * Full-text search over published articles, best matches first.
+     * Each hit carries the title and a content snippet with the matched words highlighted.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchArticles(@RequestParam("q") String query,
+                                            @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (!searchService.isReady()) {
+            return ResponseHandler.error("Search index is being built, please try again shortly",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return ResponseHandler.success("Search results", searchService.search(query, offset, limit));
+    }
+
+    /**
+     * Type-ahead for the editor and search box: published titles and author usernames
+     * starting with the typed prefix, served from memory.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam("q") String prefix,
+                                     @RequestParam(value = "limit", defaultValue = "5") int limit) {
+        return ResponseHandler.success("Suggestions", autocompleteService.suggest(prefix, limit));
+    }
+
+    /**
+     * Uploads an image sent inline as a data URI and returns its URL; other values are kept as they are.
+     * Keeps multi-megabyte data URIs out of the articles table and every response that includes the image.
+     *
+     * @throws IllegalArgumentException if the data URI is not a supported base64 image
+     */
+    private String storeInlineImage(String image) throws IOException {
+        return DataUri.isDataUri(image) ? uploadService.uploadDataUri(image) : image;
+    }
 
-        return ResponseHandler.generateResponse("Published articles retrieved", HttpStatus.OK, dtos);
+    /**
+     * 412 answer to an update based on an outdated version, carrying the current version so the
+     * editor can fetch it and reapply its change.
+     */
+    private ResponseEntity<?> versionConflict(Long id) {
+        Optional<ArticleVersionInfo> current = articleService.getArticleVersionInfo(id);
+        if (current.isEmpty()) {
+            return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
+        }
+        return withETag(ResponseHandler.generateResponse("Article was modified since that version",
+                HttpStatus.PRECONDITION_FAILED, current.get()), current.get());
+    }
+
+    private static ResponseEntity<?> withETag(ResponseEntity<Object> response, ArticleVersionInfo version) {
+        return withETag(response, HttpCaching.articleETag(version));
+    }
+
+    private static ResponseEntity<?> withETag(ResponseEntity<Object> response, String eTag) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(eTag)
+                .body(response.getBody());
+    }
+
+    /**
+     * Checks that the authenticated user wrote the article, reading only the author's email.
+     *
+     * @return the error response to send, or null if the user owns the article
+     */
+    private ResponseEntity<?> checkOwnership(Long id, Authentication authentication) {
+        Optional<String> authorEmail = articleService.getAuthorEmail(id);
+        if (authorEmail.isEmpty()) {
+            return ResponseHandler.generateResponse("Article not found", HttpStatus.NOT_FOUND, null);
+        }
+        if (!authorEmail.get().equals(authentication.getName())) {
+            return ResponseHandler.generateResponse("Not authorized", HttpStatus.FORBIDDEN, null);
+        }
+        return null;
+    }
+
+    /**
+     * Interprets the {@code fields} parameter of the listings: "summary" (the default) returns
+     * lightweight feed cards, "full" returns complete articles including content and image.
+     */
+    private static boolean includesBody(String fields) {
+        if (FIELDS_SUMMARY.equalsIgnoreCase(fields)) {
+            return false;
+        }
+        if (FIELDS_FULL.equalsIgnoreCase(fields)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported fields value: " + fields);
     }
 }
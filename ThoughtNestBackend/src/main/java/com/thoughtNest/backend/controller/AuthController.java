@@ -137,25 +137,13 @@ public ResponseEntity<?> updateAccount(@RequestBody UpdateAccountRequest request
                 ? request.getEmail()
                 : currentEmail;
 
-        // Step 3: Fetch user + articles again to avoid LazyInitializationException
-        Optional<User> updatedUserOpt = userService.findByEmailWithArticles(updatedEmail);
-        if (updatedUserOpt.isEmpty()) {
+        // Step 3: Read the updated account info with its article counts
+        Optional<UserAccountInfoDto> updatedInfoOpt = userService.getAccountInfo(updatedEmail);
+        if (updatedInfoOpt.isEmpty()) {
             return ResponseHandler.generateResponse("Updated user not found", HttpStatus.NOT_FOUND, null);
         }
 
-        User updatedUser = updatedUserOpt.get();
-
-        int articleCount = updatedUser.getArticles() != null ? updatedUser.getArticles().size() : 0;
-        int publishedCount = (int) updatedUser.getArticles().stream()
-                .filter(a -> Boolean.TRUE.equals(a.getPublished()))
-                .count();
-
-        UserAccountInfoDto dto = new UserAccountInfoDto(
-                updatedUser.getUsername(),
-                updatedUser.getEmail(),
-                articleCount,
-                publishedCount
-        );
+        UserAccountInfoDto dto = updatedInfoOpt.get();
 
         boolean emailChanged = request.getEmail() != null && !request.getEmail().equals(currentEmail);
         String message = "Account updated successfully";
@@ -179,20 +167,14 @@ public ResponseEntity<?> getCurrentAccount(Principal principal) {
     String username = principal.getName();
     System.out.println("Current Username fetched from UserPrincipal in get account: " + username);
 
-    Optional<User> userOpt = userService.findByEmailWithArticles(username);
+    // Counts come from an aggregate query, so no article is loaded however many the user wrote
+    Optional<UserAccountInfoDto> infoOpt = userService.getAccountInfo(username);
 
-    if (userOpt.isEmpty()) {
+    if (infoOpt.isEmpty()) {
         return ResponseHandler.generateResponse("User not found", HttpStatus.NOT_FOUND, null);
     }
 
-    User user = userOpt.get();
-    int articleCount = user.getArticles() != null ? user.getArticles().size() : 0;
-    int publishedCount = (int) user.getArticles().stream()
-        .filter(a -> Boolean.TRUE.equals(a.getPublished()))
-        .count();
-
-    UserAccountInfoDto dto = new UserAccountInfoDto(user.getUsername(), user.getEmail(), articleCount, publishedCount);
-    return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, dto);
+    return ResponseHandler.generateResponse("User fetched successfully", HttpStatus.OK, infoOpt.get());
 }
 
 }
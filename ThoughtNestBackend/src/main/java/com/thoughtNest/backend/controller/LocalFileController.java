@@ -0,0 +1,184 @@
+package com.thoughtNest.backend.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.thoughtNest.backend.cache.HotFileCache;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import com.thoughtNest.backend.util.ByteRange;
+import com.thoughtNest.backend.util.ImageTypes;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves the files of the local blob store under {@code /uploads}.
+ *
+ * - Files are sent with sendfile when Tomcat supports it: the handler only sets request
+ *   attributes and returns, and Tomcat's poller streams the file from the page cache without
+ *   occupying a worker thread. Otherwise {@link FileChannel#transferTo} is used.
+ * - Small files, mostly feed thumbnails, are served from a {@link HotFileCache}.
+ * - Single byte ranges, {@code If-Range}, {@code If-None-Match} and {@code If-Modified-Since} are
+ *   supported.
+ * - Content-addressed files, named after the SHA-256 of their content, never change and are
+ *   cached by browsers for a year without revalidation. Other files revalidate daily.
+ * - Only raster images are served inline. Any other file, such as HTML or SVG stored before
+ *   uploads were checked, is sent as an attachment so it never renders on the API origin.
+ */
+@RestController
+@ConditionalOnProperty(name = "thoughtnest.storage.backend", havingValue = "local")
+public class LocalFileController {
+
+    /** Keys of files stored under their hash, including derivatives named after the original. */
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^[0-9a-f]{64}\\.");
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl REVALIDATE_DAILY = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
+    /** Request attributes of Tomcat's sendfile support. */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalBlobStore blobStore;
+    private final HotFileCache hotFileCache;
+
+    @Autowired
+    public LocalFileController(LocalBlobStore blobStore, HotFileCache hotFileCache) {
+        this.blobStore = blobStore;
+        this.hotFileCache = hotFileCache;
+    }
+
+    @GetMapping("/uploads/{key:.+}")
+    public void serveFile(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path file;
+        BasicFileAttributes attributes;
+        try {
+            file = blobStore.resolve(key);
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IllegalArgumentException | NoSuchFileException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        boolean contentAddressed = CONTENT_ADDRESSED.matcher(key).find();
+        String eTag = contentAddressed
+                ? "\"" + key + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (contentAddressed ? IMMUTABLE : REVALIDATE_DAILY).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) {
+            return;
+        }
+        Optional<String> imageType = ImageTypes.servedTypeOf(key);
+        if (imageType.isPresent()) {
+            response.setContentType(imageType.get());
+        } else {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().build().toString());
+        }
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        ByteRange range = rangeOf(request, eTag, lastModified, size);
+        long start = 0;
+        long length = size;
+        if (range != null) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(size));
+            if (!range.isSatisfiable()) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            start = range.getStart();
+            length = range.getLength();
+        }
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (hotFileCache.accepts(size)) {
+            byte[] data = hotFileCache.get(key, size, lastModified);
+            if (data == null) {
+                data = Files.readAllBytes(file);
+                hotFileCache.put(key, data, lastModified);
+            }
+            if (start + length <= data.length) {
+                response.getOutputStream().write(data, (int) start, (int) length);
+                return;
+            }
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /**
+     * The requested range, unless If-Range names a different version of the file, in which case
+     * the whole file is sent.
+     */
+    private static ByteRange rangeOf(HttpServletRequest request, String eTag, long lastModified, long size) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            boolean current;
+            try {
+                current = ifRange.startsWith("\"")
+                        ? ifRange.equals(eTag)
+                        : request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+            } catch (IllegalArgumentException e) {
+                current = false;
+            }
+            if (!current) {
+                return null;
+            }
+        }
+        return ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size);
+    }
+}
@@ -0,0 +1,198 @@
+package com.thoughtNest.backend.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.thoughtNest.backend.autosave.AutosaveService;
+import com.thoughtNest.backend.cache.AccountInfoCache;
+import com.thoughtNest.backend.cache.ArticleCache;
+import com.thoughtNest.backend.cache.HotFileCache;
+import com.thoughtNest.backend.feed.PublishedFeed;
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.render.RenderRebuildService;
+import com.thoughtNest.backend.search.SearchService;
+import com.thoughtNest.backend.service.ContentCompressionMigration;
+import com.thoughtNest.backend.service.ExcerptBackfillMigration;
+import com.thoughtNest.backend.service.InlineImageMigration;
+import com.thoughtNest.backend.suggest.AutocompleteService;
+import com.thoughtNest.backend.transfer.ArticleTransferService;
+import com.thoughtNest.backend.trending.TrendingService;
+import com.thoughtNest.backend.util.ResponseHandler;
+import com.thoughtNest.backend.views.ViewCounter;
+
+/**
+ * Exposes runtime statistics of the in-process caches and background subsystems.
+ * Requires authentication like every other non-public endpoint.
+ */
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    @Autowired
+    private ArticleCache articleCache;
+
+    @Autowired
+    private HotFileCache hotFileCache;
+
+    @Autowired
+    private AccountInfoCache accountInfoCache;
+
+    @Autowired
+    private PublishedFeed publishedFeed;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private ContentCompressionMigration contentCompressionMigration;
+
+    @Autowired
+    private InlineImageMigration inlineImageMigration;
+
+    @Autowired
+    private ExcerptBackfillMigration excerptBackfillMigration;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @Autowired
+    private ArticleTransferService articleTransferService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private AutosaveService autosaveService;
+
+    @Autowired
+    private RenderRebuildService renderRebuildService;
+
+    /**
+     * Hit/miss/eviction counters and memory use of the article cache.
+     */
+    @GetMapping("/article-cache")
+    public ResponseEntity<?> getArticleCacheStats() {
+        return ResponseHandler.success("Article cache statistics", articleCache.stats());
+    }
+
+    /**
+     * Hit/miss counters and memory use of the cache of small upload files.
+     */
+    @GetMapping("/file-cache")
+    public ResponseEntity<?> getFileCacheStats() {
+        return ResponseHandler.success("Upload file cache statistics", hotFileCache.stats());
+    }
+
+    /**
+     * Hit/miss counters and size of the short-lived account info cache.
+     */
+    @GetMapping("/account-cache")
+    public ResponseEntity<?> getAccountCacheStats() {
+        return ResponseHandler.success("Account cache statistics", accountInfoCache.stats());
+    }
+
+    /**
+     * Size, memory use and update counters of the materialized published feed.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getFeedStats() {
+        return ResponseHandler.success("Feed statistics", publishedFeed.stats());
+    }
+
+    /**
+     * Size of the search index and pending update counters.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> getSearchStats() {
+        return ResponseHandler.success("Search index statistics", searchService.stats());
+    }
+
+    /**
+     * Size of the autocomplete sets and rebuild counters.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> getAutocompleteStats() {
+        return ResponseHandler.success("Autocomplete statistics", autocompleteService.stats());
+    }
+
+    /**
+     * Progress and achieved ratio of the stored content compression.
+     */
+    @GetMapping("/content-compression")
+    public ResponseEntity<?> getContentCompressionStats() {
+        return ResponseHandler.success("Content compression statistics", contentCompressionMigration.stats());
+    }
+
+    /**
+     * Progress of moving inline data-URI images out of the articles table.
+     */
+    @GetMapping("/inline-images")
+    public ResponseEntity<?> getInlineImageStats() {
+        return ResponseHandler.success("Inline image extraction statistics", inlineImageMigration.stats());
+    }
+
+    /**
+     * Progress of storing excerpts for articles saved before excerpts were stored.
+     */
+    @GetMapping("/excerpts")
+    public ResponseEntity<?> getExcerptBackfillStats() {
+        return ResponseHandler.success("Excerpt backfill statistics", excerptBackfillMigration.stats());
+    }
+
+    /**
+     * Queue depth and outcomes of the background thumbnail and placeholder generation.
+     */
+    @GetMapping("/image-derivatives")
+    public ResponseEntity<?> getImageDerivativeStats() {
+        return ResponseHandler.success("Image derivative statistics", imageDerivativeService.stats());
+    }
+
+    /**
+     * Tracked articles, pending views and flush outcomes of the article view counter.
+     */
+    @GetMapping("/views")
+    public ResponseEntity<?> getViewCounterStats() {
+        return ResponseHandler.success("View counter statistics", viewCounter.stats());
+    }
+
+    /**
+     * Tracked and ranked articles and refresh counters of the trending ranking.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingStats() {
+        return ResponseHandler.success("Trending statistics", trendingService.stats());
+    }
+
+    /**
+     * Totals and last throughput of the article import and export.
+     */
+    @GetMapping("/transfer")
+    public ResponseEntity<?> getTransferStats() {
+        return ResponseHandler.success("Article transfer statistics", articleTransferService.stats());
+    }
+
+    /**
+     * Pending drafts, flush counters and journal size of the autosave buffer.
+     */
+    @GetMapping("/autosave")
+    public ResponseEntity<?> getAutosaveStats() {
+        return ResponseHandler.success("Autosave buffer statistics", autosaveService.stats());
+    }
+
+    /**
+     * Renderer version and progress of the background rebuild of stored article renders.
+     */
+    @GetMapping("/render")
+    public ResponseEntity<?> getRenderStats() {
+        return ResponseHandler.success("Article render statistics", renderRebuildService.stats());
+    }
+}
@@ -0,0 +1,97 @@
+package com.thoughtNest.backend.controller;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.thoughtNest.backend.dto.UploadProgress;
+import com.thoughtNest.backend.dto.UploadSessionRequest;
+import com.thoughtNest.backend.upload.ChunkedUploadService;
+import com.thoughtNest.backend.util.ResponseHandler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+/**
+ * Resumable image uploads for unreliable connections, as an alternative to
+ * {@code POST /api/articles/upload-image}:
+ * <ol>
+ *   <li>{@code POST /api/articles/uploads} with the file's name, type and size starts an upload;</li>
+ *   <li>{@code PUT /api/articles/uploads/{id}/chunks/{index}} sends each chunk as the raw request body;</li>
+ *   <li>{@code GET /api/articles/uploads/{id}} lists the chunks still missing after an interruption;</li>
+ *   <li>{@code POST /api/articles/uploads/{id}/complete} stores the file and returns its URL.</li>
+ * </ol>
+ */
+@RestController
+@RequestMapping("/api/articles/uploads")
+public class UploadController {
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<?> startUpload(@Valid @RequestBody UploadSessionRequest request,
+                                         Authentication authentication) throws IOException {
+        UploadProgress progress = chunkedUploadService.start(authentication.getName(), request.getFilename(),
+                request.getContentType(), request.getSize());
+        return ResponseHandler.generateResponse("Upload started", HttpStatus.CREATED, progress);
+    }
+
+    @PutMapping("/{id}/chunks/{index}")
+    public ResponseEntity<?> uploadChunk(@PathVariable String id,
+                                         @PathVariable int index,
+                                         HttpServletRequest request,
+                                         Authentication authentication) throws IOException {
+        Optional<UploadProgress> progress;
+        try {
+            progress = chunkedUploadService.writeChunk(id, authentication.getName(), index, request.getInputStream());
+        } catch (IllegalStateException e) {
+            return ResponseHandler.error(e.getMessage(), HttpStatus.CONFLICT);
+        }
+        return progress
+                .<ResponseEntity<?>>map(p -> ResponseHandler.success("Chunk " + index + " received", p))
+                .orElseGet(() -> ResponseHandler.error("Upload not found", HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getProgress(@PathVariable String id, Authentication authentication) {
+        return chunkedUploadService.progress(id, authentication.getName())
+                .<ResponseEntity<?>>map(p -> ResponseHandler.success("Upload progress", p))
+                .orElseGet(() -> ResponseHandler.error("Upload not found", HttpStatus.NOT_FOUND));
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<?> completeUpload(@PathVariable String id, Authentication authentication) {
+        Optional<String> url;
+        try {
+            url = chunkedUploadService.complete(id, authentication.getName());
+        } catch (IllegalStateException e) {
+            return ResponseHandler.error(e.getMessage(), HttpStatus.CONFLICT);
+        } catch (IOException e) {
+            System.err.println("❌ Storing chunked upload " + id + " failed: " + e.getMessage());
+            return ResponseHandler.error("Image upload failed", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        return url
+                .<ResponseEntity<?>>map(u -> ResponseHandler.success("Image uploaded successfully", u))
+                .orElseGet(() -> ResponseHandler.error("Upload not found", HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> cancelUpload(@PathVariable String id, Authentication authentication) {
+        return chunkedUploadService.cancel(id, authentication.getName())
+                ? ResponseHandler.success("Upload cancelled")
+                : ResponseHandler.error("Upload not found", HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,33 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted view count and last update of a published article, without any of its content.
+ * Built by a JPQL constructor expression in
+ * {@link com.thoughtNest.backend.repository.ArticleRepository} to seed the trending ranking.
+ */
+public class ArticleActivity {
+
+    private final Long id;
+    private final long views;
+    private final LocalDateTime lastModifiedDate;
+
+    public ArticleActivity(Long id, Long views, LocalDateTime lastModifiedDate) {
+        this.id = id;
+        this.views = views != null ? views : 0;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+}
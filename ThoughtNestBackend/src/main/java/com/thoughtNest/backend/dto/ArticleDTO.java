@@ -18,6 +18,8 @@ public class ArticleDTO {
     private String authorUsername;
     private boolean published;
     private LocalDateTime lastModifiedDate;
+    private long views;
+    private long version;
 
     public ArticleDTO() {
         // Default constructor required for serialization/deserialization
@@ -39,6 +41,30 @@ public class ArticleDTO {
         this.lastModifiedDate = lastModifiedDate;
     }
 
+    /**
+     * Constructor used by the JPQL constructor expression of the streamed listing.
+     * The argument types must match the selected attribute types exactly; nulls are handled
+     * the same way as in {@link #ArticleDTO(Article)}.
+     */
+    public ArticleDTO(Long id, String title, String content, LocalDate date,
+                      String image, String authorUsername, Boolean published,
+                      LocalDateTime lastModifiedDate, Long views) {
+        this(id, title, content, date, image, authorUsername != null ? authorUsername : "Unknown",
+                published != null && published, lastModifiedDate);
+        this.views = views != null ? views : 0;
+    }
+
+    /**
+     * Constructor used by the JPQL constructor expression of single articles and listings,
+     * which also select the optimistic lock version.
+     */
+    public ArticleDTO(Long id, String title, String content, LocalDate date,
+                      String image, String authorUsername, Boolean published,
+                      LocalDateTime lastModifiedDate, Long views, Long version) {
+        this(id, title, content, date, image, authorUsername, published, lastModifiedDate, views);
+        this.version = version != null ? version : 0;
+    }
+
     /**
      * Convenience constructor to convert from Article entity to DTO.
      * Safely handles null values for optional fields.
@@ -52,6 +78,19 @@ public class ArticleDTO {
         this.published = article.getPublished() != null ? article.getPublished() : false;
         this.authorUsername = article.getAuthor() != null ? article.getAuthor().getUsername() : "Unknown";
         this.lastModifiedDate = article.getLastModifiedDate();
+        this.views = article.getViews();
+        this.version = article.getVersion();
+    }
+
+    /**
+     * Returns a copy with the given view count. Cached DTOs are shared between requests, so the
+     * live count is applied to a copy rather than to the cached instance.
+     */
+    public ArticleDTO withViews(long views) {
+        ArticleDTO copy = new ArticleDTO(id, title, content, date, image, authorUsername, published, lastModifiedDate);
+        copy.views = views;
+        copy.version = version;
+        return copy;
     }
 
     // Getters and setters for all fields
@@ -119,4 +158,20 @@ public class ArticleDTO {
     public void setLastModifiedDate(LocalDateTime lastModifiedDate) {
         this.lastModifiedDate = lastModifiedDate;
     }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,43 @@
+package com.thoughtNest.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for an autosave from the editor: the title and content as currently typed.
+ */
+public class ArticleDraft {
+
+    @NotNull(message = "Title is required")
+    private String title;
+
+    @NotNull(message = "Content is required")
+    private String content;
+
+    /**
+     * Default constructor.
+     */
+    public ArticleDraft() {}
+
+    public ArticleDraft(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
+
+    // Getters and Setters
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,31 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Outcome of one article import: how many articles were created and how fast.
+ */
+public class ArticleImportResult {
+
+    private final long imported;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+
+    public ArticleImportResult(long imported, long elapsedMillis, long rowsPerSecond) {
+        this.imported = imported;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    // Getters
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+}
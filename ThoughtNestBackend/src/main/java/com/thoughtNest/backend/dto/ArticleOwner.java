@@ -0,0 +1,25 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Id of an article with its author's email, for ownership checks over many articles at once.
+ * Built by a JPQL constructor expression in
+ * {@link com.thoughtNest.backend.repository.ArticleRepository}.
+ */
+public class ArticleOwner {
+
+    private final Long id;
+    private final String authorEmail;
+
+    public ArticleOwner(Long id, String authorEmail) {
+        this.id = id;
+        this.authorEmail = authorEmail;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAuthorEmail() {
+        return authorEmail;
+    }
+}
@@ -0,0 +1,41 @@
+package com.thoughtNest.backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated article listing.
+ * Contains the articles of the page and the opaque cursor for the following page,
+ * which is null once the listing is exhausted.
+ */
+public class ArticlePage<T> {
+
+    private List<T> articles;
+    private String next;
+
+    public ArticlePage() {
+        // Default constructor required for serialization/deserialization
+    }
+
+    public ArticlePage(List<T> articles, String next) {
+        this.articles = articles;
+        this.next = next;
+    }
+
+    // Getters and setters
+
+    public List<T> getArticles() {
+        return articles;
+    }
+
+    public void setArticles(List<T> articles) {
+        this.articles = articles;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+}
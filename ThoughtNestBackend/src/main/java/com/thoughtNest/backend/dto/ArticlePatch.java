@@ -0,0 +1,49 @@
+package com.thoughtNest.backend.dto;
+
+import com.thoughtNest.backend.model.Article;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for a partial update of an article: a text delta against the content of the version named
+ * in If-Match, in the {@link com.thoughtNest.backend.util.TextDelta} format, and optionally a
+ * new title.
+ */
+public class ArticlePatch {
+
+    /** New title, or null to keep the current one. */
+    private String title;
+
+    @NotNull(message = "Delta is required")
+    @Size(max = Article.MAX_CONTENT_LENGTH, message = "Delta must be under " + Article.MAX_CONTENT_LENGTH + " characters")
+    private String delta;
+
+    /**
+     * Default constructor.
+     */
+    public ArticlePatch() {}
+
+    public ArticlePatch(String title, String delta) {
+        this.title = title;
+        this.delta = delta;
+    }
+
+    // Getters and Setters
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDelta() {
+        return delta;
+    }
+
+    public void setDelta(String delta) {
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,72 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The stored server-side render of an article with the metadata needed to serve it as a page.
+ * Read without the article body.
+ */
+public class ArticleRender {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String html;
+    private final Integer renderVersion;
+    private final boolean published;
+    private final LocalDateTime lastModifiedDate;
+    private final long version;
+
+    public ArticleRender(Long id, String title, String excerpt, String html, Integer renderVersion,
+                         Boolean published, LocalDateTime lastModifiedDate, Long version) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.html = html;
+        this.renderVersion = renderVersion;
+        this.published = published != null && published;
+        this.lastModifiedDate = lastModifiedDate;
+        this.version = version != null ? version : 0;
+    }
+
+    /**
+     * Returns a copy with the given HTML, for articles whose render is built on the fly.
+     */
+    public ArticleRender withHtml(String html, int renderVersion) {
+        return new ArticleRender(id, title, excerpt, html, renderVersion, published, lastModifiedDate, version);
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public String getHtml() {
+        return html;
+    }
+
+    public Integer getRenderVersion() {
+        return renderVersion;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,45 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One revision of an article with its content rebuilt in full.
+ */
+public class ArticleRevisionDTO {
+
+    private final Long articleId;
+    private final int revision;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+
+    public ArticleRevisionDTO(Long articleId, int revision, String title, String content, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.revision = revision;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of an article's revision list, read without the stored content or deltas.
+ */
+public class ArticleRevisionInfo {
+
+    private final int revision;
+    private final String title;
+    private final LocalDateTime createdAt;
+    private final boolean snapshot;
+
+    public ArticleRevisionInfo(int revision, String title, LocalDateTime createdAt, int depth) {
+        this.revision = revision;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.snapshot = depth == 0;
+    }
+
+    // Getters
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+}
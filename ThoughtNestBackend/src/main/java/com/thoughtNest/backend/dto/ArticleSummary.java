@@ -0,0 +1,147 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read model used by the article listings.
+ * Carries only the fields a feed card needs, so list queries never load the
+ * article body. Instances are built directly by a JPQL constructor expression
+ * in {@link com.thoughtNest.backend.repository.ArticleRepository}.
+ */
+public class ArticleSummary {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private LocalDate date;
+    private String thumbnail;
+    private String authorUsername;
+    private boolean published;
+    private LocalDateTime lastModifiedDate;
+    private Integer imageWidth;
+    private Integer imageHeight;
+    private String imagePlaceholder;
+
+    public ArticleSummary() {
+        // Default constructor required for serialization/deserialization
+    }
+
+    /**
+     * Constructor used by the JPQL constructor expression.
+     * The argument types must match the selected attribute types exactly.
+     */
+    public ArticleSummary(Long id, String title, String excerpt, LocalDate date, String thumbnail,
+                          String authorUsername, Boolean published, LocalDateTime lastModifiedDate) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.date = date;
+        this.thumbnail = thumbnail;
+        this.authorUsername = authorUsername;
+        this.published = published != null && published;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    /**
+     * Constructor used by the JPQL constructor expression, with the size and placeholder of the
+     * image once the image pipeline has processed it (null otherwise).
+     */
+    public ArticleSummary(Long id, String title, String excerpt, LocalDate date, String thumbnail,
+                          String authorUsername, Boolean published, LocalDateTime lastModifiedDate,
+                          Integer imageWidth, Integer imageHeight, String imagePlaceholder) {
+        this(id, title, excerpt, date, thumbnail, authorUsername, published, lastModifiedDate);
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.imagePlaceholder = imagePlaceholder;
+    }
+
+    // Getters and setters for all fields
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public String getAuthorUsername() {
+        return authorUsername;
+    }
+
+    public void setAuthorUsername(String authorUsername) {
+        this.authorUsername = authorUsername;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(LocalDateTime lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public Integer getImageWidth() {
+        return imageWidth;
+    }
+
+    public void setImageWidth(Integer imageWidth) {
+        this.imageWidth = imageWidth;
+    }
+
+    public Integer getImageHeight() {
+        return imageHeight;
+    }
+
+    public void setImageHeight(Integer imageHeight) {
+        this.imageHeight = imageHeight;
+    }
+
+    public String getImagePlaceholder() {
+        return imagePlaceholder;
+    }
+
+    public void setImagePlaceholder(String imagePlaceholder) {
+        this.imagePlaceholder = imagePlaceholder;
+    }
+}
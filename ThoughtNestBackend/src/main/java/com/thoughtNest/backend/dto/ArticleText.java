@@ -0,0 +1,39 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The searchable text of an article: title and raw content without author or image.
+ * Built by a JPQL constructor expression in
+ * {@link com.thoughtNest.backend.repository.ArticleRepository} when the search index is fed.
+ */
+public class ArticleText {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime lastModifiedDate;
+
+    public ArticleText(Long id, String title, String content, LocalDateTime lastModifiedDate) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+}
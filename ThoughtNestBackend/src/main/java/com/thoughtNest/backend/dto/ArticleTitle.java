@@ -0,0 +1,45 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Title, author and publish state of an article, without any of its content.
+ * Built by a JPQL constructor expression in
+ * {@link com.thoughtNest.backend.repository.ArticleRepository} to feed title autocomplete.
+ */
+public class ArticleTitle {
+
+    private final Long id;
+    private final String title;
+    private final Long authorId;
+    private final Boolean published;
+    private final LocalDateTime lastModifiedDate;
+
+    public ArticleTitle(Long id, String title, Long authorId, Boolean published, LocalDateTime lastModifiedDate) {
+        this.id = id;
+        this.title = title;
+        this.authorId = authorId;
+        this.published = published;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public boolean isPublished() {
+        return Boolean.TRUE.equals(published);
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal article metadata used to answer conditional requests.
+ * Loaded without the article body so a 304 can be sent without building the full DTO.
+ */
+public class ArticleVersionInfo {
+
+    private final Long id;
+    private final LocalDateTime lastModifiedDate;
+    private final boolean published;
+    private final long version;
+
+    public ArticleVersionInfo(Long id, LocalDateTime lastModifiedDate, Boolean published, Long version) {
+        this.id = id;
+        this.lastModifiedDate = lastModifiedDate;
+        this.published = published != null && published;
+        this.version = version != null ? version : 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,31 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * A user's username together with the number of articles they have published.
+ * Built by a JPQL constructor expression in
+ * {@link com.thoughtNest.backend.repository.UserRepository} to feed author autocomplete.
+ */
+public class AuthorPopularity {
+
+    private final Long id;
+    private final String username;
+    private final long publishedCount;
+
+    public AuthorPopularity(Long id, String username, long publishedCount) {
+        this.id = id;
+        this.username = username;
+        this.publishedCount = publishedCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+}
@@ -0,0 +1,50 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Point-in-time statistics of the autocomplete index, exposed through the stats endpoint.
+ */
+public class AutocompleteStats {
+
+    private final boolean ready;
+    private final int articles;
+    private final int authors;
+    private final int pendingChanges;
+    private final long rebuilds;
+    private final long queries;
+
+    public AutocompleteStats(boolean ready, int articles, int authors, int pendingChanges, long rebuilds,
+                             long queries) {
+        this.ready = ready;
+        this.articles = articles;
+        this.authors = authors;
+        this.pendingChanges = pendingChanges;
+        this.rebuilds = rebuilds;
+        this.queries = queries;
+    }
+
+    // Getters
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getArticles() {
+        return articles;
+    }
+
+    public int getAuthors() {
+        return authors;
+    }
+
+    public int getPendingChanges() {
+        return pendingChanges;
+    }
+
+    public long getRebuilds() {
+        return rebuilds;
+    }
+
+    public long getQueries() {
+        return queries;
+    }
+}
@@ -0,0 +1,50 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * State of the autosave buffer, exposed through the stats endpoint.
+ */
+public class AutosaveStats {
+
+    private final int pendingDrafts;
+    private final long receivedDrafts;
+    private final long writtenDrafts;
+    private final long flushes;
+    private final long failedWrites;
+    private final long journalBytes;
+
+    public AutosaveStats(int pendingDrafts, long receivedDrafts, long writtenDrafts, long flushes,
+                         long failedWrites, long journalBytes) {
+        this.pendingDrafts = pendingDrafts;
+        this.receivedDrafts = receivedDrafts;
+        this.writtenDrafts = writtenDrafts;
+        this.flushes = flushes;
+        this.failedWrites = failedWrites;
+        this.journalBytes = journalBytes;
+    }
+
+    // Getters
+
+    public int getPendingDrafts() {
+        return pendingDrafts;
+    }
+
+    public long getReceivedDrafts() {
+        return receivedDrafts;
+    }
+
+    public long getWrittenDrafts() {
+        return writtenDrafts;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+
+    public long getFailedWrites() {
+        return failedWrites;
+    }
+
+    public long getJournalBytes() {
+        return journalBytes;
+    }
+}
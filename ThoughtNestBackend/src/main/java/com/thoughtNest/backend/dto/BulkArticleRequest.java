@@ -0,0 +1,51 @@
+package com.thoughtNest.backend.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for applying one operation to many articles: {@code publish}, {@code unpublish} or {@code delete}.
+ */
+public class BulkArticleRequest {
+
+    /** Upper bound on the articles one request may change. */
+    public static final int MAX_IDS = 500;
+
+    @NotBlank(message = "Operation is required")
+    private String operation;
+
+    @NotEmpty(message = "At least one article id is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " articles per request")
+    private List<Long> ids;
+
+    /**
+     * Default constructor.
+     */
+    public BulkArticleRequest() {}
+
+    public BulkArticleRequest(String operation, List<Long> ids) {
+        this.operation = operation;
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,67 @@
+package com.thoughtNest.backend.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk operation, with one result per distinct requested id in request order.
+ */
+public class BulkArticleResult {
+
+    /**
+     * What happened to one article.
+     */
+    public enum Status {
+        /** The operation was applied. */
+        OK,
+        /** No article has this id. */
+        NOT_FOUND,
+        /** The article belongs to another user and was left alone. */
+        FORBIDDEN
+    }
+
+    private final String operation;
+    private final int applied;
+    private final List<Item> results;
+
+    public BulkArticleResult(String operation, int applied, List<Item> results) {
+        this.operation = operation;
+        this.applied = applied;
+        this.results = results;
+    }
+
+    // Getters
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    /**
+     * Result for one article id.
+     */
+    public static class Item {
+
+        private final Long id;
+        private final Status status;
+
+        public Item(Long id, Status status) {
+            this.id = id;
+            this.status = status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+}
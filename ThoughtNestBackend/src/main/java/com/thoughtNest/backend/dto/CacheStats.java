@@ -0,0 +1,70 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Point-in-time statistics of an in-process cache, exposed through the stats endpoint.
+ */
+public class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long loads;
+    private final long evictions;
+    private final long invalidations;
+    private final long entries;
+    private final long weightBytes;
+    private final long maxWeightBytes;
+
+    public CacheStats(long hits, long misses, long loads, long evictions, long invalidations,
+                      long entries, long weightBytes, long maxWeightBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.loads = loads;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.entries = entries;
+        this.weightBytes = weightBytes;
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * Fraction of lookups answered from the cache, or 0 if there were none.
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    // Getters
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getWeightBytes() {
+        return weightBytes;
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+}
@@ -0,0 +1,55 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Progress of the content compression migration, exposed through the stats endpoint.
+ * The ratio is original size over stored size for all rows scanned so far.
+ */
+public class CompressionStats {
+
+    private final boolean enabled;
+    private final boolean running;
+    private final long scannedRows;
+    private final long compressedRows;
+    private final long originalBytes;
+    private final long storedBytes;
+
+    public CompressionStats(boolean enabled, boolean running, long scannedRows, long compressedRows,
+                            long originalBytes, long storedBytes) {
+        this.enabled = enabled;
+        this.running = running;
+        this.scannedRows = scannedRows;
+        this.compressedRows = compressedRows;
+        this.originalBytes = originalBytes;
+        this.storedBytes = storedBytes;
+    }
+
+    // Getters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getScannedRows() {
+        return scannedRows;
+    }
+
+    public long getCompressedRows() {
+        return compressedRows;
+    }
+
+    public long getOriginalBytes() {
+        return originalBytes;
+    }
+
+    public long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public double getRatio() {
+        return storedBytes == 0 ? 1.0 : (double) originalBytes / storedBytes;
+    }
+}
@@ -0,0 +1,31 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Progress of the excerpt backfill, exposed through the stats endpoint.
+ */
+public class ExcerptBackfillStats {
+
+    private final boolean running;
+    private final long scannedRows;
+    private final long filledRows;
+
+    public ExcerptBackfillStats(boolean running, long scannedRows, long filledRows) {
+        this.running = running;
+        this.scannedRows = scannedRows;
+        this.filledRows = filledRows;
+    }
+
+    // Getters
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getScannedRows() {
+        return scannedRows;
+    }
+
+    public long getFilledRows() {
+        return filledRows;
+    }
+}
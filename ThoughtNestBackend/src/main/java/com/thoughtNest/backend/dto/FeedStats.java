@@ -0,0 +1,62 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Point-in-time statistics of the materialized published feed, exposed through the stats endpoint.
+ */
+public class FeedStats {
+
+    private final boolean ready;
+    private final int items;
+    private final int pages;
+    private final long bytes;
+    private final boolean direct;
+    private final long rebuilds;
+    private final long patches;
+    private final long pagesRendered;
+
+    public FeedStats(boolean ready, int items, int pages, long bytes, boolean direct,
+                     long rebuilds, long patches, long pagesRendered) {
+        this.ready = ready;
+        this.items = items;
+        this.pages = pages;
+        this.bytes = bytes;
+        this.direct = direct;
+        this.rebuilds = rebuilds;
+        this.patches = patches;
+        this.pagesRendered = pagesRendered;
+    }
+
+    // Getters
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getItems() {
+        return items;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public long getRebuilds() {
+        return rebuilds;
+    }
+
+    public long getPatches() {
+        return patches;
+    }
+
+    public long getPagesRendered() {
+        return pagesRendered;
+    }
+}
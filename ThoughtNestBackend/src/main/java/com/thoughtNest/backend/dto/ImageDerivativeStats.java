@@ -0,0 +1,43 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * State of the background image derivative pipeline, exposed through the stats endpoint.
+ */
+public class ImageDerivativeStats {
+
+    private final int queueDepth;
+    private final int activeWorkers;
+    private final long completed;
+    private final long failed;
+    private final long rejected;
+
+    public ImageDerivativeStats(int queueDepth, int activeWorkers, long completed, long failed, long rejected) {
+        this.queueDepth = queueDepth;
+        this.activeWorkers = activeWorkers;
+        this.completed = completed;
+        this.failed = failed;
+        this.rejected = rejected;
+    }
+
+    // Getters
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getActiveWorkers() {
+        return activeWorkers;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,44 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Progress of the inline image extraction, exposed through the stats endpoint.
+ */
+public class InlineImageStats {
+
+    private final boolean running;
+    private final long scannedRows;
+    private final long extractedRows;
+    private final long failedRows;
+    private final long removedChars;
+
+    public InlineImageStats(boolean running, long scannedRows, long extractedRows, long failedRows,
+                            long removedChars) {
+        this.running = running;
+        this.scannedRows = scannedRows;
+        this.extractedRows = extractedRows;
+        this.failedRows = failedRows;
+        this.removedChars = removedChars;
+    }
+
+    // Getters
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getScannedRows() {
+        return scannedRows;
+    }
+
+    public long getExtractedRows() {
+        return extractedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public long getRemovedChars() {
+        return removedChars;
+    }
+}
@@ -0,0 +1,47 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate state of an article listing used to answer conditional requests.
+ *
+ * Any change to a listing either bumps the newest lastModifiedDate (create, edit, publish)
+ * or changes the row count (delete, unpublish). Background jobs leave the modification date
+ * alone so articles keep their place in the feeds: moving an inline image out of the row bumps
+ * the version, which changes the sum of versions, and the image pipeline links image assets,
+ * which changes the sum of the linked asset ids. Together these identify the listing contents.
+ */
+public class ListingVersionInfo {
+
+    private final LocalDateTime maxLastModifiedDate;
+    private final long count;
+    private final long versionSum;
+    private final long imageAssetIdSum;
+
+    public ListingVersionInfo(LocalDateTime maxLastModifiedDate, Long count) {
+        this(maxLastModifiedDate, count, null, null);
+    }
+
+    public ListingVersionInfo(LocalDateTime maxLastModifiedDate, Long count, Long versionSum, Long imageAssetIdSum) {
+        this.maxLastModifiedDate = maxLastModifiedDate;
+        this.count = count != null ? count : 0;
+        this.versionSum = versionSum != null ? versionSum : 0;
+        this.imageAssetIdSum = imageAssetIdSum != null ? imageAssetIdSum : 0;
+    }
+
+    public LocalDateTime getMaxLastModifiedDate() {
+        return maxLastModifiedDate;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+    public long getImageAssetIdSum() {
+        return imageAssetIdSum;
+    }
+}
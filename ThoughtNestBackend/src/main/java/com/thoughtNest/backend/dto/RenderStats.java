@@ -0,0 +1,50 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Progress of the background rebuild of stored article renders, exposed through the stats endpoint.
+ */
+public class RenderStats {
+
+    private final int rendererVersion;
+    private final boolean running;
+    private final long runs;
+    private final long rebuiltRenders;
+    private final long pendingImageRenders;
+    private final long skippedRenders;
+
+    public RenderStats(int rendererVersion, boolean running, long runs, long rebuiltRenders,
+                       long pendingImageRenders, long skippedRenders) {
+        this.rendererVersion = rendererVersion;
+        this.running = running;
+        this.runs = runs;
+        this.rebuiltRenders = rebuiltRenders;
+        this.pendingImageRenders = pendingImageRenders;
+        this.skippedRenders = skippedRenders;
+    }
+
+    // Getters
+
+    public int getRendererVersion() {
+        return rendererVersion;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getRebuiltRenders() {
+        return rebuiltRenders;
+    }
+
+    public long getPendingImageRenders() {
+        return pendingImageRenders;
+    }
+
+    public long getSkippedRenders() {
+        return skippedRenders;
+    }
+}
@@ -0,0 +1,101 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One article in a search result.
+ * {@code titleHtml} and {@code snippet} are HTML-escaped with the matched words wrapped
+ * in {@code <mark>} tags; {@code title} is the plain title.
+ */
+public class SearchHit {
+    private Long id;
+    private String title;
+    private String titleHtml;
+    private String snippet;
+    private LocalDate date;
+    private String thumbnail;
+    private String authorUsername;
+    private float score;
+
+    public SearchHit() {
+        // Default constructor required for serialization/deserialization
+    }
+
+    public SearchHit(Long id, String title, String titleHtml, String snippet, LocalDate date,
+                     String thumbnail, String authorUsername, float score) {
+        this.id = id;
+        this.title = title;
+        this.titleHtml = titleHtml;
+        this.snippet = snippet;
+        this.date = date;
+        this.thumbnail = thumbnail;
+        this.authorUsername = authorUsername;
+        this.score = score;
+    }
+
+    // Getters and setters for all fields
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getTitleHtml() {
+        return titleHtml;
+    }
+
+    public void setTitleHtml(String titleHtml) {
+        this.titleHtml = titleHtml;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public String getAuthorUsername() {
+        return authorUsername;
+    }
+
+    public void setAuthorUsername(String authorUsername) {
+        this.authorUsername = authorUsername;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,61 @@
+package com.thoughtNest.backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of ranked search hits.
+ * {@code total} is the number of matching articles; the next page starts at
+ * {@code offset + hits.size()} while that is below the total.
+ */
+public class SearchResults {
+
+    private List<SearchHit> hits;
+    private long total;
+    private int offset;
+    private int limit;
+
+    public SearchResults() {
+        // Default constructor required for serialization/deserialization
+    }
+
+    public SearchResults(List<SearchHit> hits, long total, int offset, int limit) {
+        this.hits = hits;
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    // Getters and setters
+
+    public List<SearchHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<SearchHit> hits) {
+        this.hits = hits;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,50 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Point-in-time statistics of the full-text search index, exposed through the stats endpoint.
+ */
+public class SearchStats {
+
+    private final boolean ready;
+    private final long articles;
+    private final int unsavedDocs;
+    private final long fileBytes;
+    private final int pendingUpdates;
+    private final long searches;
+
+    public SearchStats(boolean ready, long articles, int unsavedDocs, long fileBytes, int pendingUpdates,
+                       long searches) {
+        this.ready = ready;
+        this.articles = articles;
+        this.unsavedDocs = unsavedDocs;
+        this.fileBytes = fileBytes;
+        this.pendingUpdates = pendingUpdates;
+        this.searches = searches;
+    }
+
+    // Getters
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getArticles() {
+        return articles;
+    }
+
+    public int getUnsavedDocs() {
+        return unsavedDocs;
+    }
+
+    public long getFileBytes() {
+        return fileBytes;
+    }
+
+    public int getPendingUpdates() {
+        return pendingUpdates;
+    }
+
+    public long getSearches() {
+        return searches;
+    }
+}
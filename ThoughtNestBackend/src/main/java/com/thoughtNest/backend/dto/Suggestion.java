@@ -0,0 +1,38 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * One type-ahead suggestion: an article title or an author username, with the id of the
+ * article or user it refers to.
+ */
+public class Suggestion {
+
+    private Long id;
+    private String text;
+
+    public Suggestion() {
+        // Default constructor required for serialization/deserialization
+    }
+
+    public Suggestion(Long id, String text) {
+        this.id = id;
+        this.text = text;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+}
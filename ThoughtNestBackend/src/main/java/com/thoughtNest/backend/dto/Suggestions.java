@@ -0,0 +1,40 @@
+package com.thoughtNest.backend.dto;
+
+import java.util.List;
+
+/**
+ * Type-ahead suggestions for a prefix: matching published article titles and author
+ * usernames, each list ordered most popular first.
+ */
+public class Suggestions {
+
+    private List<Suggestion> articles;
+    private List<Suggestion> authors;
+
+    public Suggestions() {
+        // Default constructor required for serialization/deserialization
+    }
+
+    public Suggestions(List<Suggestion> articles, List<Suggestion> authors) {
+        this.articles = articles;
+        this.authors = authors;
+    }
+
+    // Getters and setters
+
+    public List<Suggestion> getArticles() {
+        return articles;
+    }
+
+    public void setArticles(List<Suggestion> articles) {
+        this.articles = articles;
+    }
+
+    public List<Suggestion> getAuthors() {
+        return authors;
+    }
+
+    public void setAuthors(List<Suggestion> authors) {
+        this.authors = authors;
+    }
+}
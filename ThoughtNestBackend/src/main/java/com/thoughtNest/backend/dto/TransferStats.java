@@ -0,0 +1,50 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Totals and last throughput of the article import and export, exposed through the stats endpoint.
+ */
+public class TransferStats {
+
+    private final long imports;
+    private final long importedArticles;
+    private final long lastImportRowsPerSecond;
+    private final long exports;
+    private final long exportedArticles;
+    private final long lastExportRowsPerSecond;
+
+    public TransferStats(long imports, long importedArticles, long lastImportRowsPerSecond,
+                         long exports, long exportedArticles, long lastExportRowsPerSecond) {
+        this.imports = imports;
+        this.importedArticles = importedArticles;
+        this.lastImportRowsPerSecond = lastImportRowsPerSecond;
+        this.exports = exports;
+        this.exportedArticles = exportedArticles;
+        this.lastExportRowsPerSecond = lastExportRowsPerSecond;
+    }
+
+    // Getters
+
+    public long getImports() {
+        return imports;
+    }
+
+    public long getImportedArticles() {
+        return importedArticles;
+    }
+
+    public long getLastImportRowsPerSecond() {
+        return lastImportRowsPerSecond;
+    }
+
+    public long getExports() {
+        return exports;
+    }
+
+    public long getExportedArticles() {
+        return exportedArticles;
+    }
+
+    public long getLastExportRowsPerSecond() {
+        return lastExportRowsPerSecond;
+    }
+}
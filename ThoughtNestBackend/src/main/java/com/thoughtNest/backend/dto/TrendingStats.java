@@ -0,0 +1,50 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * Point-in-time statistics of the trending ranking, exposed through the stats endpoint.
+ */
+public class TrendingStats {
+
+    private final boolean ready;
+    private final int trackedArticles;
+    private final int rankedArticles;
+    private final int pendingArticles;
+    private final long refreshes;
+    private final long summaryLoads;
+
+    public TrendingStats(boolean ready, int trackedArticles, int rankedArticles, int pendingArticles,
+                         long refreshes, long summaryLoads) {
+        this.ready = ready;
+        this.trackedArticles = trackedArticles;
+        this.rankedArticles = rankedArticles;
+        this.pendingArticles = pendingArticles;
+        this.refreshes = refreshes;
+        this.summaryLoads = summaryLoads;
+    }
+
+    // Getters
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getTrackedArticles() {
+        return trackedArticles;
+    }
+
+    public int getRankedArticles() {
+        return rankedArticles;
+    }
+
+    public int getPendingArticles() {
+        return pendingArticles;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getSummaryLoads() {
+        return summaryLoads;
+    }
+}
@@ -0,0 +1,73 @@
+package com.thoughtNest.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * State of a chunked upload. Chunk {@code i} covers bytes {@code [i * chunkSize, (i + 1) * chunkSize)}
+ * of the file; only the last chunk may be shorter. Clients resume by sending the missing chunks.
+ */
+public class UploadProgress {
+
+    private final String uploadId;
+    private final String filename;
+    private final long size;
+    private final int chunkSize;
+    private final int totalChunks;
+    private final long receivedBytes;
+    private final List<Integer> missingChunks;
+    private final LocalDateTime expiresAt;
+
+    public UploadProgress(String uploadId, String filename, long size, int chunkSize, int totalChunks,
+                          long receivedBytes, List<Integer> missingChunks, LocalDateTime expiresAt) {
+        this.uploadId = uploadId;
+        this.filename = filename;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.totalChunks = totalChunks;
+        this.receivedBytes = receivedBytes;
+        this.missingChunks = missingChunks;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    public List<Integer> getMissingChunks() {
+        return missingChunks;
+    }
+
+    /**
+     * When the upload is discarded unless another chunk arrives.
+     */
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isComplete() {
+        return missingChunks.isEmpty();
+    }
+}
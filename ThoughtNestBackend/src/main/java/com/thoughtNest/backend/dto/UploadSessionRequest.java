@@ -0,0 +1,55 @@
+package com.thoughtNest.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO for starting a chunked upload: the file's name, type and exact size in bytes.
+ */
+public class UploadSessionRequest {
+
+    @NotBlank(message = "Filename is required")
+    private String filename;
+
+    private String contentType;
+
+    @Positive(message = "Size must be positive")
+    private long size;
+
+    /**
+     * Default constructor.
+     */
+    public UploadSessionRequest() {}
+
+    public UploadSessionRequest(String filename, String contentType, long size) {
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    // Getters and Setters
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
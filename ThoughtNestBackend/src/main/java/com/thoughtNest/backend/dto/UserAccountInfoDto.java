@@ -18,6 +18,15 @@ public class UserAccountInfoDto {
         this.publishedCount = publishedCount;
     }
 
+    /**
+     * Constructor used by the JPQL aggregate query; counts arrive as Long and the published
+     * sum is null for authors without articles on some databases.
+     */
+    public UserAccountInfoDto(String username, String email, Long articleCount, Long publishedCount) {
+        this(username, email, articleCount != null ? articleCount.intValue() : 0,
+                publishedCount != null ? publishedCount.intValue() : 0);
+    }
+
     // Getters and setters
     public String getUsername() {
         return username;
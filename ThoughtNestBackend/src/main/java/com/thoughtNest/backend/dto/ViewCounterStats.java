@@ -0,0 +1,44 @@
+package com.thoughtNest.backend.dto;
+
+/**
+ * State of the in-memory article view counter, exposed through the stats endpoint.
+ */
+public class ViewCounterStats {
+
+    private final int trackedArticles;
+    private final long pendingViews;
+    private final long flushedViews;
+    private final long flushes;
+    private final long failedFlushes;
+
+    public ViewCounterStats(int trackedArticles, long pendingViews, long flushedViews, long flushes,
+                            long failedFlushes) {
+        this.trackedArticles = trackedArticles;
+        this.pendingViews = pendingViews;
+        this.flushedViews = flushedViews;
+        this.flushes = flushes;
+        this.failedFlushes = failedFlushes;
+    }
+
+    // Getters
+
+    public int getTrackedArticles() {
+        return trackedArticles;
+    }
+
+    public long getPendingViews() {
+        return pendingViews;
+    }
+
+    public long getFlushedViews() {
+        return flushedViews;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes;
+    }
+}
@@ -0,0 +1,67 @@
+package com.thoughtNest.backend.event;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Application event published by {@link com.thoughtNest.backend.service.ArticleService}
+ * whenever articles are written or removed.
+ *
+ * Components that keep derived copies of article data (caches, indexes, feeds) listen
+ * for this event instead of being called directly from every write path. Writes of many
+ * articles at once (bulk operations, imports) publish one event for all of them, so listeners
+ * handle the ids as a set rather than one article at a time.
+ */
+public class ArticleChangedEvent {
+
+    /**
+     * Kind of change that happened to the articles.
+     */
+    public enum Type {
+        /** The articles were created or updated, including publish status changes. */
+        SAVED,
+        /** The articles were deleted. */
+        DELETED
+    }
+
+    private final List<Long> articleIds;
+    private final Type type;
+
+    public ArticleChangedEvent(Collection<Long> articleIds, Type type) {
+        this.articleIds = List.copyOf(new LinkedHashSet<>(articleIds));
+        this.type = type;
+    }
+
+    public static ArticleChangedEvent saved(Long articleId) {
+        return new ArticleChangedEvent(List.of(articleId), Type.SAVED);
+    }
+
+    public static ArticleChangedEvent deleted(Long articleId) {
+        return new ArticleChangedEvent(List.of(articleId), Type.DELETED);
+    }
+
+    public static ArticleChangedEvent saved(Collection<Long> articleIds) {
+        return new ArticleChangedEvent(articleIds, Type.SAVED);
+    }
+
+    public static ArticleChangedEvent deleted(Collection<Long> articleIds) {
+        return new ArticleChangedEvent(articleIds, Type.DELETED);
+    }
+
+    /**
+     * Ids of the changed articles, without duplicates.
+     */
+    public List<Long> getArticleIds() {
+        return articleIds;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleChangedEvent{articleIds=" + articleIds + ", type=" + type + "}";
+    }
+}
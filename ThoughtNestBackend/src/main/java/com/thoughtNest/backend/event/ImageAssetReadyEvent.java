@@ -0,0 +1,27 @@
+package com.thoughtNest.backend.event;
+
+/**
+ * Application event published by {@link com.thoughtNest.backend.image.ImageDerivativeService}
+ * once the renditions of an uploaded image are stored, or once the image is recorded as one
+ * that cannot be processed.
+ *
+ * Components that point at renditions wherever they exist, such as the article renders, listen
+ * for this event to pick up images that were still being processed when they were written.
+ */
+public class ImageAssetReadyEvent {
+
+    private final String originalUrl;
+
+    public ImageAssetReadyEvent(String originalUrl) {
+        this.originalUrl = originalUrl;
+    }
+
+    public String getOriginalUrl() {
+        return originalUrl;
+    }
+
+    @Override
+    public String toString() {
+        return "ImageAssetReadyEvent{originalUrl=" + originalUrl + "}";
+    }
+}
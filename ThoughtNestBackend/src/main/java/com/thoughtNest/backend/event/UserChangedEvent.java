@@ -0,0 +1,32 @@
+package com.thoughtNest.backend.event;
+
+/**
+ * Application event published by {@link com.thoughtNest.backend.service.UserService}
+ * when a user signs up or changes their username.
+ *
+ * Components that keep derived copies of usernames listen for this event instead of
+ * being called directly from the user write paths.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final String username;
+
+    public UserChangedEvent(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return "UserChangedEvent{userId=" + userId + ", username=" + username + "}";
+    }
+}
@@ -0,0 +1,61 @@
+package com.thoughtNest.backend.feed;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.springframework.http.MediaType;
+
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * One ready-to-send page of the published feed, as handed out by {@link PublishedFeed}.
+ *
+ * The body is the complete JSON response (message, status and data envelope), so serving
+ * a page is a single buffer write. The version identifies the feed state the page was
+ * rendered from and is used to derive the page's ETag.
+ */
+public final class FeedPage {
+
+    private final ByteBuffer body;
+    private final ListingVersionInfo version;
+
+    FeedPage(ByteBuffer body, ListingVersionInfo version) {
+        // Each reader gets its own position/limit over the shared, read-only bytes
+        this.body = body.duplicate();
+        this.version = version;
+    }
+
+    public ListingVersionInfo getVersion() {
+        return version;
+    }
+
+    public int getLength() {
+        return body.remaining();
+    }
+
+    /**
+     * Writes the page as a 200 application/json response.
+     */
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.remaining());
+
+        OutputStream out = response.getOutputStream();
+        if (body.hasArray()) {
+            out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+        } else {
+            // Direct buffer: let the channel copy out in chunks instead of materializing a byte[]
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,384 @@
+package com.thoughtNest.backend.feed;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.dto.FeedStats;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.service.ArticleService;
+import com.thoughtNest.backend.util.ArticleCursor;
+
+/**
+ * Materialized copy of the head of the published feed, kept as ready-to-send JSON pages.
+ *
+ * - The newest {@code max-pages} pages of default size are rendered into complete response
+ *   bodies, so {@code GET /api/articles/public} with the default limit is served from memory
+ *   without a query or a Jackson pass. Other limits, unknown cursors and pages past the
+ *   materialized head fall back to the database.
+ * - Each published summary is serialized once and its bytes are reused whenever a page is
+ *   re-rendered; only the pages whose contents changed are rebuilt on an update, the rest
+ *   of the buffers are shared with the previous snapshot.
+ * - Pages live in heap or, with {@code thoughtnest.feed.direct-buffers=true}, in direct
+ *   buffers outside the Java heap.
+ * - Snapshots are immutable and published through an {@link AtomicReference}: readers never
+ *   lock, writers (one change event at a time) build the next snapshot and swap it in.
+ */
+@Component
+public class PublishedFeed {
+
+    static final String MESSAGE = "Published articles retrieved";
+
+    /** Feed order: newest first, ties broken by id, exactly like the database listings. */
+    private static final Comparator<FeedItem> NEWEST_FIRST = Comparator
+            .comparing((FeedItem item) -> item.summary.getLastModifiedDate(),
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(item -> item.summary.getId(), Comparator.reverseOrder());
+
+    private final ArticleRepository articleRepository;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final int capacity;
+    private final boolean directBuffers;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong patches = new AtomicLong();
+    private final AtomicLong pagesRendered = new AtomicLong();
+
+    private final byte[] head;
+    private final byte[] articlesClose = "],\"next\":".getBytes(StandardCharsets.UTF_8);
+    private final byte[] envelopeClose = "}}".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    public PublishedFeed(ArticleRepository articleRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${thoughtnest.feed.max-pages:50}") int maxPages,
+                         @Value("${thoughtnest.feed.direct-buffers:false}") boolean directBuffers) {
+        if (maxPages <= 0) {
+            throw new IllegalArgumentException("Feed must materialize at least one page");
+        }
+        this.articleRepository = articleRepository;
+        this.objectMapper = objectMapper;
+        this.pageSize = ArticleService.DEFAULT_PAGE_SIZE;
+        this.capacity = maxPages * pageSize;
+        this.directBuffers = directBuffers;
+        // Same envelope and key order as ResponseHandler.generateResponse
+        this.head = ("{\"message\":" + json(MESSAGE) + ",\"status\":200,\"data\":{\"articles\":[")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the pre-rendered page for the given request, or empty if it has to be answered
+     * from the database (feed not built yet, non-default limit, or cursor outside the head).
+     *
+     * @param cursor the opaque cursor sent by the client, may be null
+     * @param limit  the requested page size
+     */
+    public Optional<FeedPage> page(String cursor, int limit) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || limit != pageSize) {
+            return Optional.empty();
+        }
+        Integer index = (cursor == null || cursor.isBlank()) ? Integer.valueOf(0) : snapshot.pageByCursor.get(cursor);
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new FeedPage(snapshot.pages.get(index), snapshot.version));
+    }
+
+    /**
+     * Loads the head of the published feed from the database and replaces the current snapshot.
+     */
+    public synchronized void rebuild() {
+        ListingVersionInfo version = articleRepository.findPublishedListingVersion();
+        List<ArticleSummary> rows = articleRepository.findPublishedSummariesFirstPage(PageRequest.of(0, capacity));
+
+        List<FeedItem> items = new ArrayList<>(rows.size());
+        for (ArticleSummary row : rows) {
+            items.add(serialize(row));
+        }
+        boolean complete = isComplete(items.size(), version);
+        List<ByteBuffer> pages = new ArrayList<>();
+        renderPages(items, 0, pageCount(items.size()), complete, pages);
+
+        current.set(new Snapshot(items, pages, pageSize, version, complete));
+        rebuilds.incrementAndGet();
+    }
+
+    /**
+     * Builds the feed once the application is up; until then requests use the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Could not build published feed, serving from database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Patches the feed after the change that triggered the event has committed.
+     * A failed patch drops the snapshot so readers fall back to the database instead of
+     * seeing stale pages; the next change rebuilds it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            apply(event);
+        } catch (RuntimeException e) {
+            current.set(null);
+            System.err.println("⚠️ Dropped published feed after failed update: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the feed after a user change, as items carry their author's username. The event
+     * does not say which articles are affected; renames are rare enough for one pass.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            current.set(null);
+            System.err.println("⚠️ Dropped published feed after failed update: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Moves, inserts or removes the changed article and re-renders only the affected pages.
+     * A change of several articles at once rebuilds the head with one pass instead.
+     */
+    synchronized void apply(ArticleChangedEvent event) {
+        Snapshot previous = current.get();
+        if (previous == null || event.getArticleIds().size() > 1) {
+            rebuild();
+            return;
+        }
+
+        Long id = event.getArticleIds().get(0);
+        // Version first, as in rebuild(): a change committing in between can only leave the
+        // version older than the pages, never newer, so no ETag confirms pages missing it
+        ListingVersionInfo version = articleRepository.findPublishedListingVersion();
+        Optional<ArticleSummary> fresh = event.getType() == ArticleChangedEvent.Type.DELETED
+                ? Optional.empty()
+                : articleRepository.findPublishedSummaryById(id);
+
+        List<FeedItem> items = new ArrayList<>(previous.items);
+        int oldIndex = indexOf(items, id);
+        if (oldIndex >= 0) {
+            items.remove(oldIndex);
+        }
+
+        int newIndex = -1;
+        if (fresh.isPresent()) {
+            FeedItem item = serialize(fresh.get());
+            int position = Collections.binarySearch(items, item, NEWEST_FIRST);
+            newIndex = position >= 0 ? position : -position - 1;
+            if (newIndex < capacity) {
+                items.add(newIndex, item);
+            } else {
+                newIndex = -1; // older than everything materialized, lives only in the database
+            }
+        }
+
+        if (items.size() > capacity) {
+            items.remove(items.size() - 1);
+        }
+        if (items.size() < previous.items.size() && !previous.complete) {
+            // An article left the head and the next one has to come from the database
+            rebuild();
+            return;
+        }
+
+        boolean complete = isComplete(items.size(), version);
+        int pageCount = pageCount(items.size());
+        int from;
+        int to;
+        if (oldIndex < 0 && newIndex < 0) {
+            // Change outside the head: at most the last page's link to the database tail changes
+            from = complete == previous.complete ? pageCount : pageCount - 1;
+            to = pageCount;
+        } else {
+            // Pages before the first touched position keep their bytes; when the item only moved,
+            // pages after the last touched position are unchanged as well
+            from = Math.min(positive(oldIndex), positive(newIndex)) / pageSize;
+            if (items.size() != previous.items.size()) {
+                // The old and the new last page may gain or lose their link to a following page
+                from = Math.min(from, Math.min(previous.pages.size(), pageCount) - 1);
+            }
+            boolean moved = oldIndex >= 0 && newIndex >= 0 && complete == previous.complete;
+            to = moved ? Math.max(oldIndex, newIndex) / pageSize + 1 : pageCount;
+        }
+
+        List<ByteBuffer> pages = new ArrayList<>(previous.pages.subList(0, from));
+        renderPages(items, from, to, complete, pages);
+        if (to < pageCount) {
+            pages.addAll(previous.pages.subList(to, pageCount));
+        }
+
+        current.set(new Snapshot(items, pages, pageSize, version, complete));
+        patches.incrementAndGet();
+    }
+
+    /**
+     * Returns item counts, memory use and update counters of the feed.
+     */
+    public FeedStats stats() {
+        Snapshot snapshot = current.get();
+        long bytes = 0;
+        int items = 0;
+        int pages = 0;
+        if (snapshot != null) {
+            for (ByteBuffer page : snapshot.pages) {
+                bytes += page.capacity();
+            }
+            items = snapshot.items.size();
+            pages = snapshot.pages.size();
+        }
+        return new FeedStats(snapshot != null, items, pages, bytes, directBuffers,
+                rebuilds.get(), patches.get(), pagesRendered.get());
+    }
+
+    private void renderPages(List<FeedItem> items, int from, int to, boolean complete, List<ByteBuffer> pages) {
+        for (int page = from; page < to; page++) {
+            int start = page * pageSize;
+            int end = Math.min(start + pageSize, items.size());
+            pages.add(render(items, start, end, complete));
+        }
+    }
+
+    /**
+     * Concatenates the pre-serialized items of one page into a complete response body.
+     */
+    private ByteBuffer render(List<FeedItem> items, int start, int end, boolean complete) {
+        // The page links to the next one only if more published articles follow, in memory or not
+        boolean hasNext = end > start && (end < items.size() || !complete);
+        byte[] next = (hasNext ? json(ArticleCursor.after(items.get(end - 1).summary).encode()) : "null")
+                .getBytes(StandardCharsets.UTF_8);
+
+        int length = head.length + articlesClose.length + next.length + envelopeClose.length;
+        for (int i = start; i < end; i++) {
+            length += items.get(i).json.length + (i > start ? 1 : 0);
+        }
+
+        ByteBuffer buffer = directBuffers ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+        buffer.put(head);
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                buffer.put((byte) ',');
+            }
+            buffer.put(items.get(i).json);
+        }
+        buffer.put(articlesClose).put(next).put(envelopeClose);
+        buffer.flip();
+        pagesRendered.incrementAndGet();
+        return buffer;
+    }
+
+    private FeedItem serialize(ArticleSummary summary) {
+        try {
+            return new FeedItem(summary, objectMapper.writeValueAsBytes(summary));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize article " + summary.getId(), e);
+        }
+    }
+
+    private String json(String value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Number of pages for the given item count; an empty feed still has one (empty) page.
+     */
+    private int pageCount(int items) {
+        return Math.max(1, (items + pageSize - 1) / pageSize);
+    }
+
+    private boolean isComplete(int items, ListingVersionInfo version) {
+        return items >= version.getCount();
+    }
+
+    private static int indexOf(List<FeedItem> items, Long id) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).summary.getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int positive(int index) {
+        return index < 0 ? Integer.MAX_VALUE : index;
+    }
+
+    /**
+     * A published summary together with its serialized JSON.
+     */
+    private static final class FeedItem {
+        final ArticleSummary summary;
+        final byte[] json;
+
+        FeedItem(ArticleSummary summary, byte[] json) {
+            this.summary = summary;
+            this.json = json;
+        }
+    }
+
+    /**
+     * Immutable state of the feed: items in feed order, the rendered pages and the
+     * cursor token that leads to each page after the first.
+     */
+    private static final class Snapshot {
+        final List<FeedItem> items;
+        final List<ByteBuffer> pages;
+        final Map<String, Integer> pageByCursor;
+        final ListingVersionInfo version;
+        final boolean complete;
+
+        Snapshot(List<FeedItem> items, List<ByteBuffer> pages, int pageSize, ListingVersionInfo version,
+                 boolean complete) {
+            this.items = Collections.unmodifiableList(items);
+            this.pages = Collections.unmodifiableList(pages);
+            this.version = version;
+            this.complete = complete;
+
+            Map<String, Integer> cursors = new HashMap<>();
+            for (int page = 1; page < pages.size(); page++) {
+                int lastOfPrevious = page * pageSize - 1;
+                if (lastOfPrevious < items.size()) {
+                    cursors.put(ArticleCursor.after(items.get(lastOfPrevious).summary).encode(), page);
+                }
+            }
+            this.pageByCursor = cursors;
+        }
+    }
+}
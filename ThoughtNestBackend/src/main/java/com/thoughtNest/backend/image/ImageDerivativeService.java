@@ -0,0 +1,201 @@
+package com.thoughtNest.backend.image;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.thoughtNest.backend.dto.ImageDerivativeStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.ImageAssetReadyEvent;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.storage.BlobStore;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Produces thumbnails, medium renditions and placeholders of uploaded images in the background.
+ *
+ * Uploads only enqueue the image, so their latency does not depend on how long processing takes.
+ * Work runs on a fixed number of workers behind a bounded queue; when the queue is full further
+ * images are skipped and counted rather than piling up in memory. Renditions are stored next to
+ * the original as {@code <key>.thumb.<ext>} and {@code <key>.medium.<ext>}, recorded in an
+ * {@link ImageAsset} and linked to the articles that use the image. Images that cannot be
+ * processed are recorded too, without renditions, so nothing keeps waiting for them.
+ */
+@Service
+public class ImageDerivativeService {
+
+    /** Longest side of the thumbnail shown on feed cards. */
+    public static final int THUMBNAIL_SIZE = 320;
+
+    /** Longest side of the rendition shown on article pages. */
+    public static final int MEDIUM_SIZE = 1024;
+
+    /** Images with more pixels are not decoded; 50 MP covers any camera photo. */
+    static final long MAX_PIXELS = 50_000_000L;
+
+    /** Size the image is reduced to before hashing; the hash holds only a few components anyway. */
+    private static final int PLACEHOLDER_SAMPLE_SIZE = 32;
+
+    private final BlobStore blobStore;
+    private final ImageAssetRepository imageAssetRepository;
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Autowired
+    public ImageDerivativeService(BlobStore blobStore,
+                                  ImageAssetRepository imageAssetRepository,
+                                  ArticleRepository articleRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${thoughtnest.images.workers:2}") int workers,
+                                  @Value("${thoughtnest.images.queue-capacity:100}") int queueCapacity) {
+        this.blobStore = blobStore;
+        this.imageAssetRepository = imageAssetRepository;
+        this.articleRepository = articleRepository;
+        this.eventPublisher = eventPublisher;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), task -> {
+                    Thread thread = new Thread(task, "image-derivatives-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues an uploaded image for processing and returns immediately.
+     *
+     * @return false if the image is not stored by this application, or the queue is full
+     */
+    public boolean submit(String url) {
+        Optional<String> key = blobStore.keyOf(url);
+        if (key.isEmpty()) {
+            return false;
+        }
+        try {
+            executor.execute(() -> process(url, key.get()));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            System.err.println("⚠️ Image derivative queue full, skipping: " + url);
+            return false;
+        }
+    }
+
+    /**
+     * Processes one image on the calling thread.
+     */
+    void process(String url, String key) {
+        try {
+            if (imageAssetRepository.findByOriginalUrl(url).isPresent()) {
+                return;
+            }
+
+            BufferedImage original;
+            try (InputStream in = blobStore.open(key)) {
+                original = ImageResizer.read(in, MAX_PIXELS);
+            }
+
+            ImageAsset asset = new ImageAsset();
+            asset.setOriginalUrl(url);
+            asset.setWidth(original.getWidth());
+            asset.setHeight(original.getHeight());
+            asset.setThumbnailUrl(store(key + ".thumb", ImageResizer.fit(original, THUMBNAIL_SIZE)));
+            asset.setMediumUrl(store(key + ".medium", ImageResizer.fit(original, MEDIUM_SIZE)));
+            asset.setPlaceholder(BlurHash.encode(ImageResizer.fit(original, PLACEHOLDER_SAMPLE_SIZE), 4, 3));
+            asset.setCreatedAt(LocalDateTime.now());
+            ImageAsset saved = imageAssetRepository.save(asset);
+
+            List<Long> articleIds = articleRepository.findIdsByImage(url);
+            if (!articleIds.isEmpty()) {
+                articleRepository.attachImageAsset(articleIds, saved);
+                // Cached summaries still point at the original
+                eventPublisher.publishEvent(ArticleChangedEvent.saved(articleIds));
+            }
+            eventPublisher.publishEvent(new ImageAssetReadyEvent(url));
+            completed.incrementAndGet();
+            System.out.println("🖼️ Image derivatives ready for " + url + " (" + original.getWidth() + "x"
+                    + original.getHeight() + ", " + articleIds.size() + " articles)");
+        } catch (IllegalArgumentException e) {
+            failed.incrementAndGet();
+            System.err.println("⚠️ Skipping image derivatives for " + url + ": " + e.getMessage());
+            recordUnprocessable(url);
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            System.err.println("❌ Image derivatives failed for " + url + ": " + e.getMessage());
+            recordUnprocessable(url);
+        } catch (RuntimeException e) {
+            // Most likely the database; the image is picked up again by the next render rebuild
+            failed.incrementAndGet();
+            System.err.println("❌ Image derivatives failed for " + url + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records an image that could not be decoded or stored as having no renditions, so renders
+     * waiting for it are finished with the original.
+     */
+    private void recordUnprocessable(String url) {
+        try {
+            ImageAsset asset = new ImageAsset();
+            asset.setOriginalUrl(url);
+            asset.setCreatedAt(LocalDateTime.now());
+            imageAssetRepository.save(asset);
+            eventPublisher.publishEvent(new ImageAssetReadyEvent(url));
+        } catch (RuntimeException e) {
+            System.err.println("❌ Could not record unprocessable image " + url + ": " + e.getMessage());
+        }
+    }
+
+    private String store(String keyPrefix, BufferedImage image) throws IOException {
+        ImageResizer.Encoded encoded = ImageResizer.encode(image);
+        return blobStore.put(keyPrefix + encoded.extension(), new ByteArrayInputStream(encoded.data()),
+                encoded.contentType());
+    }
+
+    /**
+     * Queue depth and outcome counters of the pipeline.
+     */
+    public ImageDerivativeStats stats() {
+        return new ImageDerivativeStats(executor.getQueue().size(), executor.getActiveCount(),
+                completed.get(), failed.get(), rejected.get());
+    }
+
+    /**
+     * Lets queued images finish for a short while on shutdown; the rest are processed on the
+     * next upload of the same image, or not at all.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            System.err.println("⚠️ Image derivative workers stopped with " + executor.getQueue().size()
+                    + " images queued.");
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.thoughtNest.backend.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,11 +13,26 @@ import java.time.LocalDateTime;
  * Represents a blog article in the ThoughtNest application.
  * Each article is authored by a user and may include a title, content,
  * optional image, publication status, and timestamps for creation and last update.
+ *
+ * The content and image columns form the lazily loaded "body" group: loading an article reads
+ * only its metadata, and the body is read with one extra query the first time either of them is
+ * accessed. This relies on the Hibernate bytecode enhancement configured in the build. The
+ * server-side render of the content is a lazy group of its own, read only when it is served.
  */
 @Entity
-@Table(name = "articles")
+@Table(name = "articles", indexes = {
+        // Backs the keyset-paginated listings, which order by (lastModifiedDate DESC, id DESC)
+        @Index(name = "idx_articles_modified", columnList = "lastModifiedDate, id"),
+        @Index(name = "idx_articles_published_modified", columnList = "published, lastModifiedDate, id"),
+        @Index(name = "idx_articles_author_modified", columnList = "user_id, lastModifiedDate, id"),
+        // Finds renders to rebuild after a renderer change
+        @Index(name = "idx_articles_render_version", columnList = "renderVersion, id")
+})
 public class Article {
 
+    /** Upper bound, in characters, on content built on the server from a delta. */
+    public static final int MAX_CONTENT_LENGTH = 5_000_000;
+
     /**
      * Primary key for the article.
      * Auto-generated using IDENTITY strategy.
@@ -33,12 +50,40 @@ public class Article {
 
     /**
      * The main content of the article.
-     * Stored as TEXT in the database and cannot be blank.
+     * Stored as TEXT in the database, compressed when content compression is enabled,
+     * and cannot be blank. Loaded lazily.
      */
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     @NotBlank
     private String content;
 
+    /**
+     * Plain-text preview of the content shown in article listings.
+     * Derived from the content whenever the article is saved.
+     */
+    private String excerpt;
+
+    /**
+     * Sanitized HTML of the content with images pointing at their sized renditions, as served to
+     * crawlers and readers without JavaScript. Built whenever the content is saved; loaded lazily.
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("rendered")
+    @Column(columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @JsonIgnore
+    private String renderedHtml;
+
+    /**
+     * Version of the renderer that built {@link #renderedHtml}, or null if the content has not
+     * been rendered yet. See {@link com.thoughtNest.backend.render.ArticleRenderer#VERSION}.
+     */
+    @JsonIgnore
+    private Integer renderVersion;
+
     /**
      * The creation date of the article.
      * Typically set when the article is first created.
@@ -46,12 +91,24 @@ public class Article {
     private LocalDate date;
 
     /**
-     * The image URL or base64-encoded image data associated with the article.
-     * Stored as TEXT in the database.
+     * The image URL associated with the article. Images sent as base64 data URIs are uploaded
+     * on write; rows saved earlier may hold one until the inline image migration has run.
+     * Stored as TEXT in the database and loaded lazily together with the content.
      */
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(columnDefinition = "TEXT")
     private String image;
 
+    /**
+     * Thumbnails, size and placeholder of the image, once the image pipeline has processed it.
+     * Null for external image URLs and while processing is pending.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_asset_id")
+    @JsonIgnore
+    private ImageAsset imageAsset;
+
     /**
      * The author of the article.
      * Maps to a User entity with lazy loading.
@@ -72,6 +129,24 @@ public class Article {
      */
     private LocalDateTime lastModifiedDate;
 
+    /**
+     * Number of times the article has been viewed, as last flushed by the view counter.
+     * Only the counter writes this column, with relative updates, so saving an edited article
+     * never overwrites views counted meanwhile.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long views;
+
+    /**
+     * Optimistic lock version, incremented by every write of the article. Saves and patches
+     * based on an older version fail instead of overwriting the newer one.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     /**
      * Default constructor.
      */
@@ -91,6 +166,18 @@ public class Article {
 
     public void setContent(String content) { this.content = content; }
 
+    public String getExcerpt() { return excerpt; }
+
+    public void setExcerpt(String excerpt) { this.excerpt = excerpt; }
+
+    public String getRenderedHtml() { return renderedHtml; }
+
+    public void setRenderedHtml(String renderedHtml) { this.renderedHtml = renderedHtml; }
+
+    public Integer getRenderVersion() { return renderVersion; }
+
+    public void setRenderVersion(Integer renderVersion) { this.renderVersion = renderVersion; }
+
     public LocalDate getDate() { return date; }
 
     public void setDate(LocalDate date) { this.date = date; }
@@ -99,6 +186,10 @@ public class Article {
 
     public void setImage(String image) { this.image = image; }
 
+    public ImageAsset getImageAsset() { return imageAsset; }
+
+    public void setImageAsset(ImageAsset imageAsset) { this.imageAsset = imageAsset; }
+
     public User getAuthor() { return author; }
 
     public void setAuthor(User author) { this.author = author; }
@@ -112,4 +203,12 @@ public class Article {
     public void setLastModifiedDate(LocalDateTime lastModifiedDate) {
         this.lastModifiedDate = lastModifiedDate;
     }
+
+    public long getViews() { return views; }
+
+    public void setViews(long views) { this.views = views; }
+
+    public long getVersion() { return version; }
+
+    public void setVersion(long version) { this.version = version; }
 }
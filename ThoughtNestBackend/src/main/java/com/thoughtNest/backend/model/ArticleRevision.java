@@ -0,0 +1,103 @@
+package com.thoughtNest.backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One saved state of an article's title and content.
+ *
+ * Revisions form chains: a snapshot stores the full content, and each following revision stores
+ * only a {@link com.thoughtNest.backend.util.TextDelta} against the one before it, until the next
+ * snapshot. The depth is the number of deltas since the snapshot, which bounds the work needed to
+ * rebuild any revision.
+ */
+@Entity
+@Table(name = "article_revisions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_article_revisions_number", columnNames = {"article_id", "revision"}))
+public class ArticleRevision {
+
+    /**
+     * Primary key for the revision.
+     * Auto-generated using IDENTITY strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The article this is a revision of. Not a foreign key, so deleting an article never waits
+     * for its history; the revisions are removed after it.
+     */
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    /**
+     * Number of the revision within the article, starting at 1.
+     */
+    @Column(nullable = false)
+    private int revision;
+
+    /**
+     * Deltas between the last snapshot and this revision; 0 for a snapshot.
+     */
+    @Column(nullable = false)
+    private int depth;
+
+    private String title;
+
+    /**
+     * The full content for a snapshot, else the delta from the previous revision's content.
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
+    private String body;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor.
+     */
+    public ArticleRevision() {}
+
+    public ArticleRevision(Long articleId, int revision, int depth, String title, String body, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.revision = revision;
+        this.depth = depth;
+        this.title = title;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and setters
+
+    public Long getId() { return id; }
+
+    public void setId(Long id) { this.id = id; }
+
+    public Long getArticleId() { return articleId; }
+
+    public void setArticleId(Long articleId) { this.articleId = articleId; }
+
+    public int getRevision() { return revision; }
+
+    public void setRevision(int revision) { this.revision = revision; }
+
+    public int getDepth() { return depth; }
+
+    public void setDepth(int depth) { this.depth = depth; }
+
+    public boolean isSnapshot() { return depth == 0; }
+
+    public String getTitle() { return title; }
+
+    public void setTitle(String title) { this.title = title; }
+
+    public String getBody() { return body; }
+
+    public void setBody(String body) { this.body = body; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
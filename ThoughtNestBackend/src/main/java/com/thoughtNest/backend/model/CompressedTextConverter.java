@@ -0,0 +1,45 @@
+package com.thoughtNest.backend.model;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.thoughtNest.backend.util.TextCompression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores long text attributes compressed (see {@link TextCompression}) when
+ * {@code thoughtnest.content.compression.enabled} is set.
+ *
+ * Reading always understands both plain and compressed values, so the mode can be switched on
+ * and off at any time without migrating data first. Hibernate creates converters through Spring,
+ * which injects the settings; if it ever instantiates this class on its own, compression is off.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final boolean enabled;
+    private final int minLength;
+
+    public CompressedTextConverter() {
+        this(false, Integer.MAX_VALUE);
+    }
+
+    @Autowired
+    public CompressedTextConverter(@Value("${thoughtnest.content.compression.enabled:false}") boolean enabled,
+                                   @Value("${thoughtnest.content.compression.min-length:1024}") int minLength) {
+        this.enabled = enabled;
+        this.minLength = minLength;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return enabled ? TextCompression.compress(attribute, minLength) : TextCompression.plain(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TextCompression.decompress(dbData);
+    }
+}
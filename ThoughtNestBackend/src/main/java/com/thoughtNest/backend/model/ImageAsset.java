@@ -0,0 +1,99 @@
+package com.thoughtNest.backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Derived renditions and metadata of an uploaded image.
+ * Created by the background image pipeline once the upload has been processed, and referenced
+ * from every article that uses the image. An image the pipeline could not process, such as an
+ * unsupported format, is recorded without size and renditions, and served as the original.
+ */
+@Entity
+@Table(name = "image_assets")
+public class ImageAsset {
+
+    /**
+     * Primary key for the image asset.
+     * Auto-generated using IDENTITY strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Public URL of the original upload, as stored in {@link Article#getImage()}.
+     */
+    @Column(nullable = false, unique = true, length = 1024)
+    private String originalUrl;
+
+    /**
+     * Pixel size of the original image.
+     */
+    private Integer width;
+
+    private Integer height;
+
+    /**
+     * Small rendition for feed cards, without EXIF metadata.
+     */
+    @Column(length = 1024)
+    private String thumbnailUrl;
+
+    /**
+     * Medium rendition for article pages, without EXIF metadata.
+     */
+    @Column(length = 1024)
+    private String mediumUrl;
+
+    /**
+     * BlurHash of the image, shown while the real image loads.
+     */
+    @Column(length = 64)
+    private String placeholder;
+
+    /**
+     * When the derivatives were produced.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor.
+     */
+    public ImageAsset() {}
+
+    // Getters and setters
+
+    public Long getId() { return id; }
+
+    public void setId(Long id) { this.id = id; }
+
+    public String getOriginalUrl() { return originalUrl; }
+
+    public void setOriginalUrl(String originalUrl) { this.originalUrl = originalUrl; }
+
+    public Integer getWidth() { return width; }
+
+    public void setWidth(Integer width) { this.width = width; }
+
+    public Integer getHeight() { return height; }
+
+    public void setHeight(Integer height) { this.height = height; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public String getMediumUrl() { return mediumUrl; }
+
+    public void setMediumUrl(String mediumUrl) { this.mediumUrl = mediumUrl; }
+
+    public String getPlaceholder() { return placeholder; }
+
+    public void setPlaceholder(String placeholder) { this.placeholder = placeholder; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
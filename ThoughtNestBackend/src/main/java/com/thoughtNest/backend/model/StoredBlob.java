@@ -0,0 +1,92 @@
+package com.thoughtNest.backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An uploaded file stored under the SHA-256 hash of its content.
+ * Identical uploads share one stored file; the reference count tracks how many articles use it,
+ * so files no article references can be found and collected.
+ */
+@Entity
+@Table(name = "stored_blobs")
+public class StoredBlob {
+
+    /**
+     * Primary key for the stored blob.
+     * Auto-generated using IDENTITY strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Lowercase hex SHA-256 of the content.
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    /**
+     * Key of the file in the blob store.
+     */
+    @Column(nullable = false, length = 255)
+    private String storageKey;
+
+    /**
+     * Public URL of the file, as stored in {@link Article#getImage()}.
+     */
+    @Column(nullable = false, unique = true, length = 1024)
+    private String url;
+
+    private long size;
+
+    private String contentType;
+
+    /**
+     * Number of articles using this file as their image.
+     */
+    @Column(nullable = false)
+    private int refCount;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor.
+     */
+    public StoredBlob() {}
+
+    // Getters and setters
+
+    public Long getId() { return id; }
+
+    public void setId(Long id) { this.id = id; }
+
+    public String getSha256() { return sha256; }
+
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+
+    public String getStorageKey() { return storageKey; }
+
+    public void setStorageKey(String storageKey) { this.storageKey = storageKey; }
+
+    public String getUrl() { return url; }
+
+    public void setUrl(String url) { this.url = url; }
+
+    public long getSize() { return size; }
+
+    public void setSize(long size) { this.size = size; }
+
+    public String getContentType() { return contentType; }
+
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public int getRefCount() { return refCount; }
+
+    public void setRefCount(int refCount) { this.refCount = refCount; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
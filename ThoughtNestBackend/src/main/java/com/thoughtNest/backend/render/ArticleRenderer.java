@@ -0,0 +1,217 @@
+package com.thoughtNest.backend.render;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.storage.BlobStore;
+
+/**
+ * Turns article content, as written by the editor, into HTML that is safe to serve as is.
+ *
+ * The content is parsed and cleaned against an allow-list: scripts, event handlers, styles,
+ * frames and links other than http, https and mailto are dropped, and links get
+ * {@code rel="nofollow ugc noopener"}. Uploaded images are then pointed at their medium rendition
+ * with a {@code srcset} offering the thumbnail, their size set so the page does not reflow, and
+ * loaded lazily.
+ *
+ * Rendering happens once per write, so the output is stored with {@link #VERSION}; change the
+ * version with any change to the output and stored renders are rebuilt in the background.
+ */
+@Component
+public class ArticleRenderer {
+
+    /** Version of the output. Increment on every change to what {@link #render} produces. */
+    public static final int VERSION = 1;
+
+    /**
+     * Stored instead of {@link #VERSION} when an uploaded image had not been processed yet; such
+     * renders are rebuilt once the image pipeline has caught up. Images the pipeline could not
+     * process keep their original URL and do not hold the render back.
+     */
+    public static final int PENDING_IMAGES = 0;
+
+    /** Lets relative links pass the protocol check; never appears in the output. */
+    private static final String BASE_URI = "http://localhost/";
+
+    /** Only the editor's own formatting classes are kept, so content cannot borrow the site's styles. */
+    private static final String EDITOR_CLASS_PREFIX = "ql-";
+
+    private static final Pattern INLINE_IMAGE = Pattern.compile("^data:image/(png|jpe?g|gif|webp);base64,",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Cleaner CLEANER = new Cleaner(Safelist.relaxed()
+            .addTags("figure", "figcaption", "hr", "mark", "s")
+            .addAttributes(":all", "class")
+            .addAttributes("a", "target")
+            .addProtocols("img", "src", "data")
+            .addEnforcedAttribute("a", "rel", "nofollow ugc noopener")
+            .preserveRelativeLinks(true));
+
+    private final ImageAssetRepository imageAssetRepository;
+    private final BlobStore blobStore;
+
+    @Autowired
+    public ArticleRenderer(ImageAssetRepository imageAssetRepository, BlobStore blobStore) {
+        this.imageAssetRepository = imageAssetRepository;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Result of rendering one article: the HTML and the version to store it with.
+     */
+    public static final class Result {
+
+        private final String html;
+        private final Set<String> pendingImages;
+
+        public Result(String html, Set<String> pendingImages) {
+            this.html = html;
+            this.pendingImages = pendingImages;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+
+        /**
+         * {@link #VERSION}, or {@link #PENDING_IMAGES} if an uploaded image had not been processed yet.
+         */
+        public int getVersion() {
+            return pendingImages.isEmpty() ? VERSION : PENDING_IMAGES;
+        }
+
+        /**
+         * URLs of the uploaded images the render is waiting for, empty if it is complete.
+         */
+        public Set<String> getPendingImages() {
+            return pendingImages;
+        }
+    }
+
+    /**
+     * Sanitizes the content and rewrites its uploaded images to their renditions. Looks the
+     * renditions up with one query, and only if the content has uploaded images.
+     */
+    public Result render(String content) {
+        if (content == null) {
+            return new Result("", Set.of());
+        }
+        Document clean = CLEANER.clean(Jsoup.parseBodyFragment(content, BASE_URI));
+        clean.outputSettings().prettyPrint(false);
+        Element body = clean.body();
+
+        for (Element element : body.select("[class]")) {
+            String classes = Arrays.stream(element.className().split("\\s+"))
+                    .filter(name -> name.startsWith(EDITOR_CLASS_PREFIX))
+                    .collect(Collectors.joining(" "));
+            if (classes.isEmpty()) {
+                element.removeAttr("class");
+            } else {
+                element.attr("class", classes);
+            }
+        }
+
+        Set<String> pending = new LinkedHashSet<>();
+        Map<String, ImageAsset> assets = findAssets(body);
+        for (Element img : body.select("img")) {
+            String src = img.attr("src");
+            if (src.regionMatches(true, 0, "data:", 0, 5) && !INLINE_IMAGE.matcher(src).find()) {
+                // Data URIs other than raster images, e.g. SVG documents, are not served
+                img.remove();
+                continue;
+            }
+            img.attr("loading", "lazy").attr("decoding", "async");
+            if (blobStore.keyOf(src).isEmpty()) {
+                continue;
+            }
+            ImageAsset asset = assets.get(src);
+            if (asset == null) {
+                pending.add(src);
+                continue;
+            }
+            if (asset.getMediumUrl() != null) {
+                useRenditions(img, asset);
+            }
+        }
+        return new Result(body.html(), pending);
+    }
+
+    /**
+     * Wraps a stored render in a complete HTML document, with the title and excerpt escaped.
+     */
+    public static String page(ArticleRender render) {
+        String title = HtmlUtils.htmlEscape(render.getTitle() == null ? "" : render.getTitle(), "UTF-8");
+        StringBuilder page = new StringBuilder(render.getHtml().length() + 512)
+                .append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\">")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">")
+                .append("<title>").append(title).append("</title>");
+        if (render.getExcerpt() != null && !render.getExcerpt().isEmpty()) {
+            page.append("<meta name=\"description\" content=\"")
+                    .append(HtmlUtils.htmlEscape(render.getExcerpt(), "UTF-8")).append("\">");
+        }
+        return page.append("</head><body><article><h1>").append(title).append("</h1>")
+                .append(render.getHtml())
+                .append("</article></body></html>\n")
+                .toString();
+    }
+
+    private Map<String, ImageAsset> findAssets(Element body) {
+        Set<String> uploaded = body.select("img[src]").stream()
+                .map(img -> img.attr("src"))
+                .filter(src -> blobStore.keyOf(src).isPresent())
+                .collect(Collectors.toSet());
+        if (uploaded.isEmpty()) {
+            return Map.of();
+        }
+        return imageAssetRepository.findByOriginalUrlIn(uploaded).stream()
+                .collect(Collectors.toMap(ImageAsset::getOriginalUrl, Function.identity(), (a, b) -> a));
+    }
+
+    private static void useRenditions(Element img, ImageAsset asset) {
+        img.attr("src", asset.getMediumUrl());
+        if (asset.getWidth() == null || asset.getHeight() == null) {
+            return;
+        }
+        int[] medium = fittedSize(asset, ImageDerivativeService.MEDIUM_SIZE);
+        if (asset.getThumbnailUrl() != null) {
+            int[] thumbnail = fittedSize(asset, ImageDerivativeService.THUMBNAIL_SIZE);
+            img.attr("srcset", asset.getThumbnailUrl() + " " + thumbnail[0] + "w, "
+                    + asset.getMediumUrl() + " " + medium[0] + "w");
+            img.attr("sizes", "(max-width: " + medium[0] + "px) 100vw, " + medium[0] + "px");
+        }
+        // A size set in the editor wins; otherwise reserve the rendition's box
+        if (!img.hasAttr("width") && !img.hasAttr("height")) {
+            img.attr("width", Integer.toString(medium[0]));
+            img.attr("height", Integer.toString(medium[1]));
+        }
+    }
+
+    /**
+     * Size of a rendition, rounded like {@link com.thoughtNest.backend.image.ImageResizer#fit}.
+     */
+    private static int[] fittedSize(ImageAsset asset, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(asset.getWidth(), asset.getHeight()));
+        return new int[] {
+                Math.max(1, (int) Math.round(asset.getWidth() * scale)),
+                Math.max(1, (int) Math.round(asset.getHeight() * scale))
+        };
+    }
+}
@@ -0,0 +1,227 @@
+package com.thoughtNest.backend.render;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.dto.RenderStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.ImageAssetReadyEvent;
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.repository.ArticleRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Rebuilds stored article renders that were not produced by the current {@link ArticleRenderer#VERSION}:
+ * articles saved before renders were stored, renders of an older renderer, and renders written
+ * while uploaded images had no renditions yet.
+ *
+ * Full runs walk every outdated render on one background thread, after startup and while renders
+ * are waiting for images; requests made while a run is queued are merged into it. A render
+ * waiting for images is remembered under their URLs, so an image that becomes ready rebuilds only
+ * the articles that use it. Full runs also queue waiting images the pipeline never took, such as
+ * uploads skipped on a full queue or made before the pipeline existed.
+ *
+ * A render is stored only if the article was not saved since its content was read, so a rebuild
+ * never overwrites a newer save.
+ */
+@Service
+public class RenderRebuildService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleRenderer articleRenderer;
+    private final ImageDerivativeService imageDerivativeService;
+    private final boolean rebuildOnStartup;
+
+    /** Ids of the articles whose render waits for an image, by image URL. */
+    private final Map<String, Set<Long>> waitingForImage = new ConcurrentHashMap<>();
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "render-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Set while a run is queued but not started; later requests are covered by it. */
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong rebuiltRenders = new AtomicLong();
+    private final AtomicLong pendingImageRenders = new AtomicLong();
+    private final AtomicLong skippedRenders = new AtomicLong();
+
+    @Autowired
+    public RenderRebuildService(ArticleRepository articleRepository,
+                                ArticleRenderer articleRenderer,
+                                ImageDerivativeService imageDerivativeService,
+                                @Value("${thoughtnest.render.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.articleRepository = articleRepository;
+        this.articleRenderer = articleRenderer;
+        this.imageDerivativeService = imageDerivativeService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * Rebuilds outdated renders in the background after startup when it is configured to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the renders that were waiting for this image.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageAssetReady(ImageAssetReadyEvent event) {
+        Set<Long> ids = waitingForImage.remove(event.getOriginalUrl());
+        if (ids != null) {
+            worker.execute(() -> ids.forEach(id -> rebuild(id, false)));
+        }
+    }
+
+    /**
+     * Remembers which images the renders of saved articles are waiting for. Such renders are
+     * rare, as images are usually processed by the time the article is saved, so the check
+     * is one query and the content is only rendered again for those.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() != ArticleChangedEvent.Type.SAVED) {
+            return;
+        }
+        worker.execute(() -> {
+            try {
+                for (Long id : articleRepository.findIdsWithRenderVersion(event.getArticleIds(),
+                        ArticleRenderer.PENDING_IMAGES)) {
+                    rebuild(id, false);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("⚠️ Could not check renders of saved articles: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Runs a full rebuild while renders are waiting for images, in case an image was missed:
+     * skipped by the pipeline, or ready between a render and its registration here.
+     */
+    @Scheduled(fixedDelayString = "${thoughtnest.render.pending-retry-ms:3600000}")
+    public void retryPendingImages() {
+        if (!waitingForImage.isEmpty()) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Queues a run unless one is already queued.
+     */
+    public void requestRebuild() {
+        if (queued.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                queued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Rebuilds all outdated renders on the calling thread.
+     *
+     * @return the number of renders stored, or -1 if a run was already in progress
+     */
+    public int rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        int rebuilt = 0;
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Long> batch = articleRepository.findIdsWithStaleRenderAfterId(ArticleRenderer.VERSION, lastId,
+                        PageRequest.of(0, BATCH_SIZE));
+                for (Long id : batch) {
+                    lastId = id;
+                    if (rebuild(id, true)) {
+                        rebuilt++;
+                    }
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            runs.incrementAndGet();
+            if (rebuilt > 0) {
+                System.out.println("🧱 Rebuilt " + rebuilt + " article renders for renderer version "
+                        + ArticleRenderer.VERSION);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Article render rebuild stopped: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Renders one article again and stores the render.
+     *
+     * @param submitImages whether to queue the images the render waits for; left to full runs,
+     *                     as images of a fresh save are usually still in the queue
+     */
+    private boolean rebuild(Long id, boolean submitImages) {
+        Optional<ArticleText> text = articleRepository.findTextById(id);
+        if (text.isEmpty()) {
+            return false;
+        }
+        ArticleRenderer.Result render = articleRenderer.render(text.get().getContent());
+        for (String url : render.getPendingImages()) {
+            waitingForImage.computeIfAbsent(url, key -> ConcurrentHashMap.newKeySet()).add(id);
+            if (submitImages) {
+                imageDerivativeService.submit(url);
+            }
+        }
+        if (articleRepository.updateRender(id, render.getHtml(), render.getVersion(),
+                text.get().getLastModifiedDate()) == 0) {
+            // Saved or deleted meanwhile; a save stores its own render
+            skippedRenders.incrementAndGet();
+            return false;
+        }
+        rebuiltRenders.incrementAndGet();
+        if (render.getVersion() == ArticleRenderer.PENDING_IMAGES) {
+            pendingImageRenders.incrementAndGet();
+        }
+        return true;
+    }
+
+    public RenderStats stats() {
+        return new RenderStats(ArticleRenderer.VERSION, running.get(), runs.get(), rebuiltRenders.get(),
+                pendingImageRenders.get(), skippedRenders.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -1,20 +1,72 @@
 package com.thoughtNest.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.thoughtNest.backend.dto.ArticleActivity;
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleOwner;
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.dto.ArticleTitle;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
 import com.thoughtNest.backend.model.Article;
+import com.thoughtNest.backend.model.ImageAsset;
 import com.thoughtNest.backend.model.User;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for performing CRUD operations on {@link Article} entities.
  * Extends Spring Data JPA's {@link JpaRepository} to inherit standard methods.
  */
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
+    /**
+     * Constructor expression shared by the summary listings. Reads only metadata columns plus the
+     * stored excerpt, never the content, which may be compressed; every write stores an excerpt.
+     * The thumbnail is the small rendition once the image pipeline has produced it, else the
+     * original; inline data-URI images are never shipped as thumbnails.
+     */
+    String SUMMARY_SELECT = "SELECT new com.thoughtNest.backend.dto.ArticleSummary(" +
+            "a.id, a.title, a.excerpt, a.date, " +
+            "COALESCE(img.thumbnailUrl, CASE WHEN a.image LIKE 'data:%' THEN NULL ELSE a.image END), " +
+            "u.username, a.published, a.lastModifiedDate, img.width, img.height, img.placeholder) " +
+            "FROM Article a JOIN a.author u LEFT JOIN a.imageAsset img ";
+
+    /**
+     * Constructor expression shared by the full-article reads. Reads the body columns in the same
+     * query, instead of one lazy load per article as mapping entities to DTOs would.
+     */
+    String DTO_SELECT = "SELECT new com.thoughtNest.backend.dto.ArticleDTO(" +
+            "a.id, a.title, a.content, a.date, a.image, u.username, a.published, a.lastModifiedDate, a.views, a.version) " +
+            "FROM Article a JOIN a.author u ";
+
+    /** Keyset predicate selecting rows strictly after the cursor row in newest-first order. */
+    String KEYSET_AFTER = "(a.lastModifiedDate < :lastModified OR (a.lastModifiedDate = :lastModified AND a.id < :id)) ";
+
+    /** Ordering shared by every paginated listing; must match the cursor columns. */
+    String NEWEST_FIRST = "ORDER BY a.lastModifiedDate DESC, a.id DESC";
+
+    /**
+     * Rows fetched per round trip by the streamed listings. The driver holds only this many rows;
+     * PostgreSQL honours it only inside a transaction, which the callers provide.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
     /**
      * Finds all articles authored by a specific user.
      *
@@ -40,4 +92,441 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
      */
     @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.id = :id")
     Optional<Article> findByIdWithAuthor(Long id);
+
+    /**
+     * Reads a single article as a DTO, body included, in one query.
+     *
+     * @param id the ID of the article
+     * @return the article if it exists
+     */
+    @Query(DTO_SELECT + "WHERE a.id = :id")
+    Optional<ArticleDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * Reads the email of an article's author, for ownership checks that need nothing else.
+     *
+     * @param id the ID of the article
+     * @return the author's email if the article exists
+     */
+    @Query("SELECT u.email FROM Article a JOIN a.author u WHERE a.id = :id")
+    Optional<String> findAuthorEmailById(@Param("id") Long id);
+
+    // ===== Keyset pagination =====
+    // Listings are ordered by (lastModifiedDate DESC, id DESC). The "first page" queries start at the
+    // newest article, the "after" variants continue strictly after the cursor row. The page size is
+    // taken from the Pageable, which should be unsorted since the ordering is fixed by the query.
+
+    /**
+     * Retrieves the newest published articles.
+     *
+     * @param page page size (offset is ignored by callers and should be 0)
+     * @return at most {@code page.getPageSize()} published articles, newest first
+     */
+    @Query(DTO_SELECT + "WHERE a.published = true " + NEWEST_FIRST)
+    List<ArticleDTO> findPublishedFirstPage(Pageable page);
+
+    /**
+     * Retrieves published articles that come after the given cursor position.
+     *
+     * @param lastModified lastModifiedDate of the cursor row
+     * @param id           id of the cursor row
+     * @param page         page size
+     * @return at most {@code page.getPageSize()} published articles, newest first
+     */
+    @Query(DTO_SELECT + "WHERE a.published = true AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<ArticleDTO> findPublishedPageAfter(@Param("lastModified") LocalDateTime lastModified,
+                                         @Param("id") Long id,
+                                         Pageable page);
+
+    /**
+     * Retrieves the newest articles regardless of publication status.
+     */
+    @Query(DTO_SELECT + NEWEST_FIRST)
+    List<ArticleDTO> findAllFirstPage(Pageable page);
+
+    /**
+     * Retrieves articles of any publication status that come after the given cursor position.
+     */
+    @Query(DTO_SELECT + "WHERE " + KEYSET_AFTER + NEWEST_FIRST)
+    List<ArticleDTO> findAllPageAfter(@Param("lastModified") LocalDateTime lastModified,
+                                   @Param("id") Long id,
+                                   Pageable page);
+
+    /**
+     * Retrieves the newest articles written by the given user.
+     */
+    @Query(DTO_SELECT + "WHERE a.author = :author " + NEWEST_FIRST)
+    List<ArticleDTO> findByAuthorFirstPage(@Param("author") User author, Pageable page);
+
+    /**
+     * Retrieves articles written by the given user that come after the given cursor position.
+     */
+    @Query(DTO_SELECT + "WHERE a.author = :author AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<ArticleDTO> findByAuthorPageAfter(@Param("author") User author,
+                                        @Param("lastModified") LocalDateTime lastModified,
+                                        @Param("id") Long id,
+                                        Pageable page);
+
+    // ===== Summary listings =====
+    // Same ordering and cursor semantics as the entity listings above, but projected straight into
+    // ArticleSummary so neither the body nor a separate author lookup is needed per row.
+
+    @Query(SUMMARY_SELECT + "WHERE a.published = true " + NEWEST_FIRST)
+    List<ArticleSummary> findPublishedSummariesFirstPage(Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE a.published = true AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<ArticleSummary> findPublishedSummariesAfter(@Param("lastModified") LocalDateTime lastModified,
+                                                     @Param("id") Long id,
+                                                     Pageable page);
+
+    @Query(SUMMARY_SELECT + NEWEST_FIRST)
+    List<ArticleSummary> findAllSummariesFirstPage(Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE " + KEYSET_AFTER + NEWEST_FIRST)
+    List<ArticleSummary> findAllSummariesAfter(@Param("lastModified") LocalDateTime lastModified,
+                                               @Param("id") Long id,
+                                               Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE a.author = :author " + NEWEST_FIRST)
+    List<ArticleSummary> findSummariesByAuthorFirstPage(@Param("author") User author, Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE a.author = :author AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<ArticleSummary> findSummariesByAuthorAfter(@Param("author") User author,
+                                                    @Param("lastModified") LocalDateTime lastModified,
+                                                    @Param("id") Long id,
+                                                    Pageable page);
+
+    /**
+     * Reads the feed card of a single article if it is currently published.
+     *
+     * @param id the ID of the article
+     * @return the summary, or empty if the article does not exist or is a draft
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.id = :id AND a.published = true")
+    Optional<ArticleSummary> findPublishedSummaryById(@Param("id") Long id);
+
+    /**
+     * Reads the feed cards of the given articles that are currently published, in no particular order.
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.id IN :ids AND a.published = true")
+    List<ArticleSummary> findPublishedSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // ===== Streamed listings =====
+
+    /**
+     * Streams every article, newest first, as DTOs read straight from the result set.
+     * The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleDTO(" +
+           "a.id, a.title, a.content, a.date, a.image, u.username, a.published, a.lastModifiedDate) " +
+           "FROM Article a LEFT JOIN a.author u " + NEWEST_FIRST)
+    Stream<ArticleDTO> streamAllArticles();
+
+    /**
+     * Streams the summaries of every article, newest first.
+     * The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + NEWEST_FIRST)
+    Stream<ArticleSummary> streamAllSummaries();
+
+    /**
+     * Streams one author's articles in creation order, for exports that can be imported again.
+     * The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    @Query(DTO_SELECT + "WHERE u.id = :authorId ORDER BY a.id")
+    Stream<ArticleDTO> streamByAuthorId(@Param("authorId") Long authorId);
+
+    // ===== Search index feed =====
+
+    /**
+     * Reads the searchable text of published articles in id order, one batch after the given id.
+     * Used to build the search index from scratch.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleText(a.id, a.title, a.content, a.lastModifiedDate) " +
+           "FROM Article a WHERE a.published = true AND a.id > :afterId ORDER BY a.id")
+    List<ArticleText> findPublishedTextAfterId(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Reads the title and content of an article, published or not.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleText(a.id, a.title, a.content, a.lastModifiedDate) " +
+           "FROM Article a WHERE a.id = :id")
+    Optional<ArticleText> findTextById(@Param("id") Long id);
+
+    /**
+     * Reads the searchable text of those of the given articles that are published.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleText(a.id, a.title, a.content, a.lastModifiedDate) " +
+           "FROM Article a WHERE a.published = true AND a.id IN :ids")
+    List<ArticleText> findPublishedTextByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of the published articles modified at or after the given time.
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.published = true AND a.lastModifiedDate >= :since")
+    List<Long> findPublishedIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Ids of all published articles, ascending.
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.published = true ORDER BY a.id")
+    List<Long> findPublishedIds();
+
+    /**
+     * Reads the given published articles with their authors, for rendering search hits.
+     */
+    @Query(DTO_SELECT + "WHERE a.published = true AND a.id IN :ids")
+    List<ArticleDTO> findPublishedDTOsByIds(@Param("ids") Collection<Long> ids);
+
+    // ===== Autocomplete feed =====
+
+    /**
+     * Reads titles of published articles in id order, one batch after the given id.
+     * Used to load title autocomplete at startup.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleTitle(a.id, a.title, a.author.id, a.published, a.lastModifiedDate) " +
+           "FROM Article a WHERE a.published = true AND a.id > :afterId ORDER BY a.id")
+    List<ArticleTitle> findPublishedTitlesAfterId(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Reads the title, author and publish state of the given articles, published or not.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleTitle(a.id, a.title, a.author.id, a.published, a.lastModifiedDate) " +
+           "FROM Article a WHERE a.id IN :ids")
+    List<ArticleTitle> findTitlesByIds(@Param("ids") Collection<Long> ids);
+
+    // ===== Storage maintenance =====
+
+    /**
+     * Reads the stored (possibly compressed) content of a batch of articles in id order,
+     * bypassing the attribute converter. Each row is {@code [id, content]}.
+     */
+    @Query(value = "SELECT id, content FROM articles WHERE id > :afterId ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findStoredContentAfterId(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * Replaces the stored content of an article without touching its modification date or
+     * version, as the text it reads back as stays the same. Does nothing if the content changed
+     * since it was read.
+     *
+     * @return 1 if the row was updated, 0 if it was modified concurrently or deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE articles SET content = :stored WHERE id = :id AND content = :original",
+           nativeQuery = true)
+    int replaceStoredContent(@Param("id") Long id, @Param("original") String original,
+                             @Param("stored") String stored);
+
+    // ===== Inline image extraction =====
+
+    /**
+     * Ids of articles whose image is still stored inline as a data URI, in id order after the given id.
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.image LIKE 'data:%' AND a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsWithInlineImageAfterId(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Reads only the image column of an article.
+     */
+    @Query("SELECT a.image FROM Article a WHERE a.id = :id")
+    Optional<String> findImageById(@Param("id") Long id);
+
+    /**
+     * Replaces an inline image by the URL it was uploaded to, unless the image was changed meanwhile.
+     * Bumps the version, as the article's image field changed, but leaves the modification date
+     * alone so the article keeps its place in the feeds.
+     *
+     * @return 1 if the row was updated, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.image = :url, a.version = a.version + 1 WHERE a.id = :id AND a.image LIKE 'data:%'")
+    int replaceInlineImage(@Param("id") Long id, @Param("url") String url);
+
+    // ===== Excerpt backfill =====
+
+    /**
+     * Ids of articles saved before excerpts were stored, in id order after the given id.
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.excerpt IS NULL AND a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsWithoutExcerptAfterId(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Stores the excerpt of an article that has none, unless a save stored one meanwhile. Bumps
+     * the version, as the article's listing entry changes, but leaves the modification date alone
+     * so the article keeps its place in the feeds.
+     *
+     * @return 1 if the row was updated, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.excerpt = :excerpt, a.version = a.version + 1 WHERE a.id = :id AND a.excerpt IS NULL")
+    int fillExcerpt(@Param("id") Long id, @Param("excerpt") String excerpt);
+
+    // ===== Image derivatives =====
+
+    /**
+     * Ids of the articles that use the given image URL.
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.image = :url")
+    List<Long> findIdsByImage(@Param("url") String url);
+
+    /**
+     * Links the given articles to the derivatives of their image. Leaves the modification date
+     * and version alone, as the articles themselves did not change; listing ETags cover the link
+     * through the sum of the linked image asset ids.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.imageAsset = :asset WHERE a.id IN :ids")
+    int attachImageAsset(@Param("ids") Collection<Long> ids, @Param("asset") ImageAsset asset);
+
+    // ===== Bulk operations =====
+
+    /**
+     * Ids and author emails of those of the given articles that exist, for checking ownership of
+     * a whole bulk request in one query.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleOwner(a.id, u.email) " +
+           "FROM Article a JOIN a.author u WHERE a.id IN :ids")
+    List<ArticleOwner> findOwnersByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Image URLs of the given articles, one per article that has an image, so shared files keep
+     * their reference count.
+     */
+    @Query("SELECT a.image FROM Article a WHERE a.id IN :ids AND a.image IS NOT NULL")
+    List<String> findImagesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Publishes or unpublishes the given articles in one statement, without reading them.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.published = :published, a.lastModifiedDate = :modified, " +
+           "a.version = a.version + 1 WHERE a.id IN :ids")
+    int setPublishedByIds(@Param("ids") Collection<Long> ids, @Param("published") boolean published,
+                          @Param("modified") LocalDateTime modified);
+
+    /**
+     * Deletes the given articles in one statement, without loading them.
+     *
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Article a WHERE a.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Writes an article's title and content, with the excerpt and render derived from it,
+     * without reading the article. Used for autosaved drafts; the image and publication state
+     * stay as they are. Applies only while the article is still at {@code baseVersion}.
+     *
+     * @return the number of rows updated, 0 if the article no longer exists or has moved on
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.title = :title, a.content = :content, a.excerpt = :excerpt, " +
+           "a.renderedHtml = :html, a.renderVersion = :renderVersion, " +
+           "a.lastModifiedDate = :modified, a.version = a.version + 1 " +
+           "WHERE a.id = :id AND a.version = :baseVersion")
+    int updateText(@Param("id") Long id, @Param("title") String title, @Param("content") String content,
+                   @Param("excerpt") String excerpt, @Param("html") String html,
+                   @Param("renderVersion") int renderVersion, @Param("modified") LocalDateTime modified,
+                   @Param("baseVersion") long baseVersion);
+
+    // ===== Server-side renders =====
+
+    /**
+     * Reads the stored render of an article and the metadata of its page, without the content.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleRender(a.id, a.title, a.excerpt, a.renderedHtml, " +
+           "a.renderVersion, a.published, a.lastModifiedDate, a.version) FROM Article a WHERE a.id = :id")
+    Optional<ArticleRender> findRenderById(@Param("id") Long id);
+
+    /**
+     * Ids after the given id, in id order, of articles not rendered by the given renderer version:
+     * never rendered, rendered by another version, or rendered while images were pending.
+     */
+    @Query("SELECT a.id FROM Article a WHERE (a.renderVersion IS NULL OR a.renderVersion <> :version) " +
+           "AND a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsWithStaleRenderAfterId(@Param("version") int version, @Param("afterId") Long afterId,
+                                            Pageable page);
+
+    /**
+     * Those of the given articles whose stored render has the given renderer version.
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.id IN :ids AND a.renderVersion = :version")
+    List<Long> findIdsWithRenderVersion(@Param("ids") Collection<Long> ids, @Param("version") int version);
+
+    /**
+     * Stores a rebuilt render, unless the article was saved since its content was read; that
+     * save stored a render of its own.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.renderedHtml = :html, a.renderVersion = :renderVersion " +
+           "WHERE a.id = :id AND a.lastModifiedDate = :modified")
+    int updateRender(@Param("id") Long id, @Param("html") String html, @Param("renderVersion") int renderVersion,
+                     @Param("modified") LocalDateTime modified);
+
+    // ===== Validators for conditional requests =====
+
+    /**
+     * Reads only the columns needed to derive the ETag and Last-Modified of an article.
+     *
+     * @param id the ID of the article
+     * @return the article's version info if it exists
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleVersionInfo(a.id, a.lastModifiedDate, a.published, a.version) " +
+           "FROM Article a WHERE a.id = :id")
+    Optional<ArticleVersionInfo> findVersionInfoById(@Param("id") Long id);
+
+    /**
+     * Persisted view counts of published articles in id order after the given id, to seed the
+     * trending ranking.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleActivity(a.id, a.views, a.lastModifiedDate) " +
+           "FROM Article a WHERE a.published = true AND a.id > :afterId ORDER BY a.id")
+    List<ArticleActivity> findPublishedActivityAfterId(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Reads only the persisted view count of an article.
+     */
+    @Query("SELECT a.views FROM Article a WHERE a.id = :id")
+    Optional<Long> findViewsById(@Param("id") Long id);
+
+    /**
+     * Newest modification time, row count, and sums of versions and of linked image asset ids
+     * of the published listing.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ListingVersionInfo(MAX(a.lastModifiedDate), COUNT(a), SUM(a.version), SUM(img.id)) " +
+           "FROM Article a LEFT JOIN a.imageAsset img WHERE a.published = true")
+    ListingVersionInfo findPublishedListingVersion();
+
+    /**
+     * Newest modification time, row count, and sums of versions and of linked image asset ids
+     * over all articles.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ListingVersionInfo(MAX(a.lastModifiedDate), COUNT(a), SUM(a.version), SUM(img.id)) " +
+           "FROM Article a LEFT JOIN a.imageAsset img")
+    ListingVersionInfo findAllListingVersion();
+
+    /**
+     * Newest modification time, row count, and sums of versions and of linked image asset ids
+     * of one author's articles.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ListingVersionInfo(MAX(a.lastModifiedDate), COUNT(a), SUM(a.version), SUM(img.id)) " +
+           "FROM Article a LEFT JOIN a.imageAsset img WHERE a.author = :author")
+    ListingVersionInfo findListingVersionByAuthor(@Param("author") User author);
 }
@@ -0,0 +1,57 @@
+package com.thoughtNest.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thoughtNest.backend.dto.ArticleRevisionInfo;
+import com.thoughtNest.backend.model.ArticleRevision;
+
+/**
+ * Repository interface for {@link ArticleRevision} entities.
+ */
+public interface ArticleRevisionRepository extends JpaRepository<ArticleRevision, Long> {
+
+    /**
+     * Finds the newest revision of an article.
+     */
+    Optional<ArticleRevision> findTopByArticleIdOrderByRevisionDesc(Long articleId);
+
+    /**
+     * Finds one revision of an article by its number.
+     */
+    Optional<ArticleRevision> findByArticleIdAndRevision(Long articleId, int revision);
+
+    /**
+     * Reads a range of an article's revisions, oldest first, to rebuild a chain of deltas.
+     */
+    List<ArticleRevision> findByArticleIdAndRevisionBetweenOrderByRevision(Long articleId, int from, int to);
+
+    /**
+     * Whether any revision of the article was recorded.
+     */
+    boolean existsByArticleId(Long articleId);
+
+    /**
+     * Lists an article's revisions newest first, without reading their bodies.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.ArticleRevisionInfo(r.revision, r.title, r.createdAt, r.depth) " +
+           "FROM ArticleRevision r WHERE r.articleId = :articleId ORDER BY r.revision DESC")
+    List<ArticleRevisionInfo> findInfoByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * Removes the history of deleted articles in one statement.
+     *
+     * @return the number of revisions removed
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleRevision r WHERE r.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
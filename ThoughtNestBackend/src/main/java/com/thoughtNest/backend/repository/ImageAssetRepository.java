@@ -0,0 +1,25 @@
+package com.thoughtNest.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.thoughtNest.backend.model.ImageAsset;
+
+/**
+ * Repository interface for {@link ImageAsset} entities.
+ */
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, Long> {
+
+    /**
+     * Finds the derivatives of an uploaded image by the URL of the original.
+     */
+    Optional<ImageAsset> findByOriginalUrl(String originalUrl);
+
+    /**
+     * Finds the derivatives of several uploaded images at once.
+     */
+    List<ImageAsset> findByOriginalUrlIn(Collection<String> originalUrls);
+}
@@ -2,11 +2,11 @@ package com.thoughtNest.backend.repository;
 
 import com.thoughtNest.backend.model.PasswordResetToken;
 import com.thoughtNest.backend.model.User;
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -0,0 +1,40 @@
+package com.thoughtNest.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thoughtNest.backend.model.StoredBlob;
+
+/**
+ * Repository interface for {@link StoredBlob} entities.
+ */
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+
+    /**
+     * Finds a stored file by the hash of its content.
+     */
+    Optional<StoredBlob> findBySha256(String sha256);
+
+    /**
+     * Adds the delta to the reference count of the file with the given URL, in the database so
+     * concurrent changes are not lost. URLs of files stored before deduplication match no row.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount + :delta WHERE b.url = :url")
+    int adjustRefCount(@Param("url") String url, @Param("delta") int delta);
+
+    /**
+     * Files no article references that were stored before the given time. The grace period keeps
+     * images that were just uploaded for an article that has not been saved yet.
+     */
+    @Query("SELECT b FROM StoredBlob b WHERE b.refCount <= 0 AND b.createdAt < :before ORDER BY b.id")
+    List<StoredBlob> findUnreferencedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,11 +1,15 @@
 package com.thoughtNest.backend.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.thoughtNest.backend.dto.AuthorPopularity;
+import com.thoughtNest.backend.dto.UserAccountInfoDto;
 import com.thoughtNest.backend.model.User;
 
 /**
@@ -53,7 +57,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u LEFT JOIN FETCH u.articles WHERE u.email = :email")
-    Optional<User> findByEmailWithArticles(@Param("email") String email);
+    /**
+     * Reads the account info of a user with their article counts in one aggregate query,
+     * without loading any article.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.UserAccountInfoDto(u.username, u.email, COUNT(a), " +
+           "SUM(CASE WHEN a.published = true THEN 1 ELSE 0 END)) " +
+           "FROM User u LEFT JOIN u.articles a WHERE u.email = :email GROUP BY u.id, u.username, u.email")
+    Optional<UserAccountInfoDto> findAccountInfoByEmail(@Param("email") String email);
 
+    /**
+     * Lists every user with the number of articles they have published.
+     * Used to load author autocomplete at startup.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.AuthorPopularity(u.id, u.username, COUNT(a)) " +
+           "FROM User u LEFT JOIN u.articles a ON a.published = true GROUP BY u.id, u.username")
+    List<AuthorPopularity> findAuthorPopularity();
+
+    /**
+     * The given users with the number of articles they have published, in one aggregate query.
+     */
+    @Query("SELECT new com.thoughtNest.backend.dto.AuthorPopularity(u.id, u.username, COUNT(a)) " +
+           "FROM User u LEFT JOIN u.articles a ON a.published = true WHERE u.id IN :ids GROUP BY u.id, u.username")
+    List<AuthorPopularity> findAuthorPopularityByIds(@Param("ids") Collection<Long> ids);
 }
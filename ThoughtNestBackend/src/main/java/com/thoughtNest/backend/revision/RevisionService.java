@@ -0,0 +1,190 @@
+package com.thoughtNest.backend.revision;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thoughtNest.backend.dto.ArticleRevisionDTO;
+import com.thoughtNest.backend.dto.ArticleRevisionInfo;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.model.ArticleRevision;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ArticleRevisionRepository;
+import com.thoughtNest.backend.util.TextDelta;
+
+/**
+ * Keeps the history of every article's title and content.
+ *
+ * Each save that changes the title or content appends a revision. Most revisions store only a
+ * delta against the previous one, so a small edit of a long article stores a few bytes. Every
+ * {@code snapshot-interval} revisions, and whenever a delta would not be much smaller than the
+ * text, the full content is stored instead, so rebuilding any revision applies fewer than
+ * {@code snapshot-interval} deltas to a snapshot.
+ *
+ * Articles written before revisions were kept get their stored state recorded as the first
+ * revision on their next save, so that edit can be undone too.
+ *
+ * Called within a save's transaction, a revision commits or rolls back with the save. Called
+ * outside one, it is appended in a transaction of its own.
+ */
+@Service
+public class RevisionService {
+
+    /**
+     * Attempts at appending a revision in its own transaction when concurrent saves race for the
+     * same number.
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ArticleRevisionRepository revisionRepository;
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int snapshotInterval;
+
+    @Autowired
+    public RevisionService(ArticleRevisionRepository revisionRepository,
+                           ArticleRepository articleRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${thoughtnest.revisions.snapshot-interval:10}") int snapshotInterval) {
+        this.revisionRepository = revisionRepository;
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    /**
+     * Called before an existing article is overwritten. If it has no history yet, records its
+     * stored state as the first revision; otherwise reads nothing but the existence check.
+     */
+    public void beforeSave(Long articleId) {
+        if (articleId == null || revisionRepository.existsByArticleId(articleId)) {
+            return;
+        }
+        articleRepository.findTextById(articleId).ifPresent(text ->
+                append(articleId, text.getTitle(), text.getContent(), text.getLastModifiedDate()));
+    }
+
+    /**
+     * Records the state an article was just saved with. Does nothing if neither the title nor
+     * the content changed since the last revision.
+     */
+    public void record(Long articleId, String title, String content) {
+        append(articleId, title, content, LocalDateTime.now());
+    }
+
+    /**
+     * Lists an article's revisions, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleRevisionInfo> listRevisions(Long articleId) {
+        return revisionRepository.findInfoByArticleId(articleId);
+    }
+
+    /**
+     * Rebuilds one revision of an article.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ArticleRevisionDTO> getRevision(Long articleId, int revision) {
+        return revisionRepository.findByArticleIdAndRevision(articleId, revision)
+                .map(r -> new ArticleRevisionDTO(articleId, r.getRevision(), r.getTitle(), contentOf(r), r.getCreatedAt()));
+    }
+
+    /**
+     * Drops the history of deleted articles once the deletion is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            int removed = revisionRepository.deleteByArticleIdIn(event.getArticleIds());
+            if (removed > 0) {
+                System.out.println("🗑️ Removed " + removed + " revisions of " + event.getArticleIds().size()
+                        + " deleted articles");
+            }
+        }
+    }
+
+    private void append(Long articleId, String title, String content, LocalDateTime createdAt) {
+        if (content == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Part of the caller's save. A statement that failed has aborted that transaction, so
+            // losing the race for the revision number fails the save instead of retrying in it
+            appendOnce(articleId, title, content, createdAt);
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> appendOnce(articleId, title, content, createdAt));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // Another save took the revision number; the next attempt deltas against it
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void appendOnce(Long articleId, String title, String content, LocalDateTime createdAt) {
+        Optional<ArticleRevision> latestOpt = revisionRepository.findTopByArticleIdOrderByRevisionDesc(articleId);
+        if (latestOpt.isEmpty()) {
+            revisionRepository.save(new ArticleRevision(articleId, 1, 0, title, content, createdAt));
+            return;
+        }
+
+        ArticleRevision latest = latestOpt.get();
+        String previous = contentOf(latest);
+        if (previous.equals(content) && Objects.equals(latest.getTitle(), title)) {
+            return;
+        }
+
+        int depth = latest.getDepth() + 1;
+        String body = content;
+        if (depth < snapshotInterval) {
+            String delta = TextDelta.encode(previous, content);
+            if (delta.length() < content.length() / 2) {
+                body = delta;
+            } else {
+                depth = 0;
+            }
+        } else {
+            depth = 0;
+        }
+        revisionRepository.save(new ArticleRevision(articleId, latest.getRevision() + 1, depth, title, body, createdAt));
+        System.out.println("📝 Recorded revision " + (latest.getRevision() + 1) + " of article ID: " + articleId
+                + (depth == 0 ? " (snapshot, " : " (delta, ") + body.length() + " chars)");
+    }
+
+    /**
+     * Full content of a revision: its snapshot with the following deltas applied in order.
+     */
+    private String contentOf(ArticleRevision target) {
+        if (target.isSnapshot()) {
+            return target.getBody();
+        }
+        int snapshot = target.getRevision() - target.getDepth();
+        List<ArticleRevision> chain = revisionRepository.findByArticleIdAndRevisionBetweenOrderByRevision(
+                target.getArticleId(), snapshot, target.getRevision() - 1);
+        if (chain.size() != target.getDepth() || !chain.get(0).isSnapshot()) {
+            throw new IllegalStateException("Revision chain of article " + target.getArticleId()
+                    + " is incomplete before revision " + target.getRevision());
+        }
+
+        String content = chain.get(0).getBody();
+        for (ArticleRevision delta : chain.subList(1, chain.size())) {
+            content = TextDelta.apply(content, delta.getBody());
+        }
+        return TextDelta.apply(content, target.getBody());
+    }
+}
@@ -0,0 +1,31 @@
+package com.thoughtNest.backend.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of primitive ints, used for in-memory postings without boxing.
+ */
+final class IntList {
+
+    private int[] values;
+    private int size;
+
+    IntList(int capacity) {
+        values = new int[Math.max(capacity, 2)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,98 @@
+package com.thoughtNest.backend.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory segment receiving the articles written since the index file was last saved.
+ * Documents are only ever appended; replaced or removed articles are tombstoned by
+ * {@link SearchIndex} and dropped at the next merge.
+ */
+final class MutableSegment implements Segment {
+
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> liveDocs = new HashMap<>();
+    private long[] articleIds = new long[64];
+    private int[] lengths = new int[64];
+    private int docCount;
+
+    /**
+     * Appends a document and returns its number.
+     *
+     * @param termFrequencies weighted frequency of every term of the document
+     * @param length          weighted number of terms of the document
+     */
+    int add(long articleId, Map<String, Integer> termFrequencies, int length) {
+        if (docCount == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, docCount * 2);
+            lengths = Arrays.copyOf(lengths, docCount * 2);
+        }
+        int doc = docCount++;
+        articleIds[doc] = articleId;
+        lengths[doc] = length;
+        for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+            IntList list = postings.computeIfAbsent(entry.getKey(), term -> new IntList(4));
+            list.add(doc);
+            list.add(entry.getValue());
+        }
+        liveDocs.put(articleId, doc);
+        return doc;
+    }
+
+    /**
+     * Forgets the live document of the article; returns its number, or -1 if there was none.
+     */
+    int remove(long articleId) {
+        Integer doc = liveDocs.remove(articleId);
+        return doc == null ? -1 : doc;
+    }
+
+    /**
+     * All terms of this segment ordered by their UTF-8 bytes, as required by the index file.
+     */
+    List<String> sortedTerms() {
+        return postings.keySet().stream()
+                .sorted(SearchIndexFile.TERM_ORDER)
+                .toList();
+    }
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public long articleId(int doc) {
+        return articleIds[doc];
+    }
+
+    @Override
+    public int length(int doc) {
+        return lengths[doc];
+    }
+
+    @Override
+    public int docFrequency(String term) {
+        IntList list = postings.get(term);
+        return list == null ? 0 : list.size() / 2;
+    }
+
+    @Override
+    public void forEachPosting(String term, PostingVisitor visitor) {
+        IntList list = postings.get(term);
+        if (list == null) {
+            return;
+        }
+        for (int i = 0; i < list.size(); i += 2) {
+            visitor.visit(list.get(i), list.get(i + 1));
+        }
+    }
+
+    @Override
+    public int findDoc(long articleId) {
+        Integer doc = liveDocs.get(articleId);
+        return doc == null ? -1 : doc;
+    }
+}
@@ -0,0 +1,427 @@
+package com.thoughtNest.backend.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+import com.thoughtNest.backend.util.TextExcerpts;
+
+/**
+ * Inverted index over article titles and content with BM25 ranking.
+ *
+ * - The bulk of the index is an immutable {@link SearchIndexFile} mapped from disk; articles
+ *   written since it was saved live in a small {@link MutableSegment}. Updating an article
+ *   tombstones its old document and appends a new one, so writes never rewrite postings.
+ * - {@link #save()} merges both segments into a new file, dropping tombstoned documents.
+ * - Title terms count {@value #TITLE_WEIGHT} times, which ranks title matches above body matches.
+ *
+ * Searches hold the read lock and run concurrently. Writers are serialized on the index monitor
+ * and take the write lock only while they change shared structures, so a save does not block
+ * searches.
+ */
+public class SearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /** Best hits first; equal scores are ordered newest article first. */
+    private static final Comparator<Hit> BEST_FIRST = Comparator
+            .comparingDouble((Hit hit) -> hit.score).reversed()
+            .thenComparing(Comparator.comparingLong((Hit hit) -> hit.articleId).reversed());
+
+    private final Path file;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+
+    private SearchIndexFile base;
+    private BitSet baseDeleted = new BitSet();
+    private MutableSegment delta = new MutableSegment();
+    private BitSet deltaDeleted = new BitSet();
+    private long liveDocs;
+    private long liveLength;
+    private LocalDateTime watermark;
+    private boolean dirty;
+
+    public SearchIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Maps the saved index file, if there is one.
+     *
+     * @return true if a saved index was loaded
+     * @throws IOException if the file exists but cannot be read
+     */
+    public synchronized boolean load() throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        SearchIndexFile loaded = SearchIndexFile.open(file);
+        long length = 0;
+        for (int doc = 0; doc < loaded.docCount(); doc++) {
+            length += loaded.length(doc);
+        }
+        lock.writeLock().lock();
+        try {
+            base = loaded;
+            baseDeleted = new BitSet();
+            delta = new MutableSegment();
+            deltaDeleted = new BitSet();
+            liveDocs = loaded.docCount();
+            liveLength = length;
+            watermark = loaded.watermark();
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Indexes the article, replacing any previous version of it.
+     *
+     * @param content article HTML; markup is stripped before indexing
+     */
+    public void upsert(long articleId, String title, String content, LocalDateTime lastModified) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int[] length = new int[1];
+        Tokenizer.forEachTerm(title, (term, start, end) -> {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+            length[0] += TITLE_WEIGHT;
+        });
+        Tokenizer.forEachTerm(content == null ? null : TextExcerpts.toPlainText(content), (term, start, end) -> {
+            frequencies.merge(term, 1, Integer::sum);
+            length[0]++;
+        });
+        add(articleId, frequencies, length[0], lastModified);
+    }
+
+    private synchronized void add(long articleId, Map<String, Integer> frequencies, int length,
+                                  LocalDateTime lastModified) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+            delta.add(articleId, frequencies, length);
+            liveDocs++;
+            liveLength += length;
+            if (lastModified != null && (watermark == null || lastModified.isAfter(watermark))) {
+                watermark = lastModified;
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the article from search results.
+     *
+     * @return true if the article was indexed
+     */
+    public synchronized boolean delete(long articleId) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(articleId);
+            dirty |= removed;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every indexed article whose id is not in the given set.
+     *
+     * @param sortedIds ids of all articles that should stay searchable, ascending
+     * @return number of articles removed
+     */
+    public synchronized int retainOnly(long[] sortedIds) {
+        List<Long> stale = new ArrayList<>();
+        forEachLiveArticle(id -> {
+            if (Arrays.binarySearch(sortedIds, id) < 0) {
+                stale.add(id);
+            }
+        });
+        for (long id : stale) {
+            delete(id);
+        }
+        return stale.size();
+    }
+
+    /**
+     * Writes the whole index to disk and continues from the new file.
+     * Searches keep running on the old segments until the new file is mapped.
+     */
+    public synchronized void save() throws IOException {
+        if (!dirty && base != null) {
+            return;
+        }
+        // Writers are excluded by the monitor, so the segments cannot change while they are merged
+        SearchIndexFile.write(file, base, baseDeleted, delta, deltaDeleted, watermark);
+        SearchIndexFile saved = SearchIndexFile.open(file);
+
+        lock.writeLock().lock();
+        try {
+            base = saved;
+            baseDeleted = new BitSet();
+            delta = new MutableSegment();
+            deltaDeleted = new BitSet();
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the live articles against the query terms with BM25.
+     *
+     * @param terms  distinct query terms, as produced by {@link Tokenizer#queryTerms(String)}
+     * @param offset number of best hits to skip
+     * @param limit  maximum number of hits to return
+     */
+    public Hits search(List<String> terms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0 || terms.isEmpty() || limit <= 0) {
+                return new Hits(Collections.emptyList(), 0);
+            }
+            // Document frequencies include tombstoned documents, so count those in N as well
+            long docCount = (base == null ? 0 : base.docCount()) + delta.docCount();
+            float[] idf = new float[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                long df = (base == null ? 0 : base.docFrequency(term)) + delta.docFrequency(term);
+                idf[i] = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+            float averageLength = (float) liveLength / liveDocs;
+
+            int wanted = offset + limit;
+            PriorityQueue<Hit> top = new PriorityQueue<>(wanted + 1, BEST_FIRST.reversed());
+            int total = collect(base, baseDeleted, terms, idf, averageLength, top, wanted)
+                    + collect(delta, deltaDeleted, terms, idf, averageLength, top, wanted);
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(BEST_FIRST);
+            return new Hits(offset >= hits.size() ? Collections.emptyList() : hits.subList(offset, hits.size()), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Newest modification time of any article indexed so far, or null if none.
+     */
+    public LocalDateTime watermark() {
+        lock.readLock().lock();
+        try {
+            return watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long liveDocs() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of documents (including replaced ones) held in memory since the last save. */
+    public int unsavedDocs() {
+        lock.readLock().lock();
+        try {
+            return delta.docCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Size of the mapped index file in bytes, or 0 if nothing has been saved yet. */
+    public long fileBytes() {
+        lock.readLock().lock();
+        try {
+            return base == null ? 0 : base.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== Internals =====
+
+    /**
+     * Adds the BM25 contributions of every query term for one segment and offers the
+     * matching documents to the top-k heap. Returns the number of matching documents.
+     */
+    private int collect(Segment segment, BitSet deleted, List<String> terms, float[] idf, float averageLength,
+                        PriorityQueue<Hit> top, int wanted) {
+        if (segment == null || segment.docCount() == 0) {
+            return 0;
+        }
+        Accumulator scores = borrow(segment.docCount());
+        try {
+            for (int i = 0; i < terms.size(); i++) {
+                float termIdf = idf[i];
+                segment.forEachPosting(terms.get(i), (doc, tf) -> {
+                    if (deleted.get(doc)) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * segment.length(doc) / averageLength);
+                    scores.add(doc, termIdf * tf * (K1 + 1) / (tf + norm));
+                });
+            }
+            for (int i = 0; i < scores.touchedCount; i++) {
+                int doc = scores.touched[i];
+                Hit hit = new Hit(segment.articleId(doc), scores.scores[doc]);
+                if (top.size() < wanted) {
+                    top.add(hit);
+                } else if (BEST_FIRST.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+            return scores.touchedCount;
+        } finally {
+            scores.clear();
+            accumulators.offer(scores);
+        }
+    }
+
+    private Accumulator borrow(int docCount) {
+        Accumulator accumulator = accumulators.poll();
+        if (accumulator == null) {
+            accumulator = new Accumulator();
+        }
+        accumulator.ensureCapacity(docCount);
+        return accumulator;
+    }
+
+    private boolean removeLocked(long articleId) {
+        int doc = delta.remove(articleId);
+        if (doc >= 0) {
+            deltaDeleted.set(doc);
+            liveDocs--;
+            liveLength -= delta.length(doc);
+            return true;
+        }
+        if (base != null) {
+            doc = base.findDoc(articleId);
+            if (doc >= 0 && !baseDeleted.get(doc)) {
+                baseDeleted.set(doc);
+                liveDocs--;
+                liveLength -= base.length(doc);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void forEachLiveArticle(LongConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            if (base != null) {
+                for (int doc = 0; doc < base.docCount(); doc++) {
+                    if (!baseDeleted.get(doc)) {
+                        consumer.accept(base.articleId(doc));
+                    }
+                }
+            }
+            for (int doc = 0; doc < delta.docCount(); doc++) {
+                if (!deltaDeleted.get(doc)) {
+                    consumer.accept(delta.articleId(doc));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Dense score array for one segment plus the list of documents it touched, reused across
+     * searches so a query allocates nothing proportional to the index size.
+     */
+    private static final class Accumulator {
+        float[] scores = new float[0];
+        int[] touched = new int[0];
+        int touchedCount;
+
+        void ensureCapacity(int docCount) {
+            if (scores.length < docCount) {
+                scores = new float[docCount];
+                touched = new int[docCount];
+            }
+        }
+
+        void add(int doc, float score) {
+            if (scores[doc] == 0) {
+                touched[touchedCount++] = doc;
+            }
+            scores[doc] += score;
+        }
+
+        void clear() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    /**
+     * One ranked article.
+     */
+    public static final class Hit {
+        private final long articleId;
+        private final float score;
+
+        Hit(long articleId, float score) {
+            this.articleId = articleId;
+            this.score = score;
+        }
+
+        public long getArticleId() {
+            return articleId;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * The requested page of hits and the total number of matching articles.
+     */
+    public static final class Hits {
+        private final List<Hit> hits;
+        private final int total;
+
+        Hits(List<Hit> hits, int total) {
+            this.hits = hits;
+            this.total = total;
+        }
+
+        public List<Hit> getHits() {
+            return hits;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+}
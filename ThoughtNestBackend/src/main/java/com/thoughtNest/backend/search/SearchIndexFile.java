@@ -0,0 +1,514 @@
+package com.thoughtNest.backend.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, memory-mapped index segment stored in a single file.
+ *
+ * The file is mapped read-only, so postings are read straight from the page cache and stay
+ * outside the Java heap; only the tombstones of deleted articles are kept in memory. Layout:
+ * <pre>
+ *   header     fixed {@value #HEADER_SIZE} bytes, see {@link #write}
+ *   docs       docCount x (long articleId, int length)            in document order
+ *   id index   docCount x (long articleId, int doc)               sorted by articleId
+ *   postings   per term: df x (varint doc gap, varint frequency)  in term table order
+ *   terms      termCount x (long nameOffset, int nameLength, long postingsOffset, int df)
+ *   names      UTF-8 term bytes, terms sorted by {@link #TERM_ORDER}
+ * </pre>
+ */
+final class SearchIndexFile implements Segment {
+
+    /** Order of terms in the file: unsigned comparison of their UTF-8 bytes. */
+    static final Comparator<String> TERM_ORDER = (a, b) ->
+            Arrays.compareUnsigned(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+
+    private static final int MAGIC = 0x544E5349; // "TNSI"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 128;
+    private static final int DOC_ENTRY = 12;
+    private static final int ID_ENTRY = 12;
+    private static final int TERM_ENTRY = 24;
+
+    // Files larger than 2 GB are mapped as several buffers
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+
+    private final MappedByteBuffer[] chunks;
+    private final int docCount;
+    private final int termCount;
+    private final LocalDateTime watermark;
+    private final long docsOffset;
+    private final long idIndexOffset;
+    private final long termTableOffset;
+    private final long namesOffset;
+
+    private SearchIndexFile(MappedByteBuffer[] chunks) throws IOException {
+        this.chunks = chunks;
+        if (getInt(0) != MAGIC || getInt(4) != VERSION) {
+            throw new IOException("Not a search index file or unsupported version");
+        }
+        this.docCount = getInt(8);
+        this.termCount = getInt(12);
+        long watermarkSeconds = getLong(16);
+        int watermarkNanos = getInt(24);
+        this.watermark = watermarkSeconds == Long.MIN_VALUE
+                ? null
+                : LocalDateTime.ofEpochSecond(watermarkSeconds, watermarkNanos, ZoneOffset.UTC);
+        this.docsOffset = getLong(32);
+        this.idIndexOffset = getLong(40);
+        this.termTableOffset = getLong(56);
+        this.namesOffset = getLong(64);
+        long expectedLength = getLong(72);
+        if (expectedLength != size()) {
+            throw new IOException("Search index file is truncated");
+        }
+    }
+
+    /**
+     * Maps an existing index file.
+     */
+    static SearchIndexFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Search index file is truncated");
+            }
+            int count = (int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = i * CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+            // The mapping stays valid after the channel is closed
+            return new SearchIndexFile(chunks);
+        }
+    }
+
+    /**
+     * Merges the live documents of an optional existing file and the in-memory segment into a
+     * new file, written next to the target and then moved over it atomically.
+     *
+     * Documents keep their relative order (file documents first), so postings can be copied
+     * term by term without re-sorting.
+     *
+     * @param base          the current file, or null
+     * @param baseDeleted   tombstones of the current file
+     * @param delta         documents added since the current file was written
+     * @param deltaDeleted  tombstones of the in-memory segment
+     * @param watermark     newest modification time of any indexed article, may be null
+     */
+    static void write(Path target, SearchIndexFile base, BitSet baseDeleted, MutableSegment delta,
+                      BitSet deltaDeleted, LocalDateTime watermark) throws IOException {
+        int baseDocs = base == null ? 0 : base.docCount();
+        int[] baseRemap = new int[baseDocs];
+        int[] deltaRemap = new int[delta.docCount()];
+        int live = 0;
+        for (int doc = 0; doc < baseDocs; doc++) {
+            baseRemap[doc] = baseDeleted.get(doc) ? -1 : live++;
+        }
+        for (int doc = 0; doc < delta.docCount(); doc++) {
+            deltaRemap[doc] = deltaDeleted.get(doc) ? -1 : live++;
+        }
+
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, "articles", ".idx.tmp");
+        Path termsTmp = Files.createTempFile(directory, "terms", ".tmp");
+        Path namesTmp = Files.createTempFile(directory, "names", ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            CountingOutput counter = new CountingOutput(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            DataOutputStream out = new DataOutputStream(counter);
+            out.write(new byte[HEADER_SIZE]);
+
+            long docsOffset = counter.count;
+            long totalLength = 0;
+            for (int doc = 0; doc < baseDocs; doc++) {
+                if (baseRemap[doc] >= 0) {
+                    out.writeLong(base.articleId(doc));
+                    out.writeInt(base.length(doc));
+                    totalLength += base.length(doc);
+                }
+            }
+            for (int doc = 0; doc < delta.docCount(); doc++) {
+                if (deltaRemap[doc] >= 0) {
+                    out.writeLong(delta.articleId(doc));
+                    out.writeInt(delta.length(doc));
+                    totalLength += delta.length(doc);
+                }
+            }
+
+            long idIndexOffset = counter.count;
+            writeIdIndex(out, base, baseRemap, delta, deltaRemap);
+
+            long postingsOffset = counter.count;
+            int termCount;
+            try (DataOutputStream terms = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(termsTmp)));
+                 CountingOutput names = new CountingOutput(new BufferedOutputStream(Files.newOutputStream(namesTmp)))) {
+                termCount = writePostings(out, counter, terms, names, base, baseRemap, delta, deltaRemap);
+            }
+
+            long termTableOffset = counter.count;
+            Files.copy(termsTmp, out);
+            long namesOffset = counter.count;
+            Files.copy(namesTmp, out);
+            long fileLength = counter.count;
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(live).putInt(termCount);
+            header.putLong(watermark == null ? Long.MIN_VALUE : watermark.toEpochSecond(ZoneOffset.UTC));
+            header.putInt(watermark == null ? 0 : watermark.getNano()).putInt(0);
+            header.putLong(docsOffset).putLong(idIndexOffset).putLong(postingsOffset)
+                    .putLong(termTableOffset).putLong(namesOffset).putLong(fileLength).putLong(totalLength);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        } finally {
+            Files.deleteIfExists(termsTmp);
+            Files.deleteIfExists(namesTmp);
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeIdIndex(DataOutputStream out, SearchIndexFile base, int[] baseRemap,
+                                     MutableSegment delta, int[] deltaRemap) throws IOException {
+        List<long[]> deltaIds = new ArrayList<>();
+        for (int doc = 0; doc < delta.docCount(); doc++) {
+            if (deltaRemap[doc] >= 0) {
+                deltaIds.add(new long[] {delta.articleId(doc), deltaRemap[doc]});
+            }
+        }
+        deltaIds.sort(Comparator.comparingLong(entry -> entry[0]));
+
+        // Merge the already sorted id index of the file with the sorted in-memory ids
+        int baseEntries = base == null ? 0 : base.docCount();
+        int b = 0;
+        int d = 0;
+        while (true) {
+            while (b < baseEntries && baseRemap[base.idIndexDoc(b)] < 0) {
+                b++;
+            }
+            boolean hasBase = b < baseEntries;
+            boolean hasDelta = d < deltaIds.size();
+            if (!hasBase && !hasDelta) {
+                break;
+            }
+            if (hasBase && (!hasDelta || base.idIndexArticle(b) < deltaIds.get(d)[0])) {
+                out.writeLong(base.idIndexArticle(b));
+                out.writeInt(baseRemap[base.idIndexDoc(b)]);
+                b++;
+            } else {
+                out.writeLong(deltaIds.get(d)[0]);
+                out.writeInt((int) deltaIds.get(d)[1]);
+                d++;
+            }
+        }
+    }
+
+    private static int writePostings(DataOutputStream out, CountingOutput counter, DataOutputStream terms,
+                                     CountingOutput names, SearchIndexFile base, int[] baseRemap,
+                                     MutableSegment delta, int[] deltaRemap) throws IOException {
+        List<String> deltaTerms = delta.sortedTerms();
+        int baseTerms = base == null ? 0 : base.termCount;
+        int b = 0;
+        int d = 0;
+        int written = 0;
+        PostingWriter writer = new PostingWriter(out);
+        while (b < baseTerms || d < deltaTerms.size()) {
+            String baseTerm = b < baseTerms ? base.term(b) : null;
+            String deltaTerm = d < deltaTerms.size() ? deltaTerms.get(d) : null;
+            int order = baseTerm == null ? 1 : deltaTerm == null ? -1 : TERM_ORDER.compare(baseTerm, deltaTerm);
+
+            long postingsStart = counter.count;
+            writer.reset();
+            if (order <= 0) {
+                base.forEachPostingAt(b, (doc, tf) -> writer.add(baseRemap[doc], tf));
+                b++;
+            }
+            if (order >= 0) {
+                delta.forEachPosting(deltaTerm, (doc, tf) -> writer.add(deltaRemap[doc], tf));
+                d++;
+            }
+            writer.rethrow();
+            if (writer.df == 0) {
+                continue; // every document with this term was deleted
+            }
+
+            byte[] name = (order <= 0 ? baseTerm : deltaTerm).getBytes(StandardCharsets.UTF_8);
+            terms.writeLong(names.count);
+            terms.writeInt(name.length);
+            terms.writeLong(postingsStart);
+            terms.writeInt(writer.df);
+            names.write(name);
+            written++;
+        }
+        return written;
+    }
+
+    // ===== Segment =====
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public long articleId(int doc) {
+        return getLong(docsOffset + (long) doc * DOC_ENTRY);
+    }
+
+    @Override
+    public int length(int doc) {
+        return getInt(docsOffset + (long) doc * DOC_ENTRY + 8);
+    }
+
+    @Override
+    public int docFrequency(String term) {
+        int entry = findTerm(term);
+        return entry < 0 ? 0 : getInt(termEntry(entry) + 20);
+    }
+
+    @Override
+    public void forEachPosting(String term, PostingVisitor visitor) {
+        int entry = findTerm(term);
+        if (entry >= 0) {
+            forEachPostingAt(entry, visitor);
+        }
+    }
+
+    @Override
+    public int findDoc(long articleId) {
+        int low = 0;
+        int high = docCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = idIndexArticle(mid);
+            if (value < articleId) {
+                low = mid + 1;
+            } else if (value > articleId) {
+                high = mid - 1;
+            } else {
+                return idIndexDoc(mid);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Newest modification time of the articles in this file when it was written, or null.
+     */
+    LocalDateTime watermark() {
+        return watermark;
+    }
+
+    long size() {
+        long size = 0;
+        for (MappedByteBuffer chunk : chunks) {
+            size += chunk.capacity();
+        }
+        return size;
+    }
+
+    // ===== Internals =====
+
+    private long idIndexArticle(int entry) {
+        return getLong(idIndexOffset + (long) entry * ID_ENTRY);
+    }
+
+    private int idIndexDoc(int entry) {
+        return getInt(idIndexOffset + (long) entry * ID_ENTRY + 8);
+    }
+
+    private long termEntry(int entry) {
+        return termTableOffset + (long) entry * TERM_ENTRY;
+    }
+
+    private String term(int entry) {
+        long position = termEntry(entry);
+        byte[] name = new byte[getInt(position + 8)];
+        long nameStart = namesOffset + getLong(position);
+        for (int i = 0; i < name.length; i++) {
+            name[i] = get(nameStart + i);
+        }
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private void forEachPostingAt(int entry, PostingVisitor visitor) {
+        long position = termEntry(entry);
+        long p = getLong(position + 12);
+        int df = getInt(position + 20);
+        int doc = 0;
+        for (int i = 0; i < df; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte value;
+            do {
+                value = get(p++);
+                gap |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            int tf = 0;
+            shift = 0;
+            do {
+                value = get(p++);
+                tf |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            doc += gap;
+            visitor.visit(doc, tf);
+        }
+    }
+
+    /**
+     * Binary search over the term table, comparing UTF-8 bytes in place.
+     */
+    private int findTerm(String term) {
+        byte[] key = term.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareTerm(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareTerm(int entry, byte[] key) {
+        long position = termEntry(entry);
+        int length = getInt(position + 8);
+        long nameStart = namesOffset + getLong(position);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(get(nameStart + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private byte get(long position) {
+        return chunks[(int) (position >>> CHUNK_BITS)].get((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    private int getInt(long position) {
+        int offset = (int) (position & (CHUNK_SIZE - 1));
+        MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_BITS)];
+        if (offset + 4 <= chunk.capacity()) {
+            return chunk.getInt(offset);
+        }
+        return (get(position) & 0xFF) << 24 | (get(position + 1) & 0xFF) << 16
+                | (get(position + 2) & 0xFF) << 8 | (get(position + 3) & 0xFF);
+    }
+
+    private long getLong(long position) {
+        int offset = (int) (position & (CHUNK_SIZE - 1));
+        MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_BITS)];
+        if (offset + 8 <= chunk.capacity()) {
+            return chunk.getLong(offset);
+        }
+        return (long) getInt(position) << 32 | (getInt(position + 4) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Encodes the postings of one term as (doc gap, frequency) varints, skipping deleted documents.
+     */
+    private static final class PostingWriter {
+        private final DataOutputStream out;
+        private int previous;
+        private int df;
+        private IOException failure;
+
+        PostingWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void reset() {
+            previous = 0;
+            df = 0;
+        }
+
+        void add(int doc, int tf) {
+            if (doc < 0 || failure != null) {
+                return;
+            }
+            try {
+                writeVarint(doc - previous);
+                writeVarint(tf);
+            } catch (IOException e) {
+                failure = e;
+            }
+            previous = doc;
+            df++;
+        }
+
+        void rethrow() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void writeVarint(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    /**
+     * Output stream that tracks the number of bytes written through it as a long.
+     */
+    private static final class CountingOutput extends FilterOutputStream {
+        long count;
+
+        CountingOutput(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
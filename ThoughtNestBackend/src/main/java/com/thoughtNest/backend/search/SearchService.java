@@ -0,0 +1,273 @@
+package com.thoughtNest.backend.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.dto.SearchHit;
+import com.thoughtNest.backend.dto.SearchResults;
+import com.thoughtNest.backend.dto.SearchStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.service.ArticleService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Full-text search over published articles.
+ *
+ * - On startup the saved index file is mapped and caught up with the database: articles
+ *   modified since the file's watermark are re-indexed and articles that are no longer published
+ *   are removed. Without a file the index is built once from all published articles.
+ * - Article changes are applied incrementally after commit by a single background indexer, so
+ *   writes never wait for the index. The index is saved again once enough changes accumulate
+ *   and on shutdown.
+ * - Ranking runs entirely in memory and on the mapped file; only the returned page of hits is
+ *   loaded from the database to render cards and highlighted snippets.
+ */
+@Service
+public class SearchService {
+
+    /** Articles read per query when (re)indexing. */
+    static final int BATCH_SIZE = 500;
+
+    /** Deepest hit that can be paged to; keeps the top-k heap small. */
+    static final int MAX_OFFSET = 1000;
+
+    /** Catch-up also re-indexes articles modified shortly before the watermark, for late commits. */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final ArticleRepository articleRepository;
+    private final SearchIndex index;
+    private final int saveThreshold;
+    private final ExecutorService indexer;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final LongAdder searches = new LongAdder();
+    private volatile boolean ready;
+
+    @Autowired
+    public SearchService(ArticleRepository articleRepository,
+                         @Value("${thoughtnest.search.index-file:data/search/articles.idx}") String indexFile,
+                         @Value("${thoughtnest.search.save-threshold:5000}") int saveThreshold) {
+        this.articleRepository = articleRepository;
+        this.index = new SearchIndex(Path.of(indexFile));
+        this.saveThreshold = saveThreshold;
+        this.indexer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads or builds the index in the background once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        indexer.execute(this::initialize);
+    }
+
+    /**
+     * Queues the changed articles for re-indexing once the change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        pending.addAll(event.getArticleIds());
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Returns whether the index has been loaded or built and can answer queries.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ranks published articles against the query and returns one page of hits.
+     *
+     * @param query  free text; words are matched case-insensitively
+     * @param offset number of best hits to skip, at most {@value #MAX_OFFSET}
+     * @param limit  page size, clamped to 1..{@link ArticleService#MAX_PAGE_SIZE}
+     * @throws IllegalArgumentException if the query is blank or the offset is out of range
+     */
+    public SearchResults search(String query, int offset, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("Offset must be between 0 and " + MAX_OFFSET);
+        }
+        int size = limit <= 0 ? ArticleService.DEFAULT_PAGE_SIZE : Math.min(limit, ArticleService.MAX_PAGE_SIZE);
+        searches.increment();
+
+        List<String> terms = Tokenizer.queryTerms(query);
+        SearchIndex.Hits ranked = index.search(terms, offset, size);
+        if (ranked.getHits().isEmpty()) {
+            return new SearchResults(List.of(), ranked.getTotal(), offset, size);
+        }
+
+        List<Long> ids = ranked.getHits().stream().map(SearchIndex.Hit::getArticleId).toList();
+        Map<Long, ArticleDTO> articles = articleRepository.findPublishedDTOsByIds(ids).stream()
+                .collect(Collectors.toMap(ArticleDTO::getId, Function.identity()));
+
+        List<SearchHit> hits = new ArrayList<>(ids.size());
+        for (SearchIndex.Hit hit : ranked.getHits()) {
+            ArticleDTO article = articles.get(hit.getArticleId());
+            if (article == null) {
+                continue; // unpublished after it was ranked; the index catches up shortly
+            }
+            String image = article.getImage();
+            hits.add(new SearchHit(
+                    article.getId(),
+                    article.getTitle(),
+                    SnippetHighlighter.highlightAll(article.getTitle(), terms),
+                    SnippetHighlighter.snippet(article.getContent(), terms),
+                    article.getDate(),
+                    image != null && image.startsWith("data:") ? null : image,
+                    article.getAuthorUsername(),
+                    hit.getScore()));
+        }
+        return new SearchResults(hits, ranked.getTotal(), offset, size);
+    }
+
+    /**
+     * Returns index size and update counters.
+     */
+    public SearchStats stats() {
+        return new SearchStats(ready, index.liveDocs(), index.unsavedDocs(), index.fileBytes(),
+                pending.size(), searches.sum());
+    }
+
+    /**
+     * Stops the indexer and saves the changes applied since the last save.
+     */
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+        try {
+            indexer.awaitTermination(30, TimeUnit.SECONDS);
+            if (ready) {
+                index.save();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save search index: " + e.getMessage());
+        }
+    }
+
+    // ===== Indexer thread =====
+
+    void initialize() {
+        try {
+            boolean loaded;
+            try {
+                loaded = index.load();
+            } catch (IOException e) {
+                System.err.println("⚠️ Search index file unreadable, rebuilding: " + e.getMessage());
+                loaded = false;
+            }
+            if (loaded) {
+                catchUp();
+            } else {
+                buildFromScratch();
+            }
+            index.save();
+            ready = true;
+            System.out.println("🔎 Search index ready with " + index.liveDocs() + " articles.");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Search index unavailable: " + e.getMessage());
+        }
+    }
+
+    private void buildFromScratch() {
+        long lastId = 0;
+        while (true) {
+            List<ArticleText> batch = articleRepository.findPublishedTextAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (ArticleText article : batch) {
+                index.upsert(article.getId(), article.getTitle(), article.getContent(), article.getLastModifiedDate());
+                lastId = article.getId();
+            }
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void catchUp() {
+        LocalDateTime watermark = index.watermark();
+        List<Long> changed = watermark == null
+                ? articleRepository.findPublishedIds()
+                : articleRepository.findPublishedIdsModifiedSince(watermark.minus(CATCH_UP_MARGIN));
+        reindex(changed);
+
+        long[] published = articleRepository.findPublishedIds().stream().mapToLong(Long::longValue).toArray();
+        index.retainOnly(published);
+    }
+
+    void drain() {
+        drainScheduled.set(false);
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            reindex(ids);
+            if (ready && index.unsavedDocs() >= saveThreshold) {
+                index.save();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Retry with the next change rather than losing the update
+            pending.addAll(ids);
+            System.err.println("⚠️ Search index update failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Re-reads the given articles and indexes the published ones; the others are removed.
+     */
+    private void reindex(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE));
+            Map<Long, ArticleText> published = articleRepository.findPublishedTextByIds(batch).stream()
+                    .collect(Collectors.toMap(ArticleText::getId, Function.identity()));
+            for (Long id : batch) {
+                ArticleText article = published.get(id);
+                if (article != null) {
+                    index.upsert(id, article.getTitle(), article.getContent(), article.getLastModifiedDate());
+                } else {
+                    index.delete(id);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.thoughtNest.backend.search;
+
+/**
+ * Read access to one part of the search index: a set of documents numbered 0..docCount-1
+ * and, per term, the postings (document, weighted term frequency) in ascending document order.
+ *
+ * Implementations are not thread-safe on their own; {@link SearchIndex} guards them.
+ */
+interface Segment {
+
+    /**
+     * Receives one posting of a term.
+     */
+    @FunctionalInterface
+    interface PostingVisitor {
+        void visit(int doc, int termFrequency);
+    }
+
+    int docCount();
+
+    long articleId(int doc);
+
+    /** Weighted number of terms in the document, used for BM25 length normalization. */
+    int length(int doc);
+
+    /** Number of documents in this segment containing the term, including deleted ones. */
+    int docFrequency(String term);
+
+    /** Calls the visitor for every posting of the term, in ascending document order. */
+    void forEachPosting(String term, PostingVisitor visitor);
+
+    /** Returns the document holding the article, or -1 if this segment has none. */
+    int findDoc(long articleId);
+}
@@ -0,0 +1,133 @@
+package com.thoughtNest.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.web.util.HtmlUtils;
+
+import com.thoughtNest.backend.util.TextExcerpts;
+
+/**
+ * Builds short, HTML-escaped excerpts of an article with the query terms wrapped in
+ * {@code <mark>} tags, for display under a search hit.
+ */
+public final class SnippetHighlighter {
+
+    /** Number of words shown in a snippet. */
+    static final int WINDOW = 30;
+
+    /** Words of context kept before the first match in the window. */
+    private static final int LEAD = 5;
+
+    /** Matches considered when choosing the window; later ones rarely improve it. */
+    private static final int MAX_MATCHES = 256;
+
+    private SnippetHighlighter() {}
+
+    /**
+     * Returns the highlighted text if it contains any query term, or the escaped text otherwise.
+     * Used for titles, which are shown whole.
+     */
+    public static String highlightAll(String text, List<String> queryTerms) {
+        if (text == null) {
+            return null;
+        }
+        List<Span> tokens = tokens(text);
+        return render(text, tokens, 0, tokens.size(), new HashSet<>(queryTerms), false, false);
+    }
+
+    /**
+     * Picks the window of {@value #WINDOW} words that contains the most distinct query terms
+     * and renders it with the matches highlighted.
+     *
+     * @param html       article content
+     * @param queryTerms distinct query terms
+     * @return the snippet, or null if the content has no text
+     */
+    public static String snippet(String html, List<String> queryTerms) {
+        if (html == null) {
+            return null;
+        }
+        String text = TextExcerpts.toPlainText(html);
+        List<Span> tokens = tokens(text);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        Set<String> wanted = new HashSet<>(queryTerms);
+
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < tokens.size() && matches.size() < MAX_MATCHES; i++) {
+            if (wanted.contains(tokens.get(i).term)) {
+                matches.add(i);
+            }
+        }
+
+        int bestStart = 0;
+        int bestScore = -1;
+        for (int match : matches) {
+            int start = Math.max(0, match - LEAD);
+            Set<String> covered = new HashSet<>();
+            for (int other : matches) {
+                if (other >= start && other < start + WINDOW) {
+                    covered.add(tokens.get(other).term);
+                }
+            }
+            if (covered.size() > bestScore) {
+                bestScore = covered.size();
+                bestStart = start;
+            }
+        }
+
+        int end = Math.min(tokens.size(), bestStart + WINDOW);
+        return render(text, tokens, bestStart, end, wanted, bestStart > 0, end < tokens.size());
+    }
+
+    private static String render(String text, List<Span> tokens, int from, int to, Set<String> wanted,
+                                 boolean leadingEllipsis, boolean trailingEllipsis) {
+        if (tokens.isEmpty()) {
+            return HtmlUtils.htmlEscape(text);
+        }
+        int start = from == 0 ? 0 : tokens.get(from).start;
+        int stop = to == tokens.size() ? text.length() : tokens.get(to - 1).end;
+
+        StringBuilder out = new StringBuilder();
+        if (leadingEllipsis) {
+            out.append("… ");
+        }
+        int position = start;
+        for (int i = from; i < to; i++) {
+            Span token = tokens.get(i);
+            if (!wanted.contains(token.term)) {
+                continue;
+            }
+            out.append(HtmlUtils.htmlEscape(text.substring(position, token.start)));
+            out.append("<mark>").append(HtmlUtils.htmlEscape(text.substring(token.start, token.end))).append("</mark>");
+            position = token.end;
+        }
+        out.append(HtmlUtils.htmlEscape(text.substring(position, stop)));
+        if (trailingEllipsis) {
+            out.append(" …");
+        }
+        return out.toString();
+    }
+
+    private static List<Span> tokens(String text) {
+        List<Span> tokens = new ArrayList<>();
+        Tokenizer.forEachTerm(text, (term, start, end) -> tokens.add(new Span(term, start, end)));
+        return tokens;
+    }
+
+    private static final class Span {
+        final String term;
+        final int start;
+        final int end;
+
+        Span(String term, int start, int end) {
+            this.term = term;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
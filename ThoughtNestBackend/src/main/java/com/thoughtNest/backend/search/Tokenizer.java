@@ -0,0 +1,85 @@
+package com.thoughtNest.backend.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits plain text into lower-case search terms.
+ *
+ * A term is a maximal run of letters and digits. Very long runs (encoded data, URLs without
+ * separators) and a short list of English stop words are not indexed.
+ * Indexing, querying and highlighting all go through this class so they agree on what a term is.
+ */
+public final class Tokenizer {
+
+    /** Longer runs are almost never real words and would only bloat the dictionary. */
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "will", "with");
+
+    /**
+     * Receives each term together with its character range in the source text.
+     */
+    @FunctionalInterface
+    public interface TermConsumer {
+        void accept(String term, int start, int end);
+    }
+
+    private Tokenizer() {}
+
+    /**
+     * Calls the consumer for every indexable term of the text, in order of appearance.
+     */
+    public static void forEachTerm(String text, TermConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int cp = text.codePointAt(i);
+            if (!Character.isLetterOrDigit(cp)) {
+                i += Character.charCount(cp);
+                continue;
+            }
+            int start = i;
+            while (i < length) {
+                cp = text.codePointAt(i);
+                if (!Character.isLetterOrDigit(cp)) {
+                    break;
+                }
+                i += Character.charCount(cp);
+            }
+            if (i - start <= MAX_TERM_LENGTH) {
+                String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!STOP_WORDS.contains(term)) {
+                    consumer.accept(term, start, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns all terms of the text in order, including repetitions.
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        forEachTerm(text, (term, start, end) -> terms.add(term));
+        return terms;
+    }
+
+    /**
+     * Returns the distinct terms of a search query, in the order they were typed.
+     */
+    public static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachTerm(query, (term, start, end) -> terms.add(term));
+        return new ArrayList<>(terms);
+    }
+}
@@ -1,19 +1,51 @@
 package com.thoughtNest.backend.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtNest.backend.cache.ArticleCache;
 import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleOwner;
+import com.thoughtNest.backend.dto.ArticlePage;
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.BulkArticleResult;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
 import com.thoughtNest.backend.model.Article;
+import com.thoughtNest.backend.model.ImageAsset;
 import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.render.ArticleRenderer;
 import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.revision.RevisionService;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.util.ArticleCursor;
+import com.thoughtNest.backend.util.DataUri;
+import com.thoughtNest.backend.util.StreamingJson;
+import com.thoughtNest.backend.util.TextDelta;
+import com.thoughtNest.backend.util.TextExcerpts;
 
 /**
  * Service class for managing article-related operations.
@@ -22,19 +54,44 @@ import com.thoughtNest.backend.repository.ArticleRepository;
 @Service
 public class ArticleService {
 
+    /** Page size used by the paginated listings when the client does not ask for one. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Upper bound on the page size a client may request. */
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private ArticleRepository articleRepository;
 
     @Autowired
-    private GCSUploadService gcsUploadService;
+    private UploadService uploadService;
+
+    @Autowired
+    private ImageAssetRepository imageAssetRepository;
+
+    @Autowired
+    private ArticleCache articleCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private ArticleRenderer articleRenderer;
+
+    @Transactional
     public Article saveArticleWithImage(Article article, MultipartFile imageFile) throws IOException {
         try {
             System.out.println("💾 Saving article with image. Title: " + article.getTitle());
 
             if (imageFile != null && !imageFile.isEmpty()) {
-                System.out.println("🖼️ Uploading image to GCS: " + imageFile.getOriginalFilename());
-                String imageUrl = gcsUploadService.uploadFile(
+                System.out.println("🖼️ Uploading image: " + imageFile.getOriginalFilename());
+                String imageUrl = uploadService.upload(
                         imageFile.getOriginalFilename(),
                         imageFile.getInputStream(),
                         imageFile.getContentType()
@@ -42,12 +99,20 @@ public class ArticleService {
                 article.setImage(imageUrl);
                 System.out.println("✅ Image uploaded successfully: " + imageUrl);
             } else {
-                System.out.println("ℹ️ No image uploaded. Skipping GCS upload.");
+                System.out.println("ℹ️ No image uploaded. Skipping upload.");
             }
 
+            String previousImage = storedImageOf(article);
+            revisionService.beforeSave(article.getId());
+            article.setExcerpt(TextExcerpts.of(article.getContent()));
+            render(article);
+            article.setImageAsset(findImageAsset(article.getImage()));
             article.setLastModifiedDate(LocalDateTime.now());
             Article saved = articleRepository.save(article);
+            uploadService.switchReference(previousImage, saved.getImage());
+            revisionService.record(saved.getId(), article.getTitle(), article.getContent());
             System.out.println("✅ Article saved with ID: " + saved.getId());
+            eventPublisher.publishEvent(ArticleChangedEvent.saved(saved.getId()));
             return saved;
         } catch (IOException e) {
             System.err.println("❌ IOException while uploading image or saving article: " + e.getMessage());
@@ -55,14 +120,121 @@ public class ArticleService {
         }
     }
 
+    @Transactional
     public Article saveArticle(Article article) {
         System.out.println("💾 Saving article without image. Title: " + article.getTitle());
+        String previousImage = storedImageOf(article);
+        revisionService.beforeSave(article.getId());
+        article.setExcerpt(TextExcerpts.of(article.getContent()));
+        render(article);
+        article.setImageAsset(findImageAsset(article.getImage()));
         article.setLastModifiedDate(LocalDateTime.now());
         Article saved = articleRepository.save(article);
+        uploadService.switchReference(previousImage, saved.getImage());
+        // The passed article holds the new body; the saved copy may not have it loaded
+        revisionService.record(saved.getId(), article.getTitle(), article.getContent());
         System.out.println("✅ Article saved with ID: " + saved.getId());
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(saved.getId()));
         return saved;
     }
 
+    /**
+     * Writes an autosaved draft: the title and content only, in one update that neither reads
+     * nor rewrites the rest of the article. The draft is recorded as a revision like any save.
+     *
+     * @param baseVersion the version the draft was started from
+     * @return false if the article no longer exists or was saved since the draft was started
+     */
+    @Transactional
+    public boolean saveDraft(Long id, String title, String content, long baseVersion) {
+        revisionService.beforeSave(id);
+        ArticleRenderer.Result render = articleRenderer.render(content);
+        int updated = articleRepository.updateText(id, title, content, TextExcerpts.of(content),
+                render.getHtml(), render.getVersion(), LocalDateTime.now(), baseVersion);
+        if (updated == 0) {
+            return false;
+        }
+        revisionService.record(id, title, content);
+        System.out.println("📝 Draft written for article ID: " + id);
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(id));
+        return true;
+    }
+
+    /**
+     * Applies a text delta to the content of an article, on the server, so a small edit of a
+     * long article sends only the change. The delta must be based on the current version; a
+     * save that commits after the version is checked fails this patch when it is flushed.
+     *
+     * @param title the new title, or null to keep the current one
+     * @return the article's new version, or empty if the article does not exist
+     * @throws ObjectOptimisticLockingFailureException if the article is not at the base version
+     * @throws IllegalArgumentException                if the delta does not apply to the content
+     */
+    @Transactional
+    public Optional<ArticleVersionInfo> patchArticle(Long id, long baseVersion, String title, String delta) {
+        Optional<Article> articleOpt = articleRepository.findById(id);
+        if (articleOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        Article article = articleOpt.get();
+        if (article.getVersion() != baseVersion) {
+            throw new ObjectOptimisticLockingFailureException(Article.class, id);
+        }
+
+        String content = TextDelta.apply(article.getContent(), delta, Article.MAX_CONTENT_LENGTH);
+        if (content.isBlank()) {
+            throw new IllegalArgumentException("Content cannot be blank");
+        }
+        if (title != null && title.isBlank()) {
+            throw new IllegalArgumentException("Title cannot be blank");
+        }
+        revisionService.beforeSave(id);
+        if (title != null) {
+            article.setTitle(title);
+        }
+        article.setContent(content);
+        article.setExcerpt(TextExcerpts.of(content));
+        render(article);
+        article.setLastModifiedDate(LocalDateTime.now());
+        // Flushed now, so the version check of the update fails here rather than at commit
+        articleRepository.saveAndFlush(article);
+        revisionService.record(id, article.getTitle(), content);
+        System.out.println("🩹 Patched article ID: " + id + " to version " + article.getVersion()
+                + " with a " + delta.length() + "-char delta");
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(id));
+        return Optional.of(new ArticleVersionInfo(id, article.getLastModifiedDate(), article.getPublished(),
+                article.getVersion()));
+    }
+
+    /**
+     * Stores the sanitized HTML of the article's content with it, so pages are served without
+     * rendering on every read.
+     */
+    private void render(Article article) {
+        ArticleRenderer.Result render = articleRenderer.render(article.getContent());
+        article.setRenderedHtml(render.getHtml());
+        article.setRenderVersion(render.getVersion());
+    }
+
+    /**
+     * Returns the derivatives of the given image if they are ready. Images uploaded separately
+     * are usually processed by the time the article referencing them is saved; otherwise the
+     * pipeline links them once it is done.
+     */
+    private ImageAsset findImageAsset(String image) {
+        return image == null || DataUri.isDataUri(image)
+                ? null
+                : imageAssetRepository.findByOriginalUrl(image).orElse(null);
+    }
+
+    /**
+     * Image URL the article has in the database before this save, read without the body.
+     * Counts references of deduplicated uploads; null for new articles.
+     */
+    private String storedImageOf(Article article) {
+        return article.getId() == null ? null : articleRepository.findImageById(article.getId()).orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public Optional<Article> getArticleById(Long id) {
         System.out.println("🔍 Fetching article by ID with author: " + id);
@@ -76,6 +248,34 @@ public class ArticleService {
         return article;
     }
 
+    /**
+     * Returns the email of the article's author, for ownership checks.
+     * Reads neither the article body nor the rest of the author.
+     */
+    public Optional<String> getAuthorEmail(Long id) {
+        return articleRepository.findAuthorEmailById(id);
+    }
+
+    /**
+     * Publishes or unpublishes an article. Only the changed columns are written; the body is
+     * neither read nor rewritten, and the excerpt stays as it is.
+     *
+     * @return false if the article does not exist
+     */
+    @Transactional
+    public boolean setPublished(Long id, boolean published) {
+        Optional<Article> articleOpt = articleRepository.findById(id);
+        if (articleOpt.isEmpty()) {
+            return false;
+        }
+        Article article = articleOpt.get();
+        article.setPublished(published);
+        article.setLastModifiedDate(LocalDateTime.now());
+        System.out.println((published ? "📢 Published" : "🙈 Unpublished") + " article ID: " + id);
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(id));
+        return true;
+    }
+
     @Transactional(readOnly = true)
     public List<Article> getArticlesByUser(User user) {
         System.out.println("📥 Fetching articles for user: " + user.getEmail());
@@ -84,10 +284,88 @@ public class ArticleService {
         return articles;
     }
 
+    @Transactional
     public void deleteArticle(Long id) {
         System.out.println("🗑️ Deleting article by ID: " + id);
+        Optional<String> image = articleRepository.findImageById(id);
         articleRepository.deleteById(id);
+        image.ifPresent(url -> uploadService.switchReference(url, null));
         System.out.println("✅ Article deleted.");
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(id));
+    }
+
+    /**
+     * Applies one operation to many articles owned by the given user. Ownership of all of them is
+     * checked with one query, and the permitted ones are changed with one statement, so hundreds of
+     * articles cost a few round-trips instead of a few per article. Articles that do not exist or
+     * belong to someone else are reported and left alone.
+     *
+     * @param operation {@code publish}, {@code unpublish} or {@code delete}, in any case
+     * @throws IllegalArgumentException if the operation is unknown
+     */
+    @Transactional
+    public BulkArticleResult applyBulk(String operation, List<Long> ids, String email) {
+        BulkOperation op = BulkOperation.parse(operation);
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+
+        Map<Long, String> owners = new HashMap<>();
+        if (!requested.isEmpty()) {
+            for (ArticleOwner owner : articleRepository.findOwnersByIds(requested)) {
+                owners.put(owner.getId(), owner.getAuthorEmail());
+            }
+        }
+
+        List<BulkArticleResult.Item> results = new ArrayList<>(requested.size());
+        List<Long> permitted = new ArrayList<>();
+        for (Long id : requested) {
+            String owner = owners.get(id);
+            BulkArticleResult.Status status;
+            if (owner == null) {
+                status = BulkArticleResult.Status.NOT_FOUND;
+            } else if (!owner.equals(email)) {
+                status = BulkArticleResult.Status.FORBIDDEN;
+            } else {
+                status = BulkArticleResult.Status.OK;
+                permitted.add(id);
+            }
+            results.add(new BulkArticleResult.Item(id, status));
+        }
+
+        if (!permitted.isEmpty()) {
+            if (op == BulkOperation.DELETE) {
+                List<String> images = articleRepository.findImagesByIds(permitted);
+                articleRepository.deleteByIds(permitted);
+                uploadService.releaseReferences(images);
+            } else {
+                articleRepository.setPublishedByIds(permitted, op == BulkOperation.PUBLISH, LocalDateTime.now());
+            }
+            // One event for the batch; listeners apply it with set-based queries
+            eventPublisher.publishEvent(op == BulkOperation.DELETE
+                    ? ArticleChangedEvent.deleted(permitted)
+                    : ArticleChangedEvent.saved(permitted));
+        }
+        System.out.println("📦 Bulk " + op.name().toLowerCase(Locale.ROOT) + " applied to "
+                + permitted.size() + " of " + requested.size() + " articles for " + email);
+        return new BulkArticleResult(op.name().toLowerCase(Locale.ROOT), permitted.size(), results);
+    }
+
+    /**
+     * Operations accepted by {@link #applyBulk}.
+     */
+    private enum BulkOperation {
+        PUBLISH, UNPUBLISH, DELETE;
+
+        static BulkOperation parse(String operation) {
+            if (operation != null) {
+                for (BulkOperation op : values()) {
+                    if (op.name().equalsIgnoreCase(operation.trim())) {
+                        return op;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unknown bulk operation: " + operation);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -99,35 +377,82 @@ public class ArticleService {
     }
 
     /**
-     * Fetches ArticleDTO by ID with detailed logging for debugging DB issues.
+     * Fetches ArticleDTO by ID, served from the in-process article cache when possible.
+     * The returned DTO may be shared with other requests and must not be modified.
      */
-    @Transactional(readOnly = true)
     public Optional<ArticleDTO> getArticleDTOById(Long id) {
+        return articleCache.get(id, this::loadArticleDTO);
+    }
+
+    /**
+     * Returns the server-side render of an article. Articles saved before renders were stored
+     * are rendered on the fly until the background rebuild reaches them.
+     */
+    public Optional<ArticleRender> getArticleRender(Long id) {
+        Optional<ArticleRender> render = articleRepository.findRenderById(id);
+        if (render.isEmpty() || render.get().getHtml() != null) {
+            return render;
+        }
+        return articleRepository.findTextById(id).map(text -> {
+            ArticleRenderer.Result result = articleRenderer.render(text.getContent());
+            return render.get().withHtml(result.getHtml(), result.getVersion());
+        });
+    }
+
+    /**
+     * Returns the metadata needed to validate a cached copy of the article.
+     * Answered from the article cache when the article is cached, otherwise by a
+     * query that does not read the body.
+     */
+    public Optional<ArticleVersionInfo> getArticleVersionInfo(Long id) {
+        Optional<ArticleDTO> cached = articleCache.peek(id);
+        if (cached.isPresent()) {
+            ArticleDTO dto = cached.get();
+            return Optional.of(new ArticleVersionInfo(dto.getId(), dto.getLastModifiedDate(), dto.isPublished(),
+                    dto.getVersion()));
+        }
+        return articleRepository.findVersionInfoById(id);
+    }
+
+    /**
+     * Returns the newest modification time and size of the published listing.
+     */
+    @Transactional(readOnly = true)
+    public ListingVersionInfo getPublishedListingVersion() {
+        return articleRepository.findPublishedListingVersion();
+    }
+
+    /**
+     * Returns the newest modification time and size of the listing of all articles.
+     */
+    @Transactional(readOnly = true)
+    public ListingVersionInfo getAllListingVersion() {
+        return articleRepository.findAllListingVersion();
+    }
+
+    /**
+     * Returns the newest modification time and size of the given user's listing.
+     */
+    @Transactional(readOnly = true)
+    public ListingVersionInfo getListingVersionByUser(User user) {
+        return articleRepository.findListingVersionByAuthor(user);
+    }
+
+    /**
+     * Loads ArticleDTO by ID from the database with detailed logging for debugging DB issues.
+     * The author is fetched in the same query, so no transaction is needed to build the DTO.
+     */
+    private Optional<ArticleDTO> loadArticleDTO(Long id) {
         try {
             System.out.println("📄 Attempting to fetch article DTO for ID: " + id);
-            Optional<Article> articleOpt = articleRepository.findByIdWithAuthor(id);
+            Optional<ArticleDTO> dto = articleRepository.findDTOById(id);
 
-            if (articleOpt.isEmpty()) {
+            if (dto.isEmpty()) {
                 System.err.println("⚠️ Article with ID " + id + " not found in database.");
-                return Optional.empty();
+            } else {
+                System.out.println("✅ Article fetched successfully: " + dto.get().getTitle());
             }
-
-            Article article = articleOpt.get();
-            System.out.println("✅ Article fetched successfully: " + article.getTitle());
-
-            ArticleDTO dto = new ArticleDTO(
-                    article.getId(),
-                    article.getTitle(),
-                    article.getContent(),
-                    article.getDate(),
-                    article.getImage(),
-                    article.getAuthor() != null ? article.getAuthor().getUsername() : null,
-                    article.getPublished() != null && article.getPublished(),
-                    article.getLastModifiedDate()
-            );
-
-            System.out.println("📝 ArticleDTO constructed successfully.");
-            return Optional.of(dto);
+            return dto;
 
         } catch (Exception e) {
             System.err.println("❌ Exception while fetching article by ID: " + id);
@@ -144,4 +469,124 @@ public class ArticleService {
         System.out.println("📦 Published articles found: " + publishedArticles.size());
         return publishedArticles;
     }
+
+    /**
+     * Returns one page of published articles, newest first.
+     *
+     * @param cursor opaque cursor from a previous page, or null for the first page
+     * @param limit  requested page size, clamped to [1, MAX_PAGE_SIZE]
+     */
+    @Transactional(readOnly = true)
+    public ArticlePage<ArticleDTO> getPublishedArticlesPage(String cursor, int limit) {
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        PageRequest page = pageRequest(limit);
+        List<ArticleDTO> rows = after == null
+                ? articleRepository.findPublishedFirstPage(page)
+                : articleRepository.findPublishedPageAfter(after.getLastModifiedDate(), after.getId(), page);
+        return toPage(rows, page.getPageSize() - 1, ArticleCursor::after, Function.identity());
+    }
+
+    /**
+     * Returns one page of all articles regardless of publication status, newest first.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePage<ArticleDTO> getAllArticlesPage(String cursor, int limit) {
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        PageRequest page = pageRequest(limit);
+        List<ArticleDTO> rows = after == null
+                ? articleRepository.findAllFirstPage(page)
+                : articleRepository.findAllPageAfter(after.getLastModifiedDate(), after.getId(), page);
+        return toPage(rows, page.getPageSize() - 1, ArticleCursor::after, Function.identity());
+    }
+
+    /**
+     * Returns one page of the given user's articles, newest first.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePage<ArticleDTO> getArticlesByUserPage(User user, String cursor, int limit) {
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        PageRequest page = pageRequest(limit);
+        List<ArticleDTO> rows = after == null
+                ? articleRepository.findByAuthorFirstPage(user, page)
+                : articleRepository.findByAuthorPageAfter(user, after.getLastModifiedDate(), after.getId(), page);
+        return toPage(rows, page.getPageSize() - 1, ArticleCursor::after, Function.identity());
+    }
+
+    /**
+     * Returns one page of published article summaries, newest first.
+     * Summaries are projected by a single query and never load the article body.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePage<ArticleSummary> getPublishedSummariesPage(String cursor, int limit) {
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        PageRequest page = pageRequest(limit);
+        List<ArticleSummary> rows = after == null
+                ? articleRepository.findPublishedSummariesFirstPage(page)
+                : articleRepository.findPublishedSummariesAfter(after.getLastModifiedDate(), after.getId(), page);
+        return toPage(rows, page.getPageSize() - 1, ArticleCursor::after, Function.identity());
+    }
+
+    /**
+     * Returns one page of summaries of all articles, newest first.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePage<ArticleSummary> getAllSummariesPage(String cursor, int limit) {
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        PageRequest page = pageRequest(limit);
+        List<ArticleSummary> rows = after == null
+                ? articleRepository.findAllSummariesFirstPage(page)
+                : articleRepository.findAllSummariesAfter(after.getLastModifiedDate(), after.getId(), page);
+        return toPage(rows, page.getPageSize() - 1, ArticleCursor::after, Function.identity());
+    }
+
+    /**
+     * Returns one page of summaries of the given user's articles, newest first.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePage<ArticleSummary> getSummariesByUserPage(User user, String cursor, int limit) {
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        PageRequest page = pageRequest(limit);
+        List<ArticleSummary> rows = after == null
+                ? articleRepository.findSummariesByAuthorFirstPage(user, page)
+                : articleRepository.findSummariesByAuthorAfter(user, after.getLastModifiedDate(), after.getId(), page);
+        return toPage(rows, page.getPageSize() - 1, ArticleCursor::after, Function.identity());
+    }
+
+    /**
+     * Writes every article, newest first, as one listing response without holding the rows in memory.
+     * Rows go from the database cursor straight to the JSON generator, so peak memory stays
+     * constant however many articles there are.
+     *
+     * @param includeBody whether to write complete articles or summaries
+     * @return the number of articles written
+     */
+    @Transactional(readOnly = true)
+    public long writeAllArticles(OutputStream out, boolean includeBody) throws IOException {
+        try (Stream<?> rows = includeBody ? articleRepository.streamAllArticles() : articleRepository.streamAllSummaries()) {
+            long count = StreamingJson.writeListing(objectMapper, out, "All articles retrieved", rows);
+            System.out.println("📤 Streamed " + count + " articles.");
+            return count;
+        }
+    }
+
+    /**
+     * Builds a request for one row more than the clamped limit, so the caller can tell
+     * whether another page follows without issuing a count query.
+     */
+    private static PageRequest pageRequest(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Trims the extra look-ahead row and derives the cursor for the following page.
+     */
+    private static <R, T> ArticlePage<T> toPage(List<R> rows, int limit,
+                                                Function<R, ArticleCursor> cursorOf,
+                                                Function<R, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<R> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String next = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new ArticlePage<>(pageRows.stream().map(mapper).toList(), next);
+    }
 }
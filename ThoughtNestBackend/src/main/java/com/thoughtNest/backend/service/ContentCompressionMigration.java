@@ -0,0 +1,151 @@
+package com.thoughtNest.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.thoughtNest.backend.dto.CompressionStats;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.util.TextCompression;
+
+/**
+ * Compresses the content of articles stored before content compression was enabled.
+ *
+ * Walks the articles table in id order, one batch at a time, and rewrites every plain body that
+ * compresses well. Rows are rewritten in place without changing their modification date, and
+ * only if they were not edited in the meantime. Already compressed rows are skipped, so the job
+ * can be stopped and started again at any time.
+ */
+@Service
+public class ContentCompressionMigration {
+
+    private final ArticleRepository articleRepository;
+    private final boolean compressionEnabled;
+    private final boolean migrateOnStartup;
+    private final int minLength;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scannedRows = new AtomicLong();
+    private final AtomicLong compressedRows = new AtomicLong();
+    private final AtomicLong originalBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    @Autowired
+    public ContentCompressionMigration(ArticleRepository articleRepository,
+                                       @Value("${thoughtnest.content.compression.enabled:false}") boolean compressionEnabled,
+                                       @Value("${thoughtnest.content.compression.migrate:false}") boolean migrateOnStartup,
+                                       @Value("${thoughtnest.content.compression.min-length:1024}") int minLength,
+                                       @Value("${thoughtnest.content.compression.batch-size:200}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.compressionEnabled = compressionEnabled;
+        this.migrateOnStartup = migrateOnStartup;
+        this.minLength = minLength;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts the migration in the background after startup when it is configured to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (compressionEnabled && migrateOnStartup) {
+            Thread worker = new Thread(this::run, "content-compression");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Compresses all eligible rows on the calling thread.
+     *
+     * @return false if a run was already in progress
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            System.out.println("🗜️ Compressing stored article content...");
+            long lastId = 0;
+            while (true) {
+                List<Object[]> batch = articleRepository.findStoredContentAfterId(lastId, batchSize);
+                for (Object[] row : batch) {
+                    lastId = ((Number) row[0]).longValue();
+                    compressRow(lastId, asString(row[1]));
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            System.out.println("✅ Content compression finished: " + stats().getCompressedRows()
+                    + " rows rewritten, ratio " + String.format("%.2f", stats().getRatio()) + ":1.");
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Content compression stopped: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        return true;
+    }
+
+    private void compressRow(long id, String stored) {
+        if (stored == null) {
+            return;
+        }
+        scannedRows.incrementAndGet();
+        String text = TextCompression.decompress(stored);
+        long before = text.getBytes(StandardCharsets.UTF_8).length;
+
+        String compressed = TextCompression.isCompressed(stored) ? stored : TextCompression.compress(text, minLength);
+        if (compressed != stored) {
+            if (articleRepository.replaceStoredContent(id, stored, compressed) == 0) {
+                compressed = stored; // edited meanwhile; the next run picks it up
+            } else {
+                compressedRows.incrementAndGet();
+            }
+        }
+        originalBytes.addAndGet(before);
+        storedBytes.addAndGet(compressed.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    /**
+     * Progress of the current or last run, including the compression ratio over all rows scanned.
+     */
+    public CompressionStats stats() {
+        return new CompressionStats(compressionEnabled, running.get(), scannedRows.get(), compressedRows.get(),
+                originalBytes.get(), storedBytes.get());
+    }
+
+    /**
+     * Native queries return TEXT as a String on PostgreSQL but as a Clob on some other databases.
+     */
+    private static String asString(Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Clob clob) {
+            try (Reader reader = clob.getCharacterStream()) {
+                StringBuilder text = new StringBuilder();
+                char[] buffer = new char[8192];
+                for (int n; (n = reader.read(buffer)) != -1; ) {
+                    text.append(buffer, 0, n);
+                }
+                return text.toString();
+            } catch (SQLException | IOException e) {
+                throw new IllegalStateException("Could not read stored content", e);
+            }
+        }
+        return value.toString();
+    }
+}
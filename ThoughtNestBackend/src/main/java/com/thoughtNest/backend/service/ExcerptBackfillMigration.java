@@ -0,0 +1,125 @@
+package com.thoughtNest.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.dto.ExcerptBackfillStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.util.TextExcerpts;
+
+/**
+ * Stores excerpts for articles saved before excerpts were stored.
+ *
+ * Listings read the stored excerpt alone, so these articles show no preview until this has run.
+ * Filled rows no longer match, and a row a save gave an excerpt meanwhile is left alone, so a
+ * stopped run resumes where it left off when started again. Runs after startup unless disabled;
+ * once every row has an excerpt a run finds nothing to do.
+ */
+@Service
+public class ExcerptBackfillMigration {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean migrateOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scannedRows = new AtomicLong();
+    private final AtomicLong filledRows = new AtomicLong();
+
+    @Autowired
+    public ExcerptBackfillMigration(ArticleRepository articleRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${thoughtnest.content.excerpts.backfill:true}") boolean migrateOnStartup) {
+        this.articleRepository = articleRepository;
+        this.eventPublisher = eventPublisher;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    /**
+     * Starts the backfill in the background after startup when it is configured to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup) {
+            Thread worker = new Thread(this::run, "excerpt-backfill");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Fills in all missing excerpts on the calling thread.
+     *
+     * @return false if a run was already in progress
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Long> batch = articleRepository.findIdsWithoutExcerptAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+                List<Long> filled = new ArrayList<>();
+                for (Long id : batch) {
+                    lastId = id;
+                    if (fill(id)) {
+                        filled.add(id);
+                    }
+                }
+                if (!filled.isEmpty()) {
+                    // Cached listings still show these articles without a preview
+                    eventPublisher.publishEvent(ArticleChangedEvent.saved(filled));
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (scannedRows.get() > 0) {
+                System.out.println("✅ Excerpt backfill finished: " + filledRows.get() + " of "
+                        + scannedRows.get() + " articles filled.");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Excerpt backfill stopped: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        return true;
+    }
+
+    private boolean fill(Long id) {
+        // Read through the entity mapping, which decompresses the content
+        Optional<ArticleText> text = articleRepository.findTextById(id);
+        if (text.isEmpty()) {
+            return false;
+        }
+        scannedRows.incrementAndGet();
+        if (articleRepository.fillExcerpt(id, TextExcerpts.of(text.get().getContent())) == 0) {
+            return false; // saved meanwhile, with an excerpt of its own
+        }
+        filledRows.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Progress of the current or last run.
+     */
+    public ExcerptBackfillStats stats() {
+        return new ExcerptBackfillStats(running.get(), scannedRows.get(), filledRows.get());
+    }
+}
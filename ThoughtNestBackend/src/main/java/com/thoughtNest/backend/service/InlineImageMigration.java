@@ -0,0 +1,138 @@
+package com.thoughtNest.backend.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.thoughtNest.backend.dto.InlineImageStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.util.DataUri;
+
+/**
+ * Moves images stored inline as data URIs out of the articles table.
+ *
+ * Each inline image is uploaded like any other image and replaced by its URL. Migrated rows no
+ * longer match, so a stopped run resumes where it left off when started again. Rows whose data
+ * URI cannot be decoded are reported and left alone; an upload failure stops the run, since the
+ * following uploads would most likely fail as well.
+ */
+@Service
+public class InlineImageMigration {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final ArticleRepository articleRepository;
+    private final UploadService uploadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean migrateOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scannedRows = new AtomicLong();
+    private final AtomicLong extractedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicLong removedChars = new AtomicLong();
+
+    @Autowired
+    public InlineImageMigration(ArticleRepository articleRepository,
+                                UploadService uploadService,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${thoughtnest.images.extract-inline:false}") boolean migrateOnStartup) {
+        this.articleRepository = articleRepository;
+        this.uploadService = uploadService;
+        this.eventPublisher = eventPublisher;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    /**
+     * Starts the migration in the background after startup when it is configured to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup) {
+            Thread worker = new Thread(this::run, "inline-image-migration");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Extracts all inline images on the calling thread.
+     *
+     * @return false if a run was already in progress
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            System.out.println("🖼️ Extracting inline article images...");
+            long lastId = 0;
+            while (true) {
+                List<Long> batch = articleRepository.findIdsWithInlineImageAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+                for (Long id : batch) {
+                    lastId = id;
+                    extract(id);
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            System.out.println("✅ Inline image extraction finished: " + extractedRows.get() + " extracted, "
+                    + failedRows.get() + " failed.");
+        } catch (IOException e) {
+            System.err.println("❌ Inline image extraction stopped, upload failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Inline image extraction stopped: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        return true;
+    }
+
+    private void extract(Long id) throws IOException {
+        Optional<String> image = articleRepository.findImageById(id);
+        if (image.isEmpty() || !DataUri.isDataUri(image.get())) {
+            return;
+        }
+        scannedRows.incrementAndGet();
+
+        String url;
+        try {
+            url = uploadService.uploadDataUri(image.get());
+        } catch (IllegalArgumentException e) {
+            failedRows.incrementAndGet();
+            System.err.println("⚠️ Keeping inline image of article " + id + ": " + e.getMessage());
+            return;
+        }
+
+        if (articleRepository.replaceInlineImage(id, url) == 1) {
+            extractedRows.incrementAndGet();
+            uploadService.switchReference(null, url);
+            removedChars.addAndGet(image.get().length() - url.length());
+            // Cached copies still carry the data URI
+            eventPublisher.publishEvent(ArticleChangedEvent.saved(id));
+        } else {
+            System.out.println("ℹ️ Article " + id + " changed its image meanwhile; uploaded copy unused: " + url);
+        }
+    }
+
+    /**
+     * Progress of the current or last run.
+     */
+    public InlineImageStats stats() {
+        return new InlineImageStats(running.get(), scannedRows.get(), extractedRows.get(), failedRows.get(),
+                removedChars.get());
+    }
+}
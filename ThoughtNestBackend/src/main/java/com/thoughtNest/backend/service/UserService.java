@@ -5,10 +5,14 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.thoughtNest.backend.cache.AccountInfoCache;
+import com.thoughtNest.backend.dto.UserAccountInfoDto;
+import com.thoughtNest.backend.event.UserChangedEvent;
 import com.thoughtNest.backend.model.PasswordResetToken;
 import com.thoughtNest.backend.model.User;
 import com.thoughtNest.backend.repository.PasswordResetTokenRepository;
@@ -24,14 +28,20 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountInfoCache accountInfoCache;
 
     @Autowired
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       PasswordResetTokenRepository passwordResetTokenRepository) {
+                       PasswordResetTokenRepository passwordResetTokenRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       AccountInfoCache accountInfoCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.eventPublisher = eventPublisher;
+        this.accountInfoCache = accountInfoCache;
     }
 
     /**
@@ -53,7 +63,9 @@ public class UserService {
      */
     public User saveUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getId(), saved.getUsername()));
+        return saved;
     }
 
     /**
@@ -155,12 +167,17 @@ public class UserService {
             user.setEmail(newEmail);
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getId(), saved.getUsername()));
+        return saved;
     }
 
-    @Transactional(readOnly = true)
-    public Optional<User> findByEmailWithArticles(String email) {
-    return userRepository.findByEmailWithArticles(email);
-}
+    /**
+     * Returns the username, email and article counts of a user. The counts come from one
+     * aggregate query and are cached briefly, so the cost does not grow with the number of articles.
+     */
+    public Optional<UserAccountInfoDto> getAccountInfo(String email) {
+        return accountInfoCache.get(email, userRepository::findAccountInfoByEmail);
+    }
 
 }
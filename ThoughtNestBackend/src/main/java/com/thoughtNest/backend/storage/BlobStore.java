@@ -0,0 +1,60 @@
+package com.thoughtNest.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage for uploaded files such as article images.
+ *
+ * The backend is selected with {@code thoughtnest.storage.backend}: {@code gcs} (the default)
+ * stores files in a Google Cloud Storage bucket, {@code local} in a directory served under
+ * {@code /uploads}, which needs no cloud account.
+ */
+public interface BlobStore {
+
+    /** Longest part of the original file name kept in a key. */
+    int MAX_NAME_LENGTH = 100;
+
+    /**
+     * Stores the data under the given key, reading the stream to its end but not closing it.
+     *
+     * @return the public URL of the stored file
+     */
+    String put(String key, InputStream data, String contentType) throws IOException;
+
+    /**
+     * Opens a stored file for reading.
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Returns the key of a file stored by this store, or empty for any other URL.
+     */
+    Optional<String> keyOf(String url);
+
+    /**
+     * Stores a newly uploaded file under a fresh key derived from its original name.
+     *
+     * @return the public URL of the stored file
+     */
+    default String upload(String originalFilename, InputStream data, String contentType) throws IOException {
+        return put(newKey(originalFilename), data, contentType);
+    }
+
+    /**
+     * Builds a unique key that keeps the original file name readable. Characters other than
+     * letters, digits, dots, dashes and underscores are replaced, so keys are safe both as object
+     * names and as file names.
+     */
+    static String newKey(String originalFilename) {
+        String name = originalFilename == null ? "" : originalFilename;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_").replaceAll("^\\.+", "");
+        if (name.length() > MAX_NAME_LENGTH) {
+            name = name.substring(name.length() - MAX_NAME_LENGTH);
+        }
+        return UUID.randomUUID() + (name.isEmpty() ? "" : "-" + name);
+    }
+}
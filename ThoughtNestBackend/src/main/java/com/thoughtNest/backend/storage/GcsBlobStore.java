@@ -0,0 +1,93 @@
+package com.thoughtNest.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
+
+/**
+ * Stores files in a Google Cloud Storage bucket.
+ *
+ * A single Storage client is created on first use and shared by all uploads. The client is
+ * thread-safe and keeps its credentials and HTTP connections, so uploads no longer pay for
+ * resolving credentials and opening a new transport each time.
+ */
+@Component
+@ConditionalOnProperty(name = "thoughtnest.storage.backend", havingValue = "gcs", matchIfMissing = true)
+public class GcsBlobStore implements BlobStore {
+
+    private final String bucketName;
+    private volatile Storage storage;
+
+    public GcsBlobStore(@Value("${gcs.bucket.name}") String bucketName) {
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Creates the store with a given client, for tests and benchmarks.
+     */
+    GcsBlobStore(String bucketName, Storage storage) {
+        this.bucketName = bucketName;
+        this.storage = storage;
+    }
+
+    @Override
+    public String put(String key, InputStream data, String contentType) throws IOException {
+        System.out.println("Starting GCS upload: " + key);
+        try {
+            BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, key))
+                    .setContentType(contentType)
+                    .build();
+            storage().createFrom(blobInfo, data);
+
+            String publicUrl = publicUrlPrefix() + key;
+            System.out.println("Public URL: " + publicUrl);
+            return publicUrl;
+        } catch (Exception e) {
+            System.err.println("GCS Upload failed:");
+            e.printStackTrace();
+            throw new IOException("GCS Upload failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return Channels.newInputStream(storage().reader(BlobId.of(bucketName, key)));
+    }
+
+    @Override
+    public Optional<String> keyOf(String url) {
+        String prefix = publicUrlPrefix();
+        return url != null && url.startsWith(prefix) && url.length() > prefix.length()
+                ? Optional.of(url.substring(prefix.length()))
+                : Optional.empty();
+    }
+
+    private String publicUrlPrefix() {
+        return "https://storage.googleapis.com/" + bucketName + "/";
+    }
+
+    private Storage storage() {
+        Storage client = storage;
+        if (client == null) {
+            synchronized (this) {
+                client = storage;
+                if (client == null) {
+                    client = StorageOptions.getDefaultInstance().getService();
+                    storage = client;
+                    System.out.println("GCS Storage client initialized");
+                }
+            }
+        }
+        return client;
+    }
+}
@@ -0,0 +1,94 @@
+package com.thoughtNest.backend.storage;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores files in a local directory, for development and single-node deployments.
+ *
+ * Data is written with {@link FileChannel#transferFrom}. When the source is a file, as it is for
+ * multipart uploads spooled to disk, the kernel copies between the two files without passing the
+ * bytes through the JVM heap. Files are written under a temporary name and moved into place once
+ * complete, so a file is never visible half-written.
+ */
+@Component
+@ConditionalOnProperty(name = "thoughtnest.storage.backend", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    /** Bytes requested per transfer call; the kernel may move less. */
+    private static final long TRANSFER_CHUNK = 8L << 20;
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalBlobStore(@Value("${thoughtnest.storage.local.dir:data/uploads}") Path root,
+                          @Value("${thoughtnest.storage.local.base-url:/uploads}") String baseUrl) throws IOException {
+        this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public String put(String key, InputStream data, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ReadableByteChannel in = data instanceof FileInputStream file
+                        ? file.getChannel()
+                        : Channels.newChannel(data);
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        System.out.println("File stored locally: " + target);
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Optional<String> keyOf(String url) {
+        String prefix = baseUrl + "/";
+        return url != null && url.startsWith(prefix) && url.length() > prefix.length()
+                ? Optional.of(url.substring(prefix.length()))
+                : Optional.empty();
+    }
+
+    /**
+     * Resolves a key to its file, rejecting keys that would leave the storage directory.
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.getParent().equals(root) || key.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,199 @@
+package com.thoughtNest.backend.storage;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.model.StoredBlob;
+import com.thoughtNest.backend.repository.StoredBlobRepository;
+import com.thoughtNest.backend.util.DataUri;
+import com.thoughtNest.backend.util.ImageTypes;
+
+/**
+ * Stores uploaded images once per distinct content.
+ *
+ * Each upload is hashed with SHA-256 while it is spooled to a temporary file. If a file with the
+ * same hash is already stored its URL is returned right away and nothing is sent to the blob
+ * store; otherwise the file is stored under its hash. Articles referencing a file are counted,
+ * so files no longer used anywhere can be collected later.
+ *
+ * Only PNG, JPEG, GIF and WebP images are accepted, recognized by their content. The stored key
+ * and content type follow the detected type, whatever name and type the client sent, so nothing
+ * uploaded is ever served as a document.
+ *
+ * Every upload is handed to the image derivative pipeline, which skips images it has already
+ * processed.
+ */
+@Service
+public class UploadService {
+
+    private final BlobStore blobStore;
+    private final StoredBlobRepository storedBlobRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final Path directory;
+
+    @Autowired
+    public UploadService(BlobStore blobStore,
+                         StoredBlobRepository storedBlobRepository,
+                         ImageDerivativeService imageDerivativeService,
+                         @Value("${thoughtnest.uploads.temp-dir:${java.io.tmpdir}/thoughtnest-uploads}") Path directory)
+            throws IOException {
+        this.blobStore = blobStore;
+        this.storedBlobRepository = storedBlobRepository;
+        this.imageDerivativeService = imageDerivativeService;
+        this.directory = Files.createDirectories(directory.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Stores an uploaded file, or finds the identical file stored before.
+     *
+     * @return the public URL of the stored file
+     * @throws IllegalArgumentException if the file is not a supported image
+     */
+    public String upload(String originalFilename, InputStream data, String contentType) throws IOException {
+        Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            Files.copy(new DigestInputStream(data, digest), temp, StandardCopyOption.REPLACE_EXISTING);
+            return store(temp, HexFormat.of().formatHex(digest.digest()), originalFilename);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Stores a file already on local disk, such as an assembled chunked upload, without copying it first.
+     *
+     * @return the public URL of the stored file
+     * @throws IllegalArgumentException if the file is not a supported image
+     */
+    public String uploadFile(Path file, String originalFilename, String contentType) throws IOException {
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(file)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return store(file, HexFormat.of().formatHex(digest.digest()), originalFilename);
+    }
+
+    /**
+     * Stores the image embedded in a base64 data URI, decoding it while it is written.
+     *
+     * @return the public URL of the stored image
+     * @throws IllegalArgumentException if the value is not a base64 data URI of a supported image type
+     */
+    public String uploadDataUri(String dataUri) throws IOException {
+        DataUri image = DataUri.parse(dataUri);
+        System.out.println("🖼️ Extracting inline " + image.getMediaType() + " image (" + image.getEncodedLength() + " chars)");
+        try (InputStream data = image.openStream()) {
+            return upload("inline-image" + image.getExtension(), data, image.getMediaType());
+        }
+    }
+
+    private String store(Path file, String sha256, String originalFilename) throws IOException {
+        String contentType = ImageTypes.detect(file).orElseThrow(() ->
+                new IllegalArgumentException("Only PNG, JPEG, GIF and WebP images can be uploaded: " + originalFilename));
+
+        Optional<StoredBlob> existing = storedBlobRepository.findBySha256(sha256);
+        if (existing.isPresent()) {
+            System.out.println("♻️ Upload matches stored file: " + existing.get().getUrl());
+            imageDerivativeService.submit(existing.get().getUrl());
+            return existing.get().getUrl();
+        }
+
+        String key = sha256 + ImageTypes.extensionOf(contentType);
+        String url;
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            url = blobStore.put(key, in, contentType);
+        }
+
+        StoredBlob blob = new StoredBlob();
+        blob.setSha256(sha256);
+        blob.setStorageKey(key);
+        blob.setUrl(url);
+        blob.setSize(Files.size(file));
+        blob.setContentType(contentType);
+        blob.setCreatedAt(LocalDateTime.now());
+        try {
+            storedBlobRepository.save(blob);
+        } catch (DataIntegrityViolationException e) {
+            // The same content was stored concurrently; both wrote identical bytes
+            url = storedBlobRepository.findBySha256(sha256).map(StoredBlob::getUrl).orElseThrow(() -> e);
+        }
+        imageDerivativeService.submit(url);
+        return url;
+    }
+
+    /**
+     * Moves one reference from the old image URL to the new one, if they differ.
+     * URLs not stored by this service are ignored.
+     */
+    public void switchReference(String oldUrl, String newUrl) {
+        if (Objects.equals(oldUrl, newUrl)) {
+            return;
+        }
+        if (oldUrl != null) {
+            storedBlobRepository.adjustRefCount(oldUrl, -1);
+        }
+        if (newUrl != null) {
+            storedBlobRepository.adjustRefCount(newUrl, 1);
+        }
+    }
+
+    /**
+     * Adds one reference per occurrence of each URL, with one update per distinct URL.
+     * URLs not stored by this service are ignored.
+     */
+    public void acquireReferences(Collection<String> urls) {
+        adjustReferences(urls, 1);
+    }
+
+    /**
+     * Releases one reference per occurrence of each URL, with one update per distinct URL.
+     * URLs not stored by this service are ignored.
+     */
+    public void releaseReferences(Collection<String> urls) {
+        adjustReferences(urls, -1);
+    }
+
+    private void adjustReferences(Collection<String> urls, int sign) {
+        Map<String, Long> counts = urls.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        counts.forEach((url, count) -> storedBlobRepository.adjustRefCount(url, sign * Math.toIntExact(count)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.thoughtNest.backend.suggest;
+
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thoughtNest.backend.dto.ArticleTitle;
+import com.thoughtNest.backend.dto.AuthorPopularity;
+import com.thoughtNest.backend.dto.AutocompleteStats;
+import com.thoughtNest.backend.dto.Suggestion;
+import com.thoughtNest.backend.dto.Suggestions;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Type-ahead suggestions for published article titles and author usernames, served from memory.
+ *
+ * - Titles are ranked newest first (by last modification), authors by the number of articles
+ *   they have published.
+ * - Both sets are loaded once at startup and then kept current from {@link ArticleChangedEvent}s
+ *   and {@link UserChangedEvent}s. A change is visible to the next query; the sorted snapshots
+ *   are rebuilt in the background shortly after changes accumulate.
+ * - Until the initial load finishes, queries return no suggestions rather than failing.
+ */
+@Service
+public class AutocompleteService {
+
+    /** Suggestions returned per kind when the caller does not ask for a number. */
+    public static final int DEFAULT_LIMIT = 5;
+
+    /** Upper bound on suggestions per kind. */
+    public static final int MAX_LIMIT = 20;
+
+    /** Titles read per query during the initial load. */
+    static final int BATCH_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final long rebuildDelayMillis;
+    private final ScheduledExecutorService rebuilder;
+
+    private final SuggestionSet titles = new SuggestionSet();
+    private final SuggestionSet authors = new SuggestionSet();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private volatile boolean ready;
+
+    @Autowired
+    public AutocompleteService(ArticleRepository articleRepository,
+                               UserRepository userRepository,
+                               @Value("${thoughtnest.autocomplete.rebuild-delay-ms:30000}") long rebuildDelayMillis) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.rebuildDelayMillis = rebuildDelayMillis;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "autocomplete-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads titles and usernames in the background once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuilder.execute(this::load);
+    }
+
+    /**
+     * Returns the most popular titles and usernames starting with the prefix.
+     * Matching ignores case and repeated whitespace.
+     *
+     * @param prefix what the user has typed so far
+     * @param limit  suggestions per kind, clamped to 1..{@value #MAX_LIMIT}
+     */
+    public Suggestions suggest(String prefix, int limit) {
+        int size = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        if (!ready || prefix == null || prefix.isBlank()) {
+            return new Suggestions(List.of(), List.of());
+        }
+        queries.increment();
+        return new Suggestions(toSuggestions(titles.top(prefix, size)), toSuggestions(authors.top(prefix, size)));
+    }
+
+    private static List<Suggestion> toSuggestions(List<SuggestionSet.Entry> entries) {
+        return entries.stream().map(entry -> new Suggestion(entry.id, entry.text)).toList();
+    }
+
+    /**
+     * Applies a committed article change: titles are added, renamed or removed and the
+     * published counts of the affected authors are refreshed. Reads the changed articles with
+     * one query and the affected authors with another, however many articles changed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        List<Long> ids = event.getArticleIds();
+        Map<Long, ArticleTitle> published = new HashMap<>();
+        if (event.getType() != ArticleChangedEvent.Type.DELETED) {
+            for (ArticleTitle article : articleRepository.findTitlesByIds(ids)) {
+                if (article.isPublished()) {
+                    published.put(article.getId(), article);
+                }
+            }
+        }
+
+        Set<Long> changedAuthors = new HashSet<>();
+        for (Long id : ids) {
+            SuggestionSet.Entry previous = titles.get(id);
+            ArticleTitle article = published.get(id);
+            if (article != null) {
+                titles.put(new SuggestionSet.Entry(id, article.getTitle(), recency(article), article.getAuthorId()));
+            } else {
+                titles.remove(id);
+            }
+
+            // Publishing, unpublishing and deleting change how popular the author is
+            Long newAuthor = article != null ? article.getAuthorId() : null;
+            Long oldAuthor = previous != null ? previous.ownerId : null;
+            if (!Objects.equals(oldAuthor, newAuthor)) {
+                if (oldAuthor != null) {
+                    changedAuthors.add(oldAuthor);
+                }
+                if (newAuthor != null) {
+                    changedAuthors.add(newAuthor);
+                }
+            }
+        }
+        refreshAuthors(changedAuthors);
+        scheduleRebuild();
+    }
+
+    /**
+     * Adds a new user or applies a username change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        SuggestionSet.Entry previous = authors.get(event.getUserId());
+        if (previous != null && previous.text.equals(event.getUsername())) {
+            return;
+        }
+        long weight = previous != null ? previous.weight : 0;
+        authors.put(new SuggestionSet.Entry(event.getUserId(), event.getUsername(), weight, 0));
+        scheduleRebuild();
+    }
+
+    /**
+     * Returns whether the initial load has finished.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns index sizes and counters.
+     */
+    public AutocompleteStats stats() {
+        return new AutocompleteStats(ready, titles.size(), authors.size(),
+                titles.pendingChanges() + authors.pendingChanges(), rebuilds.sum(), queries.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // ===== Background work =====
+
+    void load() {
+        try {
+            long lastId = 0;
+            while (true) {
+                List<ArticleTitle> batch = articleRepository.findPublishedTitlesAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+                for (ArticleTitle article : batch) {
+                    titles.putIfAbsent(new SuggestionSet.Entry(article.getId(), article.getTitle(),
+                            recency(article), article.getAuthorId()));
+                    lastId = article.getId();
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            for (AuthorPopularity author : userRepository.findAuthorPopularity()) {
+                authors.putIfAbsent(new SuggestionSet.Entry(author.getId(), author.getUsername(),
+                        author.getPublishedCount(), 0));
+            }
+            rebuild();
+            ready = true;
+            System.out.println("🔤 Autocomplete ready with " + titles.size() + " titles and "
+                    + authors.size() + " authors.");
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Autocomplete could not be loaded: " + e.getMessage());
+        }
+    }
+
+    void rebuild() {
+        rebuildScheduled.set(false);
+        titles.rebuild();
+        authors.rebuild();
+        rebuilds.increment();
+    }
+
+    private void scheduleRebuild() {
+        if (ready && rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.schedule(this::rebuild, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refreshAuthors(Set<Long> authorIds) {
+        authorIds.removeIf(id -> authors.get(id) == null);
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        for (AuthorPopularity popularity : userRepository.findAuthorPopularityByIds(authorIds)) {
+            SuggestionSet.Entry author = authors.get(popularity.getId());
+            if (author != null) {
+                authors.put(new SuggestionSet.Entry(popularity.getId(), author.text, popularity.getPublishedCount(), 0));
+            }
+        }
+    }
+
+    private static long recency(ArticleTitle article) {
+        return article.getLastModifiedDate() == null ? 0 : article.getLastModifiedDate().toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,127 @@
+package com.thoughtNest.backend.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Immutable prefix index: entries sorted by key plus a max-weight segment tree over them.
+ *
+ * All keys that start with a prefix form one contiguous range of the sorted array, found with
+ * two binary searches. The segment tree then yields the heaviest entries of that range best-first
+ * without scanning it, so a one-letter prefix over a million titles costs the same few
+ * microseconds as a long one. Memory is the entry array plus 2n ints for the tree.
+ */
+final class PrefixIndex {
+
+    static final PrefixIndex EMPTY = new PrefixIndex(List.of());
+
+    /** Heaviest first; equal weights in key order so results are stable. */
+    static final Comparator<SuggestionSet.Entry> BEST_FIRST = Comparator
+            .comparingLong((SuggestionSet.Entry entry) -> entry.weight).reversed()
+            .thenComparing(entry -> entry.key)
+            .thenComparingLong(entry -> entry.id);
+
+    private final SuggestionSet.Entry[] entries;
+    /** tree[n + i] = i; tree[node] = position of the heaviest entry below node. */
+    private final int[] tree;
+
+    PrefixIndex(List<SuggestionSet.Entry> source) {
+        entries = source.toArray(new SuggestionSet.Entry[0]);
+        Arrays.sort(entries, (a, b) -> {
+            int byKey = a.key.compareTo(b.key);
+            return byKey != 0 ? byKey : Long.compare(a.id, b.id);
+        });
+        int n = entries.length;
+        tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int node = n - 1; node > 0; node--) {
+            tree[node] = heavier(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns up to {@code limit} entries whose key starts with the prefix, heaviest first,
+     * skipping entries the filter rejects.
+     */
+    List<SuggestionSet.Entry> top(String prefix, int limit, Predicate<SuggestionSet.Entry> accept) {
+        int n = entries.length;
+        int from = lowerBound(prefix);
+        int to = endOfPrefix(prefix, from);
+        List<SuggestionSet.Entry> result = new ArrayList<>(limit);
+        if (from >= to || limit <= 0) {
+            return result;
+        }
+
+        // Best-first expansion of the tree nodes that exactly cover [from, to)
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> compare(tree[a], tree[b]));
+        for (int lo = from + n, hi = to + n; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) == 1) {
+                frontier.add(lo++);
+            }
+            if ((hi & 1) == 1) {
+                frontier.add(--hi);
+            }
+        }
+        while (!frontier.isEmpty() && result.size() < limit) {
+            int node = frontier.poll();
+            if (node >= n) {
+                SuggestionSet.Entry entry = entries[node - n];
+                if (accept.test(entry)) {
+                    result.add(entry);
+                }
+            } else {
+                frontier.add(2 * node);
+                frontier.add(2 * node + 1);
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (entries[mid].key.compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** First position at or after {@code from} whose key does not start with the prefix. */
+    private int endOfPrefix(String prefix, int from) {
+        int lo = from;
+        int hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (entries[mid].key.startsWith(prefix)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int heavier(int a, int b) {
+        return compare(a, b) <= 0 ? a : b;
+    }
+
+    private int compare(int a, int b) {
+        int byWeight = Long.compare(entries[b].weight, entries[a].weight);
+        return byWeight != 0 ? byWeight : Integer.compare(a, b);
+    }
+}
@@ -0,0 +1,156 @@
+package com.thoughtNest.backend.suggest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * One kind of suggestion (article titles or author usernames) that can be queried by prefix
+ * while it is being updated.
+ *
+ * - Queries run against an immutable {@link PrefixIndex} snapshot. Entries changed since the
+ *   snapshot was built are kept in a small overlay that shadows the snapshot and is scanned
+ *   linearly, so an update is visible to the very next query.
+ * - {@link #rebuild()} builds a new snapshot from the current entries off the request path and
+ *   drops the overlay entries it absorbed.
+ */
+final class SuggestionSet {
+
+    /**
+     * A suggestion with its normalized key and ranking weight. {@code ownerId} links a title
+     * to its author and is 0 for authors.
+     */
+    static final class Entry {
+        final long id;
+        final String text;
+        final String key;
+        final long weight;
+        final long ownerId;
+
+        Entry(long id, String text, long weight, long ownerId) {
+            this.id = id;
+            this.text = text;
+            this.key = normalize(text);
+            this.weight = weight;
+            this.ownerId = ownerId;
+        }
+    }
+
+    /** An overlay entry: the new state of an id, or null if it was removed. */
+    private static final class Change {
+        final long sequence;
+        final Entry entry;
+
+        Change(long sequence, Entry entry) {
+            this.sequence = sequence;
+            this.entry = entry;
+        }
+    }
+
+    /** An index snapshot and the changes made since it was built; replaced together. */
+    private static final class State {
+        final PrefixIndex index;
+        final Map<Long, Change> overlay;
+
+        State(PrefixIndex index, Map<Long, Change> overlay) {
+            this.index = index;
+            this.overlay = overlay;
+        }
+    }
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile State state = new State(PrefixIndex.EMPTY, new ConcurrentHashMap<>());
+    private long sequence;
+
+    /**
+     * Lower-cases the text and collapses whitespace, so prefixes match regardless of case and spacing.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    Entry get(long id) {
+        return entries.get(id);
+    }
+
+    synchronized void put(Entry entry) {
+        entries.put(entry.id, entry);
+        state.overlay.put(entry.id, new Change(++sequence, entry));
+    }
+
+    /**
+     * Adds the entry unless the id is already present, e.g. because a live update arrived
+     * while the initial load was running.
+     */
+    synchronized void putIfAbsent(Entry entry) {
+        if (!entries.containsKey(entry.id)) {
+            put(entry);
+        }
+    }
+
+    synchronized Entry remove(long id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            state.overlay.put(id, new Change(++sequence, null));
+        }
+        return removed;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int pendingChanges() {
+        return state.overlay.size();
+    }
+
+    /**
+     * Returns up to {@code limit} entries whose normalized text starts with the normalized prefix,
+     * heaviest first.
+     */
+    List<Entry> top(String prefix, int limit) {
+        String key = normalize(prefix);
+        State current = state;
+        Map<Long, Change> overlay = current.overlay;
+        List<Entry> result = current.index.top(key, limit, entry -> !overlay.containsKey(entry.id));
+        for (Change change : overlay.values()) {
+            if (change.entry != null && change.entry.key.startsWith(key)) {
+                result.add(change.entry);
+            }
+        }
+        result.sort(PrefixIndex.BEST_FIRST);
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Builds a new snapshot from the current entries. Changes made while it was being built
+     * carry over into the new, otherwise empty overlay.
+     */
+    void rebuild() {
+        long upTo;
+        List<Entry> current;
+        synchronized (this) {
+            upTo = sequence;
+            current = new ArrayList<>(entries.values());
+        }
+        PrefixIndex index = new PrefixIndex(current);
+        synchronized (this) {
+            // A fresh map: a drained ConcurrentHashMap keeps its table and stays slow to iterate
+            Map<Long, Change> overlay = new ConcurrentHashMap<>();
+            state.overlay.forEach((id, change) -> {
+                if (change.sequence > upTo) {
+                    overlay.put(id, change);
+                }
+            });
+            state = new State(index, overlay);
+        }
+    }
+}
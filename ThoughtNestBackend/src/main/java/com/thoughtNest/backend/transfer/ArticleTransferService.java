@@ -0,0 +1,318 @@
+package com.thoughtNest.backend.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleImportResult;
+import com.thoughtNest.backend.dto.TransferStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.model.CompressedTextConverter;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.render.ArticleRenderer;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.repository.UserRepository;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.util.DataUri;
+import com.thoughtNest.backend.util.StreamingJson;
+import com.thoughtNest.backend.util.TextExcerpts;
+
+/**
+ * Moves an author's articles in and out as newline-delimited JSON, one article per line.
+ *
+ * Exports stream the author's articles from a database cursor straight to the response. Imports
+ * parse the request body one line at a time and insert the articles in JDBC batches, instead of
+ * one save and transaction per article, so both hold a bounded number of articles in memory
+ * whatever the size of the file. An export can be imported again as is: fields an import does not
+ * take (id, author, views) are ignored.
+ *
+ * An import is all or nothing; the first invalid line rolls it back and is reported by number.
+ */
+@Service
+public class ArticleTransferService {
+
+    private static final String INSERT_SQL = "INSERT INTO articles " +
+            "(title, content, excerpt, date, image, image_asset_id, user_id, published, last_modified_date, " +
+            "rendered_html, render_version, views, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)";
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final ImageAssetRepository imageAssetRepository;
+    private final UploadService uploadService;
+    private final ArticleRenderer articleRenderer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader lineReader;
+    private final CompressedTextConverter contentConverter;
+    private final int batchSize;
+
+    private final AtomicLong imports = new AtomicLong();
+    private final AtomicLong importedArticles = new AtomicLong();
+    private final AtomicLong exports = new AtomicLong();
+    private final AtomicLong exportedArticles = new AtomicLong();
+    private volatile long lastImportRowsPerSecond;
+    private volatile long lastExportRowsPerSecond;
+
+    @Autowired
+    public ArticleTransferService(ArticleRepository articleRepository,
+                                  UserRepository userRepository,
+                                  ImageAssetRepository imageAssetRepository,
+                                  UploadService uploadService,
+                                  ArticleRenderer articleRenderer,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper,
+                                  @Value("${thoughtnest.content.compression.enabled:false}") boolean compressContent,
+                                  @Value("${thoughtnest.content.compression.min-length:1024}") int compressMinLength,
+                                  @Value("${thoughtnest.transfer.import-batch-size:1000}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.imageAssetRepository = imageAssetRepository;
+        this.uploadService = uploadService;
+        this.articleRenderer = articleRenderer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.lineReader = objectMapper.readerFor(ArticleDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        // Same settings as the converter Hibernate applies, so imported rows are stored alike
+        this.contentConverter = new CompressedTextConverter(compressContent, compressMinLength);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Writes the author's articles to the stream as newline-delimited JSON, oldest first.
+     *
+     * @param out the response stream; it is flushed but not closed
+     * @return the number of articles written
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(String email, OutputStream out) throws IOException {
+        User author = findAuthor(email);
+        long started = System.nanoTime();
+        long count;
+        try (Stream<ArticleDTO> rows = articleRepository.streamByAuthorId(author.getId())) {
+            count = StreamingJson.writeLines(objectMapper, out, rows);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        lastExportRowsPerSecond = rowsPerSecond(count, elapsedNanos);
+        exports.incrementAndGet();
+        exportedArticles.addAndGet(count);
+        System.out.println("📤 Exported " + count + " articles of " + email + " in " + elapsedNanos / 1_000_000
+                + " ms (" + lastExportRowsPerSecond + " rows/s)");
+        return count;
+    }
+
+    /**
+     * Creates one article per line of the stream for the given author, in one transaction.
+     *
+     * The reported duration covers the commit and the listeners it triggers (caches, indexes,
+     * feeds), which run before the transaction template returns.
+     *
+     * @throws IllegalArgumentException if a line is not valid JSON or lacks a title or content;
+     *                                  nothing is imported then
+     */
+    public ArticleImportResult importArticles(String email, InputStream in) throws IOException {
+        long started = System.nanoTime();
+        List<Long> ids;
+        try {
+            ids = transactionTemplate.execute(status -> {
+                try {
+                    return insertAll(email, in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        long rate = rowsPerSecond(ids.size(), elapsedNanos);
+        lastImportRowsPerSecond = rate;
+        imports.incrementAndGet();
+        importedArticles.addAndGet(ids.size());
+        System.out.println("📥 Imported " + ids.size() + " articles for " + email + " in " + elapsedNanos / 1_000_000
+                + " ms (" + rate + " rows/s)");
+        return new ArticleImportResult(ids.size(), elapsedNanos / 1_000_000, rate);
+    }
+
+    /**
+     * Inserts every line of the stream and announces the new articles with one change event.
+     *
+     * @return the ids of the new articles, in line order
+     */
+    private List<Long> insertAll(String email, InputStream in) throws IOException {
+        User author = findAuthor(email);
+        List<ArticleDTO> batch = new ArrayList<>(batchSize);
+        List<Long> ids = new ArrayList<>();
+        long line = 0;
+
+        try (MappingIterator<ArticleDTO> lines = lineReader.readValues(in)) {
+            while (true) {
+                ArticleDTO article;
+                try {
+                    if (!lines.hasNextValue()) {
+                        break;
+                    }
+                    article = lines.nextValue();
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException("Line " + (line + 1) + " is not a valid article: "
+                            + e.getOriginalMessage());
+                }
+                batch.add(prepare(article, ++line));
+                if (batch.size() == batchSize) {
+                    ids.addAll(insertBatch(author.getId(), batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            ids.addAll(insertBatch(author.getId(), batch));
+        }
+
+        // Caches, indexes and feeds pick the new articles up once the import commits, as one set
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(ArticleChangedEvent.saved(ids));
+        }
+        return ids;
+    }
+
+    public TransferStats stats() {
+        return new TransferStats(imports.get(), importedArticles.get(), lastImportRowsPerSecond,
+                exports.get(), exportedArticles.get(), lastExportRowsPerSecond);
+    }
+
+    private User findAuthor(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
+    }
+
+    /**
+     * Checks one imported article and fills in what the line may leave out. Inline images are
+     * uploaded here, so a batch only holds URLs.
+     */
+    private ArticleDTO prepare(ArticleDTO article, long line) throws IOException {
+        if (article.getTitle() == null || article.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Line " + line + ": title is required");
+        }
+        if (article.getContent() == null || article.getContent().isBlank()) {
+            throw new IllegalArgumentException("Line " + line + ": content is required");
+        }
+        if (DataUri.isDataUri(article.getImage())) {
+            article.setImage(uploadService.uploadDataUri(article.getImage()));
+        }
+        if (article.getDate() == null) {
+            article.setDate(LocalDate.now());
+        }
+        if (article.getLastModifiedDate() == null) {
+            article.setLastModifiedDate(LocalDateTime.now());
+        }
+        return article;
+    }
+
+    /**
+     * Inserts a batch of articles in one JDBC batch and links them to the derivatives and stored
+     * files of their images.
+     *
+     * @return the generated ids, in batch order
+     */
+    private List<Long> insertBatch(Long authorId, List<ArticleDTO> batch) {
+        Map<String, Long> assets = findImageAssets(batch);
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ArticleDTO article = batch.get(i);
+                        ps.setString(1, article.getTitle());
+                        ps.setString(2, contentConverter.convertToDatabaseColumn(article.getContent()));
+                        ps.setString(3, TextExcerpts.of(article.getContent()));
+                        ps.setObject(4, article.getDate());
+                        ps.setString(5, article.getImage());
+                        ps.setObject(6, assets.get(article.getImage()), Types.BIGINT);
+                        ps.setLong(7, authorId);
+                        ps.setBoolean(8, article.isPublished());
+                        ps.setObject(9, article.getLastModifiedDate());
+                        ArticleRenderer.Result render = articleRenderer.render(article.getContent());
+                        ps.setString(10, contentConverter.convertToDatabaseColumn(render.getHtml()));
+                        ps.setInt(11, render.getVersion());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keys);
+
+        uploadService.acquireReferences(batch.stream().map(ArticleDTO::getImage).toList());
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            // Drivers differ in the case of the key column name; there is only one
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Ids of the image derivatives of the batch's images, by image URL, read in one query.
+     */
+    private Map<String, Long> findImageAssets(List<ArticleDTO> batch) {
+        Set<String> urls = batch.stream()
+                .map(ArticleDTO::getImage)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Long> assets = new HashMap<>();
+        if (!urls.isEmpty()) {
+            for (ImageAsset asset : imageAssetRepository.findByOriginalUrlIn(urls)) {
+                assets.put(asset.getOriginalUrl(), asset.getId());
+            }
+        }
+        return assets;
+    }
+
+    private static long rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * 1_000_000_000L / elapsedNanos : rows;
+    }
+}
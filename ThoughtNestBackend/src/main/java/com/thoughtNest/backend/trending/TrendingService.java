@@ -0,0 +1,372 @@
+package com.thoughtNest.backend.trending;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.thoughtNest.backend.dto.ArticleActivity;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.dto.TrendingStats;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+
+/**
+ * Ranks published articles by recent popularity and serves the top of the ranking from memory.
+ *
+ * - Every view and every update adds to an article's score, and the score halves every
+ *   {@code half-life-hours}. Instead of decaying all scores over time, each event is weighted by
+ *   {@code 2^(t / halfLife)} relative to a fixed epoch, which keeps the order of the stored scores
+ *   equal to the order of the decayed ones. Scores only ever grow, so the top {@code size}
+ *   articles are kept in a sorted set that is updated per change instead of re-sorting
+ *   everything; only removing a ranked article needs a scan for its replacement.
+ * - Views are only counted on the request path. They are applied on a schedule, which also
+ *   moves the epoch forward before the weights grow large and forgets articles whose decayed
+ *   score has become negligible.
+ * - The feed cards of the ranked articles are loaded in one query when the ranking changes, so
+ *   requests neither query nor sort.
+ * - After a restart the scores are rebuilt from the persisted view counts, as if each article's
+ *   views had happened at its last update. Live events correct the estimate as they arrive.
+ */
+@Service
+public class TrendingService {
+
+    /** Articles returned when the caller does not ask for a number. */
+    public static final int DEFAULT_LIMIT = 10;
+
+    /** Score of one view. */
+    static final double VIEW_WEIGHT = 1;
+
+    /** Score of publishing or editing an article, in views. */
+    static final double UPDATE_WEIGHT = 10;
+
+    /** Decayed scores below this no longer matter for the ranking and are forgotten. */
+    static final double MIN_SCORE = 0.01;
+
+    /** Articles read per query while seeding. */
+    static final int BATCH_SIZE = 1000;
+
+    /** Half-lives after which the epoch moves forward; keeps the weights far from overflowing. */
+    private static final double MAX_EPOCH_AGE = 32;
+
+    /** Ranking order: highest score first, ties broken by id. */
+    private static final Comparator<Entry> BY_SCORE = Comparator
+            .comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparingLong(entry -> entry.id);
+
+    private final ArticleRepository articleRepository;
+    private final int size;
+    private final double halfLifeMillis;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private final Map<Long, Entry> scores = new HashMap<>();
+    private final TreeSet<Entry> top = new TreeSet<>(BY_SCORE);
+    private long epochMillis;
+    private boolean summariesStale;
+
+    private volatile Ranking ranking = new Ranking(List.of(), List.of());
+    private volatile boolean ready;
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder summaryLoads = new LongAdder();
+
+    @Autowired
+    public TrendingService(ArticleRepository articleRepository,
+                           @Value("${thoughtnest.trending.size:50}") int size,
+                           @Value("${thoughtnest.trending.half-life-hours:24}") long halfLifeHours) {
+        this(articleRepository, size, halfLifeHours * 3_600_000L, Clock.systemUTC());
+    }
+
+    public TrendingService(ArticleRepository articleRepository, int size, long halfLifeMillis, Clock clock) {
+        if (size <= 0 || halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("Trending size and half-life must be positive");
+        }
+        this.articleRepository = articleRepository;
+        this.size = size;
+        this.halfLifeMillis = halfLifeMillis;
+        this.clock = clock;
+        this.epochMillis = clock.millis();
+    }
+
+    /**
+     * Counts a view of a published article. Only increments a counter; the score is updated by
+     * the next {@link #refresh()}.
+     */
+    public void recordView(Long articleId) {
+        pendingViews.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the feed cards of the currently trending articles, most popular first.
+     *
+     * @param limit number of articles, clamped to 1..{@code size}
+     */
+    public List<ArticleSummary> trending(int limit) {
+        List<ArticleSummary> articles = ranking.articles;
+        int count = Math.min(limit <= 0 ? DEFAULT_LIMIT : limit, size);
+        return articles.size() <= count ? articles : articles.subList(0, count);
+    }
+
+    /**
+     * Seeds the scores from the database once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            seed();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Trending ranking could not be seeded, starting from live events: " + e.getMessage());
+        }
+        ready = true;
+    }
+
+    /**
+     * Adds the pending views to the scores and publishes the new ranking.
+     */
+    @Scheduled(fixedDelayString = "${thoughtnest.trending.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        long now = clock.millis();
+        if ((now - epochMillis) / halfLifeMillis > MAX_EPOCH_AGE) {
+            moveEpoch(now);
+        }
+
+        double weight = weight(now);
+        for (Map.Entry<Long, LongAdder> pending : pendingViews.entrySet()) {
+            long views = pending.getValue().sumThenReset();
+            if (views == 0) {
+                // Idle since the last refresh; a view racing this removal is not counted
+                pendingViews.remove(pending.getKey(), pending.getValue());
+            } else {
+                add(pending.getKey(), views * VIEW_WEIGHT * weight);
+            }
+        }
+        publish();
+        refreshes.increment();
+    }
+
+    /**
+     * Applies a committed article change: publishing and editing raise the score, while
+     * unpublished and deleted articles leave the ranking. The changed articles are read with
+     * one query however many there are.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticleChanged(ArticleChangedEvent event) {
+        List<Long> ids = event.getArticleIds();
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            ids.forEach(this::remove);
+            return;
+        }
+
+        Map<Long, ArticleSummary> published = new HashMap<>();
+        for (ArticleSummary summary : articleRepository.findPublishedSummariesByIds(ids)) {
+            published.put(summary.getId(), summary);
+        }
+        double weight = weight(clock.millis());
+        for (Long id : ids) {
+            ArticleSummary current = published.get(id);
+            if (current == null) {
+                remove(id);
+                continue;
+            }
+
+            // Saves that leave the modification date alone (image processing, migrations) are no update
+            LocalDateTime modified = current.getLastModifiedDate();
+            Entry entry = scores.get(id);
+            if (entry == null || modified == null || entry.lastModified == null || modified.isAfter(entry.lastModified)) {
+                entry = add(id, UPDATE_WEIGHT * weight);
+                entry.lastModified = modified;
+            }
+            if (top.contains(entry)) {
+                summariesStale = true;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the ranking has been seeded after startup.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns sizes and counters of the ranking.
+     */
+    public synchronized TrendingStats stats() {
+        return new TrendingStats(ready, scores.size(), ranking.articles.size(), pendingViews.size(),
+                refreshes.sum(), summaryLoads.sum());
+    }
+
+    // ===== Scores =====
+
+    /**
+     * Rebuilds the scores from the persisted view counts, in batches of {@value #BATCH_SIZE}.
+     */
+    synchronized void seed() {
+        long now = clock.millis();
+        long lastId = 0;
+        int seeded = 0;
+        while (true) {
+            List<ArticleActivity> batch = articleRepository.findPublishedActivityAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (ArticleActivity article : batch) {
+                lastId = article.getId();
+                long updated = article.getLastModifiedDate() == null
+                        ? epochMillis
+                        : article.getLastModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                double score = (UPDATE_WEIGHT + article.getViews() * VIEW_WEIGHT) * weight(Math.min(updated, now));
+                if (score >= MIN_SCORE * weight(now)) {
+                    Entry entry = add(article.getId(), score);
+                    if (entry.lastModified == null) {
+                        entry.lastModified = article.getLastModifiedDate();
+                    }
+                    seeded++;
+                }
+            }
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        publish();
+        System.out.println("📈 Trending ranking seeded with " + seeded + " articles.");
+    }
+
+    /**
+     * Raises an article's score and moves it within or into the top set.
+     */
+    private Entry add(Long id, double amount) {
+        Entry entry = scores.computeIfAbsent(id, Entry::new);
+        boolean ranked = top.remove(entry);
+        entry.score += amount;
+        if (ranked || top.size() < size) {
+            top.add(entry);
+        } else if (BY_SCORE.compare(entry, top.last()) < 0) {
+            top.pollLast();
+            top.add(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Forgets an article; if it was ranked, the best unranked article takes its place.
+     */
+    private void remove(Long id) {
+        Entry entry = scores.remove(id);
+        pendingViews.remove(id);
+        if (entry == null || !top.remove(entry)) {
+            return;
+        }
+        Entry best = null;
+        for (Entry candidate : scores.values()) {
+            if ((best == null || BY_SCORE.compare(candidate, best) < 0) && !top.contains(candidate)) {
+                best = candidate;
+            }
+        }
+        if (best != null) {
+            top.add(best);
+        }
+        summariesStale = true;
+    }
+
+    /**
+     * Rescales all scores to a new epoch, forgetting those that decayed below {@link #MIN_SCORE}.
+     */
+    private void moveEpoch(long now) {
+        double factor = 1 / weight(now);
+        scores.values().removeIf(entry -> {
+            entry.score *= factor;
+            return entry.score < MIN_SCORE;
+        });
+        epochMillis = now;
+        // The scale changed under the sorted set, so it is refilled rather than patched
+        top.clear();
+        for (Entry entry : scores.values()) {
+            if (top.size() < size) {
+                top.add(entry);
+            } else if (BY_SCORE.compare(entry, top.last()) < 0) {
+                top.pollLast();
+                top.add(entry);
+            }
+        }
+        summariesStale = true;
+    }
+
+    private double weight(long timeMillis) {
+        return Math.pow(2, (timeMillis - epochMillis) / halfLifeMillis);
+    }
+
+    // ===== Published ranking =====
+
+    /**
+     * Replaces the served ranking if its order changed or a ranked article was edited. Articles
+     * whose feed card no longer loads were unpublished meanwhile and leave the ranking.
+     */
+    private void publish() {
+        List<Long> ids = new ArrayList<>(top.size());
+        for (Entry entry : top) {
+            ids.add(entry.id);
+        }
+        if (!summariesStale && ids.equals(ranking.ids)) {
+            return;
+        }
+        summariesStale = false;
+
+        Map<Long, ArticleSummary> loaded = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (ArticleSummary summary : articleRepository.findPublishedSummariesByIds(ids)) {
+                loaded.put(summary.getId(), summary);
+            }
+            summaryLoads.increment();
+        }
+        List<Long> rankedIds = new ArrayList<>(ids.size());
+        List<ArticleSummary> articles = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ArticleSummary summary = loaded.get(id);
+            if (summary != null) {
+                rankedIds.add(id);
+                articles.add(summary);
+            }
+        }
+        for (Long id : ids) {
+            if (!loaded.containsKey(id)) {
+                remove(id);
+            }
+        }
+        // The replacements of dropped articles are picked up by the next refresh
+        ranking = new Ranking(List.copyOf(rankedIds), List.copyOf(articles));
+    }
+
+    /**
+     * Score of one article. The score only changes while the entry is outside the sorted set.
+     */
+    private static final class Entry {
+        final long id;
+        double score;
+        LocalDateTime lastModified;
+
+        Entry(long id) {
+            this.id = id;
+        }
+    }
+
+    /** Immutable ranking served to readers. */
+    private record Ranking(List<Long> ids, List<ArticleSummary> articles) {
+    }
+}
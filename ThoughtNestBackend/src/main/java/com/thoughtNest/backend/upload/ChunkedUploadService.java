@@ -0,0 +1,240 @@
+package com.thoughtNest.backend.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.thoughtNest.backend.dto.UploadProgress;
+import com.thoughtNest.backend.storage.UploadService;
+
+/**
+ * Resumable uploads of large images in numbered chunks.
+ *
+ * A client starts a session with the file's size, sends the chunks in any order and as often as
+ * needed, then completes the session. Each chunk is written at its offset in a temporary file with
+ * positional writes, so chunks can arrive concurrently and a retried chunk simply overwrites
+ * itself. On completion the temporary file is stored through the {@link UploadService} in one
+ * transfer, without being copied first.
+ *
+ * Sessions live in memory and belong to the user who started them. Sessions without activity for
+ * the configured timeout are discarded by a periodic sweep, together with their temporary files.
+ */
+@Service
+public class ChunkedUploadService {
+
+    /** Size of the buffer a chunk is copied through on its way from the request to the file. */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final UploadService uploadService;
+    private final Path directory;
+    private final int chunkSize;
+    private final long maxSize;
+    private final long timeoutMillis;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChunkedUploadService(UploadService uploadService,
+                                @Value("${thoughtnest.uploads.temp-dir:${java.io.tmpdir}/thoughtnest-uploads}") Path directory,
+                                @Value("${thoughtnest.uploads.chunk-size:1048576}") int chunkSize,
+                                @Value("${thoughtnest.uploads.max-size:52428800}") long maxSize,
+                                @Value("${thoughtnest.uploads.session-timeout-minutes:60}") long timeoutMinutes)
+            throws IOException {
+        this.uploadService = uploadService;
+        this.directory = Files.createDirectories(directory.toAbsolutePath().normalize());
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        deleteLeftovers();
+    }
+
+    /**
+     * Starts an upload of a file of exactly {@code size} bytes.
+     *
+     * @throws IllegalArgumentException if the size is not positive or exceeds the limit
+     */
+    public UploadProgress start(String owner, String filename, String contentType, long size) throws IOException {
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException("Upload size must be between 1 and " + maxSize + " bytes");
+        }
+        String id = UUID.randomUUID().toString();
+        Path file = Files.createFile(directory.resolve(id + ".part"));
+        UploadSession session = new UploadSession(id, owner, filename, contentType, size, chunkSize, file,
+                System.currentTimeMillis());
+        sessions.put(id, session);
+        System.out.println("📤 Chunked upload started: " + id + " (" + filename + ", " + size + " bytes, "
+                + session.totalChunks + " chunks)");
+        return progressOf(session);
+    }
+
+    /**
+     * Writes one chunk at its offset in the file. The request body must be exactly as long as the chunk.
+     *
+     * @return the progress after the write, or empty if the user has no such upload
+     * @throws IllegalArgumentException if the index is out of range or the body has the wrong length
+     * @throws IllegalStateException    if the upload is being completed or was discarded
+     */
+    public Optional<UploadProgress> writeChunk(String uploadId, String owner, int index, InputStream body)
+            throws IOException {
+        Optional<UploadSession> found = find(uploadId, owner);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        UploadSession session = found.get();
+        if (index < 0 || index >= session.totalChunks) {
+            throw new IllegalArgumentException("Chunk index must be between 0 and " + (session.totalChunks - 1));
+        }
+
+        long expected = session.chunkLength(index);
+        long offset = (long) index * session.chunkSize;
+        session.beginWrite(System.currentTimeMillis());
+        boolean written = false;
+        try (FileChannel out = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+            ReadableByteChannel in = Channels.newChannel(body);
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            long copied = 0;
+            while (in.read(buffer) >= 0) {
+                if (copied + buffer.position() > expected) {
+                    throw new IllegalArgumentException("Chunk " + index + " is longer than " + expected + " bytes");
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    copied += out.write(buffer, offset + copied);
+                }
+                buffer.clear();
+            }
+            if (copied != expected) {
+                throw new IllegalArgumentException("Chunk " + index + " must be " + expected + " bytes, got " + copied);
+            }
+            written = true;
+        } finally {
+            session.endWrite(index, written, System.currentTimeMillis());
+        }
+        return Optional.of(progressOf(session));
+    }
+
+    /**
+     * Returns the progress of an upload, or empty if the user has no such upload.
+     */
+    public Optional<UploadProgress> progress(String uploadId, String owner) {
+        return find(uploadId, owner).map(this::progressOf);
+    }
+
+    /**
+     * Stores the assembled file through the upload service and ends the session.
+     * If storing fails the session stays open, so completion can be retried.
+     *
+     * @return the public URL of the stored file, or empty if the user has no such upload
+     * @throws IllegalStateException if chunks are missing or still being written
+     */
+    public Optional<String> complete(String uploadId, String owner) throws IOException {
+        Optional<UploadSession> found = find(uploadId, owner);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        UploadSession session = found.get();
+        session.beginCompletion();
+
+        String url;
+        try {
+            url = uploadService.uploadFile(session.file, session.filename, session.contentType);
+        } catch (IOException | RuntimeException e) {
+            session.abortCompletion(System.currentTimeMillis());
+            throw e;
+        }
+        discard(session);
+        System.out.println("✅ Chunked upload " + uploadId + " stored: " + url);
+        return Optional.of(url);
+    }
+
+    /**
+     * Abandons an upload and deletes what was received.
+     *
+     * @return false if the user has no such upload
+     */
+    public boolean cancel(String uploadId, String owner) {
+        Optional<UploadSession> found = find(uploadId, owner);
+        found.ifPresent(this::discard);
+        return found.isPresent();
+    }
+
+    /**
+     * Discards sessions that have seen no activity for the configured timeout.
+     *
+     * @return the number of sessions discarded
+     */
+    @Scheduled(fixedDelayString = "${thoughtnest.uploads.cleanup-interval-ms:300000}")
+    public int purgeExpired() {
+        long cutoff = System.currentTimeMillis() - timeoutMillis;
+        int purged = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.claimIfIdleSince(cutoff)) {
+                discard(session);
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            System.out.println("🧹 Discarded " + purged + " abandoned chunked uploads.");
+        }
+        return purged;
+    }
+
+    /**
+     * Number of uploads in progress.
+     */
+    public int activeSessions() {
+        return sessions.size();
+    }
+
+    private Optional<UploadSession> find(String uploadId, String owner) {
+        UploadSession session = sessions.get(uploadId);
+        return session != null && session.owner.equals(owner) ? Optional.of(session) : Optional.empty();
+    }
+
+    private void discard(UploadSession session) {
+        sessions.remove(session.id, session);
+        try {
+            Files.deleteIfExists(session.file);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not delete upload file " + session.file + ": " + e.getMessage());
+        }
+    }
+
+    private UploadProgress progressOf(UploadSession session) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(session.lastActivity() + timeoutMillis), ZoneId.systemDefault());
+        return new UploadProgress(session.id, session.filename, session.size, session.chunkSize,
+                session.totalChunks, session.receivedBytes(), session.missingChunks(), expiresAt);
+    }
+
+    /**
+     * Sessions do not survive a restart, so files left in the directory belong to no one.
+     */
+    private void deleteLeftovers() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.part")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
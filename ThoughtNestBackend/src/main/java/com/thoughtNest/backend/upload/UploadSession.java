@@ -0,0 +1,128 @@
+package com.thoughtNest.backend.upload;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * One chunked upload in progress: its metadata, temporary file and received chunks.
+ * Chunk bookkeeping is guarded by the session's monitor; chunk data is written outside of it.
+ */
+final class UploadSession {
+
+    final String id;
+    final String owner;
+    final String filename;
+    final String contentType;
+    final long size;
+    final int chunkSize;
+    final int totalChunks;
+    final Path file;
+
+    private final BitSet received;
+    private int activeWrites;
+    private boolean claimed;
+    private long lastActivity;
+
+    UploadSession(String id, String owner, String filename, String contentType, long size, int chunkSize,
+                  Path file, long now) {
+        this.id = id;
+        this.owner = owner;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.totalChunks = (int) ((size + chunkSize - 1) / chunkSize);
+        this.file = file;
+        this.received = new BitSet(totalChunks);
+        this.lastActivity = now;
+    }
+
+    /**
+     * Byte length of the given chunk.
+     */
+    long chunkLength(int index) {
+        return index == totalChunks - 1 ? size - (long) index * chunkSize : chunkSize;
+    }
+
+    /**
+     * Registers a chunk write about to start.
+     *
+     * @throws IllegalStateException if the upload is being completed
+     */
+    synchronized void beginWrite(long now) {
+        if (claimed) {
+            throw new IllegalStateException("Upload is being completed or was discarded");
+        }
+        activeWrites++;
+        lastActivity = now;
+    }
+
+    /**
+     * Registers the end of a chunk write. A chunk written in full is received; one that failed
+     * part way is not, even if an earlier attempt had delivered it.
+     */
+    synchronized void endWrite(int index, boolean written, long now) {
+        activeWrites--;
+        received.set(index, written);
+        lastActivity = now;
+    }
+
+    /**
+     * Claims the session for completion if every chunk has arrived and none is being written.
+     *
+     * @throws IllegalStateException naming the missing chunks otherwise
+     */
+    synchronized void beginCompletion() {
+        if (claimed) {
+            throw new IllegalStateException("Upload is being completed or was discarded");
+        }
+        if (activeWrites > 0) {
+            throw new IllegalStateException("Chunks are still being written");
+        }
+        if (received.cardinality() < totalChunks) {
+            throw new IllegalStateException("Missing chunks: " + missingChunks());
+        }
+        claimed = true;
+    }
+
+    /**
+     * Releases the session after a failed completion, so the client can retry.
+     */
+    synchronized void abortCompletion(long now) {
+        claimed = false;
+        lastActivity = now;
+    }
+
+    /**
+     * Claims the session for removal if it has been idle since the given time or earlier.
+     */
+    synchronized boolean claimIfIdleSince(long cutoff) {
+        if (claimed || activeWrites > 0 || lastActivity > cutoff) {
+            return false;
+        }
+        claimed = true;
+        return true;
+    }
+
+    synchronized long lastActivity() {
+        return lastActivity;
+    }
+
+    synchronized long receivedBytes() {
+        long bytes = (long) received.cardinality() * chunkSize;
+        if (received.get(totalChunks - 1)) {
+            bytes -= chunkSize - chunkLength(totalChunks - 1);
+        }
+        return bytes;
+    }
+
+    synchronized List<Integer> missingChunks() {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return missing;
+    }
+}
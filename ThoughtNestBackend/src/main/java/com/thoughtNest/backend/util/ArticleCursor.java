@@ -0,0 +1,85 @@
+package com.thoughtNest.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleSummary;
+
+/**
+ * Keyset cursor over (lastModifiedDate, id) used by the paginated article listings.
+ *
+ * Listings are ordered newest-first, so a cursor points at the last article of a page
+ * and the next page continues strictly after it. The cursor is handed to clients as an
+ * opaque URL-safe Base64 token; its layout is an implementation detail.
+ */
+public final class ArticleCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime lastModifiedDate;
+    private final Long id;
+
+    public ArticleCursor(LocalDateTime lastModifiedDate, Long id) {
+        this.lastModifiedDate = lastModifiedDate;
+        this.id = id;
+    }
+
+    /**
+     * Builds the cursor that continues after the given article.
+     */
+    public static ArticleCursor after(ArticleDTO article) {
+        return new ArticleCursor(article.getLastModifiedDate(), article.getId());
+    }
+
+    /**
+     * Builds the cursor that continues after the given summary row.
+     */
+    public static ArticleCursor after(ArticleSummary summary) {
+        return new ArticleCursor(summary.getLastModifiedDate(), summary.getId());
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor sent by the client, may be null or blank
+     * @return the decoded cursor, or null when no cursor was supplied
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime lastModified = LocalDateTime.parse(raw.substring(0, split));
+            Long id = Long.valueOf(raw.substring(split + 1));
+            return new ArticleCursor(lastModified, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe token.
+     */
+    public String encode() {
+        String raw = lastModifiedDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
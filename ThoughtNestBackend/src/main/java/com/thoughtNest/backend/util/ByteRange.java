@@ -0,0 +1,95 @@
+package com.thoughtNest.backend.util;
+
+/**
+ * A single byte range of a {@code Range: bytes=...} request header (RFC 9110, section 14).
+ *
+ * Only single ranges are honoured. Headers asking for several ranges, or that cannot be parsed,
+ * are ignored and answered with the whole file, which the RFC allows; browsers and media players
+ * only ever ask for one range.
+ */
+public final class ByteRange {
+
+    private static final String PREFIX = "bytes=";
+
+    private final long start;
+    private final long end;
+    private final boolean satisfiable;
+
+    private ByteRange(long start, long end, boolean satisfiable) {
+        this.start = start;
+        this.end = end;
+        this.satisfiable = satisfiable;
+    }
+
+    /**
+     * Resolves the header against a file of the given size.
+     *
+     * @return the range to send, one that is not satisfiable (answer 416), or null to send the whole file
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            return null;
+        }
+        String spec = header.substring(PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last n bytes
+                long length = Long.parseLong(last);
+                if (length <= 0 || size == 0) {
+                    return unsatisfiable();
+                }
+                return new ByteRange(Math.max(0, size - length), size - 1, true);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return unsatisfiable();
+            }
+            return new ByteRange(start, Math.min(end, size - 1), true);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ByteRange unsatisfiable() {
+        return new ByteRange(0, -1, false);
+    }
+
+    /**
+     * First byte of the range.
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Last byte of the range, inclusive.
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    public boolean isSatisfiable() {
+        return satisfiable;
+    }
+
+    /**
+     * Value of the Content-Range header answering this range.
+     */
+    public String contentRange(long size) {
+        return satisfiable ? "bytes " + start + "-" + end + "/" + size : "bytes */" + size;
+    }
+}
@@ -0,0 +1,127 @@
+package com.thoughtNest.backend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * A base64 {@code data:} URI holding an image, as clients used to send in {@code Article.image}.
+ *
+ * The payload is decoded while it is read from {@link #openStream()}, straight from the original
+ * string, so a multi-megabyte image is never held in memory a second time as bytes.
+ */
+public final class DataUri {
+
+    private static final String PREFIX = "data:";
+    private static final String BASE64 = ";base64";
+
+    private final String value;
+    private final String mediaType;
+    private final int dataStart;
+
+    private DataUri(String value, String mediaType, int dataStart) {
+        this.value = value;
+        this.mediaType = mediaType;
+        this.dataStart = dataStart;
+    }
+
+    /**
+     * Returns whether the value is a data URI rather than a URL.
+     */
+    public static boolean isDataUri(String value) {
+        return value != null && value.regionMatches(true, 0, PREFIX, 0, PREFIX.length());
+    }
+
+    /**
+     * Parses the header of a base64 image data URI; the payload is only checked while it is read.
+     *
+     * @throws IllegalArgumentException if the value is not a base64 data URI of a supported image type
+     */
+    public static DataUri parse(String value) {
+        if (!isDataUri(value)) {
+            throw new IllegalArgumentException("Not a data URI");
+        }
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("Malformed data URI");
+        }
+        String header = value.substring(PREFIX.length(), comma).toLowerCase(Locale.ROOT);
+        if (!header.endsWith(BASE64)) {
+            throw new IllegalArgumentException("Only base64 data URIs are supported");
+        }
+        int parameters = header.indexOf(';');
+        String mediaType = header.substring(0, parameters).trim();
+        if (!ImageTypes.isSupported(mediaType)) {
+            throw new IllegalArgumentException("Unsupported image type: " + mediaType);
+        }
+        return new DataUri(value, mediaType, comma + 1);
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * File extension matching the media type, including the dot.
+     */
+    public String getExtension() {
+        return ImageTypes.extensionOf(mediaType);
+    }
+
+    /**
+     * Length of the encoded payload in characters; the decoded image is about three quarters of it.
+     */
+    public int getEncodedLength() {
+        return value.length() - dataStart;
+    }
+
+    /**
+     * Opens a stream of the decoded image bytes. As in MIME, line breaks and other ASCII characters
+     * outside the base64 alphabet are skipped; non-ASCII characters fail the read with an IOException.
+     */
+    public InputStream openStream() {
+        return Base64.getMimeDecoder().wrap(new AsciiInputStream(value, dataStart));
+    }
+
+    /**
+     * Reads the characters of a string from the given offset as ASCII bytes.
+     */
+    private static final class AsciiInputStream extends InputStream {
+
+        private final String text;
+        private int position;
+
+        AsciiInputStream(String text, int offset) {
+            this.text = text;
+            this.position = offset;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return position < text.length() ? ascii(text.charAt(position++)) : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            int count = Math.min(length, text.length() - position);
+            if (count <= 0) {
+                return -1;
+            }
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) ascii(text.charAt(position++));
+            }
+            return count;
+        }
+
+        private static int ascii(char c) throws IOException {
+            if (c > 0x7F) {
+                throw new IOException("Illegal character in data URI");
+            }
+            return c;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.thoughtNest.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+
+/**
+ * Helpers for HTTP conditional requests on article endpoints.
+ *
+ * Validators are derived from article metadata only (id, lastModifiedDate, listing size),
+ * so controllers can answer If-None-Match / If-Modified-Since with a 304 before any
+ * DTO is built or serialized.
+ */
+public final class HttpCaching {
+
+    /**
+     * Published content is identical for every caller: shared caches such as the nginx in front
+     * of the API may keep it briefly and then revalidate with us.
+     */
+    public static final CacheControl PUBLIC_CONTENT = CacheControl.maxAge(0, TimeUnit.SECONDS)
+            .sMaxAge(30, TimeUnit.SECONDS)
+            .cachePublic()
+            .mustRevalidate();
+
+    /**
+     * Drafts and per-user listings may only be kept by the browser, which revalidates on every use.
+     */
+    public static final CacheControl PRIVATE_CONTENT = CacheControl.noCache().cachePrivate();
+
+    private HttpCaching() {}
+
+    /**
+     * Strong ETag of a single article: its optimistic lock version, which changes whenever the
+     * article is saved. Clients send it back in If-Match to update the version they have.
+     */
+    public static String articleETag(ArticleVersionInfo info) {
+        return articleETag(info.getId(), info.getVersion());
+    }
+
+    public static String articleETag(Long id, long version) {
+        return "\"a" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Strong ETag of an article's rendered page. Derived from the page as sent, title and
+     * description included, since a render rebuilt once images are processed changes the page
+     * without a new article version.
+     */
+    public static String renderETag(Long id, String page) {
+        return "\"h" + id + "-" + DigestUtils.md5DigestAsHex(page.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Reads the article version from an If-Match header holding one ETag of the given article.
+     *
+     * @return the version, or null if the header holds anything else, such as a weak ETag, a
+     *         list of ETags, {@code *} or another article's ETag
+     */
+    public static Long versionFromIfMatch(Long id, String ifMatch) {
+        String prefix = "\"a" + id + "-";
+        String value = ifMatch.trim();
+        if (!value.startsWith(prefix) || !value.endsWith("\"")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value, prefix.length(), value.length() - 1, 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Strong ETag of one page of a listing. Covers the listing state and every request
+     * parameter that changes the representation.
+     *
+     * @param scope  listing name, e.g. "public", "all" or "my:{userId}"
+     * @param params the remaining representation-affecting parameters (cursor, limit, fields)
+     */
+    public static String listingETag(String scope, ListingVersionInfo info, Object... params) {
+        StringBuilder key = new StringBuilder(scope)
+                .append('|').append(info.getMaxLastModifiedDate())
+                .append('|').append(info.getCount())
+                .append('|').append(info.getVersionSum())
+                .append('|').append(info.getImageAssetIdSum());
+        for (Object param : params) {
+            key.append('|').append(param);
+        }
+        return "\"l" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Sets the Cache-Control header and evaluates the request's conditional headers.
+     * When this returns true Spring has already prepared a 304 response and the handler
+     * should return null. In either case the ETag and Last-Modified headers are set.
+     *
+     * @param lastModified last modification time, or null if unknown
+     */
+    public static boolean notModified(ServletWebRequest request, String eTag, LocalDateTime lastModified,
+                                      CacheControl cacheControl) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return request.checkNotModified(eTag, toEpochMillis(lastModified));
+    }
+
+    /**
+     * Converts a server-local timestamp to epoch milliseconds, or -1 if it is null.
+     */
+    public static long toEpochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,103 @@
+package com.thoughtNest.backend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The raster image types accepted for upload and served inline.
+ *
+ * SVG and anything else a browser might render as a document are excluded, as they can carry
+ * scripts that would run on the API origin. Uploads are identified by their leading bytes, never
+ * by the name or type the client sent.
+ */
+public final class ImageTypes {
+
+    /** Accepted media types and the file extension stored with them. */
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", ".png",
+            "image/jpeg", ".jpg",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+
+    /** Media types served inline, by the extension of the stored key. */
+    private static final Map<String, String> SERVED = Map.of(
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] GIF87A = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GIF89A = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP = "WEBP".getBytes(StandardCharsets.US_ASCII);
+
+    /** Bytes needed to tell the accepted types apart. */
+    private static final int HEADER_LENGTH = 12;
+
+    private ImageTypes() {}
+
+    /**
+     * Returns whether the media type is one of the accepted image types.
+     */
+    public static boolean isSupported(String mediaType) {
+        return EXTENSIONS.containsKey(mediaType);
+    }
+
+    /**
+     * File extension stored with an accepted media type, including the dot.
+     */
+    public static String extensionOf(String mediaType) {
+        return EXTENSIONS.get(mediaType);
+    }
+
+    /**
+     * Media type to serve a stored key with, if its extension is one of the accepted image types.
+     */
+    public static Optional<String> servedTypeOf(String key) {
+        int dot = key.lastIndexOf('.');
+        return dot < 0 ? Optional.empty()
+                : Optional.ofNullable(SERVED.get(key.substring(dot + 1).toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Identifies an accepted image type from the leading bytes of a file.
+     *
+     * @return the media type, or empty if the file is not one of the accepted image types
+     */
+    public static Optional<String> detect(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return detect(in.readNBytes(HEADER_LENGTH));
+        }
+    }
+
+    static Optional<String> detect(byte[] header) {
+        if (startsWith(header, 0, PNG)) {
+            return Optional.of("image/png");
+        }
+        if (startsWith(header, 0, JPEG)) {
+            return Optional.of("image/jpeg");
+        }
+        if (startsWith(header, 0, GIF87A) || startsWith(header, 0, GIF89A)) {
+            return Optional.of("image/gif");
+        }
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP)) {
+            return Optional.of("image/webp");
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        return data.length >= offset + prefix.length
+                && Arrays.equals(data, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+}
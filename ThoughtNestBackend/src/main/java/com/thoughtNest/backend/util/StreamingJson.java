@@ -0,0 +1,89 @@
+package com.thoughtNest.backend.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a complete listing response row by row, for listings too large to build in memory.
+ *
+ * The output is byte-for-byte what {@link ResponseHandler} produces for an
+ * {@link com.thoughtNest.backend.dto.ArticlePage} without a next cursor:
+ * {@code {"message":..,"status":200,"data":{"articles":[..],"next":null}}}.
+ * Each row is serialized and handed to the output stream as soon as it is read,
+ * so memory use does not depend on the number of rows.
+ *
+ * Exports use {@link #writeLines} instead: newline-delimited JSON, one row per line, which
+ * clients can read back one row at a time.
+ */
+public final class StreamingJson {
+
+    /** Rows written between explicit flushes, so clients see progress on slow cursors. */
+    private static final int FLUSH_EVERY = 100;
+
+    private StreamingJson() {}
+
+    /**
+     * Writes the envelope with the rows as {@code data.articles}.
+     *
+     * @param out the response stream; it is flushed but not closed
+     * @return the number of rows written
+     */
+    public static long writeListing(ObjectMapper objectMapper, OutputStream out, String message,
+                                    Stream<?> rows) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.writer().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("message", message);
+            generator.writeNumberField("status", HttpStatus.OK.value());
+            generator.writeFieldName("data");
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("articles");
+
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeNullField("next");
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        return count;
+    }
+
+    /**
+     * Writes the rows as newline-delimited JSON, one object per line and no envelope.
+     *
+     * @param out the response stream; it is flushed but not closed
+     * @return the number of rows written
+     */
+    public static long writeLines(ObjectMapper objectMapper, OutputStream out, Stream<?> rows) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.writer().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,113 @@
+package com.thoughtNest.backend.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed representation of long text that still fits a {@code TEXT} column.
+ *
+ * A compressed value is the control character U+001E followed by the Base64 encoding of a
+ * format version byte and the raw Deflate stream of the UTF-8 text. Article HTML does not
+ * normally start with that control character, so values written before compression existed are
+ * recognized as plain text and returned unchanged. Plain text that does start with it is stored
+ * with the marker doubled, which Base64 can never produce, so every value written reads back.
+ */
+public final class TextCompression {
+
+    /** First character of every compressed value (ASCII record separator). */
+    public static final char MARKER = '\u001E';
+
+    /** Current format: raw Deflate of UTF-8. Older readers reject newer versions instead of misreading them. */
+    static final byte VERSION_DEFLATE = 1;
+
+    /** Compressed values must be at most this fraction of the original to be worth decoding later. */
+    private static final double MAX_RATIO = 0.9;
+
+    private TextCompression() {}
+
+    /**
+     * Returns whether the stored value is in the compressed format.
+     */
+    public static boolean isCompressed(String stored) {
+        return stored != null && !stored.isEmpty() && stored.charAt(0) == MARKER;
+    }
+
+    /**
+     * Compresses the text if it is at least {@code minLength} characters long and compression
+     * actually makes it smaller; otherwise stores it plain (see {@link #plain}).
+     */
+    public static String compress(String text, int minLength) {
+        if (text == null || text.length() < minLength) {
+            return plain(text);
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 3 + 16);
+            out.write(VERSION_DEFLATE);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            String stored = MARKER + Base64.getEncoder().encodeToString(out.toByteArray());
+            return stored.length() <= text.length() * MAX_RATIO ? stored : plain(text);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the stored value of text kept uncompressed: the text itself, or with the marker
+     * doubled if it starts with the marker, so it is not mistaken for a compressed value.
+     */
+    public static String plain(String text) {
+        return isCompressed(text) ? MARKER + text : text;
+    }
+
+    /**
+     * Returns the original text of a stored value; plain values are returned as they are.
+     *
+     * @throws IllegalStateException if the value is marked compressed but cannot be decoded
+     */
+    public static String decompress(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+        if (stored.length() > 1 && stored.charAt(1) == MARKER) {
+            return stored.substring(1);
+        }
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(stored.substring(1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupt compressed text", e);
+        }
+        if (data.length == 0 || data[0] != VERSION_DEFLATE) {
+            throw new IllegalStateException("Unsupported compressed text format " + (data.length == 0 ? "(empty)" : data[0]));
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed text");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.thoughtNest.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * Copy/insert deltas between two versions of a text, as used for article revisions.
+ *
+ * A delta rebuilds the target from the base with two kinds of instructions: copy a range of the
+ * base, or insert literal text. Ranges are found by hashing every fixed-size window of the base
+ * and scanning the target with a rolling hash, so unchanged passages cost one short copy however
+ * long they are, even when they moved. Where a window occurs several times, the occurrence that
+ * matches longest wins, so repetitive text stays in long copies. The size of a delta follows the
+ * size of the change, not of the text.
+ *
+ * The encoding is plain text: {@code c<offset>,<length>;} copies, {@code i<length>:<text>}
+ * inserts, concatenated in target order.
+ */
+public final class TextDelta {
+
+    /** Length of the hashed windows; shorter matches are inserted literally. */
+    private static final int BLOCK = 16;
+
+    /** Occurrences of a window tried per lookup, besides the first one. */
+    private static final int MAX_PROBES = 16;
+
+    private static final int PRIME = 1_000_003;
+
+    /** PRIME to the power BLOCK - 1, for removing the character that leaves the window. */
+    private static final int LEADING_FACTOR;
+
+    static {
+        int factor = 1;
+        for (int i = 1; i < BLOCK; i++) {
+            factor *= PRIME;
+        }
+        LEADING_FACTOR = factor;
+    }
+
+    private TextDelta() {}
+
+    /**
+     * Computes the delta that turns {@code base} into {@code target}.
+     */
+    public static String encode(String base, String target) {
+        StringBuilder delta = new StringBuilder();
+        long[] index = index(base);
+        int n = target.length();
+        int literalStart = 0;
+        // Base offset minus target offset at the end of the previous copy
+        int diagonal = 0;
+        int i = 0;
+        int hash = n >= BLOCK ? hash(target, 0) : 0;
+
+        while (i + BLOCK <= n) {
+            int offset = longestMatch(index, hash, base, target, i, diagonal);
+            if (offset >= 0) {
+                int start = i;
+                int from = offset;
+                // Grow the match backwards into the pending literal, then forwards
+                while (start > literalStart && from > 0 && base.charAt(from - 1) == target.charAt(start - 1)) {
+                    start--;
+                    from--;
+                }
+                int end = i + BLOCK;
+                int to = offset + BLOCK;
+                while (end < n && to < base.length() && base.charAt(to) == target.charAt(end)) {
+                    end++;
+                    to++;
+                }
+                appendInsert(delta, target, literalStart, start);
+                delta.append('c').append(from).append(',').append(end - start).append(';');
+                diagonal = to - end;
+                literalStart = end;
+                i = end;
+                if (i + BLOCK <= n) {
+                    hash = hash(target, i);
+                }
+                continue;
+            }
+            if (i + BLOCK < n) {
+                hash = (hash - target.charAt(i) * LEADING_FACTOR) * PRIME + target.charAt(i + BLOCK);
+            }
+            i++;
+        }
+        appendInsert(delta, target, literalStart, n);
+        return delta.toString();
+    }
+
+    /**
+     * Rebuilds the target from the base and a delta produced by {@link #encode}.
+     *
+     * @throws IllegalArgumentException if the delta is malformed or does not fit the base
+     */
+    public static String apply(String base, String delta) {
+        return apply(base, delta, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Rebuilds the target from the base and a delta that may come from a client. A short delta
+     * can repeat long copies of the base, so the target is bounded before it is built.
+     *
+     * @param maxLength the longest target accepted
+     * @throws IllegalArgumentException if the delta is malformed, does not fit the base, or
+     *                                  builds a target longer than {@code maxLength}
+     */
+    public static String apply(String base, String delta, int maxLength) {
+        StringBuilder target = new StringBuilder();
+        int pos = 0;
+        try {
+            while (pos < delta.length()) {
+                char op = delta.charAt(pos++);
+                if (op == 'c') {
+                    int comma = delta.indexOf(',', pos);
+                    int semicolon = delta.indexOf(';', comma);
+                    int offset = Integer.parseInt(delta, pos, comma, 10);
+                    int length = Integer.parseInt(delta, comma + 1, semicolon, 10);
+                    checkLength(target, length, maxLength);
+                    target.append(base, offset, offset + length);
+                    pos = semicolon + 1;
+                } else if (op == 'i') {
+                    int colon = delta.indexOf(':', pos);
+                    int length = Integer.parseInt(delta, pos, colon, 10);
+                    checkLength(target, length, maxLength);
+                    target.append(delta, colon + 1, colon + 1 + length);
+                    pos = colon + 1 + length;
+                } else {
+                    throw new IllegalArgumentException("Unknown delta instruction '" + op + "' at " + (pos - 1));
+                }
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed text delta at " + pos, e);
+        }
+        return target.toString();
+    }
+
+    private static void checkLength(StringBuilder target, int length, int maxLength) {
+        if (length > maxLength - target.length()) {
+            throw new IllegalArgumentException("Text delta builds more than " + maxLength + " characters");
+        }
+    }
+
+    /**
+     * Hash and offset of every window of the base, packed as {@code hash << 32 | offset} and sorted,
+     * so the occurrences of a hash are adjacent and ordered by offset.
+     */
+    private static long[] index(String base) {
+        int count = Math.max(0, base.length() - BLOCK + 1);
+        long[] index = new long[count];
+        int hash = count > 0 ? hash(base, 0) : 0;
+        for (int offset = 0; offset < count; offset++) {
+            index[offset] = ((long) hash << 32) | offset;
+            if (offset + 1 < count) {
+                hash = (hash - base.charAt(offset) * LEADING_FACTOR) * PRIME + base.charAt(offset + BLOCK);
+            }
+        }
+        Arrays.sort(index);
+        return index;
+    }
+
+    /**
+     * Offset of the base window that matches the target at {@code i} and continues matching the
+     * longest, or -1 if none does. Tries the occurrences of the hash nearest to the given diagonal,
+     * where edited text usually resumes, and the first occurrence, which starts the longest run in
+     * repetitive text.
+     */
+    private static int longestMatch(long[] index, int hash, String base, String target, int i, int diagonal) {
+        int expected = (int) Math.max(0, Math.min(Integer.MAX_VALUE, (long) i + diagonal));
+        int pos = Arrays.binarySearch(index, ((long) hash << 32) | expected);
+        int above = pos >= 0 ? pos : -pos - 1;
+        int below = above - 1;
+        int best = -1;
+        int bestLength = 0;
+
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            boolean hasBelow = below >= 0 && (int) (index[below] >>> 32) == hash;
+            boolean hasAbove = above < index.length && (int) (index[above] >>> 32) == hash;
+            if (!hasBelow && !hasAbove) {
+                break;
+            }
+            boolean takeAbove = hasAbove
+                    && (!hasBelow || (int) index[above] - expected <= expected - (int) index[below]);
+            int offset = takeAbove ? (int) index[above++] : (int) index[below--];
+            int length = matchLength(base, offset, target, i);
+            if (length > bestLength) {
+                best = offset;
+                bestLength = length;
+            }
+        }
+
+        int found = Arrays.binarySearch(index, (long) hash << 32);
+        int first = found >= 0 ? found : -found - 1;
+        if (first < index.length && (int) (index[first] >>> 32) == hash) {
+            int offset = (int) index[first];
+            if (matchLength(base, offset, target, i) > bestLength) {
+                best = offset;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Length of the common run of base and target from the given offsets, or 0 if shorter than a window.
+     */
+    private static int matchLength(String base, int offset, String target, int i) {
+        if (!base.regionMatches(offset, target, i, BLOCK)) {
+            return 0;
+        }
+        int length = BLOCK;
+        while (i + length < target.length() && offset + length < base.length()
+                && base.charAt(offset + length) == target.charAt(i + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int hash(String text, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            hash = hash * PRIME + text.charAt(i);
+        }
+        return hash;
+    }
+
+    private static void appendInsert(StringBuilder delta, String target, int from, int to) {
+        if (to > from) {
+            delta.append('i').append(to - from).append(':').append(target, from, to);
+        }
+    }
+}
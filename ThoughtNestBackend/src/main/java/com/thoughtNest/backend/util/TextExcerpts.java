@@ -0,0 +1,56 @@
+package com.thoughtNest.backend.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Builds plain-text excerpts from article HTML.
+ * Excerpts are computed once on write and stored alongside the article,
+ * so listings can show a preview without reading the body.
+ */
+public final class TextExcerpts {
+
+    /** Maximum excerpt length in characters, including the trailing ellipsis. */
+    public static final int MAX_LENGTH = 200;
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextExcerpts() {}
+
+    /**
+     * Strips markup from the given HTML and shortens it to at most {@link #MAX_LENGTH} characters,
+     * cutting at a word boundary where possible.
+     *
+     * @param html article content, may be null
+     * @return the excerpt, empty if the content has no text; never null, as listings read the
+     *         stored excerpt alone
+     */
+    public static String of(String html) {
+        if (html == null) {
+            return "";
+        }
+        String text = toPlainText(html);
+        if (text.length() <= MAX_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', MAX_LENGTH - 1);
+        if (cut < MAX_LENGTH / 2) {
+            cut = MAX_LENGTH - 1;
+        }
+        return text.substring(0, cut).stripTrailing() + "…";
+    }
+
+    /**
+     * Removes tags, decodes the common entities and collapses whitespace.
+     */
+    public static String toPlainText(String html) {
+        String text = TAGS.matcher(html).replaceAll(" ");
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+}
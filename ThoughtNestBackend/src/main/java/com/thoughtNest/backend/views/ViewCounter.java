@@ -0,0 +1,234 @@
+package com.thoughtNest.backend.views;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thoughtNest.backend.dto.ViewCounterStats;
+import com.thoughtNest.backend.repository.ArticleRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Counts article views in memory and writes them to the database behind the requests.
+ *
+ * Recording a view only increments a {@link LongAdder} of the article, which spreads concurrent
+ * increments over several cells instead of contending on one value, so a popular article does
+ * not serialize its readers. On an interval, and once more at shutdown, the counts gathered since
+ * the last flush are added to {@code articles.views} with relative updates in JDBC batches. A
+ * failed flush keeps its counts for the next attempt.
+ *
+ * Reads merge the persisted count, loaded once per article and flush, with the views that are
+ * still pending. Articles that were not viewed for a whole interval are dropped from memory.
+ */
+@Component
+public class ViewCounter {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String FLUSH_SQL = "UPDATE articles SET views = views + ? WHERE id = ?";
+
+    /** Marks a persisted count that has not been loaded since the last flush. */
+    private static final long UNKNOWN = -1;
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Counters dropped from the map that may hold views not flushed yet: those just dropped, and
+     * those a racing {@link #record} incremented afterwards. Written by the next flush.
+     */
+    private final Queue<Map.Entry<Long, Counter>> retired = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    @Autowired
+    public ViewCounter(ArticleRepository articleRepository,
+                       JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate) {
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Counts one view of an article. Never touches the database.
+     */
+    public void record(Long articleId) {
+        Counter counter = counters.computeIfAbsent(articleId, id -> new Counter());
+        counter.total.increment();
+        if (counter.retired) {
+            // A flush dropped the counter meanwhile and may have missed this view; hand it back
+            retired.add(Map.entry(articleId, counter));
+        }
+    }
+
+    /**
+     * Current view count of an article: the persisted count plus the views not yet flushed.
+     */
+    public long views(Long articleId) {
+        Counter counter = counters.get(articleId);
+        if (counter == null) {
+            return articleRepository.findViewsById(articleId).orElse(0L);
+        }
+
+        long base;
+        int generation;
+        synchronized (counter) {
+            base = counter.base;
+            generation = counter.generation;
+        }
+        if (base == UNKNOWN) {
+            base = articleRepository.findViewsById(articleId).orElse(0L);
+            synchronized (counter) {
+                // A flush in between already made the loaded count stale
+                if (counter.generation == generation) {
+                    counter.base = base;
+                }
+            }
+        }
+        synchronized (counter) {
+            return base + counter.total.sum() - counter.flushed;
+        }
+    }
+
+    /**
+     * Writes the views counted since the last flush to the database.
+     *
+     * @return the number of views written
+     */
+    @Scheduled(fixedDelayString = "${thoughtnest.views.flush-interval-ms:5000}")
+    public synchronized long flush() {
+        List<Pending> pending = new ArrayList<>();
+        List<Map.Entry<Long, Counter>> idle = new ArrayList<>();
+        // A counter may have been handed back several times, but must be collected once
+        Map<Counter, Long> settling = new IdentityHashMap<>();
+        for (Map.Entry<Long, Counter> entry; (entry = retired.poll()) != null; ) {
+            if (settling.putIfAbsent(entry.getValue(), entry.getKey()) == null) {
+                collect(entry.getKey(), entry.getValue(), pending);
+            }
+        }
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            if (!collect(entry.getKey(), entry.getValue(), pending)) {
+                idle.add(entry);
+            }
+        }
+        // A stable row order keeps concurrent flushes of several nodes from deadlocking
+        pending.sort(Comparator.comparing(Pending::articleId));
+
+        long written = 0;
+        try {
+            for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+                List<Pending> batch = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+                List<Object[]> arguments = new ArrayList<>(batch.size());
+                for (Pending update : batch) {
+                    arguments.add(new Object[] { update.delta(), update.articleId() });
+                }
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, arguments));
+                for (Pending update : batch) {
+                    update.markFlushed();
+                    written += update.delta();
+                }
+            }
+        } catch (DataAccessException e) {
+            failedFlushes.incrementAndGet();
+            settling.forEach((counter, articleId) -> retired.add(Map.entry(articleId, counter)));
+            System.err.println("⚠️ Flushing article views failed, retrying with the next flush: " + e.getMessage());
+            return written;
+        } finally {
+            flushedViews.addAndGet(written);
+        }
+        flushes.incrementAndGet();
+
+        // Views recorded since the idle check are written by the next flush
+        for (Map.Entry<Long, Counter> entry : idle) {
+            entry.getValue().retired = true;
+            counters.remove(entry.getKey(), entry.getValue());
+            retired.add(entry);
+        }
+        return written;
+    }
+
+    /**
+     * Writes the remaining views before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        long written = flush();
+        if (written > 0) {
+            System.out.println("👁️ Flushed " + written + " pending article views on shutdown.");
+        }
+    }
+
+    /**
+     * Adds the views an article gathered since its last flush to the pending updates.
+     *
+     * @return false if the article was not viewed since then
+     */
+    private static boolean collect(Long articleId, Counter counter, List<Pending> pending) {
+        long total = counter.total.sum();
+        long delta = total - counter.flushed;
+        if (delta == 0) {
+            return false;
+        }
+        pending.add(new Pending(articleId, counter, total, delta));
+        return true;
+    }
+
+    /**
+     * Number of tracked articles, pending views and flush outcomes.
+     */
+    public ViewCounterStats stats() {
+        long pendingViews = 0;
+        for (Counter counter : counters.values()) {
+            pendingViews += counter.total.sum() - counter.flushed;
+        }
+        return new ViewCounterStats(counters.size(), pendingViews, flushedViews.get(), flushes.get(),
+                failedFlushes.get());
+    }
+
+    /**
+     * Views of one article. {@code total} only grows; the other fields change only under the
+     * counter's lock.
+     */
+    private static final class Counter {
+        final LongAdder total = new LongAdder();
+        /** Part of {@code total} already written to the database. */
+        long flushed;
+        /** Persisted count as loaded after the last flush, or {@code UNKNOWN}. */
+        long base = UNKNOWN;
+        /** Incremented by each flush, so that a count loaded across a flush is discarded. */
+        int generation;
+        volatile boolean retired;
+    }
+
+    private record Pending(Long articleId, Counter counter, long total, long delta) {
+
+        void markFlushed() {
+            synchronized (counter) {
+                counter.flushed = total;
+                counter.base = UNKNOWN;
+                counter.generation++;
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.cache.ArticleCache;
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.CacheStats;
+import com.thoughtNest.backend.event.UserChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArticleCache.
+ *
+ * Verifies read-through loading, size-bounded eviction, invalidation
+ * and that concurrent misses for the same article share a single load.
+ */
+class ArticleCacheTest {
+
+    /**
+     * Builds a DTO whose content has the given number of characters.
+     */
+    private static ArticleDTO article(long id, int contentLength) {
+        return new ArticleDTO(id, "Title " + id, "x".repeat(contentLength), null, null, "author", true, null);
+    }
+
+    /**
+     * Test that a second lookup is a hit and does not call the loader again.
+     */
+    @Test
+    void getLoadsOnceThenHits() {
+        ArticleCache cache = new ArticleCache(1 << 20, 1);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> { loads.incrementAndGet(); return Optional.of(article(id, 10)); });
+        Optional<ArticleDTO> second = cache.get(1L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertTrue(second.isPresent());
+        assertEquals(1, loads.get());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getEntries());
+    }
+
+    /**
+     * Test that the least recently used entries are evicted once the byte budget is exceeded.
+     */
+    @Test
+    void evictsLeastRecentlyUsedWhenOverBudget() {
+        // Each entry weighs roughly 2 * 4000 bytes of content, so only two fit in 20 KB
+        ArticleCache cache = new ArticleCache(20_000, 1);
+
+        cache.get(1L, id -> Optional.of(article(id, 4000)));
+        cache.get(2L, id -> Optional.of(article(id, 4000)));
+        cache.get(1L, id -> Optional.of(article(id, 4000))); // touch 1 so 2 becomes eldest
+        cache.get(3L, id -> Optional.of(article(id, 4000)));
+
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getEntries());
+        assertEquals(1, stats.getEvictions());
+        assertTrue(stats.getWeightBytes() <= 20_000);
+
+        AtomicInteger reloads = new AtomicInteger();
+        cache.get(1L, id -> { reloads.incrementAndGet(); return Optional.of(article(id, 4000)); });
+        cache.get(2L, id -> { reloads.incrementAndGet(); return Optional.of(article(id, 4000)); });
+        assertEquals(1, reloads.get()); // only the evicted entry had to be reloaded
+    }
+
+    /**
+     * Test that an invalidated entry is loaded again on the next lookup.
+     */
+    @Test
+    void invalidateForcesReload() {
+        ArticleCache cache = new ArticleCache(1 << 20, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(5L, id -> { loads.incrementAndGet(); return Optional.of(article(id, 10)); });
+        cache.invalidate(5L);
+        cache.get(5L, id -> { loads.incrementAndGet(); return Optional.of(article(id, 10)); });
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().getInvalidations());
+    }
+
+    /**
+     * Test that a user change drops cached articles, which carry their author's username.
+     */
+    @Test
+    void userChangeDropsEntries() {
+        ArticleCache cache = new ArticleCache(1 << 20, 2);
+        cache.get(1L, id -> Optional.of(article(id, 10)));
+        cache.get(2L, id -> Optional.of(article(id, 10)));
+
+        cache.onUserChanged(new UserChangedEvent(7L, "renamed"));
+
+        assertEquals(0, cache.stats().getEntries());
+        assertTrue(cache.peek(1L).isEmpty());
+    }
+
+    /**
+     * Test that many concurrent misses for the same id trigger exactly one load.
+     */
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        ArticleCache cache = new ArticleCache(1 << 20, 4);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<Optional<ArticleDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get(9L, id -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS); // hold the load open while others pile up
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Optional.of(article(id, 10));
+                })));
+            }
+
+            // Give every caller time to reach the cache before the load completes
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Optional<ArticleDTO>> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isPresent());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -1,22 +1,56 @@
 package com.thoughtNest.backend;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtNest.backend.autosave.AutosaveService;
 import com.thoughtNest.backend.controller.ArticleController;
 import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleImportResult;
+import com.thoughtNest.backend.dto.ArticlePage;
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.dto.ArticleRevisionDTO;
+import com.thoughtNest.backend.dto.ArticleRevisionInfo;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.BulkArticleResult;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+import com.thoughtNest.backend.dto.SearchHit;
+import com.thoughtNest.backend.dto.SearchResults;
+import com.thoughtNest.backend.dto.Suggestion;
+import com.thoughtNest.backend.dto.Suggestions;
+import com.thoughtNest.backend.feed.PublishedFeed;
+import com.thoughtNest.backend.repository.ArticleRepository;
 import com.thoughtNest.backend.model.Article;
 import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.render.ArticleRenderer;
+import com.thoughtNest.backend.revision.RevisionService;
+import com.thoughtNest.backend.search.SearchService;
 import com.thoughtNest.backend.service.ArticleService;
 import com.thoughtNest.backend.service.UserService;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.suggest.AutocompleteService;
+import com.thoughtNest.backend.transfer.ArticleTransferService;
+import com.thoughtNest.backend.trending.TrendingService;
+import com.thoughtNest.backend.util.HttpCaching;
+import com.thoughtNest.backend.views.ViewCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.*;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +79,42 @@ class ArticleControllerTest {
     @Mock
     private UserService userService;
 
+    // Mocks the materialized feed; returns no page so listings use the service unless stubbed
+    @Mock
+    private PublishedFeed publishedFeed;
+
+    // Mocks full-text search
+    @Mock
+    private SearchService searchService;
+
+    // Mocks type-ahead suggestions
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    // Mocks the image upload used for inline data-URI images
+    @Mock
+    private UploadService uploadService;
+
+    // Mocks the in-memory view counter
+    @Mock
+    private ViewCounter viewCounter;
+
+    // Mocks the trending ranking
+    @Mock
+    private TrendingService trendingService;
+
+    // Mocks the NDJSON import and export
+    @Mock
+    private ArticleTransferService articleTransferService;
+
+    // Mocks the revision history
+    @Mock
+    private RevisionService revisionService;
+
+    // Mocks the autosave buffer
+    @Mock
+    private AutosaveService autosaveService;
+
     // Mocks the Spring Security principal object (used for authentication)
     @Mock
     private Authentication authentication;
@@ -59,6 +129,12 @@ class ArticleControllerTest {
     void setup() {
         MockitoAnnotations.openMocks(this); // Initialize all @Mock and @InjectMocks
         mockMvc = MockMvcBuilders.standaloneSetup(articleController).build(); // Use standalone setup to test controller in isolation
+
+        // Listing validators are computed on every listing request
+        ListingVersionInfo emptyListing = new ListingVersionInfo(null, 0L);
+        when(articleService.getPublishedListingVersion()).thenReturn(emptyListing);
+        when(articleService.getAllListingVersion()).thenReturn(emptyListing);
+        when(articleService.getListingVersionByUser(any())).thenReturn(emptyListing);
     }
 
     /**
@@ -97,6 +173,35 @@ class ArticleControllerTest {
                 .andExpect(jsonPath("$.data.title").value("Test Title"));
     }
 
+    /**
+     * Test that an image sent inline as a data URI is uploaded and only its URL is saved.
+     */
+    @Test
+    void createArticle_InlineImageIsUploaded() throws Exception {
+        String dataUri = "data:image/png;base64,iVBORw0KGgo=";
+        Article article = new Article();
+        article.setTitle("Test Title");
+        article.setContent("Test Content");
+        article.setImage(dataUri);
+
+        User user = new User();
+        user.setEmail("testuser");
+        when(authentication.getName()).thenReturn("testuser");
+        when(userService.findByEmail("testuser")).thenReturn(Optional.of(user));
+        when(uploadService.uploadDataUri(dataUri)).thenReturn("https://storage.googleapis.com/bucket/cover.png");
+        when(articleService.saveArticle(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(article))
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.image").value("https://storage.googleapis.com/bucket/cover.png"));
+
+        verify(articleService).saveArticle(argThat(saved ->
+                "https://storage.googleapis.com/bucket/cover.png".equals(saved.getImage())));
+    }
+
     /**
      * Test for article creation when the user is not found in the system.
      */
@@ -134,17 +239,20 @@ class ArticleControllerTest {
         article2.setTitle("A2");
         article2.setAuthor(user);
 
-        // Simulate valid user and articles returned from service
+        // Simulate valid user and a single page of summaries returned from service
+        ArticlePage<ArticleSummary> page = new ArticlePage<>(
+                List.of(summaryOf(article1), summaryOf(article2)), null);
         when(authentication.getName()).thenReturn("testuser");
         when(userService.findByEmail("testuser")).thenReturn(Optional.of(user));
-        when(articleService.getArticlesByUser(user)).thenReturn(List.of(article1, article2));
+        when(articleService.getSummariesByUserPage(user, null, 20)).thenReturn(page);
 
-        // Expect 200 OK and a JSON array of size 2
+        // Expect 200 OK, a page of size 2 and no cursor for a following page
         mockMvc.perform(get("/api/articles/my")
                         .principal(authentication))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("User articles retrieved"))
-                .andExpect(jsonPath("$.data.length()").value(2));
+                .andExpect(jsonPath("$.data.articles.length()").value(2))
+                .andExpect(jsonPath("$.data.next").doesNotExist());
     }
 
     /**
@@ -161,6 +269,163 @@ class ArticleControllerTest {
                 .andExpect(jsonPath("$.message").value("User not found"));
     }
 
+    /**
+     * Test that the public feed forwards the cursor and limit and returns the next cursor.
+     */
+    @Test
+    void getPublishedArticles_ForwardsCursor() throws Exception {
+        Article article = new Article();
+        article.setId(7L);
+        article.setTitle("Published");
+
+        ArticlePage<ArticleSummary> page = new ArticlePage<>(List.of(summaryOf(article)), "next-token");
+        when(articleService.getPublishedSummariesPage("abc", 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/articles/public")
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.articles[0].title").value("Published"))
+                .andExpect(jsonPath("$.data.articles[0].content").doesNotExist())
+                .andExpect(jsonPath("$.data.next").value("next-token"));
+    }
+
+    /**
+     * Test that the first page of the public feed is written straight from the materialized feed.
+     */
+    @Test
+    void getPublishedArticles_ServedFromFeed() throws Exception {
+        ArticleSummary summary = new ArticleSummary(3L, "Cached", "Excerpt", null, null, "testuser", true,
+                LocalDateTime.of(2025, 6, 1, 12, 0));
+        ArticleRepository repository = mock(ArticleRepository.class);
+        when(repository.findPublishedSummariesFirstPage(any())).thenReturn(List.of(summary));
+        when(repository.findPublishedListingVersion())
+                .thenReturn(new ListingVersionInfo(summary.getLastModifiedDate(), 1L));
+        PublishedFeed feed = new PublishedFeed(repository, new ObjectMapper().findAndRegisterModules(), 1, false);
+        feed.rebuild();
+        when(publishedFeed.page(null, 20)).thenReturn(feed.page(null, 20));
+
+        mockMvc.perform(get("/api/articles/public"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.message").value("Published articles retrieved"))
+                .andExpect(jsonPath("$.data.articles[0].title").value("Cached"));
+
+        verify(articleService, never()).getPublishedSummariesPage(any(), anyInt());
+        verify(articleService, never()).getPublishedListingVersion();
+    }
+
+    /**
+     * Test that fields=full switches the public feed to complete articles including the body.
+     */
+    @Test
+    void getPublishedArticles_FullFields() throws Exception {
+        Article article = new Article();
+        article.setId(7L);
+        article.setTitle("Published");
+        article.setContent("Body");
+
+        ArticlePage<ArticleDTO> page = new ArticlePage<>(List.of(new ArticleDTO(article)), null);
+        when(articleService.getPublishedArticlesPage(null, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/articles/public")
+                        .param("fields", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.articles[0].content").value("Body"));
+
+        verify(articleService, never()).getPublishedSummariesPage(any(), anyInt());
+    }
+
+    /**
+     * Test that stream=true hands the response stream to the service instead of building a page.
+     */
+    @Test
+    void getAllArticles_Streamed() throws Exception {
+        when(articleService.writeAllArticles(any(OutputStream.class), eq(false))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"message\":\"All articles retrieved\"}".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/articles/all")
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("All articles retrieved"));
+
+        verify(articleService, never()).getAllSummariesPage(any(), anyInt());
+    }
+
+    /**
+     * Test that search returns the ranked hits with their highlighted snippets.
+     */
+    @Test
+    void searchArticles_Success() throws Exception {
+        SearchHit hit = new SearchHit(3L, "Java streams", "<mark>Java</mark> streams",
+                "Learn <mark>Java</mark> …", null, null, "writer", 2.5f);
+        when(searchService.isReady()).thenReturn(true);
+        when(searchService.search("java", 0, 20)).thenReturn(new SearchResults(List.of(hit), 1, 0, 20));
+
+        mockMvc.perform(get("/api/articles/search")
+                        .param("q", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Search results"))
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.hits[0].id").value(3))
+                .andExpect(jsonPath("$.data.hits[0].snippet").value("Learn <mark>Java</mark> …"));
+    }
+
+    /**
+     * Test that search answers 503 while the index is still being built.
+     */
+    @Test
+    void searchArticles_IndexNotReady() throws Exception {
+        when(searchService.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/api/articles/search")
+                        .param("q", "java"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(searchService, never()).search(any(), anyInt(), anyInt());
+    }
+
+    /**
+     * Test that suggestions are returned for the typed prefix.
+     */
+    @Test
+    void suggest_Success() throws Exception {
+        Suggestions suggestions = new Suggestions(List.of(new Suggestion(4L, "Java streams")),
+                List.of(new Suggestion(2L, "javafan")));
+        when(autocompleteService.suggest("jav", 5)).thenReturn(suggestions);
+
+        mockMvc.perform(get("/api/articles/suggest")
+                        .param("q", "jav"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Suggestions"))
+                .andExpect(jsonPath("$.data.articles[0].text").value("Java streams"))
+                .andExpect(jsonPath("$.data.authors[0].text").value("javafan"));
+    }
+
+    /**
+     * Test that the trending endpoint returns the ranked feed cards.
+     */
+    @Test
+    void getTrendingArticles_Success() throws Exception {
+        ArticleSummary summary = new ArticleSummary(7L, "Popular", "Everyone reads this", null, null,
+                "writer", true, LocalDateTime.of(2025, 6, 1, 12, 0));
+        when(trendingService.trending(3)).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/api/articles/trending")
+                        .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Trending articles"))
+                .andExpect(jsonPath("$.data[0].id").value(7))
+                .andExpect(jsonPath("$.data[0].title").value("Popular"));
+    }
+
     /**
      * Test for retrieving a single article by ID successfully.
      */
@@ -173,11 +438,100 @@ class ArticleControllerTest {
         ArticleDTO articleDTO = new ArticleDTO(article);
 
         when(articleService.getArticleDTOById(1L)).thenReturn(Optional.of(articleDTO));
+        when(viewCounter.views(1L)).thenReturn(42L);
 
         mockMvc.perform(get("/api/articles/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Article retrieved"))
-                .andExpect(jsonPath("$.data.title").value("Title1"));
+                .andExpect(jsonPath("$.data.title").value("Title1"))
+                .andExpect(jsonPath("$.data.views").value(42));
+
+        // The cached DTO itself keeps its count
+        assertEquals(0, articleDTO.getViews());
+    }
+
+    /**
+     * Test that a matching If-None-Match is answered with 304 without building the article DTO.
+     */
+    @Test
+    void getArticle_NotModified() throws Exception {
+        ArticleVersionInfo version = new ArticleVersionInfo(1L, LocalDateTime.of(2025, 6, 1, 12, 0), true, 3L);
+        when(articleService.getArticleVersionInfo(1L)).thenReturn(Optional.of(version));
+
+        String eTag = HttpCaching.articleETag(version);
+
+        mockMvc.perform(get("/api/articles/1")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control", containsString("public")));
+
+        verify(articleService, never()).getArticleDTOById(1L);
+        verify(viewCounter).record(1L);
+        verify(trendingService).recordView(1L);
+    }
+
+    /**
+     * Test that a published article is served as an escaped HTML page and revalidated by ETag,
+     * that a title change changes the ETag, and that a draft is reported missing to anyone but
+     * its author.
+     */
+    @Test
+    void getArticleHtml() throws Exception {
+        LocalDateTime modified = LocalDateTime.of(2025, 6, 1, 12, 0);
+        ArticleRender render = new ArticleRender(1L, "Tom & Jerry", "A chase", "<p>Run</p>", 1, true, modified, 3L);
+        when(articleService.getArticleRender(1L)).thenReturn(Optional.of(render));
+
+        mockMvc.perform(get("/api/articles/1/html"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(content().string(containsString("<title>Tom &amp; Jerry</title>")))
+                .andExpect(content().string(containsString("<p>Run</p>")))
+                .andExpect(header().string("Cache-Control", containsString("public")));
+
+        String eTag = HttpCaching.renderETag(1L, ArticleRenderer.page(render));
+        mockMvc.perform(get("/api/articles/1/html")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        // Same body, new title: the page differs, so the cached copy must not be confirmed
+        when(articleService.getArticleRender(1L)).thenReturn(Optional.of(
+                new ArticleRender(1L, "Tom & Spike", "A chase", "<p>Run</p>", 1, true, modified, 4L)));
+        mockMvc.perform(get("/api/articles/1/html")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<h1>Tom &amp; Spike</h1>")))
+                .andExpect(header().string("ETag", not(eTag)));
+
+        when(articleService.getArticleRender(2L)).thenReturn(Optional.of(
+                new ArticleRender(2L, "Draft", "Soon", "<p>Soon</p>", 1, false, modified, 0L)));
+        when(articleService.getAuthorEmail(2L)).thenReturn(Optional.of("author@example.com"));
+        when(authentication.getName()).thenReturn("testuser");
+
+        mockMvc.perform(get("/api/articles/2/html"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/articles/2/html")
+                        .principal(authentication))
+                .andExpect(status().isNotFound());
+
+        when(authentication.getName()).thenReturn("author@example.com");
+        mockMvc.perform(get("/api/articles/2/html")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("private")));
+    }
+
+    /**
+     * Test that a stale If-None-Match on the public feed is answered with the full page.
+     */
+    @Test
+    void getPublishedArticles_StaleETag() throws Exception {
+        when(articleService.getPublishedSummariesPage(null, 20)).thenReturn(new ArticlePage<>(List.of(), null));
+
+        mockMvc.perform(get("/api/articles/public")
+                        .header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
     }
 
     /**
@@ -200,12 +554,9 @@ class ArticleControllerTest {
         User user = new User();
         user.setEmail("testuser");
 
-        Article article = new Article();
-        article.setAuthor(user);
-
         when(authentication.getName()).thenReturn("testuser");
         when(userService.findByEmail("testuser")).thenReturn(Optional.of(user));
-        when(articleService.getArticleById(1L)).thenReturn(Optional.of(article));
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of("testuser"));
         doNothing().when(articleService).deleteArticle(1L);
 
         mockMvc.perform(delete("/api/articles/1")
@@ -225,12 +576,10 @@ class ArticleControllerTest {
         User user2 = new User();
         user2.setEmail("user2");
 
-        Article article = new Article();
-        article.setAuthor(user2); // Article is owned by another user
-
         when(authentication.getName()).thenReturn("user1");
         when(userService.findByEmail("user1")).thenReturn(Optional.of(user1));
-        when(articleService.getArticleById(1L)).thenReturn(Optional.of(article));
+        // Article is owned by another user
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of(user2.getEmail()));
 
         mockMvc.perform(delete("/api/articles/1")
                         .principal(authentication))
@@ -245,11 +594,244 @@ class ArticleControllerTest {
     void deleteArticle_NotFound() throws Exception {
         when(authentication.getName()).thenReturn("user1");
         when(userService.findByEmail("user1")).thenReturn(Optional.of(new User()));
-        when(articleService.getArticleById(1L)).thenReturn(Optional.empty());
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.empty());
 
         mockMvc.perform(delete("/api/articles/1")
                         .principal(authentication))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Article not found"));
     }
+
+    /**
+     * Test that publishing checks ownership and updates the article without loading it.
+     */
+    @Test
+    void togglePublishStatus_Success() throws Exception {
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of("testuser"));
+        when(articleService.setPublished(1L, true)).thenReturn(true);
+
+        mockMvc.perform(patch("/api/articles/1/publish")
+                        .param("published", "true")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Article published"));
+
+        verify(articleService, never()).getArticleById(any());
+        verify(articleService, never()).saveArticle(any());
+    }
+
+    private static ArticleSummary summaryOf(Article article) {
+        return new ArticleSummary(article.getId(), article.getTitle(), null, article.getDate(),
+                article.getImage(), "testuser", article.getPublished(), article.getLastModifiedDate());
+    }
+
+    /**
+     * Test that a bulk request is applied for the authenticated user and reports each id.
+     */
+    @Test
+    void bulkUpdate_Success() throws Exception {
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleService.applyBulk("unpublish", List.of(1L, 2L), "testuser")).thenReturn(new BulkArticleResult(
+                "unpublish", 1, List.of(
+                        new BulkArticleResult.Item(1L, BulkArticleResult.Status.OK),
+                        new BulkArticleResult.Item(2L, BulkArticleResult.Status.FORBIDDEN))));
+
+        mockMvc.perform(post("/api/articles/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"unpublish\",\"ids\":[1,2]}")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.applied").value(1))
+                .andExpect(jsonPath("$.data.results[1].status").value("FORBIDDEN"));
+
+        mockMvc.perform(post("/api/articles/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"delete\",\"ids\":[]}")
+                        .principal(authentication))
+                .andExpect(status().isBadRequest());
+        verify(articleService, times(1)).applyBulk(any(), any(), any());
+    }
+
+    /**
+     * Test that an import hands the request body to the service as a stream and reports the result.
+     */
+    @Test
+    void importArticles_Success() throws Exception {
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleTransferService.importArticles(eq("testuser"), any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream in = invocation.getArgument(1);
+            long lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().count();
+            return new ArticleImportResult(lines, 5, lines * 200);
+        });
+
+        mockMvc.perform(post("/api/articles/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"One\",\"content\":\"First\"}\n{\"title\":\"Two\",\"content\":\"Second\"}\n")
+                        .principal(authentication))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.rowsPerSecond").value(400));
+    }
+
+    /**
+     * Test that an export streams the caller's articles as newline-delimited JSON.
+     */
+    @Test
+    void exportArticles_Streamed() throws Exception {
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleTransferService.exportArticles(eq("testuser"), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"title\":\"One\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/articles/export").principal(authentication))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"title\":\"One\"}\n"));
+    }
+
+    /**
+     * Test that the author can list and fetch revisions, and that others cannot.
+     */
+    @Test
+    void getRevisions_OwnerOnly() throws Exception {
+        LocalDateTime saved = LocalDateTime.of(2025, 6, 1, 12, 0);
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of("testuser"));
+        when(revisionService.listRevisions(1L)).thenReturn(List.of(
+                new ArticleRevisionInfo(2, "Edited", saved, 1),
+                new ArticleRevisionInfo(1, "Draft", saved.minusHours(1), 0)));
+        when(revisionService.getRevision(1L, 1)).thenReturn(Optional.of(
+                new ArticleRevisionDTO(1L, 1, "Draft", "First words", saved.minusHours(1))));
+
+        mockMvc.perform(get("/api/articles/1/revisions").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].revision").value(2))
+                .andExpect(jsonPath("$.data[1].snapshot").value(true));
+
+        mockMvc.perform(get("/api/articles/1/revisions/1").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").value("First words"));
+
+        mockMvc.perform(get("/api/articles/1/revisions/9").principal(authentication))
+                .andExpect(status().isNotFound());
+
+        when(authentication.getName()).thenReturn("someoneelse");
+        mockMvc.perform(get("/api/articles/1/revisions").principal(authentication))
+                .andExpect(status().isForbidden());
+    }
+
+    /**
+     * Test that an autosave is buffered for the author, answering with the version it will
+     * create, and refused to others.
+     */
+    @Test
+    void autosaveArticle_Buffered() throws Exception {
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of("testuser"));
+        when(autosaveService.saveDraft(1L, "Draft", "Half a sentence", null)).thenReturn(6L);
+        when(autosaveService.saveDraft(1L, "Draft", "Whole sentence.", 6L)).thenReturn(6L);
+
+        mockMvc.perform(put("/api/articles/1/autosave").principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Draft\",\"content\":\"Half a sentence\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("ETag", "\"a1-6\""));
+        verify(autosaveService).saveDraft(1L, "Draft", "Half a sentence", null);
+
+        mockMvc.perform(put("/api/articles/1/autosave").principal(authentication)
+                        .header("If-Match", "\"a1-6\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Draft\",\"content\":\"Whole sentence.\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("ETag", "\"a1-6\""));
+        verify(autosaveService).saveDraft(1L, "Draft", "Whole sentence.", 6L);
+
+        mockMvc.perform(put("/api/articles/1/autosave").principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Draft\"}"))
+                .andExpect(status().isBadRequest());
+
+        when(authentication.getName()).thenReturn("someoneelse");
+        mockMvc.perform(put("/api/articles/1/autosave").principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Draft\",\"content\":\"Not mine\"}"))
+                .andExpect(status().isForbidden());
+        verifyNoMoreInteractions(autosaveService);
+    }
+
+    /**
+     * Test that a patch needs the article version in If-Match, answers with the new version, and
+     * is refused with 412 and the current version once the article has changed.
+     */
+    @Test
+    void patchArticle_ChecksVersion() throws Exception {
+        LocalDateTime modified = LocalDateTime.of(2025, 6, 1, 12, 0);
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of("testuser"));
+        when(articleService.patchArticle(1L, 3L, null, "c0,120;i4:word"))
+                .thenReturn(Optional.of(new ArticleVersionInfo(1L, modified, true, 4L)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Article.class, 1L));
+        when(articleService.getArticleVersionInfo(1L)).thenReturn(Optional.of(new ArticleVersionInfo(1L, modified, true, 4L)));
+        String body = "{\"delta\":\"c0,120;i4:word\"}";
+
+        mockMvc.perform(patch("/api/articles/1").principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPreconditionRequired());
+
+        mockMvc.perform(patch("/api/articles/1").principal(authentication)
+                        .header("If-Match", "\"a1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"a1-4\""))
+                .andExpect(jsonPath("$.data.version").value(4));
+        verify(autosaveService).discard(1L);
+
+        // A concurrent save got in first
+        mockMvc.perform(patch("/api/articles/1").principal(authentication)
+                        .header("If-Match", "\"a1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"a1-4\""))
+                .andExpect(jsonPath("$.data.version").value(4));
+
+        // Weak or foreign ETags never match
+        mockMvc.perform(patch("/api/articles/1").principal(authentication)
+                        .header("If-Match", "W/\"a1-4\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPreconditionFailed());
+        verify(articleService, times(2)).patchArticle(anyLong(), anyLong(), any(), any());
+    }
+
+    /**
+     * Test that a full update with an outdated If-Match is refused without saving.
+     */
+    @Test
+    void updateArticle_StaleIfMatch() throws Exception {
+        Article stored = new Article();
+        stored.setId(1L);
+        stored.setVersion(5);
+        when(authentication.getName()).thenReturn("testuser");
+        when(articleService.getAuthorEmail(1L)).thenReturn(Optional.of("testuser"));
+        when(articleService.getArticleById(1L)).thenReturn(Optional.of(stored));
+        when(articleService.getArticleVersionInfo(1L)).thenReturn(Optional.of(
+                new ArticleVersionInfo(1L, LocalDateTime.of(2025, 6, 1, 12, 0), false, 5L)));
+
+        mockMvc.perform(put("/api/articles/1").principal(authentication)
+                        .header("If-Match", "\"a1-4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Mine\",\"content\":\"Overwrite\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"a1-5\""));
+        verify(articleService, never()).saveArticle(any());
+        // The pending draft is written before the check and kept, as the save did not happen
+        verify(autosaveService).flush(1L);
+        verify(autosaveService, never()).discard(anyLong());
+    }
 }
@@ -0,0 +1,297 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+import com.thoughtNest.backend.dto.UserAccountInfoDto;
+import com.thoughtNest.backend.model.Article;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.UserRepository;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository tests for the lazily loaded article body.
+ *
+ * Runs against H2 with the JDBC connection wrapped so that every query and every character read
+ * from a result set is counted. Proves that metadata-only operations never read the content or
+ * image columns, and that reads which need the body get it in the same query. Requires the
+ * Hibernate bytecode enhancement that the build applies to the entity classes.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ArticleLazyBodyTest {
+
+    private static final String BODY = "<p>" + "A long paragraph of article text. ".repeat(2_000) + "</p>";
+    private static final Pattern BODY_COLUMNS = Pattern.compile("\\b(content|image)\\b");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long articleId;
+
+    /**
+     * Stores one user with one long article, then starts counting with an empty persistence context.
+     */
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("writer");
+        user.setEmail("writer@example.com");
+        user.setPassword("secret");
+        entityManager.persist(user);
+
+        Article article = new Article();
+        article.setTitle("Lazy bodies");
+        article.setContent(BODY);
+        article.setImage("https://example.com/cover.png");
+        article.setExcerpt("A long paragraph of article text.");
+        article.setDate(LocalDate.of(2025, 6, 1));
+        article.setPublished(false);
+        article.setLastModifiedDate(LocalDateTime.of(2025, 6, 1, 12, 0));
+        article.setAuthor(user);
+        articleId = entityManager.persistAndGetId(article, Long.class);
+
+        entityManager.flush();
+        entityManager.clear();
+        JdbcCounter.reset();
+    }
+
+    /**
+     * Test that the ownership check is a single query that reads neither the body nor the article.
+     */
+    @Test
+    void ownershipCheck_ReadsNoBody() {
+        assertEquals("writer@example.com", articleRepository.findAuthorEmailById(articleId).orElseThrow());
+
+        assertEquals(1, JdbcCounter.queries.get());
+        assertTrue(JdbcCounter.charsRead.get() < 100, "read " + JdbcCounter.charsRead.get() + " chars");
+        assertNoBodyColumnsIn(JdbcCounter.statements);
+    }
+
+    /**
+     * Test that loading the entity reads only metadata, and the body is read on first access.
+     */
+    @Test
+    void loadingArticle_DefersBodyUntilAccessed() {
+        Article article = articleRepository.findByIdWithAuthor(articleId).orElseThrow();
+
+        assertEquals(1, JdbcCounter.queries.get());
+        assertTrue(JdbcCounter.charsRead.get() < 1_000, "read " + JdbcCounter.charsRead.get() + " chars");
+        assertNoBodyColumnsIn(JdbcCounter.statements);
+        assertFalse(Persistence.getPersistenceUtil().isLoaded(article, "content"));
+
+        assertEquals(BODY, article.getContent());
+        assertEquals("https://example.com/cover.png", article.getImage());
+
+        // Content and image share a lazy group, so both arrive with one query
+        assertEquals(2, JdbcCounter.queries.get());
+        assertTrue(JdbcCounter.charsRead.get() >= BODY.length());
+    }
+
+    /**
+     * Test that toggling publication neither reads nor rewrites the body.
+     */
+    @Test
+    void togglingPublication_WritesOnlyMetadata() {
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        article.setPublished(true);
+        article.setLastModifiedDate(LocalDateTime.of(2025, 6, 2, 12, 0));
+        entityManager.flush();
+
+        assertTrue(JdbcCounter.charsRead.get() < 1_000, "read " + JdbcCounter.charsRead.get() + " chars");
+        assertTrue(JdbcCounter.statements.stream().anyMatch(sql -> sql.toLowerCase().startsWith("update")));
+        assertNoBodyColumnsIn(JdbcCounter.statements);
+
+        entityManager.clear();
+        assertEquals(BODY, articleRepository.findById(articleId).orElseThrow().getContent());
+    }
+
+    /**
+     * Test that the account info counts articles in one aggregate query without reading any of them.
+     */
+    @Test
+    void accountInfo_CountsWithoutLoadingArticles() {
+        UserAccountInfoDto info = userRepository.findAccountInfoByEmail("writer@example.com").orElseThrow();
+
+        assertEquals("writer", info.getUsername());
+        assertEquals(1, info.getArticleCount());
+        assertEquals(0, info.getPublishedCount());
+        assertEquals(1, JdbcCounter.queries.get());
+        assertTrue(JdbcCounter.charsRead.get() < 100, "read " + JdbcCounter.charsRead.get() + " chars");
+        assertNoBodyColumnsIn(JdbcCounter.statements);
+    }
+
+    /**
+     * Test that linking image derivatives changes the listing version, which the thumbnails
+     * depend on, without touching the article or reading its body.
+     */
+    @Test
+    void linkingImageAsset_ChangesListingVersion() {
+        ListingVersionInfo before = articleRepository.findAllListingVersion();
+        ImageAsset asset = new ImageAsset();
+        asset.setOriginalUrl("https://example.com/cover.png");
+        asset.setThumbnailUrl("https://example.com/cover.thumb.jpg");
+        Long assetId = entityManager.persistAndGetId(asset, Long.class);
+
+        articleRepository.attachImageAsset(List.of(articleId), asset);
+        ListingVersionInfo after = articleRepository.findAllListingVersion();
+
+        assertEquals(before.getMaxLastModifiedDate(), after.getMaxLastModifiedDate());
+        assertEquals(before.getCount(), after.getCount());
+        assertEquals(before.getImageAssetIdSum() + assetId, after.getImageAssetIdSum());
+        assertNoBodyColumnsIn(JdbcCounter.statements);
+    }
+
+    /**
+     * Test that moving an inline image out of the row bumps the article and listing versions but
+     * keeps the modification date, so the article keeps its place in the feeds.
+     */
+    @Test
+    void replacingInlineImage_ChangesVersions() {
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Article a SET a.image = 'data:image/png;base64,iVBORw0KGgo=' WHERE a.id = :id")
+                .setParameter("id", articleId)
+                .executeUpdate();
+        ListingVersionInfo before = articleRepository.findAllListingVersion();
+        long version = articleRepository.findVersionInfoById(articleId).orElseThrow().getVersion();
+
+        assertEquals(1, articleRepository.replaceInlineImage(articleId, "https://example.com/cover.png"));
+        assertEquals(0, articleRepository.replaceInlineImage(articleId, "https://example.com/other.png"));
+        ListingVersionInfo after = articleRepository.findAllListingVersion();
+
+        assertEquals(version + 1, articleRepository.findVersionInfoById(articleId).orElseThrow().getVersion());
+        assertEquals(before.getMaxLastModifiedDate(), after.getMaxLastModifiedDate());
+        assertEquals(before.getVersionSum() + 1, after.getVersionSum());
+    }
+
+    /**
+     * Test that full listings read the body in the listing query itself rather than once per row.
+     */
+    @Test
+    void fullListing_ReadsBodiesInOneQuery() {
+        Article second = new Article();
+        second.setTitle("Second");
+        second.setContent(BODY);
+        second.setLastModifiedDate(LocalDateTime.of(2025, 6, 3, 12, 0));
+        second.setAuthor(entityManager.find(Article.class, articleId).getAuthor());
+        entityManager.persist(second);
+        entityManager.flush();
+        entityManager.clear();
+        JdbcCounter.reset();
+
+        List<ArticleDTO> page = articleRepository.findAllFirstPage(PageRequest.of(0, 10));
+
+        assertEquals(2, page.size());
+        assertEquals(BODY, page.get(1).getContent());
+        assertEquals(1, JdbcCounter.queries.get());
+    }
+
+    private static void assertNoBodyColumnsIn(List<String> statements) {
+        for (String sql : statements) {
+            assertFalse(BODY_COLUMNS.matcher(sql.toLowerCase()).find(), "Body column in: " + sql);
+        }
+    }
+
+    /**
+     * Wraps the test DataSource so that all JDBC traffic goes through {@link JdbcCounter}.
+     */
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? JdbcCounter.wrap(bean) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Counts executed queries, prepared SQL and characters read from result sets.
+     */
+    static final class JdbcCounter {
+
+        static final AtomicInteger queries = new AtomicInteger();
+        static final AtomicLong charsRead = new AtomicLong();
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        static void reset() {
+            queries.set(0);
+            charsRead.set(0);
+            statements.clear();
+        }
+
+        static Object wrap(Object target) {
+            return Proxy.newProxyInstance(JdbcCounter.class.getClassLoader(),
+                    ClassUtils.getAllInterfaces(target), (proxy, method, args) -> {
+                        if (target instanceof Connection && method.getName().startsWith("prepare")
+                                && args != null && args[0] instanceof String sql) {
+                            statements.add(sql);
+                        }
+                        if (target instanceof Statement && method.getName().startsWith("execute")
+                                && method.getName().contains("Query")) {
+                            queries.incrementAndGet();
+                        }
+
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+
+                        if (target instanceof ResultSet) {
+                            if (result instanceof String text) {
+                                charsRead.addAndGet(text.length());
+                            } else if (result instanceof Clob clob) {
+                                charsRead.addAndGet(clob.length());
+                            }
+                        }
+                        Class<?> type = method.getReturnType();
+                        boolean jdbcObject = type == Connection.class || Statement.class.isAssignableFrom(type)
+                                || type == ResultSet.class;
+                        return jdbcObject && result != null ? wrap(result) : result;
+                    });
+        }
+    }
+}
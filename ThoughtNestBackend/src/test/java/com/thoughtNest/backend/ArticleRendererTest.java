@@ -0,0 +1,115 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.render.ArticleRenderer;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the server-side article renderer: sanitization and the rewrite of uploaded
+ * images to their renditions.
+ */
+class ArticleRendererTest {
+
+    @TempDir
+    Path dir;
+
+    private ImageAssetRepository imageAssetRepository;
+    private ArticleRenderer renderer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageAssetRepository = mock(ImageAssetRepository.class);
+        renderer = new ArticleRenderer(imageAssetRepository, new LocalBlobStore(dir, "/uploads"));
+    }
+
+    /**
+     * Test that scripts, event handlers, script links, frames and SVG data URIs are removed while
+     * the editor's formatting survives.
+     */
+    @Test
+    void render_Sanitizes() {
+        ArticleRenderer.Result result = renderer.render(
+                "<p class=\"ql-align-center evil\" onclick=\"steal()\">Hi <b>there</b></p>"
+                        + "<script>alert(1)</script>"
+                        + "<a href=\"javascript:alert(1)\">bad</a> <a href=\"/about\">good</a>"
+                        + "<iframe src=\"https://example.com\"></iframe>"
+                        + "<img src=\"data:image/svg+xml;base64,PHN2Zz4=\">"
+                        + "<img src=\"https://example.com/cat.png\" alt=\"cat\">");
+
+        String html = result.getHtml();
+        assertEquals(ArticleRenderer.VERSION, result.getVersion());
+        assertTrue(html.contains("<p class=\"ql-align-center\">Hi <b>there</b></p>"), html);
+        assertFalse(html.contains("script"), html);
+        assertFalse(html.contains("onclick"), html);
+        assertFalse(html.contains("iframe"), html);
+        assertFalse(html.contains("svg"), html);
+        assertFalse(html.contains("javascript"), html);
+        assertTrue(html.contains("<a href=\"/about\" rel=\"nofollow ugc noopener\">good</a>"), html);
+        assertTrue(html.contains("src=\"https://example.com/cat.png\""), html);
+        assertTrue(html.contains("loading=\"lazy\""), html);
+        verifyNoInteractions(imageAssetRepository);
+    }
+
+    /**
+     * Test that uploaded images point at their renditions, with one lookup for all of them, that
+     * an image not processed yet marks the render as pending, and that an image the pipeline could
+     * not process keeps its original.
+     */
+    @Test
+    void render_UsesRenditions() {
+        ImageAsset ready = new ImageAsset();
+        ready.setOriginalUrl("/uploads/big.png");
+        ready.setWidth(2048);
+        ready.setHeight(1536);
+        ready.setThumbnailUrl("/uploads/big-thumb.webp");
+        ready.setMediumUrl("/uploads/big-medium.webp");
+        ImageAsset unprocessable = new ImageAsset();
+        unprocessable.setOriginalUrl("/uploads/anim.webp");
+        when(imageAssetRepository.findByOriginalUrlIn(anyCollection())).thenReturn(List.of(ready, unprocessable));
+
+        ArticleRenderer.Result complete = renderer.render(
+                "<p><img src=\"/uploads/big.png\"><img src=\"/uploads/anim.webp\"></p>");
+        assertEquals(ArticleRenderer.VERSION, complete.getVersion());
+        assertTrue(complete.getPendingImages().isEmpty());
+        String html = complete.getHtml();
+        assertTrue(html.contains("<img src=\"/uploads/anim.webp\" loading=\"lazy\""), html);
+        assertTrue(html.contains("src=\"/uploads/big-medium.webp\""), html);
+        assertTrue(html.contains("srcset=\"/uploads/big-thumb.webp 320w, /uploads/big-medium.webp 1024w\""), html);
+        assertTrue(html.contains("width=\"1024\" height=\"768\""), html);
+
+        ArticleRenderer.Result pending = renderer.render(
+                "<img src=\"/uploads/big.png\"><img src=\"/uploads/new.png\">");
+        assertEquals(ArticleRenderer.PENDING_IMAGES, pending.getVersion());
+        assertEquals(Set.of("/uploads/new.png"), pending.getPendingImages());
+        assertTrue(pending.getHtml().contains("src=\"/uploads/new.png\""), pending.getHtml());
+        verify(imageAssetRepository).findByOriginalUrlIn(Set.of("/uploads/big.png", "/uploads/new.png"));
+    }
+
+    /**
+     * Test that the page escapes the title and excerpt around the stored render.
+     */
+    @Test
+    void page_EscapesMetadata() {
+        String page = ArticleRenderer.page(new ArticleRender(1L, "<Tom & Jerry>", "\"Chase\"", "<p>Run</p>",
+                ArticleRenderer.VERSION, true, LocalDateTime.now(), 0L));
+
+        assertTrue(page.startsWith("<!DOCTYPE html>"));
+        assertTrue(page.contains("<title>&lt;Tom &amp; Jerry&gt;</title>"), page);
+        assertTrue(page.contains("content=\"&quot;Chase&quot;\""), page);
+        assertTrue(page.contains("<h1>&lt;Tom &amp; Jerry&gt;</h1><p>Run</p></article>"), page);
+    }
+}
@@ -1,15 +1,34 @@
 package com.thoughtNest.backend;
 
+import com.thoughtNest.backend.cache.ArticleCache;
 import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleOwner;
+import com.thoughtNest.backend.dto.ArticlePage;
+import com.thoughtNest.backend.dto.ArticleRender;
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.dto.BulkArticleResult;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
 import com.thoughtNest.backend.model.Article;
+import com.thoughtNest.backend.model.ImageAsset;
 import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.render.ArticleRenderer;
 import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.revision.RevisionService;
 import com.thoughtNest.backend.service.ArticleService;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.util.ArticleCursor;
+import com.thoughtNest.backend.util.TextDelta;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +47,30 @@ class ArticleServiceTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    // No image derivatives exist unless a test stubs them
+    @Mock
+    private ImageAssetRepository imageAssetRepository;
+
+    // Counts references of deduplicated uploads
+    @Mock
+    private UploadService uploadService;
+
+    // Publishes change events consumed by caches and indexes
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Records the revision history of saved articles
+    @Mock
+    private RevisionService revisionService;
+
+    // Renders the sanitized HTML stored with every save
+    @Mock
+    private ArticleRenderer articleRenderer;
+
+    // Real cache so read-through behavior is exercised end to end
+    @Spy
+    private ArticleCache articleCache = new ArticleCache(1 << 20, 4);
+
     // Inject the mock repository into the service
     @InjectMocks
     private ArticleService articleService;
@@ -42,6 +85,7 @@ class ArticleServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this); // Initialize @Mock and @InjectMocks
+        when(articleRenderer.render(any())).thenReturn(new ArticleRenderer.Result("<p>rendered</p>", Set.of()));
 
         // Create a sample user
         user = new User();
@@ -71,6 +115,93 @@ class ArticleServiceTest {
 
         assertEquals(article, saved); // Assert the saved article matches the original
         verify(articleRepository).save(article); // Verify save was called exactly once
+
+        // The stored state is kept before it is overwritten, then the new one is recorded
+        InOrder order = inOrder(revisionService, articleRepository);
+        order.verify(revisionService).beforeSave(1L);
+        order.verify(articleRepository).save(article);
+        order.verify(revisionService).record(1L, "Test Title", "Test Content");
+    }
+
+    /**
+     * Test that saving derives a plain-text excerpt from the HTML content.
+     */
+    @Test
+    void testSaveArticleDerivesExcerpt() {
+        article.setContent("<p>Hello&nbsp;<b>world</b></p>");
+        when(articleRepository.save(article)).thenReturn(article);
+
+        articleService.saveArticle(article);
+
+        assertEquals("Hello world", article.getExcerpt());
+    }
+
+    /**
+     * Test that saving stores the render of the new content with the renderer version.
+     */
+    @Test
+    void testSaveArticleStoresRender() {
+        when(articleRenderer.render("Test Content")).thenReturn(new ArticleRenderer.Result("<p>pending</p>", Set.of("/uploads/new.png")));
+        when(articleRepository.save(article)).thenReturn(article);
+
+        articleService.saveArticle(article);
+
+        assertEquals("<p>pending</p>", article.getRenderedHtml());
+        assertEquals(ArticleRenderer.PENDING_IMAGES, article.getRenderVersion());
+    }
+
+    /**
+     * Test that an article saved before renders were stored is rendered on the fly, and that a
+     * stored render is served without rendering.
+     */
+    @Test
+    void testGetArticleRender() {
+        LocalDateTime modified = LocalDateTime.now();
+        when(articleRepository.findRenderById(1L)).thenReturn(Optional.of(
+                new ArticleRender(1L, "Old", "Old text", null, null, true, modified, 2L)));
+        when(articleRepository.findTextById(1L)).thenReturn(Optional.of(
+                new ArticleText(1L, "Old", "<p>Old text</p>", modified)));
+        when(articleRepository.findRenderById(2L)).thenReturn(Optional.of(
+                new ArticleRender(2L, "New", "New text", "<p>stored</p>", ArticleRenderer.VERSION, true, modified, 0L)));
+
+        ArticleRender onTheFly = articleService.getArticleRender(1L).orElseThrow();
+        assertEquals("<p>rendered</p>", onTheFly.getHtml());
+        assertEquals(ArticleRenderer.VERSION, onTheFly.getRenderVersion());
+        verify(articleRenderer).render("<p>Old text</p>");
+
+        assertEquals("<p>stored</p>", articleService.getArticleRender(2L).orElseThrow().getHtml());
+        verify(articleRenderer, times(1)).render(any());
+    }
+
+    /**
+     * Test that saving links the image derivatives when they are already available.
+     */
+    @Test
+    void testSaveArticleLinksImageAsset() {
+        ImageAsset asset = new ImageAsset();
+        asset.setOriginalUrl("test.jpg");
+        when(imageAssetRepository.findByOriginalUrl("test.jpg")).thenReturn(Optional.of(asset));
+        when(articleRepository.save(article)).thenReturn(article);
+
+        articleService.saveArticle(article);
+
+        assertSame(asset, article.getImageAsset());
+    }
+
+    /**
+     * Test that changing the image moves the upload reference, and deleting releases it.
+     */
+    @Test
+    void testImageReferencesFollowArticle() {
+        when(articleRepository.findImageById(1L)).thenReturn(Optional.of("old.jpg"));
+        when(articleRepository.save(article)).thenReturn(article);
+
+        articleService.saveArticle(article);
+        verify(uploadService).switchReference("old.jpg", "test.jpg");
+
+        when(articleRepository.findImageById(1L)).thenReturn(Optional.of("test.jpg"));
+        articleService.deleteArticle(1L);
+        verify(uploadService).switchReference("test.jpg", null);
     }
 
     /**
@@ -143,7 +274,7 @@ class ArticleServiceTest {
      */
     @Test
     void testGetArticleDTOByIdFound() {
-        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.findDTOById(1L)).thenReturn(Optional.of(new ArticleDTO(article)));
 
         Optional<ArticleDTO> dtoOpt = articleService.getArticleDTOById(1L);
 
@@ -164,13 +295,37 @@ class ArticleServiceTest {
      */
     @Test
     void testGetArticleDTOByIdNotFound() {
-        when(articleRepository.findById(999L)).thenReturn(Optional.empty());
+        when(articleRepository.findDTOById(999L)).thenReturn(Optional.empty());
 
         Optional<ArticleDTO> dtoOpt = articleService.getArticleDTOById(999L);
 
         assertFalse(dtoOpt.isPresent());
     }
 
+    /**
+     * Test that repeated reads are served from the cache until the article is saved again.
+     */
+    @Test
+    void testGetArticleDTOByIdIsCachedUntilSaved() {
+        when(articleRepository.findDTOById(1L)).thenReturn(Optional.of(new ArticleDTO(article)));
+        when(articleRepository.save(article)).thenReturn(article);
+
+        articleService.getArticleDTOById(1L);
+        articleService.getArticleDTOById(1L);
+        verify(articleRepository, times(1)).findDTOById(1L);
+
+        articleService.saveArticle(article);
+
+        // The service announces the change; the cache reacts to it once committed
+        ArgumentCaptor<ArticleChangedEvent> event = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(1L), event.getValue().getArticleIds());
+        articleCache.onArticleChanged(event.getValue());
+
+        articleService.getArticleDTOById(1L);
+        verify(articleRepository, times(2)).findDTOById(1L);
+    }
+
     /**
      * Test retrieving all published articles only.
      */
@@ -185,4 +340,149 @@ class ArticleServiceTest {
         assertTrue(result.get(0).getPublished());
         assertEquals(article, result.get(0));
     }
+
+    /**
+     * Test that a full page returns a cursor pointing at its last article,
+     * and that the cursor is used to continue the listing.
+     */
+    @Test
+    void testGetPublishedArticlesPage() {
+        Article newer = new Article();
+        newer.setId(3L);
+        newer.setAuthor(user);
+        newer.setLastModifiedDate(LocalDateTime.of(2025, 1, 2, 10, 0));
+        article.setLastModifiedDate(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        // One row more than the limit signals that another page follows
+        when(articleRepository.findPublishedFirstPage(PageRequest.of(0, 2)))
+                .thenReturn(List.of(new ArticleDTO(newer), new ArticleDTO(article)));
+
+        ArticlePage<ArticleDTO> first = articleService.getPublishedArticlesPage(null, 1);
+
+        assertEquals(1, first.getArticles().size());
+        assertEquals(3L, first.getArticles().get(0).getId());
+        assertNotNull(first.getNext());
+
+        ArticleCursor cursor = ArticleCursor.decode(first.getNext());
+        assertEquals(newer.getLastModifiedDate(), cursor.getLastModifiedDate());
+        assertEquals(3L, cursor.getId());
+
+        when(articleRepository.findPublishedPageAfter(newer.getLastModifiedDate(), 3L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new ArticleDTO(article)));
+
+        ArticlePage<ArticleDTO> second = articleService.getPublishedArticlesPage(first.getNext(), 1);
+
+        assertEquals(1, second.getArticles().size());
+        assertNull(second.getNext());
+    }
+
+    /**
+     * Test that a malformed cursor is rejected as a bad request.
+     */
+    @Test
+    void testGetPublishedArticlesPageInvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.getPublishedArticlesPage("not-a-cursor", 10));
+    }
+
+    /**
+     * Test that toggling publication updates the loaded article in place without
+     * recomputing the excerpt from the body.
+     */
+    @Test
+    void testSetPublished() {
+        article.setPublished(false);
+        article.setExcerpt("Stored excerpt");
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+
+        assertTrue(articleService.setPublished(1L, true));
+
+        assertTrue(article.getPublished());
+        assertNotNull(article.getLastModifiedDate());
+        assertEquals("Stored excerpt", article.getExcerpt());
+        verify(articleRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
+
+        when(articleRepository.findById(2L)).thenReturn(Optional.empty());
+        assertFalse(articleService.setPublished(2L, true));
+    }
+
+    /**
+     * Test that a bulk request checks ownership of all articles in one query, changes the owned
+     * ones in one statement, and reports every id.
+     */
+    @Test
+    void testApplyBulk() {
+        when(articleRepository.findOwnersByIds(any())).thenReturn(List.of(
+                new ArticleOwner(1L, "owner@example.com"),
+                new ArticleOwner(2L, "other@example.com"),
+                new ArticleOwner(3L, "owner@example.com")));
+
+        BulkArticleResult result = articleService.applyBulk("Publish", List.of(1L, 2L, 3L, 4L, 1L), "owner@example.com");
+
+        assertEquals("publish", result.getOperation());
+        assertEquals(2, result.getApplied());
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.getResults().stream().map(BulkArticleResult.Item::getId).toList());
+        assertEquals(List.of(BulkArticleResult.Status.OK, BulkArticleResult.Status.FORBIDDEN,
+                        BulkArticleResult.Status.OK, BulkArticleResult.Status.NOT_FOUND),
+                result.getResults().stream().map(BulkArticleResult.Item::getStatus).toList());
+        verify(articleRepository).findOwnersByIds(Set.of(1L, 2L, 3L, 4L));
+        verify(articleRepository).setPublishedByIds(eq(List.of(1L, 3L)), eq(true), any(LocalDateTime.class));
+        verify(articleRepository, never()).findById(any());
+        // One event for the whole batch, so listeners run once per operation rather than per article
+        ArgumentCaptor<ArticleChangedEvent> event = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(1L, 3L), event.getValue().getArticleIds());
+        assertEquals(ArticleChangedEvent.Type.SAVED, event.getValue().getType());
+
+        // Deleting releases one reference per article image, shared files included
+        when(articleRepository.findImagesByIds(List.of(1L, 3L))).thenReturn(List.of("/uploads/a.png", "/uploads/a.png"));
+        result = articleService.applyBulk("delete", List.of(1L, 2L, 3L), "owner@example.com");
+
+        assertEquals(2, result.getApplied());
+        verify(articleRepository).deleteByIds(List.of(1L, 3L));
+        verify(uploadService).releaseReferences(List.of("/uploads/a.png", "/uploads/a.png"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.applyBulk("archive", List.of(1L), "owner@example.com"));
+    }
+
+    /**
+     * Test that a patch applies its delta to the stored content of the current version, and that
+     * a patch based on an older version is refused without a write.
+     */
+    @Test
+    void testPatchArticle() {
+        String content = "<p>" + "A long paragraph of article text. ".repeat(100) + "</p>";
+        String edited = content.replaceFirst("long", "short");
+        article.setContent(content);
+        article.setVersion(3);
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.saveAndFlush(article)).thenAnswer(invocation -> {
+            article.setVersion(article.getVersion() + 1);
+            return article;
+        });
+
+        String delta = TextDelta.encode(content, edited);
+        assertTrue(delta.length() < 40, delta);
+        ArticleVersionInfo patched = articleService.patchArticle(1L, 3, null, delta).orElseThrow();
+
+        assertEquals(4, patched.getVersion());
+        verify(articleRenderer).render(edited);
+        assertEquals("<p>rendered</p>", article.getRenderedHtml());
+        assertEquals(edited, article.getContent());
+        assertEquals("Test Title", article.getTitle());
+        assertTrue(article.getExcerpt().startsWith("A short paragraph"));
+        verify(revisionService).record(1L, "Test Title", edited);
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> articleService.patchArticle(1L, 3, null, delta));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.patchArticle(1L, 4, null, "c0,999999;"));
+        verify(articleRepository, times(1)).saveAndFlush(any());
+
+        when(articleRepository.findById(2L)).thenReturn(Optional.empty());
+        assertTrue(articleService.patchArticle(2L, 0, null, delta).isEmpty());
+    }
 }
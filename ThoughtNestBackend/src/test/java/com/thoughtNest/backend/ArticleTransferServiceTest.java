@@ -0,0 +1,172 @@
+package com.thoughtNest.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticleImportResult;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.model.User;
+import com.thoughtNest.backend.render.ArticleRenderer;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.repository.UserRepository;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.transfer.ArticleTransferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the NDJSON article import and export, with the JDBC batches recorded by a mock.
+ */
+class ArticleTransferServiceTest {
+
+    private static final String EMAIL = "writer@example.com";
+
+    private ArticleRepository articleRepository;
+    private ImageAssetRepository imageAssetRepository;
+    private UploadService uploadService;
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private ArticleTransferService service;
+
+    /** Statement parameters of every inserted row, in insert order. */
+    private final List<PreparedStatement> rows = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        articleRepository = mock(ArticleRepository.class);
+        imageAssetRepository = mock(ImageAssetRepository.class);
+        uploadService = mock(UploadService.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        ArticleRenderer articleRenderer = mock(ArticleRenderer.class);
+        when(articleRenderer.render(any())).thenReturn(new ArticleRenderer.Result("<p>rendered</p>", Set.of()));
+
+        User author = new User();
+        author.setId(7L);
+        author.setEmail(EMAIL);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            KeyHolder keys = invocation.getArgument(2);
+            batchSizes.add(setter.getBatchSize());
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                PreparedStatement row = mock(PreparedStatement.class);
+                setter.setValues(row, i);
+                rows.add(row);
+                keys.getKeyList().add(Map.of("ID", (long) rows.size() + 100));
+            }
+            return new int[setter.getBatchSize()];
+        });
+
+        service = new ArticleTransferService(articleRepository, userRepository, imageAssetRepository, uploadService,
+                articleRenderer, jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                eventPublisher, new ObjectMapper().findAndRegisterModules(), false, 1024, 2);
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that lines are inserted in JDBC batches for the author, with one change event for all of them.
+     */
+    @Test
+    void import_InsertsInBatches() throws Exception {
+        ImageAsset asset = new ImageAsset();
+        asset.setId(9L);
+        asset.setOriginalUrl("/uploads/cover.png");
+        when(imageAssetRepository.findByOriginalUrlIn(any())).thenReturn(List.of(asset));
+
+        ArticleImportResult result = service.importArticles(EMAIL, ndjson(
+                "{\"title\":\"One\",\"content\":\"<p>First</p>\",\"image\":\"/uploads/cover.png\",\"published\":true}",
+                "",
+                "{\"title\":\"Two\",\"content\":\"Second\",\"date\":\"2024-03-01\",\"id\":55,\"views\":12}",
+                "{\"title\":\"Three\",\"content\":\"Third\",\"lastModifiedDate\":\"2024-03-02T10:00:00\"}"));
+
+        assertEquals(3, result.getImported());
+        assertEquals(List.of(2, 1), batchSizes);
+
+        verify(rows.get(0)).setString(1, "One");
+        verify(rows.get(0)).setString(3, "First");
+        verify(rows.get(0)).setObject(6, 9L, Types.BIGINT);
+        verify(rows.get(0)).setLong(7, 7L);
+        verify(rows.get(0)).setBoolean(8, true);
+        verify(rows.get(0)).setString(10, "<p>rendered</p>");
+        verify(rows.get(0)).setInt(11, ArticleRenderer.VERSION);
+        verify(rows.get(1)).setObject(4, LocalDate.of(2024, 3, 1));
+        verify(rows.get(1)).setObject(6, null, Types.BIGINT);
+        verify(rows.get(2)).setObject(9, LocalDateTime.of(2024, 3, 2, 10, 0));
+        verify(uploadService).acquireReferences(List.of("/uploads/cover.png"));
+
+        verify(eventPublisher).publishEvent(argThat((ArticleChangedEvent e) ->
+                e.getArticleIds().equals(List.of(101L, 102L, 103L))));
+        verify(eventPublisher, times(1)).publishEvent(any(ArticleChangedEvent.class));
+        assertEquals(3, service.stats().getImportedArticles());
+    }
+
+    /**
+     * Test that an invalid line stops the import with its line number and publishes nothing.
+     */
+    @Test
+    void import_RejectsInvalidLine() {
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class, () -> service.importArticles(EMAIL,
+                ndjson("{\"title\":\"One\",\"content\":\"First\"}", "{\"title\":\"Two\"}")));
+        assertTrue(missing.getMessage().startsWith("Line 2"));
+
+        IllegalArgumentException malformed = assertThrows(IllegalArgumentException.class, () -> service.importArticles(EMAIL,
+                ndjson("{\"title\":\"One\",\"content\":\"First\"}", "{\"title\": oops}")));
+        assertTrue(malformed.getMessage().startsWith("Line 2"));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * Test that an export writes one JSON object per line.
+     */
+    @Test
+    void export_WritesOneArticlePerLine() throws Exception {
+        LocalDateTime modified = LocalDateTime.of(2024, 3, 2, 10, 0);
+        when(articleRepository.streamByAuthorId(7L)).thenReturn(Stream.of(
+                new ArticleDTO(1L, "One", "First", LocalDate.of(2024, 3, 1), null, "writer", true, modified, 3L),
+                new ArticleDTO(2L, "Two", "Second", LocalDate.of(2024, 3, 1), null, "writer", false, modified, 0L)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, service.exportArticles(EMAIL, out));
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":1,\"title\":\"One\""), lines.get(0));
+        assertTrue(lines.get(1).contains("\"title\":\"Two\""));
+        assertEquals(1, service.stats().getExports());
+    }
+}
@@ -3,6 +3,7 @@ package com.thoughtNest.backend;
 import com.thoughtNest.backend.controller.AuthController;
 import com.thoughtNest.backend.dto.AuthResponse;
 import com.thoughtNest.backend.dto.LoginRequest;
+import com.thoughtNest.backend.dto.UserAccountInfoDto;
 import com.thoughtNest.backend.model.User;
 import com.thoughtNest.backend.security.JwtUtil;
 import com.thoughtNest.backend.service.EmailService;
@@ -22,6 +23,7 @@ import java.util.*;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -255,4 +257,19 @@ class AuthControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("Invalid or expired token"));
     }
+
+    /**
+     * Test that the account endpoint returns the counts read by the user service.
+     */
+    @Test
+    void getCurrentAccount_Success() throws Exception {
+        UserAccountInfoDto info = new UserAccountInfoDto("testuser", "test@example.com", 12, 5);
+        when(userService.getAccountInfo("test@example.com")).thenReturn(Optional.of(info));
+
+        mockMvc.perform(get("/api/auth/account")
+                        .principal(() -> "test@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.articleCount").value(12))
+                .andExpect(jsonPath("$.data.publishedCount").value(5));
+    }
 }
@@ -0,0 +1,139 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.ArticleTitle;
+import com.thoughtNest.backend.dto.AuthorPopularity;
+import com.thoughtNest.backend.dto.Suggestion;
+import com.thoughtNest.backend.dto.Suggestions;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.UserRepository;
+import com.thoughtNest.backend.suggest.AutocompleteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AutocompleteService.
+ *
+ * Verifies prefix matching, popularity ordering, and that article and user changes are
+ * visible to the next query without waiting for a rebuild.
+ */
+class AutocompleteServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private ArticleRepository articleRepository;
+    private UserRepository userRepository;
+    private AutocompleteService autocomplete;
+
+    @BeforeEach
+    void setup() throws Exception {
+        articleRepository = mock(ArticleRepository.class);
+        userRepository = mock(UserRepository.class);
+
+        when(articleRepository.findPublishedTitlesAfterId(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                new ArticleTitle(1L, "Java streams", 10L, true, NOW.minusDays(3)),
+                new ArticleTitle(2L, "JavaScript closures", 11L, true, NOW.minusDays(1)),
+                new ArticleTitle(3L, "Kotlin coroutines", 10L, true, NOW)));
+        when(userRepository.findAuthorPopularity()).thenReturn(List.of(
+                new AuthorPopularity(10L, "javafan", 2),
+                new AuthorPopularity(11L, "JavaGuru", 5),
+                new AuthorPopularity(12L, "kate", 0)));
+
+        // Long rebuild delay: every assertion below must hold before the snapshot is rebuilt
+        autocomplete = new AutocompleteService(articleRepository, userRepository, 60_000);
+        autocomplete.onApplicationReady();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!autocomplete.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(autocomplete.isReady());
+    }
+
+    @AfterEach
+    void tearDown() {
+        autocomplete.shutdown();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+
+    /**
+     * Test that matching ignores case and orders titles newest first and authors by published count.
+     */
+    @Test
+    void suggest_RanksByPopularity() {
+        Suggestions suggestions = autocomplete.suggest("JAVA", 5);
+
+        assertEquals(List.of("JavaScript closures", "Java streams"), texts(suggestions.getArticles()));
+        assertEquals(List.of("JavaGuru", "javafan"), texts(suggestions.getAuthors()));
+        assertEquals(List.of("Java streams"), texts(autocomplete.suggest("java  s", 5).getArticles()));
+        assertEquals(List.of("JavaScript closures"), texts(autocomplete.suggest("ja", 1).getArticles()));
+        assertTrue(autocomplete.suggest("rust", 5).getArticles().isEmpty());
+        assertTrue(autocomplete.suggest(" ", 5).getAuthors().isEmpty());
+    }
+
+    /**
+     * Test that a newly published article appears and its author's rank is refreshed.
+     */
+    @Test
+    void onArticleChanged_PublishedArticleAppears() {
+        when(articleRepository.findTitlesByIds(List.of(4L)))
+                .thenReturn(List.of(new ArticleTitle(4L, "Java records", 10L, true, NOW.plusHours(1))));
+        when(userRepository.findAuthorPopularityByIds(Set.of(10L)))
+                .thenReturn(List.of(new AuthorPopularity(10L, "javafan", 9)));
+
+        autocomplete.onArticleChanged(ArticleChangedEvent.saved(4L));
+
+        Suggestions suggestions = autocomplete.suggest("java", 5);
+        assertEquals("Java records", suggestions.getArticles().get(0).getText());
+        assertEquals(List.of("javafan", "JavaGuru"), texts(suggestions.getAuthors()));
+    }
+
+    /**
+     * Test that renamed, unpublished and deleted articles are reflected immediately.
+     */
+    @Test
+    void onArticleChanged_RenameUnpublishDelete() {
+        when(articleRepository.findTitlesByIds(List.of(1L)))
+                .thenReturn(List.of(new ArticleTitle(1L, "Streams in depth", 10L, true, NOW.plusHours(1))));
+        when(articleRepository.findTitlesByIds(List.of(2L)))
+                .thenReturn(List.of(new ArticleTitle(2L, "JavaScript closures", 11L, false, NOW.plusHours(1))));
+
+        autocomplete.onArticleChanged(ArticleChangedEvent.saved(1L));
+        autocomplete.onArticleChanged(ArticleChangedEvent.saved(2L));
+        autocomplete.onArticleChanged(ArticleChangedEvent.deleted(3L));
+
+        assertTrue(autocomplete.suggest("java", 5).getArticles().isEmpty());
+        assertTrue(autocomplete.suggest("kotlin", 5).getArticles().isEmpty());
+        assertEquals(List.of("Streams in depth"), texts(autocomplete.suggest("str", 5).getArticles()));
+        verify(userRepository).findAuthorPopularityByIds(Set.of(11L));
+    }
+
+    /**
+     * Test that sign-ups and username changes are suggested right away.
+     */
+    @Test
+    void onUserChanged_UpdatesUsernames() {
+        autocomplete.onUserChanged(new UserChangedEvent(13L, "newbie"));
+        autocomplete.onUserChanged(new UserChangedEvent(11L, "Guru"));
+
+        assertEquals(List.of("newbie"), texts(autocomplete.suggest("new", 5).getAuthors()));
+        assertEquals(List.of("javafan"), texts(autocomplete.suggest("java", 5).getAuthors()));
+        assertEquals(List.of("Guru"), texts(autocomplete.suggest("gu", 5).getAuthors()));
+        assertEquals(3, autocomplete.stats().getArticles());
+        assertEquals(4, autocomplete.stats().getAuthors());
+    }
+}
@@ -0,0 +1,153 @@
+package com.thoughtNest.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtNest.backend.autosave.AutosaveService;
+import com.thoughtNest.backend.dto.ArticleVersionInfo;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.service.ArticleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the autosave buffer, with its journal in a temporary directory and the article
+ * writes recorded by a mocked service.
+ */
+class AutosaveServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ArticleService articleService;
+    private Path journal;
+
+    @BeforeEach
+    void setUp() {
+        articleService = mock(ArticleService.class);
+        when(articleService.saveDraft(anyLong(), any(), any(), anyLong())).thenReturn(true);
+        when(articleService.getArticleVersionInfo(anyLong()))
+                .thenAnswer(call -> Optional.of(new ArticleVersionInfo(call.getArgument(0), LocalDateTime.now(), true, 5L)));
+        journal = dir.resolve("autosave/drafts.journal");
+    }
+
+    private AutosaveService newService() throws Exception {
+        return new AutosaveService(articleService, new ObjectMapper(), journal.toString(), false);
+    }
+
+    /**
+     * Test that many autosaves of an article cost one write of the latest draft per flush.
+     */
+    @Test
+    void autosaves_CoalescedPerFlush() throws Exception {
+        AutosaveService service = newService();
+        for (int i = 1; i <= 50; i++) {
+            assertEquals(6, service.saveDraft(1L, "Title", "Typed " + i, null));
+        }
+        service.saveDraft(2L, "Other", "Other text", null);
+
+        assertEquals(2, service.flush());
+        verify(articleService).saveDraft(1L, "Title", "Typed 50", 5L);
+        verify(articleService).saveDraft(2L, "Other", "Other text", 5L);
+        verify(articleService, times(2)).saveDraft(anyLong(), any(), any(), anyLong());
+
+        assertEquals(0, service.flush());
+        assertEquals(0, service.stats().getPendingDrafts());
+        assertEquals(51, service.stats().getReceivedDrafts());
+        assertEquals(0, Files.size(journal));
+    }
+
+    /**
+     * Test that drafts acknowledged before a crash are recovered from the journal on the next
+     * start, skipping discarded drafts and a line cut short by the crash.
+     */
+    @Test
+    void crash_RecoversJournaledDrafts() throws Exception {
+        AutosaveService crashed = newService();
+        crashed.saveDraft(1L, "Title", "First", null);
+        crashed.saveDraft(1L, "Title", "Second \"quoted\"\nline", null);
+        crashed.saveDraft(2L, "Other", "Saved explicitly", null);
+        crashed.discard(2L);
+        Files.writeString(journal, "{\"articleId\":3,\"title\":\"Tor", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        // No flush or shutdown: the process died
+
+        AutosaveService restarted = newService();
+        assertEquals(1, restarted.stats().getPendingDrafts());
+        assertEquals(1, restarted.flush());
+        verify(articleService).saveDraft(1L, "Title", "Second \"quoted\"\nline", 5L);
+        verify(articleService, times(1)).saveDraft(anyLong(), any(), any(), anyLong());
+    }
+
+    /**
+     * Test that a failed write keeps the draft pending, and that a draft of a deleted article
+     * is dropped.
+     */
+    @Test
+    void failedWrite_RetriedAndDeletedDropped() throws Exception {
+        AutosaveService service = newService();
+        when(articleService.saveDraft(1L, "Title", "Text", 5L))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(true);
+
+        service.saveDraft(1L, "Title", "Text", null);
+        assertEquals(0, service.flush());
+        assertEquals(1, service.stats().getFailedWrites());
+        assertEquals(1, service.flush());
+
+        service.saveDraft(4L, "Gone", "Text", null);
+        service.onArticleChanged(ArticleChangedEvent.deleted(4L));
+        assertEquals(0, service.flush());
+        verify(articleService, never()).saveDraft(eq(4L), any(), any(), anyLong());
+    }
+
+    /**
+     * Test that an autosave counts a pending draft as written for its If-Match, and that a
+     * draft overtaken by another save is dropped rather than written over it.
+     */
+    @Test
+    void versions_CheckedAgainstPendingDraft() throws Exception {
+        AutosaveService service = newService();
+        assertEquals(6, service.saveDraft(1L, "Title", "First", 5L));
+        assertEquals(6, service.saveDraft(1L, "Title", "Second", 6L));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> service.saveDraft(1L, "Title", "Stale tab", 5L));
+
+        // Written ahead of an explicit save
+        service.flush(1L);
+        verify(articleService).saveDraft(1L, "Title", "Second", 5L);
+        assertEquals(0, service.stats().getPendingDrafts());
+
+        // Saved elsewhere while this draft waited
+        when(articleService.saveDraft(1L, "Title", "Late", 5L)).thenReturn(false);
+        service.saveDraft(1L, "Title", "Late", null);
+        assertEquals(0, service.flush());
+        assertEquals(0, service.stats().getPendingDrafts());
+        assertEquals(0, service.stats().getFailedWrites());
+    }
+
+    /**
+     * Test that pending drafts are written at shutdown.
+     */
+    @Test
+    void shutdown_FlushesPendingDrafts() throws Exception {
+        AutosaveService service = newService();
+        service.saveDraft(1L, "Title", "Last words", null);
+
+        service.shutdown();
+
+        verify(articleService).saveDraft(1L, "Title", "Last words", 5L);
+        assertEquals(0, newService().stats().getPendingDrafts());
+    }
+}
@@ -0,0 +1,138 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.storage.BlobStore;
+import com.thoughtNest.backend.storage.GcsBlobStore;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the blob stores.
+ *
+ * Also contains an upload throughput benchmark, skipped unless the tests run with
+ * {@code -Dbenchmarks=true}. The GCS part additionally needs {@code -Dbenchmarks.gcs.bucket=<bucket>}
+ * and application default credentials.
+ */
+class BlobStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Test that files are stored from both file and in-memory streams and served under the base URL.
+     */
+    @Test
+    void localStore_WritesFiles() throws Exception {
+        LocalBlobStore store = new LocalBlobStore(tempDir.resolve("uploads"), "/uploads/");
+        byte[] data = randomBytes(3_000_000);
+        Path source = Files.write(tempDir.resolve("source.bin"), data);
+
+        String fromFile;
+        try (InputStream in = new FileInputStream(source.toFile())) {
+            fromFile = store.put("from-file.bin", in, "application/octet-stream");
+        }
+        String fromMemory = store.put("from-memory.bin", new ByteArrayInputStream(data), "application/octet-stream");
+
+        assertEquals("/uploads/from-file.bin", fromFile);
+        assertEquals("/uploads/from-memory.bin", fromMemory);
+        assertArrayEquals(data, Files.readAllBytes(store.resolve("from-file.bin")));
+        assertArrayEquals(data, Files.readAllBytes(store.resolve("from-memory.bin")));
+        try (Stream<Path> files = Files.list(store.getRoot())) {
+            assertEquals(2, files.count(), "No temporary files may be left behind");
+        }
+    }
+
+    /**
+     * Test that keys keep a readable, safe file name and cannot escape the storage directory.
+     */
+    @Test
+    void keys_AreSafe() throws Exception {
+        String key = BlobStore.newKey("../../etc/my cover (1).png");
+        assertTrue(key.endsWith("-my_cover__1_.png"), key);
+        assertFalse(BlobStore.newKey("..").contains(".."));
+
+        LocalBlobStore store = new LocalBlobStore(tempDir, "/uploads");
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("../outside.png"));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("nested/inside.png"));
+    }
+
+    /**
+     * Measures upload throughput of the local store from a file (zero-copy) and from memory.
+     * Run with {@code mvn test -Dtest=BlobStoreTest -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_LocalThroughput() throws Exception {
+        LocalBlobStore store = new LocalBlobStore(tempDir.resolve("uploads"), "/uploads");
+        byte[] data = randomBytes(8 << 20);
+        Path source = Files.write(tempDir.resolve("source.bin"), data);
+        int uploads = 100;
+
+        double fromFile = throughput(store, uploads, data.length, () -> {
+            try {
+                return new FileInputStream(source.toFile());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        double fromMemory = throughput(store, uploads, data.length, () -> new ByteArrayInputStream(data));
+
+        System.out.printf("📊 Local blob store, %d x %d MB: from file %.0f MB/s, from memory %.0f MB/s%n",
+                uploads, data.length >> 20, fromFile, fromMemory);
+    }
+
+    /**
+     * Measures upload throughput to GCS with the shared client, and with a new client per upload
+     * as before the client was reused. Run with
+     * {@code mvn test -Dtest=BlobStoreTest -Dbenchmarks=true -Dbenchmarks.gcs.bucket=<bucket>}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    @EnabledIfSystemProperty(named = "benchmarks.gcs.bucket", matches = ".+")
+    void benchmark_GcsThroughput() throws Exception {
+        String bucket = System.getProperty("benchmarks.gcs.bucket");
+        byte[] data = randomBytes(256 << 10);
+        int uploads = 20;
+
+        double shared = throughput(new GcsBlobStore(bucket), uploads, data.length, () -> new ByteArrayInputStream(data));
+        long start = System.nanoTime();
+        for (int i = 0; i < uploads; i++) {
+            new GcsBlobStore(bucket).upload("benchmark.bin", new ByteArrayInputStream(data), "application/octet-stream");
+        }
+        double perUpload = uploads * (double) data.length / (1 << 20) / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("📊 GCS blob store, %d x %d KB: shared client %.1f MB/s, client per upload %.1f MB/s%n",
+                uploads, data.length >> 10, shared, perUpload);
+    }
+
+    private static double throughput(BlobStore store, int uploads, int size, Supplier<InputStream> source)
+            throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < uploads; i++) {
+            try (InputStream in = source.get()) {
+                store.upload("benchmark.bin", in, "application/octet-stream");
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return uploads * (double) size / (1 << 20) / seconds;
+    }
+}
@@ -0,0 +1,149 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.UploadProgress;
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.model.StoredBlob;
+import com.thoughtNest.backend.repository.StoredBlobRepository;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.upload.ChunkedUploadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for resumable chunked uploads, with the local blob store as storage.
+ */
+class ChunkedUploadTest {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private LocalBlobStore blobStore;
+    private ImageDerivativeService imageDerivativeService;
+    private UploadService uploadService;
+    private Path partsDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = new LocalBlobStore(tempDir.resolve("uploads"), "/uploads");
+        imageDerivativeService = mock(ImageDerivativeService.class);
+        StoredBlobRepository storedBlobRepository = mock(StoredBlobRepository.class);
+        when(storedBlobRepository.save(any(StoredBlob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        partsDir = tempDir.resolve("parts");
+        uploadService = new UploadService(blobStore, storedBlobRepository, imageDerivativeService, partsDir);
+    }
+
+    private ChunkedUploadService service(long timeoutMinutes) throws Exception {
+        return new ChunkedUploadService(uploadService, partsDir, CHUNK_SIZE, 10_000, timeoutMinutes);
+    }
+
+    private static byte[] chunk(byte[] data, int index) {
+        return Arrays.copyOfRange(data, index * CHUNK_SIZE, Math.min(data.length, (index + 1) * CHUNK_SIZE));
+    }
+
+    /**
+     * Test that chunks sent out of order, including a retried one, assemble into the original file.
+     */
+    @Test
+    void chunksInAnyOrder_AssembleIntoFile() throws Exception {
+        ChunkedUploadService service = service(60);
+        byte[] data = new byte[3_500];
+        new Random(42).nextBytes(data);
+        // Uploads must look like an image
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, 0, data, 0, 8);
+
+        UploadProgress started = service.start("writer@example.com", "cover.png", "image/png", data.length);
+        String id = started.getUploadId();
+        assertEquals(4, started.getTotalChunks());
+        assertEquals(List.of(0, 1, 2, 3), started.getMissingChunks());
+
+        service.writeChunk(id, "writer@example.com", 3, new ByteArrayInputStream(chunk(data, 3)));
+        service.writeChunk(id, "writer@example.com", 1, new ByteArrayInputStream(chunk(data, 1)));
+        service.writeChunk(id, "writer@example.com", 1, new ByteArrayInputStream(chunk(data, 1)));
+        UploadProgress progress = service.progress(id, "writer@example.com").orElseThrow();
+        assertEquals(List.of(0, 2), progress.getMissingChunks());
+        assertEquals(1_500, progress.getReceivedBytes());
+
+        assertThrows(IllegalStateException.class, () -> service.complete(id, "writer@example.com"));
+
+        service.writeChunk(id, "writer@example.com", 0, new ByteArrayInputStream(chunk(data, 0)));
+        service.writeChunk(id, "writer@example.com", 2, new ByteArrayInputStream(chunk(data, 2)));
+        String url = service.complete(id, "writer@example.com").orElseThrow();
+
+        assertTrue(url.startsWith("/uploads/") && url.endsWith(".png"), url);
+        assertArrayEquals(data, Files.readAllBytes(blobStore.resolve(blobStore.keyOf(url).orElseThrow())));
+        verify(imageDerivativeService).submit(url);
+        assertEquals(0, service.activeSessions());
+        try (Stream<Path> parts = Files.list(partsDir)) {
+            assertEquals(0, parts.count(), "Temporary file must be removed");
+        }
+    }
+
+    /**
+     * Test that chunks of the wrong length or index are refused and not counted as received.
+     */
+    @Test
+    void invalidChunks_AreRejected() throws Exception {
+        ChunkedUploadService service = service(60);
+        String id = service.start("writer@example.com", "cover.png", "image/png", 1_500).getUploadId();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.writeChunk(id, "writer@example.com", 0, new ByteArrayInputStream(new byte[999])));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.writeChunk(id, "writer@example.com", 1, new ByteArrayInputStream(new byte[501])));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.writeChunk(id, "writer@example.com", 2, new ByteArrayInputStream(new byte[1])));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.start("writer@example.com", "huge.png", "image/png", 10_001));
+
+        assertEquals(List.of(0, 1), service.progress(id, "writer@example.com").orElseThrow().getMissingChunks());
+    }
+
+    /**
+     * Test that an upload is only visible to the user who started it.
+     */
+    @Test
+    void otherUsers_CannotSeeUpload() throws Exception {
+        ChunkedUploadService service = service(60);
+        String id = service.start("writer@example.com", "cover.png", "image/png", 10).getUploadId();
+
+        assertTrue(service.progress(id, "other@example.com").isEmpty());
+        assertTrue(service.writeChunk(id, "other@example.com", 0, new ByteArrayInputStream(new byte[10])).isEmpty());
+        assertTrue(service.complete(id, "other@example.com").isEmpty());
+        assertFalse(service.cancel(id, "other@example.com"));
+        assertTrue(service.progress(id, "writer@example.com").isPresent());
+    }
+
+    /**
+     * Test that idle sessions are discarded with their files, and leftovers of a previous run are removed.
+     */
+    @Test
+    void abandonedUploads_AreCollected() throws Exception {
+        ChunkedUploadService service = service(0);
+        String id = service.start("writer@example.com", "cover.png", "image/png", 10).getUploadId();
+        assertTrue(Files.exists(partsDir.resolve(id + ".part")));
+
+        assertEquals(1, service.purgeExpired());
+        assertEquals(0, service.activeSessions());
+        assertFalse(Files.exists(partsDir.resolve(id + ".part")));
+        assertTrue(service.progress(id, "writer@example.com").isEmpty());
+
+        Files.createFile(partsDir.resolve("left-over.part"));
+        service(60);
+        assertFalse(Files.exists(partsDir.resolve("left-over.part")));
+    }
+}
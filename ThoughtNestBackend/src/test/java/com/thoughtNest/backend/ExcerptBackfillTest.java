@@ -0,0 +1,52 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.service.ExcerptBackfillMigration;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExcerptBackfillMigration.
+ */
+class ExcerptBackfillTest {
+
+    /**
+     * Test that the backfill stores plain-text excerpts, leaves rows a save filled meanwhile
+     * alone and announces only the rows it changed.
+     */
+    @Test
+    void backfill_StoresPlainTextExcerpts() {
+        ArticleRepository repository = mock(ArticleRepository.class);
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+        LocalDateTime written = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+        when(repository.findIdsWithoutExcerptAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L));
+        when(repository.findTextById(1L)).thenReturn(Optional.of(
+                new ArticleText(1L, "First", "<p>Old <b>article</b></p>", written)));
+        when(repository.findTextById(2L)).thenReturn(Optional.of(
+                new ArticleText(2L, "Second", "<p>Saved meanwhile</p>", written)));
+        when(repository.findTextById(3L)).thenReturn(Optional.empty());
+        when(repository.fillExcerpt(1L, "Old article")).thenReturn(1);
+        when(repository.fillExcerpt(2L, "Saved meanwhile")).thenReturn(0);
+
+        ExcerptBackfillMigration migration = new ExcerptBackfillMigration(repository, events, false);
+        assertTrue(migration.run());
+
+        verify(repository).fillExcerpt(1L, "Old article");
+        verify(repository, never()).fillExcerpt(eq(3L), any());
+        verify(events).publishEvent(argThat((ArticleChangedEvent e) -> e.getArticleIds().equals(List.of(1L))));
+        assertEquals(2, migration.stats().getScannedRows());
+        assertEquals(1, migration.stats().getFilledRows());
+    }
+}
@@ -0,0 +1,211 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.image.BlurHash;
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.image.ImageResizer;
+import com.thoughtNest.backend.model.ImageAsset;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ImageAssetRepository;
+import com.thoughtNest.backend.storage.BlobStore;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the image derivative pipeline: resizing, encoding, placeholders and the
+ * bounded background processing.
+ */
+class ImageDerivativeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static BufferedImage solid(int width, int height, Color color, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * Test that images are scaled to fit with their aspect ratio, and small images are not enlarged.
+     */
+    @Test
+    void fit_BoundsLongestSide() {
+        BufferedImage landscape = ImageResizer.fit(solid(4000, 3000, Color.RED, BufferedImage.TYPE_INT_RGB), 320);
+        assertEquals(320, landscape.getWidth());
+        assertEquals(240, landscape.getHeight());
+
+        BufferedImage portrait = ImageResizer.fit(solid(300, 1200, Color.RED, BufferedImage.TYPE_INT_RGB), 1024);
+        assertEquals(256, portrait.getWidth());
+        assertEquals(1024, portrait.getHeight());
+
+        BufferedImage small = ImageResizer.fit(solid(100, 50, Color.RED, BufferedImage.TYPE_INT_RGB), 320);
+        assertEquals(100, small.getWidth());
+        assertEquals(50, small.getHeight());
+    }
+
+    /**
+     * Test that transparent images become PNG, opaque ones JPEG, and source metadata is dropped.
+     */
+    @Test
+    void encode_PicksFormatAndStripsMetadata() throws Exception {
+        ImageResizer.Encoded transparent = ImageResizer.encode(solid(10, 10, new Color(0, 0, 255, 128),
+                BufferedImage.TYPE_INT_ARGB));
+        assertEquals("image/png", transparent.contentType());
+
+        // A JPEG with an APP1 (EXIF) segment inserted after its JFIF header
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(solid(64, 48, Color.GREEN, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg);
+        byte[] plain = jpeg.toByteArray();
+        int afterJfif = 4 + ((plain[4] & 0xFF) << 8 | (plain[5] & 0xFF));
+        byte[] exif = "Exif\0\0GPS 51.5N 0.1W".getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(plain, 0, afterJfif);
+        withExif.write(new byte[] {(byte) 0xFF, (byte) 0xE1, 0, (byte) (exif.length + 2)});
+        withExif.write(exif);
+        withExif.write(plain, afterJfif, plain.length - afterJfif);
+
+        BufferedImage decoded = ImageResizer.read(new ByteArrayInputStream(withExif.toByteArray()), 1_000_000);
+        ImageResizer.Encoded opaque = ImageResizer.encode(ImageResizer.fit(decoded, 32));
+
+        assertEquals("image/jpeg", opaque.contentType());
+        String written = new String(opaque.data(), StandardCharsets.ISO_8859_1);
+        assertFalse(written.contains("Exif"));
+        assertFalse(written.contains("GPS"));
+    }
+
+    /**
+     * Test that images are refused before decoding when they have too many pixels or are not images.
+     */
+    @Test
+    void read_RejectsOversizedAndUnknownInput() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(solid(200, 200, Color.RED, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ImageResizer.read(new ByteArrayInputStream(png.toByteArray()), 10_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> ImageResizer.read(new ByteArrayInputStream("not an image".getBytes()), 10_000));
+    }
+
+    /**
+     * Test the BlurHash of a solid image: its length, and an average color that decodes back.
+     */
+    @Test
+    void blurHash_EncodesAverageColor() {
+        String hash = BlurHash.encode(solid(32, 24, new Color(200, 100, 50), BufferedImage.TYPE_INT_RGB), 4, 3);
+
+        assertEquals(4 + 2 * 4 * 3, hash.length());
+        // Size flag for 4x3 components
+        assertEquals('L', hash.charAt(0));
+        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+        int dc = 0;
+        for (char c : hash.substring(2, 6).toCharArray()) {
+            dc = dc * 83 + alphabet.indexOf(c);
+        }
+        assertEquals(200, dc >> 16);
+        assertEquals(100, (dc >> 8) & 0xFF);
+        assertEquals(50, dc & 0xFF);
+    }
+
+    /**
+     * Test that processing stores both renditions next to the original and links the articles.
+     */
+    @Test
+    void process_StoresDerivativesAndLinksArticles() throws Exception {
+        LocalBlobStore store = new LocalBlobStore(tempDir, "/uploads");
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(solid(2000, 1000, Color.ORANGE, BufferedImage.TYPE_INT_RGB), "png", png);
+        String url = store.put("cover.png", new ByteArrayInputStream(png.toByteArray()), "image/png");
+
+        ImageAssetRepository assets = mock(ImageAssetRepository.class);
+        when(assets.save(any(ImageAsset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ArticleRepository articles = mock(ArticleRepository.class);
+        when(articles.findIdsByImage(url)).thenReturn(List.of(7L));
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+
+        ImageDerivativeService service = new ImageDerivativeService(store, assets, articles, events, 1, 10);
+        assertTrue(service.submit(url));
+        assertFalse(service.submit("https://example.com/elsewhere.png"));
+        service.shutdown();
+
+        ArgumentCaptor<ImageAsset> saved = ArgumentCaptor.forClass(ImageAsset.class);
+        verify(assets).save(saved.capture());
+        ImageAsset asset = saved.getValue();
+        assertEquals(2000, asset.getWidth());
+        assertEquals(1000, asset.getHeight());
+        assertEquals("/uploads/cover.png.thumb.jpg", asset.getThumbnailUrl());
+        assertEquals("/uploads/cover.png.medium.jpg", asset.getMediumUrl());
+        assertEquals(28, asset.getPlaceholder().length());
+
+        BufferedImage thumbnail = ImageIO.read(store.resolve("cover.png.thumb.jpg").toFile());
+        assertEquals(320, thumbnail.getWidth());
+        assertEquals(160, thumbnail.getHeight());
+        assertTrue(Files.exists(store.resolve("cover.png.medium.jpg")));
+
+        verify(articles).attachImageAsset(List.of(7L), asset);
+        verify(events).publishEvent(any(ArticleChangedEvent.class));
+        assertEquals(1, service.stats().getCompleted());
+    }
+
+    /**
+     * Test that uploads are turned away rather than queued without bound while the workers are
+     * busy, and that images that cannot be decoded are recorded without renditions.
+     */
+    @Test
+    void submit_RejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlobStore slowStore = mock(BlobStore.class);
+        when(slowStore.keyOf(anyString())).thenAnswer(invocation -> Optional.of("key"));
+        when(slowStore.open("key")).thenAnswer(invocation -> {
+            release.await();
+            return InputStream.nullInputStream();
+        });
+        ImageAssetRepository assets = mock(ImageAssetRepository.class);
+
+        ImageDerivativeService service = new ImageDerivativeService(slowStore, assets,
+                mock(ArticleRepository.class), mock(ApplicationEventPublisher.class), 1, 2);
+
+        int accepted = 0;
+        for (int i = 0; i < 5; i++) {
+            if (service.submit("/uploads/" + i + ".png")) {
+                accepted++;
+            }
+        }
+
+        // One image in progress and two queued
+        assertEquals(3, accepted);
+        assertEquals(2, service.stats().getRejected());
+        release.countDown();
+        service.shutdown();
+        assertEquals(3, service.stats().getFailed());
+        assertEquals(0, service.stats().getQueueDepth());
+        ArgumentCaptor<ImageAsset> recorded = ArgumentCaptor.forClass(ImageAsset.class);
+        verify(assets, times(3)).save(recorded.capture());
+        assertNull(recorded.getValue().getMediumUrl());
+        assertNull(recorded.getValue().getThumbnailUrl());
+    }
+}
@@ -0,0 +1,86 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.service.InlineImageMigration;
+import com.thoughtNest.backend.storage.UploadService;
+import com.thoughtNest.backend.util.DataUri;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DataUri and InlineImageMigration.
+ */
+class InlineImageTest {
+
+    /**
+     * Test that the payload decodes to the original bytes, including line-wrapped base64.
+     */
+    @Test
+    void dataUri_DecodesPayload() throws Exception {
+        byte[] image = new byte[10_000];
+        new Random(7).nextBytes(image);
+        String dataUri = "data:image/PNG;base64," + Base64.getMimeEncoder().encodeToString(image);
+
+        DataUri parsed = DataUri.parse(dataUri);
+        assertEquals("image/png", parsed.getMediaType());
+        assertEquals(".png", parsed.getExtension());
+        try (InputStream in = parsed.openStream()) {
+            assertArrayEquals(image, in.readAllBytes());
+        }
+    }
+
+    /**
+     * Test that URLs, non-base64 payloads and unsupported types are told apart or rejected.
+     */
+    @Test
+    void dataUri_RejectsUnsupportedValues() {
+        assertFalse(DataUri.isDataUri("https://example.com/cover.png"));
+        assertFalse(DataUri.isDataUri(null));
+        assertThrows(IllegalArgumentException.class, () -> DataUri.parse("data:image/png,raw"));
+        assertThrows(IllegalArgumentException.class, () -> DataUri.parse("data:image/svg+xml;base64,PHN2Zz4="));
+        assertThrows(IllegalArgumentException.class, () -> DataUri.parse("data:image/png;base64"));
+    }
+
+    /**
+     * Test that the migration uploads inline images, stores their URL, skips undecodable rows
+     * and announces the change so cached copies are refreshed.
+     */
+    @Test
+    void migration_ReplacesInlineImages() throws Exception {
+        ArticleRepository repository = mock(ArticleRepository.class);
+        UploadService uploads = mock(UploadService.class);
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+        String good = "data:image/jpeg;base64," + "A".repeat(4_000);
+        String bad = "data:text/html;base64,PGI+";
+
+        when(repository.findIdsWithInlineImageAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(repository.findImageById(1L)).thenReturn(Optional.of(good));
+        when(repository.findImageById(2L)).thenReturn(Optional.of(bad));
+        when(uploads.uploadDataUri(good)).thenReturn("https://storage.googleapis.com/bucket/1.jpg");
+        when(uploads.uploadDataUri(bad)).thenThrow(new IllegalArgumentException("Unsupported image type: text/html"));
+        when(repository.replaceInlineImage(1L, "https://storage.googleapis.com/bucket/1.jpg")).thenReturn(1);
+
+        InlineImageMigration migration = new InlineImageMigration(repository, uploads, events, false);
+        assertTrue(migration.run());
+
+        verify(repository, never()).replaceInlineImage(eq(2L), any());
+        verify(events).publishEvent(any(ArticleChangedEvent.class));
+        verify(uploads).switchReference(null, "https://storage.googleapis.com/bucket/1.jpg");
+        assertEquals(2, migration.stats().getScannedRows());
+        assertEquals(1, migration.stats().getExtractedRows());
+        assertEquals(1, migration.stats().getFailedRows());
+        assertTrue(migration.stats().getRemovedChars() > 3_900);
+    }
+}
@@ -0,0 +1,183 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.cache.HotFileCache;
+import com.thoughtNest.backend.controller.LocalFileController;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for serving local uploads: ranges, conditional requests, cache headers and the hot file cache.
+ */
+class LocalFileControllerTest {
+
+    private static final String HASH_KEY = "a".repeat(64) + ".png";
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+    private HotFileCache hotFileCache;
+    private byte[] small;
+    private byte[] large;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalBlobStore blobStore = new LocalBlobStore(tempDir, "/uploads");
+        hotFileCache = new HotFileCache(1 << 20, 64 * 1024);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalFileController(blobStore, hotFileCache)).build();
+
+        small = new byte[10_000];
+        new Random(1).nextBytes(small);
+        large = new byte[500_000];
+        new Random(2).nextBytes(large);
+        blobStore.put(HASH_KEY, new ByteArrayInputStream(small), "image/png");
+        blobStore.put("legacy-cover.jpg", new ByteArrayInputStream(large), "image/jpeg");
+    }
+
+    /**
+     * Test that content-addressed files are immutable for caches and other files revalidate.
+     */
+    @Test
+    void fullFile_HasCacheHeaders() throws Exception {
+        mockMvc.perform(get("/uploads/" + HASH_KEY))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(small))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(header().string("ETag", "\"" + HASH_KEY + "\""))
+                .andExpect(header().string("Accept-Ranges", "bytes"));
+
+        mockMvc.perform(get("/uploads/legacy-cover.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(large))
+                .andExpect(header().string("Cache-Control", "max-age=86400, public"));
+    }
+
+    /**
+     * Test single byte ranges, suffix ranges, If-Range and unsatisfiable ranges.
+     */
+    @Test
+    void ranges_AreServed() throws Exception {
+        mockMvc.perform(get("/uploads/legacy-cover.jpg").header("Range", "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 100-199/500000"))
+                .andExpect(header().longValue("Content-Length", 100))
+                .andExpect(content().bytes(Arrays.copyOfRange(large, 100, 200)));
+
+        mockMvc.perform(get("/uploads/" + HASH_KEY).header("Range", "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(small, 9_990, 10_000)));
+
+        mockMvc.perform(get("/uploads/" + HASH_KEY).header("Range", "bytes=0-1").header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(small));
+
+        mockMvc.perform(get("/uploads/legacy-cover.jpg").header("Range", "bytes=600000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */500000"));
+
+        mockMvc.perform(get("/uploads/legacy-cover.jpg").header("Range", "bytes=0-1,5-6"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Test that a matching If-None-Match is answered with 304 and no body.
+     */
+    @Test
+    void matchingETag_IsNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/uploads/legacy-cover.jpg")).andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/uploads/legacy-cover.jpg").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    /**
+     * Test that large files are handed to Tomcat's sendfile when it is available.
+     */
+    @Test
+    void largeFiles_UseSendfile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/uploads/legacy-cover.jpg")
+                        .header("Range", "bytes=1000-")
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().longValue("Content-Length", 499_000))
+                .andExpect(content().bytes(new byte[0]))
+                .andReturn();
+
+        assertEquals(tempDir.resolve("legacy-cover.jpg").toString(),
+                result.getRequest().getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(1000L, result.getRequest().getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(500_000L, result.getRequest().getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    /**
+     * Test that small files are read from disk once and then served from memory.
+     */
+    @Test
+    void smallFiles_AreCached() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/uploads/" + HASH_KEY)).andExpect(content().bytes(small));
+        }
+        mockMvc.perform(head("/uploads/" + HASH_KEY))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue("Content-Length", small.length));
+
+        assertEquals(1, hotFileCache.stats().getLoads());
+        assertEquals(2, hotFileCache.stats().getHits());
+    }
+
+    /**
+     * Test that files that are not raster images, such as HTML or SVG stored before uploads were
+     * checked, are sent as attachments and never with a type a browser would render.
+     */
+    @Test
+    void documents_AreServedAsAttachments() throws Exception {
+        LocalBlobStore blobStore = new LocalBlobStore(tempDir, "/uploads");
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+        String htmlKey = "b".repeat(64) + ".html";
+        String svgKey = "c".repeat(64) + ".svg";
+        blobStore.put(htmlKey, new ByteArrayInputStream(html), "text/html");
+        blobStore.put(svgKey, new ByteArrayInputStream(html), "image/svg+xml");
+
+        for (String key : new String[]{htmlKey, svgKey}) {
+            mockMvc.perform(get("/uploads/" + key))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(html))
+                    .andExpect(content().contentType("application/octet-stream"))
+                    .andExpect(header().string("Content-Disposition", "attachment"))
+                    .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+        }
+        mockMvc.perform(get("/uploads/" + HASH_KEY))
+                .andExpect(header().doesNotExist("Content-Disposition"));
+    }
+
+    /**
+     * Test that missing files and temporary files of uploads in progress are not found.
+     */
+    @Test
+    void unknownFiles_AreNotFound() throws Exception {
+        Files.write(tempDir.resolve(".upload-1.tmp"), small);
+
+        mockMvc.perform(get("/uploads/missing.png")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/.upload-1.tmp")).andExpect(status().isNotFound());
+    }
+}
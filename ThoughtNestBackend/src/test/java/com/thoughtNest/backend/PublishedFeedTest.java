@@ -0,0 +1,226 @@
+package com.thoughtNest.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.thoughtNest.backend.dto.ArticlePage;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.dto.ListingVersionInfo;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
+import com.thoughtNest.backend.feed.FeedPage;
+import com.thoughtNest.backend.feed.PublishedFeed;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.util.ArticleCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PublishedFeed.
+ *
+ * Verifies that pre-rendered pages are byte-for-byte what the database path would send,
+ * that cursors lead from page to page, and that an update only re-renders the pages it touches.
+ */
+class PublishedFeedTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ArticleRepository articleRepository;
+    private List<ArticleSummary> published;
+
+    @BeforeEach
+    void setup() {
+        articleRepository = mock(ArticleRepository.class);
+        published = new ArrayList<>();
+        when(articleRepository.findPublishedSummariesFirstPage(any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Pageable page = invocation.getArgument(0);
+                    return published.subList(0, Math.min(page.getPageSize(), published.size()));
+                });
+        when(articleRepository.findPublishedListingVersion()).thenAnswer(invocation -> version());
+    }
+
+    /**
+     * Builds a published summary modified the given number of minutes before NOW.
+     */
+    private static ArticleSummary summary(long id, int minutesAgo) {
+        return new ArticleSummary(id, "Title " + id, "Excerpt " + id, NOW.toLocalDate(), null,
+                "author", true, NOW.minusMinutes(minutesAgo));
+    }
+
+    private ListingVersionInfo version() {
+        return new ListingVersionInfo(published.isEmpty() ? null : published.get(0).getLastModifiedDate(),
+                (long) published.size());
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            published.add(summary(i + 1, i + 1));
+        }
+    }
+
+    private static String body(FeedPage page) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        page.writeTo(response);
+        return response.getContentAsString();
+    }
+
+    /**
+     * Test that a pre-rendered page is identical to the ResponseHandler envelope Jackson would produce.
+     */
+    @Test
+    void pageMatchesDatabaseResponse() throws Exception {
+        publish(25);
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, false);
+        feed.rebuild();
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("message", "Published articles retrieved");
+        expected.put("status", 200);
+        expected.put("data", new ArticlePage<>(published.subList(0, 20),
+                ArticleCursor.after(published.get(19)).encode()));
+
+        assertEquals(objectMapper.writeValueAsString(expected), body(feed.page(null, 20).orElseThrow()));
+    }
+
+    /**
+     * Test that the next cursor of a page selects the following pre-rendered page, and that
+     * other limits or unknown cursors fall back to the database.
+     */
+    @Test
+    void cursorsLeadThroughPages() throws Exception {
+        publish(25);
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, true);
+        feed.rebuild();
+
+        JsonNode first = objectMapper.readTree(body(feed.page(null, 20).orElseThrow()));
+        String next = first.path("data").path("next").asText();
+
+        JsonNode second = objectMapper.readTree(body(feed.page(next, 20).orElseThrow()));
+        assertEquals(5, second.path("data").path("articles").size());
+        assertEquals(21, second.path("data").path("articles").get(0).path("id").asLong());
+        assertTrue(second.path("data").path("next").isNull());
+
+        assertTrue(feed.page(null, 10).isEmpty());
+        assertTrue(feed.page("unknown", 20).isEmpty());
+    }
+
+    /**
+     * Test that an edited article moves to the top and only the pages between its old and new
+     * position are rendered again.
+     */
+    @Test
+    void updateRendersOnlyTouchedPages() throws Exception {
+        publish(60); // three full pages
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, false);
+        feed.rebuild();
+        long rendered = feed.stats().getPagesRendered();
+
+        // Article 25 (second page) is edited and becomes the newest
+        ArticleSummary edited = summary(25, 0);
+        published.remove(24);
+        published.add(0, edited);
+        when(articleRepository.findPublishedSummaryById(25L)).thenReturn(Optional.of(edited));
+
+        feed.onArticleChanged(ArticleChangedEvent.saved(25L));
+
+        assertEquals(2, feed.stats().getPagesRendered() - rendered);
+        JsonNode first = objectMapper.readTree(body(feed.page(null, 20).orElseThrow()));
+        assertEquals(25, first.path("data").path("articles").get(0).path("id").asLong());
+    }
+
+    /**
+     * Test that unpublishing removes the article and shortens the feed.
+     */
+    @Test
+    void unpublishRemovesArticle() throws Exception {
+        publish(3);
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, false);
+        feed.rebuild();
+
+        published.remove(0);
+        when(articleRepository.findPublishedSummaryById(1L)).thenReturn(Optional.empty());
+        feed.onArticleChanged(ArticleChangedEvent.saved(1L));
+
+        JsonNode page = objectMapper.readTree(body(feed.page(null, 20).orElseThrow()));
+        assertEquals(2, page.path("data").path("articles").size());
+        assertEquals(2, page.path("data").path("articles").get(0).path("id").asLong());
+        assertEquals(2, feed.stats().getItems());
+    }
+
+    /**
+     * Test that a patch reads the listing version before the changed article, so a change
+     * committing in between cannot give the pages a version that already includes it.
+     */
+    @Test
+    void patchReadsVersionFirst() throws Exception {
+        publish(3);
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, false);
+        feed.rebuild();
+
+        ArticleSummary edited = summary(2, 0);
+        published.remove(1);
+        published.add(0, edited);
+        when(articleRepository.findPublishedSummaryById(2L)).thenReturn(Optional.of(edited));
+        clearInvocations(articleRepository);
+        feed.onArticleChanged(ArticleChangedEvent.saved(2L));
+
+        InOrder order = inOrder(articleRepository);
+        order.verify(articleRepository).findPublishedListingVersion();
+        order.verify(articleRepository).findPublishedSummaryById(2L);
+    }
+
+    /**
+     * Test that a bulk change is applied with one rebuild rather than one patch per article.
+     */
+    @Test
+    void bulkChangeRebuildsOnce() throws Exception {
+        publish(30);
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, false);
+        feed.rebuild();
+
+        published.subList(0, 10).clear();
+        feed.onArticleChanged(ArticleChangedEvent.deleted(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)));
+
+        assertEquals(2, feed.stats().getRebuilds());
+        assertEquals(0, feed.stats().getPatches());
+        assertEquals(20, feed.stats().getItems());
+        verify(articleRepository, never()).findPublishedSummaryById(anyLong());
+    }
+
+    /**
+     * Test that a username change reaches the pre-rendered pages.
+     */
+    @Test
+    void renameRebuildsPages() throws Exception {
+        publish(3);
+        PublishedFeed feed = new PublishedFeed(articleRepository, objectMapper, 5, false);
+        feed.rebuild();
+
+        published.replaceAll(summary -> new ArticleSummary(summary.getId(), summary.getTitle(), summary.getExcerpt(),
+                summary.getDate(), null, "renamed", true, summary.getLastModifiedDate()));
+        feed.onUserChanged(new UserChangedEvent(1L, "renamed"));
+
+        String page = body(feed.page(null, 20).orElseThrow());
+        assertTrue(page.contains("\"renamed\""), page);
+        assertFalse(page.contains("\"author\""), page);
+    }
+}
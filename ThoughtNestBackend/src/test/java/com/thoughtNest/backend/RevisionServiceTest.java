@@ -0,0 +1,199 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.ArticleRevisionDTO;
+import com.thoughtNest.backend.dto.ArticleRevisionInfo;
+import com.thoughtNest.backend.dto.ArticleText;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.model.ArticleRevision;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.repository.ArticleRevisionRepository;
+import com.thoughtNest.backend.revision.RevisionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the revision history, with the revision table kept in a list behind a mocked
+ * repository.
+ */
+class RevisionServiceTest {
+
+    private static final String ARTICLE = "<p>" + "A long paragraph of article text. ".repeat(500) + "</p>";
+
+    private final List<ArticleRevision> table = new ArrayList<>();
+    private ArticleRevisionRepository revisionRepository;
+    private ArticleRepository articleRepository;
+    private RevisionService service;
+
+    @BeforeEach
+    void setUp() {
+        revisionRepository = mock(ArticleRevisionRepository.class);
+        articleRepository = mock(ArticleRepository.class);
+
+        when(revisionRepository.save(any(ArticleRevision.class))).thenAnswer(invocation -> {
+            ArticleRevision revision = invocation.getArgument(0);
+            if (find(revision.getArticleId(), revision.getRevision()).isPresent()) {
+                throw new DataIntegrityViolationException("uk_article_revisions_number");
+            }
+            revision.setId((long) table.size() + 1);
+            table.add(revision);
+            return revision;
+        });
+        when(revisionRepository.findTopByArticleIdOrderByRevisionDesc(anyLong())).thenAnswer(invocation ->
+                of(invocation.getArgument(0)).stream().max(Comparator.comparingInt(ArticleRevision::getRevision)));
+        when(revisionRepository.findByArticleIdAndRevision(anyLong(), anyInt())).thenAnswer(invocation ->
+                find(invocation.getArgument(0), invocation.getArgument(1)));
+        when(revisionRepository.findByArticleIdAndRevisionBetweenOrderByRevision(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> of(invocation.getArgument(0)).stream()
+                        .filter(r -> r.getRevision() >= invocation.<Integer>getArgument(1)
+                                && r.getRevision() <= invocation.<Integer>getArgument(2))
+                        .sorted(Comparator.comparingInt(ArticleRevision::getRevision))
+                        .toList());
+        when(revisionRepository.existsByArticleId(anyLong())).thenAnswer(invocation ->
+                !of(invocation.getArgument(0)).isEmpty());
+        when(revisionRepository.findInfoByArticleId(anyLong())).thenAnswer(invocation ->
+                of(invocation.getArgument(0)).stream()
+                        .sorted(Comparator.comparingInt(ArticleRevision::getRevision).reversed())
+                        .map(r -> new ArticleRevisionInfo(r.getRevision(), r.getTitle(), r.getCreatedAt(), r.getDepth()))
+                        .toList());
+
+        service = new RevisionService(revisionRepository, articleRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 4);
+    }
+
+    private List<ArticleRevision> of(Long articleId) {
+        return table.stream().filter(r -> r.getArticleId().equals(articleId)).toList();
+    }
+
+    private Optional<ArticleRevision> find(Long articleId, int revision) {
+        return of(articleId).stream().filter(r -> r.getRevision() == revision).findFirst();
+    }
+
+    /**
+     * Test that edits are stored as small deltas between periodic snapshots, and that every
+     * revision rebuilds to exactly what was saved.
+     */
+    @Test
+    void edits_StoredAsDeltasBetweenSnapshots() {
+        List<String> saved = new ArrayList<>();
+        String content = ARTICLE;
+        for (int i = 1; i <= 10; i++) {
+            content = content.substring(0, i * 100) + "edit " + i + content.substring(i * 100 + 3);
+            saved.add(content);
+            service.record(1L, "Title " + i, content);
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 0, 1, 2, 3, 0, 1), table.stream().map(ArticleRevision::getDepth).toList());
+        for (ArticleRevision revision : table) {
+            if (!revision.isSnapshot()) {
+                assertTrue(revision.getBody().length() < 64, revision.getBody());
+            }
+        }
+        for (int i = 1; i <= 10; i++) {
+            ArticleRevisionDTO revision = service.getRevision(1L, i).orElseThrow();
+            assertEquals(saved.get(i - 1), revision.getContent());
+            assertEquals("Title " + i, revision.getTitle());
+        }
+        assertEquals(10, service.listRevisions(1L).get(0).getRevision());
+        assertTrue(service.getRevision(1L, 11).isEmpty());
+    }
+
+    /**
+     * Test that saves without a change of title or content add no revision, and that a rewrite
+     * is stored as a snapshot.
+     */
+    @Test
+    void unchangedAndRewrittenSaves() {
+        service.record(1L, "Title", ARTICLE);
+        service.record(1L, "Title", ARTICLE);
+        assertEquals(1, table.size());
+
+        service.record(1L, "Renamed", ARTICLE);
+        assertEquals(1, table.get(1).getDepth());
+
+        service.record(1L, "Renamed", "Something else entirely. ".repeat(100));
+        assertTrue(table.get(2).isSnapshot());
+    }
+
+    /**
+     * Test that an article without history gets its stored state recorded before the first save.
+     */
+    @Test
+    void beforeSave_RecordsStoredStateOnce() {
+        LocalDateTime written = LocalDateTime.of(2024, 1, 1, 9, 0);
+        when(articleRepository.findTextById(1L)).thenReturn(Optional.of(new ArticleText(1L, "Old", ARTICLE, written)));
+
+        service.beforeSave(1L);
+        service.record(1L, "New", ARTICLE + "<p>More</p>");
+        service.beforeSave(1L);
+        service.beforeSave(null);
+
+        verify(articleRepository, times(1)).findTextById(1L);
+        assertEquals(2, table.size());
+        assertEquals("Old", service.getRevision(1L, 1).orElseThrow().getTitle());
+        assertEquals(written, service.getRevision(1L, 1).orElseThrow().getCreatedAt());
+    }
+
+    /**
+     * Test that a save racing for the same revision number retries on top of the winner.
+     */
+    @Test
+    void concurrentSave_Retries() {
+        service.record(1L, "Title", ARTICLE);
+        // The first lookup misses the revision a concurrent save just added
+        when(revisionRepository.findTopByArticleIdOrderByRevisionDesc(1L))
+                .thenReturn(Optional.empty())
+                .thenAnswer(invocation -> Optional.of(table.get(0)));
+
+        service.record(1L, "Title", ARTICLE + "<p>More</p>");
+
+        assertEquals(2, table.size());
+        assertEquals(ARTICLE + "<p>More</p>", service.getRevision(1L, 2).orElseThrow().getContent());
+    }
+
+    /**
+     * Test that a save losing the race within its own transaction fails rather than retrying.
+     */
+    @Test
+    void concurrentSave_InSaveTransaction_Fails() {
+        service.record(1L, "Title", ARTICLE);
+        when(revisionRepository.findTopByArticleIdOrderByRevisionDesc(1L))
+                .thenReturn(Optional.empty())
+                .thenAnswer(invocation -> Optional.of(table.get(0)));
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> service.record(1L, "Title", ARTICLE + "<p>More</p>"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertEquals(1, table.size());
+    }
+
+    /**
+     * Test that deleting an article removes its history.
+     */
+    @Test
+    void deletedArticle_RemovesHistory() {
+        service.onArticleChanged(ArticleChangedEvent.saved(1L));
+        verify(revisionRepository, never()).deleteByArticleIdIn(any());
+
+        service.onArticleChanged(ArticleChangedEvent.deleted(1L));
+        verify(revisionRepository).deleteByArticleIdIn(List.of(1L));
+    }
+}
@@ -0,0 +1,148 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.search.SearchIndex;
+import com.thoughtNest.backend.search.SnippetHighlighter;
+import com.thoughtNest.backend.search.Tokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SearchIndex and SnippetHighlighter.
+ *
+ * Verifies BM25 ranking, incremental updates and deletes, paging, and that an index saved
+ * to disk answers the same queries after it is loaded again.
+ */
+class SearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @TempDir
+    Path dir;
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new SearchIndex(dir.resolve("articles.idx"));
+    }
+
+    private List<Long> ids(String query, int offset, int limit) {
+        return index.search(Tokenizer.queryTerms(query), offset, limit).getHits().stream()
+                .map(SearchIndex.Hit::getArticleId)
+                .toList();
+    }
+
+    /**
+     * Test that a match in the title ranks above a match in the body.
+     */
+    @Test
+    void search_TitleMatchRanksFirst() {
+        index.upsert(1L, "Gardening notes", "<p>Some thoughts about java and coffee.</p>", NOW);
+        index.upsert(2L, "Java in practice", "<p>Notes from a long project.</p>", NOW);
+        index.upsert(3L, "Cooking", "<p>Nothing relevant here.</p>", NOW);
+
+        assertEquals(List.of(2L, 1L), ids("Java", 0, 10));
+        assertEquals(2, index.search(Tokenizer.queryTerms("java"), 0, 10).getTotal());
+    }
+
+    /**
+     * Test that updating an article replaces its old terms and deleting removes it.
+     */
+    @Test
+    void upsertAndDelete_UpdateResults() {
+        index.upsert(1L, "Spring Boot", "<p>Configuration tips</p>", NOW);
+        index.upsert(1L, "Hibernate", "<p>Mapping tips</p>", NOW.plusMinutes(1));
+
+        assertTrue(ids("spring", 0, 10).isEmpty());
+        assertEquals(List.of(1L), ids("hibernate", 0, 10));
+        assertEquals(1, index.liveDocs());
+
+        assertTrue(index.delete(1L));
+        assertTrue(ids("hibernate", 0, 10).isEmpty());
+        assertEquals(0, index.liveDocs());
+        assertEquals(NOW.plusMinutes(1), index.watermark());
+    }
+
+    /**
+     * Test that offset and limit page through the hits while total counts all matches.
+     */
+    @Test
+    void search_PagesThroughHits() {
+        for (long id = 1; id <= 5; id++) {
+            index.upsert(id, "Post " + id, "<p>shared word</p>", NOW);
+        }
+
+        SearchIndex.Hits first = index.search(Tokenizer.queryTerms("shared"), 0, 2);
+        SearchIndex.Hits last = index.search(Tokenizer.queryTerms("shared"), 4, 2);
+
+        assertEquals(5, first.getTotal());
+        // Equal scores are ordered newest article first
+        assertEquals(List.of(5L, 4L), ids("shared", 0, 2));
+        assertEquals(1, last.getHits().size());
+        assertEquals(1L, last.getHits().get(0).getArticleId());
+    }
+
+    /**
+     * Test that a saved index is loaded with the same results and keeps accepting updates.
+     */
+    @Test
+    void saveAndLoad_RoundTrip() throws Exception {
+        index.upsert(1L, "Java streams", "<p>Collectors and grouping</p>", NOW);
+        index.upsert(2L, "Kotlin coroutines", "<p>Structured concurrency in java land</p>", NOW);
+        index.upsert(3L, "Rust ownership", "<p>Borrowing rules</p>", NOW.plusHours(1));
+        index.delete(3L);
+        List<Long> before = ids("java", 0, 10);
+        index.save();
+
+        SearchIndex reloaded = new SearchIndex(dir.resolve("articles.idx"));
+        assertTrue(reloaded.load());
+        assertEquals(2, reloaded.liveDocs());
+        assertEquals(0, reloaded.unsavedDocs());
+        assertEquals(NOW.plusHours(1), reloaded.watermark());
+        assertEquals(before, reloaded.search(Tokenizer.queryTerms("java"), 0, 10).getHits().stream()
+                .map(SearchIndex.Hit::getArticleId).toList());
+        assertTrue(reloaded.search(Tokenizer.queryTerms("borrowing"), 0, 10).getHits().isEmpty());
+
+        // Changes on top of the mapped file: delete from it and index a new article
+        assertTrue(reloaded.delete(1L));
+        reloaded.upsert(4L, "Java records", "<p>Immutable data</p>", NOW.plusHours(2));
+        assertEquals(List.of(4L, 2L), reloaded.search(Tokenizer.queryTerms("java"), 0, 10).getHits().stream()
+                .map(SearchIndex.Hit::getArticleId).toList());
+
+        assertEquals(1, reloaded.retainOnly(new long[] {4L}));
+        assertEquals(1, reloaded.liveDocs());
+    }
+
+    /**
+     * Test that a missing index file is reported so the caller can build one.
+     */
+    @Test
+    void load_NoFile() throws Exception {
+        assertFalse(index.load());
+    }
+
+    /**
+     * Test that snippets show the matching part of the content with escaped markup.
+     */
+    @Test
+    void snippet_HighlightsMatches() {
+        StringBuilder html = new StringBuilder("<p>");
+        for (int i = 0; i < 50; i++) {
+            html.append("filler").append(i).append(' ');
+        }
+        html.append("the Index & ranking</p>");
+
+        String snippet = SnippetHighlighter.snippet(html.toString(), Tokenizer.queryTerms("ranking index"));
+
+        assertTrue(snippet.startsWith("… "));
+        assertTrue(snippet.contains("<mark>Index</mark> &amp; <mark>ranking</mark>"));
+        assertEquals("<mark>Java</mark> &lt;3", SnippetHighlighter.highlightAll("Java <3", List.of("java")));
+    }
+}
@@ -0,0 +1,156 @@
+package com.thoughtNest.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.thoughtNest.backend.dto.ArticleDTO;
+import com.thoughtNest.backend.dto.ArticlePage;
+import com.thoughtNest.backend.model.Article;
+import com.thoughtNest.backend.util.ResponseHandler;
+import com.thoughtNest.backend.util.StreamingJson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamingJson.
+ *
+ * Verifies that the streamed listing is byte-for-byte the buffered response, and contains a
+ * benchmark comparing peak heap use of both paths. The benchmark is skipped unless the tests
+ * run with {@code -Dbenchmarks=true}.
+ */
+class StreamingJsonTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static ArticleDTO article(long id, String content) {
+        return new ArticleDTO(id, "Title " + id, content, LocalDate.of(2025, 6, 1), null,
+                "author" + (id % 7), id % 2 == 0, NOW.minusMinutes(id));
+    }
+
+    /**
+     * Test that the streamed body matches what ResponseHandler would send for the same rows.
+     */
+    @Test
+    void writeListing_MatchesBufferedResponse() throws Exception {
+        List<ArticleDTO> rows = new ArrayList<>();
+        for (long id = 1; id <= 250; id++) {
+            rows.add(article(id, "<p>Body \"" + id + "\" – ünïcode</p>"));
+        }
+
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        long count = StreamingJson.writeListing(objectMapper, streamed, "All articles retrieved", rows.stream());
+
+        Object buffered = ResponseHandler.success("All articles retrieved", new ArticlePage<>(rows, null)).getBody();
+        assertEquals(250, count);
+        assertEquals(objectMapper.writeValueAsString(buffered), streamed.toString("UTF-8"));
+    }
+
+    /**
+     * Test that an empty listing is still a complete envelope.
+     */
+    @Test
+    void writeListing_Empty() throws Exception {
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        StreamingJson.writeListing(objectMapper, streamed, "All articles retrieved", Stream.empty());
+
+        assertEquals("{\"message\":\"All articles retrieved\",\"status\":200,\"data\":{\"articles\":[],\"next\":null}}",
+                streamed.toString("UTF-8"));
+    }
+
+    /**
+     * Compares peak heap use of the buffered listing (entities, then DTOs, then the response map,
+     * then the serialized body) with the streamed one for the same 20,000 articles of 10 KB each.
+     * Run with {@code mvn test -Dtest=StreamingJsonTest -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_PeakHeap() throws Exception {
+        int rows = 20_000;
+        String body = "x".repeat(10_000);
+        OutputStream discard = OutputStream.nullOutputStream();
+
+        long buffered = peakHeapDuring(() -> {
+            List<Article> entities = new ArrayList<>();
+            for (long id = 1; id <= rows; id++) {
+                Article article = new Article();
+                article.setId(id);
+                article.setTitle("Title " + id);
+                // A fresh copy per row, as each row read from the database would be
+                article.setContent(new String(body.toCharArray()));
+                article.setLastModifiedDate(NOW.minusMinutes(id));
+                entities.add(article);
+            }
+            List<ArticleDTO> dtos = entities.stream().map(ArticleDTO::new).toList();
+            Object response = ResponseHandler.success("All articles retrieved", new ArticlePage<>(dtos, null)).getBody();
+            discard.write(objectMapper.writeValueAsBytes(response));
+        });
+
+        long streamed = peakHeapDuring(() -> StreamingJson.writeListing(objectMapper, discard, "All articles retrieved",
+                LongStream.rangeClosed(1, rows).mapToObj(id -> article(id, new String(body.toCharArray())))));
+
+        System.out.printf("📊 Peak heap for %d articles: buffered %d MB, streamed %d MB%n",
+                rows, buffered >> 20, streamed >> 20);
+        assertTrue(streamed * 4 < buffered, "Streaming should need a fraction of the buffered heap");
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs the work while sampling the heap outside the eden space, and returns the peak above the
+     * starting level. Short-lived garbage dies in eden whatever its volume; whatever has to stay
+     * reachable across collections shows up in the survivor and old generations.
+     */
+    private static long peakHeapDuring(Work work) throws Exception {
+        List<MemoryPoolMXBean> retainedPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && !pool.getName().contains("Eden"))
+                .toList();
+        System.gc();
+        long baseline = retained(retainedPools);
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(retained(retainedPools), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+        sampler.start();
+        try {
+            work.run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        return Math.max(0, peak.get() - baseline);
+    }
+
+    private static long retained(List<MemoryPoolMXBean> pools) {
+        long used = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            used += pool.getUsage().getUsed();
+        }
+        return used;
+    }
+}
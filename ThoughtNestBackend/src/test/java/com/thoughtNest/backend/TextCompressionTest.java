@@ -0,0 +1,132 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.model.CompressedTextConverter;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.service.ContentCompressionMigration;
+import com.thoughtNest.backend.util.TextCompression;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TextCompression, CompressedTextConverter and ContentCompressionMigration.
+ */
+class TextCompressionTest {
+
+    private static final String LONG_HTML = "<p>Thoughts on writing – ünïcode included.</p>\n".repeat(100);
+
+    /**
+     * Test that long text is stored compressed and reads back unchanged.
+     */
+    @Test
+    void compress_RoundTrip() {
+        String stored = TextCompression.compress(LONG_HTML, 1024);
+
+        assertTrue(TextCompression.isCompressed(stored));
+        assertTrue(stored.length() < LONG_HTML.length() / 4);
+        assertEquals(LONG_HTML, TextCompression.decompress(stored));
+    }
+
+    /**
+     * Test that short or incompressible text is kept as it is.
+     */
+    @Test
+    void compress_KeepsShortAndIncompressibleText() {
+        assertEquals("<p>Short</p>", TextCompression.compress("<p>Short</p>", 1024));
+
+        byte[] random = new byte[3000];
+        new Random(42).nextBytes(random);
+        String noise = Base64.getEncoder().encodeToString(random);
+        assertSame(noise, TextCompression.compress(noise, 1024));
+        assertNull(TextCompression.compress(null, 1024));
+    }
+
+    /**
+     * Test that values stored before compression are read as plain text.
+     */
+    @Test
+    void decompress_PlainTextPassesThrough() {
+        assertEquals(LONG_HTML, TextCompression.decompress(LONG_HTML));
+        assertEquals("", TextCompression.decompress(""));
+        assertNull(TextCompression.decompress(null));
+    }
+
+    /**
+     * Test that an unknown format version is rejected instead of misread.
+     */
+    @Test
+    void decompress_UnknownVersion() {
+        String stored = TextCompression.MARKER + Base64.getEncoder().encodeToString(new byte[] {9, 1, 2, 3});
+
+        assertThrows(IllegalStateException.class, () -> TextCompression.decompress(stored));
+    }
+
+    /**
+     * Test that the converter always decodes, but only encodes when enabled.
+     */
+    @Test
+    void converter_EncodesOnlyWhenEnabled() {
+        CompressedTextConverter disabled = new CompressedTextConverter();
+        CompressedTextConverter enabled = new CompressedTextConverter(true, 1024);
+
+        assertEquals(LONG_HTML, disabled.convertToDatabaseColumn(LONG_HTML));
+        String stored = enabled.convertToDatabaseColumn(LONG_HTML);
+        assertTrue(TextCompression.isCompressed(stored));
+        assertEquals(LONG_HTML, disabled.convertToEntityAttribute(stored));
+    }
+
+    /**
+     * Test that plain text starting with the marker reads back unchanged, whether it is stored
+     * compressed, kept plain for being short, or written with compression disabled.
+     */
+    @Test
+    void markerPrefixedText_RoundTrips() {
+        CompressedTextConverter disabled = new CompressedTextConverter();
+        CompressedTextConverter enabled = new CompressedTextConverter(true, 1024);
+        String[] texts = {
+                TextCompression.MARKER + "<p>Short</p>",
+                TextCompression.MARKER + LONG_HTML,
+                TextCompression.MARKER + "AQID",
+                String.valueOf(TextCompression.MARKER)};
+
+        for (String text : texts) {
+            assertEquals(text, disabled.convertToEntityAttribute(disabled.convertToDatabaseColumn(text)));
+            assertEquals(text, enabled.convertToEntityAttribute(enabled.convertToDatabaseColumn(text)));
+            assertEquals(text, TextCompression.decompress(TextCompression.compress(text, 1024)));
+        }
+        assertTrue(TextCompression.compress(TextCompression.MARKER + LONG_HTML, 1024).length() < LONG_HTML.length() / 4);
+    }
+
+    /**
+     * Test that the migration rewrites plain long rows and leaves short and already compressed
+     * rows alone.
+     */
+    @Test
+    void migration_CompressesPlainRows() {
+        ArticleRepository repository = mock(ArticleRepository.class);
+        String compressed = TextCompression.compress(LONG_HTML, 1024);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1L, LONG_HTML});
+        rows.add(new Object[] {2L, "<p>Short</p>"});
+        rows.add(new Object[] {3L, compressed});
+        when(repository.findStoredContentAfterId(0L, 3)).thenReturn(rows);
+        when(repository.findStoredContentAfterId(3L, 3)).thenReturn(List.of());
+        when(repository.replaceStoredContent(eq(1L), eq(LONG_HTML), anyString())).thenReturn(1);
+
+        ContentCompressionMigration migration = new ContentCompressionMigration(repository, true, false, 1024, 3);
+        assertTrue(migration.run());
+
+        verify(repository).replaceStoredContent(1L, LONG_HTML, compressed);
+        verify(repository, times(1)).replaceStoredContent(any(), any(), any());
+        assertEquals(3, migration.stats().getScannedRows());
+        assertEquals(1, migration.stats().getCompressedRows());
+        assertTrue(migration.stats().getRatio() > 2);
+    }
+}
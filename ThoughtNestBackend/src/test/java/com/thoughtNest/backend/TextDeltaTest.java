@@ -0,0 +1,97 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.util.TextDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the copy/insert text deltas behind article revisions.
+ */
+class TextDeltaTest {
+
+    private static final String ARTICLE = "<p>" + "A long paragraph of article text. ".repeat(2_000) + "</p>";
+
+    /**
+     * Test that a small edit of a long text produces a delta the size of the edit.
+     */
+    @Test
+    void smallEdit_SmallDelta() {
+        String edited = ARTICLE.substring(0, 30_000) + "an edit" + ARTICLE.substring(30_010);
+
+        String delta = TextDelta.encode(ARTICLE, edited);
+
+        assertTrue(delta.length() < 64, delta);
+        assertEquals(edited, TextDelta.apply(ARTICLE, delta));
+    }
+
+    /**
+     * Test that moved passages are copied rather than inserted again.
+     */
+    @Test
+    void movedPassage_IsCopied() {
+        String first = "First section. ".repeat(200);
+        String second = "Second section. ".repeat(200);
+
+        String delta = TextDelta.encode(first + second, second + first);
+
+        assertTrue(delta.length() < 64, delta);
+        assertEquals(second + first, TextDelta.apply(first + second, delta));
+    }
+
+    /**
+     * Test that random edits of random texts always round-trip, including empty and short texts.
+     */
+    @Test
+    void randomEdits_RoundTrip() {
+        Random random = new Random(42);
+        assertEquals("new", TextDelta.apply("", TextDelta.encode("", "new")));
+        assertEquals("", TextDelta.apply("old", TextDelta.encode("old", "")));
+
+        for (int run = 0; run < 2_000; run++) {
+            StringBuilder base = new StringBuilder();
+            int length = random.nextInt(2_000);
+            int alphabet = random.nextBoolean() ? 3 : 26;
+            for (int i = 0; i < length; i++) {
+                base.append((char) ('a' + random.nextInt(alphabet)));
+            }
+            StringBuilder target = new StringBuilder(base);
+            for (int edit = random.nextInt(5); edit > 0; edit--) {
+                int at = target.length() == 0 ? 0 : random.nextInt(target.length());
+                if (random.nextBoolean()) {
+                    target.insert(at, "edit:" + random.nextInt(1_000) + ";");
+                } else {
+                    target.delete(at, Math.min(target.length(), at + random.nextInt(50)));
+                }
+            }
+
+            String delta = TextDelta.encode(base.toString(), target.toString());
+            assertEquals(target.toString(), TextDelta.apply(base.toString(), delta));
+        }
+    }
+
+    /**
+     * Test that a delta that does not fit the base is rejected.
+     */
+    @Test
+    void malformedDelta_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> TextDelta.apply("short", "c0,100;"));
+        assertThrows(IllegalArgumentException.class, () -> TextDelta.apply("short", "x1;"));
+    }
+
+    /**
+     * Test that a short delta repeating long copies cannot build a target past the limit.
+     */
+    @Test
+    void amplifyingDelta_Bounded() {
+        String delta = ("c0," + ARTICLE.length() + ";").repeat(100);
+
+        assertEquals(ARTICLE.length() * 100, TextDelta.apply(ARTICLE, delta).length());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> TextDelta.apply(ARTICLE, delta, 1_000_000));
+        assertTrue(e.getMessage().contains("1000000"), e.getMessage());
+        assertEquals(ARTICLE, TextDelta.apply(ARTICLE, "c0," + ARTICLE.length() + ";", ARTICLE.length()));
+    }
+}
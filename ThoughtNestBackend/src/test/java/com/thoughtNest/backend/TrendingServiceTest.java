@@ -0,0 +1,239 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.dto.ArticleActivity;
+import com.thoughtNest.backend.dto.ArticleSummary;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.trending.TrendingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the trending ranking, with a controllable clock and a mocked repository that
+ * serves the feed cards of a set of published articles.
+ */
+class TrendingServiceTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final MutableClock clock = new MutableClock(START.atZone(ZoneId.systemDefault()).toInstant());
+    private final Map<Long, ArticleSummary> published = new HashMap<>();
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        when(articleRepository.findPublishedSummariesByIds(anyCollection())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .map(published::get)
+                        .filter(summary -> summary != null)
+                        .toList());
+        when(articleRepository.findPublishedActivityAfterId(anyLong(), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    private TrendingService service(int size) {
+        return new TrendingService(articleRepository, size, 24 * HOUR, clock);
+    }
+
+    private void publish(long id, LocalDateTime modified) {
+        published.put(id, new ArticleSummary(id, "Article " + id, null, null, null, "writer", true, modified));
+    }
+
+    private static void view(TrendingService service, long id, int times) {
+        for (int i = 0; i < times; i++) {
+            service.recordView(id);
+        }
+    }
+
+    private static List<Long> ids(List<ArticleSummary> articles) {
+        return articles.stream().map(ArticleSummary::getId).toList();
+    }
+
+    /**
+     * Test that articles are ranked by views once refreshed, and that requests are served from memory.
+     */
+    @Test
+    void views_RankArticles() {
+        TrendingService service = service(10);
+        for (long id = 1; id <= 3; id++) {
+            publish(id, START);
+        }
+        view(service, 1, 5);
+        view(service, 2, 20);
+        view(service, 3, 10);
+        assertTrue(service.trending(10).isEmpty(), "Views count only after a refresh");
+
+        service.refresh();
+        clearInvocations(articleRepository);
+
+        assertEquals(List.of(2L, 3L, 1L), ids(service.trending(10)));
+        assertEquals(List.of(2L, 3L), ids(service.trending(2)));
+        verifyNoInteractions(articleRepository);
+
+        // An unchanged ranking does not reload the feed cards
+        service.refresh();
+        verifyNoInteractions(articleRepository);
+    }
+
+    /**
+     * Test that older views count for less: after two half-lives, 30 new views beat 100 old ones.
+     */
+    @Test
+    void oldViews_Decay() {
+        TrendingService service = service(10);
+        publish(1, START);
+        publish(2, START);
+
+        view(service, 1, 100);
+        service.refresh();
+        clock.advance(48 * HOUR);
+        view(service, 2, 30);
+        service.refresh();
+
+        assertEquals(List.of(2L, 1L), ids(service.trending(10)));
+    }
+
+    /**
+     * Test that scores keep their order when the epoch moves forward, and decayed articles are forgotten.
+     */
+    @Test
+    void movingEpoch_KeepsOrderAndForgetsDecayedArticles() {
+        TrendingService service = service(10);
+        publish(1, START);
+        publish(2, START);
+        view(service, 1, 1);
+        service.refresh();
+
+        clock.advance(30 * 24 * HOUR);
+        view(service, 2, 100);
+        service.refresh();
+        assertEquals(List.of(2L, 1L), ids(service.trending(10)));
+
+        clock.advance(10 * 24 * HOUR);
+        service.refresh();
+        assertEquals(List.of(2L), ids(service.trending(10)));
+        assertEquals(1, service.stats().getTrackedArticles());
+    }
+
+    /**
+     * Test that only the top articles are ranked, and that a removed one is replaced by the next best.
+     */
+    @Test
+    void removedArticle_IsReplacedByNextBest() {
+        TrendingService service = service(2);
+        for (long id = 1; id <= 4; id++) {
+            publish(id, START);
+            view(service, id, (int) id * 10);
+        }
+        service.refresh();
+        assertEquals(List.of(4L, 3L), ids(service.trending(10)));
+
+        published.remove(4L);
+        service.onArticleChanged(ArticleChangedEvent.deleted(4L));
+        service.refresh();
+        assertEquals(List.of(3L, 2L), ids(service.trending(10)));
+
+        // Unpublished without an event reaching the ranking: dropped when its card no longer loads
+        published.remove(3L);
+        view(service, 2, 1);
+        service.onArticleChanged(ArticleChangedEvent.saved(2L));
+        service.refresh();
+        service.refresh();
+        assertEquals(List.of(2L, 1L), ids(service.trending(10)));
+    }
+
+    /**
+     * Test that edits raise the score, while saves that keep the modification date do not.
+     */
+    @Test
+    void edits_RaiseScore() {
+        TrendingService service = service(10);
+        publish(1, START);
+        publish(2, START);
+        view(service, 1, 15);
+        service.onArticleChanged(ArticleChangedEvent.saved(2L));
+        service.refresh();
+        assertEquals(List.of(1L, 2L), ids(service.trending(10)));
+
+        // Image processing saves without touching the modification date
+        service.onArticleChanged(ArticleChangedEvent.saved(2L));
+        service.refresh();
+        assertEquals(List.of(1L, 2L), ids(service.trending(10)));
+
+        publish(2, START.plusHours(1));
+        service.onArticleChanged(ArticleChangedEvent.saved(2L));
+        service.refresh();
+        assertEquals(List.of(2L, 1L), ids(service.trending(10)));
+        assertEquals(START.plusHours(1), service.trending(10).get(0).getLastModifiedDate());
+    }
+
+    /**
+     * Test that after a restart the ranking is rebuilt from persisted views, discounted by age.
+     */
+    @Test
+    void restart_SeedsFromPersistedViews() {
+        publish(1, START.minusDays(3));
+        publish(2, START.minusHours(1));
+        publish(3, START.minusDays(60));
+        when(articleRepository.findPublishedActivityAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new ArticleActivity(1L, 400L, START.minusDays(3)),
+                new ArticleActivity(2L, 100L, START.minusHours(1)),
+                new ArticleActivity(3L, 10_000L, START.minusDays(60))));
+
+        TrendingService service = service(10);
+        service.onApplicationReady();
+
+        // 410 / 2^3 = 51 < 110 / 2^(1/24) = 107; article 3 has decayed to nothing
+        assertTrue(service.isReady());
+        assertEquals(List.of(2L, 1L), ids(service.trending(10)));
+        assertEquals(2, service.stats().getTrackedArticles());
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.image.ImageDerivativeService;
+import com.thoughtNest.backend.model.StoredBlob;
+import com.thoughtNest.backend.repository.StoredBlobRepository;
+import com.thoughtNest.backend.storage.LocalBlobStore;
+import com.thoughtNest.backend.storage.UploadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for content-addressed upload deduplication, with the local blob store as storage
+ * and an in-memory stand-in for the stored blob table.
+ */
+class UploadServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalBlobStore blobStore;
+    private StoredBlobRepository repository;
+    private ImageDerivativeService imageDerivativeService;
+    private UploadService uploadService;
+    private final Map<String, StoredBlob> table = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = spy(new LocalBlobStore(tempDir.resolve("uploads"), "/uploads"));
+        repository = mock(StoredBlobRepository.class);
+        when(repository.findBySha256(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+        when(repository.save(any(StoredBlob.class))).thenAnswer(invocation -> {
+            StoredBlob blob = invocation.getArgument(0);
+            table.put(blob.getSha256(), blob);
+            return blob;
+        });
+        imageDerivativeService = mock(ImageDerivativeService.class);
+        uploadService = new UploadService(blobStore, repository, imageDerivativeService, tempDir.resolve("tmp"));
+    }
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+
+    /**
+     * Random bytes behind the signature of an image type, which is all uploads are checked for.
+     */
+    private static byte[] randomImage(byte[] signature, int size, long seed) {
+        byte[] data = new byte[size];
+        new Random(seed).nextBytes(data);
+        System.arraycopy(signature, 0, data, 0, signature.length);
+        return data;
+    }
+
+    /**
+     * Test that identical content is stored once under its hash, whatever its name.
+     */
+    @Test
+    void identicalUploads_AreStoredOnce() throws Exception {
+        byte[] data = randomImage(PNG, 200_000, 1);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+
+        String first = uploadService.upload("cover.PNG", new ByteArrayInputStream(data), "image/png");
+        String second = uploadService.upload("copy of cover.png", new ByteArrayInputStream(data), "image/png");
+        String other = uploadService.upload("other.png", new ByteArrayInputStream(randomImage(PNG, 1_000, 2)), "image/png");
+
+        assertEquals("/uploads/" + sha256 + ".png", first);
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        verify(blobStore, times(2)).put(anyString(), any(), eq("image/png"));
+        assertArrayEquals(data, Files.readAllBytes(blobStore.resolve(sha256 + ".png")));
+        assertEquals(200_000, table.get(sha256).getSize());
+        verify(imageDerivativeService, times(2)).submit(first);
+        try (Stream<Path> temp = Files.list(tempDir.resolve("tmp"))) {
+            assertEquals(0, temp.count(), "Temporary files must be removed");
+        }
+    }
+
+    /**
+     * Test that a file on disk is deduplicated against earlier streamed uploads and left in place.
+     */
+    @Test
+    void fileUploads_AreDeduplicated() throws Exception {
+        byte[] data = randomImage(JPEG, 50_000, 3);
+        Path file = Files.write(tempDir.resolve("assembled.part"), data);
+
+        String streamed = uploadService.upload("photo.jpg", new ByteArrayInputStream(data), "image/jpeg");
+        String fromFile = uploadService.uploadFile(file, "photo.jpg", "image/jpeg");
+
+        assertEquals(streamed, fromFile);
+        assertTrue(Files.exists(file));
+        verify(blobStore, times(1)).put(anyString(), any(), anyString());
+    }
+
+    /**
+     * Test that a concurrent upload of the same content resolves to the URL that won the insert.
+     */
+    @Test
+    void concurrentInsert_UsesExistingRow() throws Exception {
+        byte[] data = randomImage(PNG, 1_000, 4);
+        StoredBlob winner = new StoredBlob();
+        winner.setUrl("/uploads/winner.png");
+        when(repository.findBySha256(anyString())).thenReturn(Optional.empty(), Optional.of(winner));
+        when(repository.save(any(StoredBlob.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertEquals("/uploads/winner.png",
+                uploadService.upload("cover.png", new ByteArrayInputStream(data), "image/png"));
+    }
+
+    /**
+     * Test that the stored key and type follow the content, and that documents are refused
+     * whatever they are called.
+     */
+    @Test
+    void uploads_AreCheckedByContent() throws Exception {
+        byte[] image = randomImage(JPEG, 1_000, 5);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image));
+
+        assertEquals("/uploads/" + sha256 + ".jpg",
+                uploadService.upload("cover.html", new ByteArrayInputStream(image), "text/html"));
+        verify(blobStore).put(eq(sha256 + ".jpg"), any(), eq("image/jpeg"));
+
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" onload=\"alert(1)\"/>".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class,
+                () -> uploadService.upload("x.html", new ByteArrayInputStream(html), "text/html"));
+        assertThrows(IllegalArgumentException.class,
+                () -> uploadService.upload("x.png", new ByteArrayInputStream(svg), "image/png"));
+        verify(blobStore, times(1)).put(anyString(), any(), anyString());
+        verify(repository, times(1)).save(any(StoredBlob.class));
+    }
+
+    /**
+     * Test that references move between URLs and unchanged images are left alone.
+     */
+    @Test
+    void switchReference_AdjustsCounts() {
+        uploadService.switchReference("/uploads/a.png", "/uploads/b.png");
+        uploadService.switchReference(null, "/uploads/c.png");
+        uploadService.switchReference("/uploads/c.png", "/uploads/c.png");
+
+        verify(repository).adjustRefCount("/uploads/a.png", -1);
+        verify(repository).adjustRefCount("/uploads/b.png", 1);
+        verify(repository).adjustRefCount("/uploads/c.png", 1);
+        verifyNoMoreInteractions(repository);
+    }
+}
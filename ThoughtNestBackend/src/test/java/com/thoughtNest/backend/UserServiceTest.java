@@ -1,5 +1,9 @@
 package com.thoughtNest.backend;
 
+import com.thoughtNest.backend.cache.AccountInfoCache;
+import com.thoughtNest.backend.dto.UserAccountInfoDto;
+import com.thoughtNest.backend.event.ArticleChangedEvent;
+import com.thoughtNest.backend.event.UserChangedEvent;
 import com.thoughtNest.backend.model.PasswordResetToken;
 import com.thoughtNest.backend.model.User;
 import com.thoughtNest.backend.repository.PasswordResetTokenRepository;
@@ -8,6 +12,7 @@ import com.thoughtNest.backend.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -36,6 +41,12 @@ class UserServiceTest {
     @Mock
     private PasswordResetTokenRepository passwordResetTokenRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private AccountInfoCache accountInfoCache = new AccountInfoCache(60_000, 100);
+
     @InjectMocks
     private UserService userService;
 
@@ -95,6 +106,7 @@ class UserServiceTest {
         User saved = userService.saveUser(user);
         assertEquals("encodedPassword", saved.getPassword());
         verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
     }
 
     /**
@@ -206,4 +218,21 @@ class UserServiceTest {
         verify(userRepository, never()).save(any());
         verify(passwordResetTokenRepository, never()).delete(any());
     }
+
+    /**
+     * Tests that account info is read once and served from the cache until an article changes.
+     */
+    @Test
+    void testGetAccountInfo_CachedUntilChange() {
+        UserAccountInfoDto info = new UserAccountInfoDto("user1", "user1@example.com", 3, 2);
+        when(userRepository.findAccountInfoByEmail("user1@example.com")).thenReturn(Optional.of(info));
+
+        assertEquals(2, userService.getAccountInfo("user1@example.com").orElseThrow().getPublishedCount());
+        assertEquals(3, userService.getAccountInfo("user1@example.com").orElseThrow().getArticleCount());
+        verify(userRepository, times(1)).findAccountInfoByEmail("user1@example.com");
+
+        accountInfoCache.onArticleChanged(ArticleChangedEvent.saved(5L));
+        userService.getAccountInfo("user1@example.com");
+        verify(userRepository, times(2)).findAccountInfoByEmail("user1@example.com");
+    }
 }
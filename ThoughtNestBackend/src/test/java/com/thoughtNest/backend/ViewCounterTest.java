@@ -0,0 +1,214 @@
+package com.thoughtNest.backend;
+
+import com.thoughtNest.backend.repository.ArticleRepository;
+import com.thoughtNest.backend.views.ViewCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the write-behind article view counter.
+ *
+ * The JDBC batches are applied to an in-memory map of view counts, which the mocked repository
+ * reads from. Also contains a recording throughput benchmark, skipped unless the tests run with
+ * {@code -Dbenchmarks=true}.
+ */
+class ViewCounterTest {
+
+    private final Map<Long, Long> persisted = new ConcurrentHashMap<>();
+    private final List<List<Object[]>> batches = new ArrayList<>();
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+
+    private ArticleRepository articleRepository;
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        when(articleRepository.findViewsById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(persisted.get(invocation.<Long>getArgument(0))));
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            if (failuresToInject.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new DataAccessResourceFailureException("Connection refused");
+            }
+            List<Object[]> arguments = invocation.getArgument(1);
+            synchronized (batches) {
+                batches.add(arguments);
+            }
+            for (Object[] row : arguments) {
+                persisted.merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+            return new int[arguments.size()];
+        });
+
+        viewCounter = new ViewCounter(articleRepository, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    /**
+     * Test that reads add pending views to the persisted count, before and after a flush.
+     */
+    @Test
+    void views_MergePersistedAndPending() {
+        persisted.put(1L, 10L);
+
+        viewCounter.record(1L);
+        viewCounter.record(1L);
+        viewCounter.record(1L);
+        assertEquals(13, viewCounter.views(1L));
+        assertTrue(batches.isEmpty(), "Recording must not touch the database");
+
+        assertEquals(3, viewCounter.flush());
+        assertEquals(13L, persisted.get(1L));
+        assertEquals(13, viewCounter.views(1L));
+
+        viewCounter.record(1L);
+        assertEquals(14, viewCounter.views(1L));
+        assertEquals(0, viewCounter.views(2L));
+    }
+
+    /**
+     * Test that a failed flush keeps its views for the next one.
+     */
+    @Test
+    void failedFlush_RetriesLater() {
+        viewCounter.record(5L);
+        viewCounter.record(5L);
+        failuresToInject.set(1);
+
+        assertEquals(0, viewCounter.flush());
+        assertEquals(1, viewCounter.stats().getFailedFlushes());
+        assertNull(persisted.get(5L));
+
+        assertEquals(2, viewCounter.flush());
+        assertEquals(2L, persisted.get(5L));
+        assertEquals(0, viewCounter.flush());
+    }
+
+    /**
+     * Test that updates are written in bounded batches ordered by article id, and that articles
+     * without new views are dropped from memory.
+     */
+    @Test
+    void flush_BatchesInIdOrderAndDropsIdleArticles() {
+        for (long id = 1_200; id >= 1; id--) {
+            viewCounter.record(id);
+        }
+
+        assertEquals(1_200, viewCounter.flush());
+        assertEquals(3, batches.size());
+        assertEquals(500, batches.get(0).size());
+        assertEquals(1L, batches.get(0).get(0)[1]);
+        assertEquals(1_200L, batches.get(2).get(199)[1]);
+        assertEquals(1_200, viewCounter.stats().getTrackedArticles());
+
+        viewCounter.flush();
+        assertEquals(0, viewCounter.stats().getTrackedArticles());
+        assertEquals(1, viewCounter.views(7L));
+    }
+
+    /**
+     * Test that no view is lost or counted twice while flushes, including the dropping of idle
+     * articles, run concurrently with recording.
+     */
+    @Test
+    void concurrentRecordingAndFlushing_CountsEveryViewOnce() throws Exception {
+        int threads = 8;
+        int viewsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        try {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                recorders.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        // Article 3 is viewed in bursts, so that it keeps being dropped and recreated
+                        long id = i % 1_000 < 5 ? 3 : 1 + (i + thread) % 2;
+                        viewCounter.record(id);
+                    }
+                    return null;
+                }));
+            }
+            Thread flusher = new Thread(() -> {
+                while (recording.get()) {
+                    viewCounter.flush();
+                }
+            });
+            flusher.start();
+            start.countDown();
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+            recording.set(false);
+            flusher.join();
+        } finally {
+            executor.shutdown();
+        }
+
+        viewCounter.flush();
+        viewCounter.flush();
+        long total = persisted.values().stream().mapToLong(Long::longValue).sum();
+        assertEquals((long) threads * viewsPerThread, total);
+        assertEquals((long) threads * viewsPerThread / 1_000 * 5, persisted.get(3L));
+        assertEquals(persisted.get(1L), viewCounter.views(1L));
+        assertEquals(0, viewCounter.stats().getPendingViews());
+    }
+
+    /**
+     * Measures how many views per second can be recorded on one popular article.
+     * Run with {@code mvn test -Dtest=ViewCounterTest -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_RecordingThroughput() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int viewsPerThread = 2_000_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                recorders.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        viewCounter.record(1L);
+                    }
+                }));
+            }
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("📊 View counter, %d threads: %.0f views/s%n", threads,
+                    (double) threads * viewsPerThread / seconds);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals((long) threads * viewsPerThread, viewCounter.flush());
+    }
+}
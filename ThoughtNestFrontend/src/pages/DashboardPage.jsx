@@ -27,6 +27,9 @@ export default function DashboardPage() {
   const [activeIndex, setActiveIndex] = useState(-1);
   const [articlePage, setArticlePage] = useState(1);
   const [publicPage, setPublicPage] = useState(1);
+  // Cursors for the next server-side page of each listing (null once exhausted)
+  const [myCursor, setMyCursor] = useState(null);
+  const [publicCursor, setPublicCursor] = useState(null);
   const ARTICLES_PER_PAGE = 5;
 
   function getUsernameFromToken(token) {
@@ -81,24 +84,32 @@ useEffect(() => {
 }
 
 
-  async function fetchArticles() {
+  // Normalizes a listing response into { items, next } for both paged and legacy array payloads
+  function readArticlePage(payload) {
+    const rawData = Array.isArray(payload)
+      ? payload
+      : payload?.articles || [];
+
+    const items = rawData.map((article) => ({
+      ...article,
+      authorUsername:
+        article.authorUsername ||
+        (article.author && article.author.username) ||
+        "Unknown",
+    }));
+
+    return { items, next: Array.isArray(payload) ? null : payload?.next || null };
+  }
+
+  async function fetchArticles(cursor = null) {
     try {
-      const res = await apiInstance.get("/articles/my");
-      const json = res.data;
-
-      let rawData = Array.isArray(json.data)
-        ? json.data
-        : json.data?.articles || [];
-
-      const processed = rawData.map((article) => ({
-        ...article,
-        authorUsername:
-          article.authorUsername ||
-          (article.author && article.author.username) ||
-          "Unknown",
-      }));
-
-      setArticles(processed);
+      const res = await apiInstance.get("/articles/my", {
+        params: cursor ? { cursor } : {},
+      });
+      const { items, next } = readArticlePage(res.data.data);
+
+      setArticles((prev) => (cursor ? [...prev, ...items] : items));
+      setMyCursor(next);
     } catch (e) {
       console.error("Error fetching user articles:", e);
       safeToast("Authentication error. Please log in again.", "error");
@@ -110,24 +121,17 @@ useEffect(() => {
     }
   }
 
-  async function fetchPublicArticles() {
+  async function fetchPublicArticles(cursor = null) {
     try {
-      const response = await apiInstance.get("/articles/public");
-      const rawData = Array.isArray(response.data)
-        ? response.data
-        : Array.isArray(response.data.data)
-        ? response.data.data
-        : response.data.data?.articles || [];
-
-      const processed = rawData.map((article) => ({
-        ...article,
-        authorUsername:
-          article.authorUsername ||
-          (article.author && article.author.username) ||
-          "Unknown",
-      }));
-
-      setPublicArticles(processed);
+      const response = await apiInstance.get("/articles/public", {
+        params: cursor ? { cursor } : {},
+      });
+      const { items, next } = readArticlePage(
+        Array.isArray(response.data) ? response.data : response.data.data
+      );
+
+      setPublicArticles((prev) => (cursor ? [...prev, ...items] : items));
+      setPublicCursor(next);
     } catch (e) {
       console.error("Error fetching public articles:", e);
       safeToast("Failed to load public articles.", "error");
@@ -469,9 +473,16 @@ safeToast("Article deleted successfully.", "success");
                 <span>Page {articlePage}</span>
                 <button
                   disabled={
-                    articlePage >= Math.ceil(articles.length / ARTICLES_PER_PAGE)
+                    articlePage >= Math.ceil(articles.length / ARTICLES_PER_PAGE) &&
+                    !myCursor
                   }
-                  onClick={() => setArticlePage(articlePage + 1)}
+                  onClick={async () => {
+                    // Pull the next server page once the loaded rows run out
+                    if (articlePage * ARTICLES_PER_PAGE >= articles.length && myCursor) {
+                      await fetchArticles(myCursor);
+                    }
+                    setArticlePage(articlePage + 1);
+                  }}
                 >
                   Next
                 </button>
@@ -530,9 +541,15 @@ safeToast("Article deleted successfully.", "success");
                 <button
                   disabled={
                     publicPage >=
-                    Math.ceil(combinedPublicArticles.length / ARTICLES_PER_PAGE)
+                    Math.ceil(combinedPublicArticles.length / ARTICLES_PER_PAGE) &&
+                    !publicCursor
                   }
-                  onClick={() => setPublicPage(publicPage + 1)}
+                  onClick={async () => {
+                    if (publicPage * ARTICLES_PER_PAGE >= publicArticles.length && publicCursor) {
+                      await fetchPublicArticles(publicCursor);
+                    }
+                    setPublicPage(publicPage + 1);
+                  }}
                 >
                   Next
                 </button>